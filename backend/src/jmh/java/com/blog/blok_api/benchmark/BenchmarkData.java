@@ -0,0 +1,124 @@
+package com.blog.blok_api.benchmark;
+
+import com.blog.blok_api.model.Comment;
+import com.blog.blok_api.model.Post;
+import com.blog.blok_api.model.Tag;
+import com.blog.blok_api.model.User;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * BenchmarkData - Benchmark'lar için DB'siz, gerçekçi boyutta örnek veri
+ */
+final class BenchmarkData {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 15, 12, 0);
+
+    private BenchmarkData() {
+    }
+
+    static User user(long id) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername("kullanici" + id);
+        user.setEmail("kullanici" + id + "@blok.dev");
+        user.setProfileImgUrl("https://res.cloudinary.com/blok/image/upload/profile_images/profile_" + id + ".jpg");
+        user.setCreatedAt(NOW);
+        return user;
+    }
+
+    /**
+     * Feed'deki tipik post: ~600 karakter içerik, 3 tag, yazar
+     */
+    static List<Post> posts(int count) {
+        List<Post> posts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Post post = new Post();
+            post.setId((long) i + 1);
+            post.setTitle("Spring Boot ile Performanslı API Geliştirme #" + i);
+            post.setSlug("spring-boot-ile-performansli-api-gelistirme-" + i);
+            post.setSummary("Bağlantı havuzu, cache ve sorgu optimizasyonları üzerine notlar.");
+            post.setContent("Lorem ipsum dolor sit amet, consectetur adipiscing elit. ".repeat(10));
+            post.setCoverImageUrl("https://res.cloudinary.com/blok/image/upload/post_images/post_" + i + ".jpg");
+            post.setPublished(true);
+            post.setViewsCount(i * 7);
+            post.setCreatedAt(NOW.minusMinutes(i));
+            post.setUpdatedAt(NOW.minusMinutes(i));
+            post.setAuthor(user(i % 50 + 1));
+
+            Set<Tag> tags = new LinkedHashSet<>();
+            for (int t = 0; t < 3; t++) {
+                Tag tag = new Tag();
+                tag.setId((long) (i + t) % 40);
+                tag.setName("tag" + (i + t) % 40);
+                tag.setSlug("tag" + (i + t) % 40);
+                tags.add(tag);
+            }
+            post.setTags(tags);
+            posts.add(post);
+        }
+        return posts;
+    }
+
+    /**
+     * Yorum ağacı: topLevel adet kök yorum, her yorumun fanOut cevabı, depth seviye derinlik
+     */
+    static List<Comment> commentTree(int topLevel, int fanOut, int depth) {
+        long[] ids = { 1 };
+        List<Comment> roots = new ArrayList<>(topLevel);
+        for (int i = 0; i < topLevel; i++) {
+            roots.add(comment(ids, null, fanOut, depth));
+        }
+        return roots;
+    }
+
+    private static Comment comment(long[] ids, Comment parent, int fanOut, int remainingDepth) {
+        long id = ids[0]++;
+        Comment comment = new Comment();
+        comment.setId(id);
+        comment.setContent("Yorum içeriği " + id);
+        comment.setDeleted(false);
+        comment.setCreatedAt(NOW);
+        comment.setUpdatedAt(NOW);
+        comment.setAuthor(user(id % 50 + 1));
+        comment.setParentComment(parent);
+
+        List<Comment> replies = new ArrayList<>();
+        if (remainingDepth > 1) {
+            for (int i = 0; i < fanOut; i++) {
+                replies.add(comment(ids, comment, fanOut, remainingDepth - 1));
+            }
+        }
+        comment.setReplies(replies);
+        return comment;
+    }
+
+    /**
+     * Arayüz için sabit değer döndüren stub (Long → 0, boolean → false, diğerleri → null)
+     * Repository/servis çağrılarının maliyeti ölçüme karışmasın diye kullanılır
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T stub(Class<T> type) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> {
+            Class<?> returnType = method.getReturnType();
+            if (returnType == Long.class || returnType == long.class) {
+                return 0L;
+            }
+            if (returnType == int.class || returnType == Integer.class) {
+                return 0;
+            }
+            if (returnType == boolean.class || returnType == Boolean.class) {
+                return false;
+            }
+            if (method.getName().equals("toString")) {
+                return type.getSimpleName() + "Stub";
+            }
+            return null;
+        });
+    }
+}
@@ -0,0 +1,93 @@
+package com.blog.blok_api.benchmark;
+
+import com.blog.blok_api.dto.CommentResponseDto;
+import com.blog.blok_api.model.Comment;
+import com.blog.blok_api.repository.CommentRepository;
+import com.blog.blok_api.repository.LikeRepository;
+import com.blog.blok_api.repository.PostRepository;
+import com.blog.blok_api.repository.UserRepository;
+import com.blog.blok_api.security.JwtUtil;
+import com.blog.blok_api.service.CommentServiceImpl;
+import com.blog.blok_api.mapper.PostMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CommentServiceImpl.toDto - özyinelemeli yorum ağacı oluşturma
+ * Like sayıları / bayrakları ve cevaplar servisteki gibi önceden yüklenmiş map'lerden okunur;
+ * sadece ağaç dolaşma ve DTO oluşturma maliyeti ölçülür
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CommentTreeBenchmark {
+
+    /** Kök yorum sayısı (her yorumun 3 cevabı, 3 seviye derinlik) */
+    @Param({ "10", "100" })
+    int topLevelComments;
+
+    private MethodHandle toDto;
+    private List<Comment> roots;
+    private Map<Long, Integer> likeCounts;
+    private Set<Long> likedCommentIds;
+    private Map<Long, List<Comment>> repliesByParentId;
+
+    @Setup
+    public void setup() throws Exception {
+        CommentServiceImpl commentService = new CommentServiceImpl(
+                BenchmarkData.stub(CommentRepository.class),
+                BenchmarkData.stub(PostRepository.class),
+                BenchmarkData.stub(UserRepository.class),
+                new JwtUtil(),
+                BenchmarkData.stub(LikeRepository.class),
+                new PostMapperImpl(),
+                null,
+                null,
+                null);
+
+        // toDto private - benchmark'ın servisi değiştirmeden çağırabilmesi için MethodHandle
+        MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(CommentServiceImpl.class, MethodHandles.lookup());
+        toDto = lookup.findVirtual(CommentServiceImpl.class, "toDto",
+                        MethodType.methodType(CommentResponseDto.class, Comment.class, Map.class, Set.class, Map.class))
+                .bindTo(commentService);
+
+        roots = BenchmarkData.commentTree(topLevelComments, 3, 3);
+        likeCounts = new HashMap<>();
+        repliesByParentId = new HashMap<>();
+        Deque<Comment> pending = new ArrayDeque<>(roots);
+        while (!pending.isEmpty()) {
+            Comment comment = pending.pop();
+            likeCounts.put(comment.getId(), (int) (comment.getId() % 7));
+            if (!comment.getReplies().isEmpty()) {
+                repliesByParentId.put(comment.getId(), comment.getReplies());
+                pending.addAll(comment.getReplies());
+            }
+        }
+        likedCommentIds = Set.of(1L, 2L, 3L);
+    }
+
+    @Benchmark
+    public void buildTree(Blackhole blackhole) throws Throwable {
+        for (Comment root : roots) {
+            blackhole.consume((CommentResponseDto) toDto.invokeExact(root, likeCounts, likedCommentIds, repliesByParentId));
+        }
+    }
+}
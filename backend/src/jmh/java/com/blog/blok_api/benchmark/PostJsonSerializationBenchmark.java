@@ -0,0 +1,51 @@
+package com.blog.blok_api.benchmark;
+
+import com.blog.blok_api.dto.PostResponseDto;
+import com.blog.blok_api.mapper.PostMapperImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson - feed yanıtı (List&lt;PostResponseDto&gt;) serileştirme
+ * ObjectMapper Spring Boot varsayılanlarıyla kurulur (JavaTimeModule, ISO tarih)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PostJsonSerializationBenchmark {
+
+    @Param({ "20", "500" })
+    int listSize;
+
+    private ObjectWriter writer;
+    private List<PostResponseDto> dtos;
+
+    @Setup
+    public void setup() {
+        ObjectMapper objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        writer = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, PostResponseDto.class));
+        dtos = new PostMapperImpl().toDtoList(BenchmarkData.posts(listSize));
+    }
+
+    @Benchmark
+    public byte[] writeFeed() throws Exception {
+        return writer.writeValueAsBytes(dtos);
+    }
+}
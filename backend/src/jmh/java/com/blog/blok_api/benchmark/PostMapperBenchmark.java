@@ -0,0 +1,50 @@
+package com.blog.blok_api.benchmark;
+
+import com.blog.blok_api.dto.PostResponseDto;
+import com.blog.blok_api.mapper.PostMapper;
+import com.blog.blok_api.mapper.PostMapperImpl;
+import com.blog.blok_api.model.Post;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PostMapper (MapStruct) - tek post ve feed listesi dönüşümü
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PostMapperBenchmark {
+
+    @Param({ "20", "500" })
+    int listSize;
+
+    private PostMapper postMapper;
+    private Post post;
+    private List<Post> posts;
+
+    @Setup
+    public void setup() {
+        postMapper = new PostMapperImpl();
+        posts = BenchmarkData.posts(listSize);
+        post = posts.get(0);
+    }
+
+    @Benchmark
+    public PostResponseDto toDto() {
+        return postMapper.toDto(post);
+    }
+
+    @Benchmark
+    public List<PostResponseDto> toDtoList() {
+        return postMapper.toDtoList(posts);
+    }
+}
@@ -0,0 +1,33 @@
+package com.blog.blok_api.benchmark;
+
+import com.blog.blok_api.util.SlugUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SlugUtil.toSlug - Normalizer + regex replaceAll zinciri (post ve tag oluşturmada)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SlugUtilBenchmark {
+
+    @Param({
+            "Merhaba Dünya",
+            "Spring Boot ile Performanslı API Geliştirme: Önbellek, İndeks ve Çok Daha Fazlası!",
+            "#java"
+    })
+    String input;
+
+    @Benchmark
+    public String toSlug() {
+        return SlugUtil.toSlug(input);
+    }
+}
@@ -0,0 +1,25 @@
+package com.blog.blok_api.loadtest;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * CountingStatementInspector - Hibernate'in çalıştırdığı her SQL ifadesini sayar
+ * Senaryolar sırayla çalıştığı için senaryo öncesi/sonrası fark = senaryonun SQL sayısı
+ * (JdbcTemplate ile yapılan seed sorguları Hibernate'ten geçmediği için sayılmaz)
+ */
+public class CountingStatementInspector implements StatementInspector {
+
+    private static final LongAdder STATEMENTS = new LongAdder();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.increment();
+        return sql;
+    }
+
+    public static long count() {
+        return STATEMENTS.sum();
+    }
+}
@@ -0,0 +1,218 @@
+package com.blog.blok_api.loadtest;
+
+import com.blog.blok_api.util.CompactIdSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DatasetSeeder - Yük testi veri setini set-based INSERT ... SELECT ile yükler
+ *
+ * Satırlar uygulama üzerinden değil, DB'nin sayı üreteciyle (H2: SYSTEM_RANGE,
+ * PostgreSQL: generate_series) parça parça oluşturulur; 10M satır dakikalar içinde yüklenir.
+ * Veri seti bir kez yüklenir, sonraki çalıştırmalar mevcut veriyi kullanır.
+ *
+ * Dağılım:
+ * - Postlar yazarlara eşit dağılır, her postun 2 tag'i var
+ * - Like, görüntülenme ve kaydetmeler benzersiz (user, post) çiftleri; kullanıcı başına eşit
+ * - Görüntülenmeler ayrıca post_view_seen kümelerine yazılır (uygulamanın tekillik kaydı)
+ * - Yorumlar postlara eşit dağılır (kök yorumlar)
+ */
+final class DatasetSeeder {
+
+    private static final Logger log = LoggerFactory.getLogger(DatasetSeeder.class);
+
+    private static final long CHUNK_SIZE = 500_000;
+    private static final String CONTENT = "Yük testi içeriği. ".repeat(25);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LoadTestConfig config;
+    private final boolean postgres;
+
+    DatasetSeeder(JdbcTemplate jdbcTemplate, LoadTestConfig config) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.config = config;
+        String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        this.postgres = "PostgreSQL".equalsIgnoreCase(product);
+    }
+
+    SeededDataset seedIfEmpty() {
+        long existingUsers = count("SELECT COUNT(*) FROM users WHERE username LIKE 'lt!_user!_%' ESCAPE '!'");
+        if (existingUsers == 0) {
+            seed();
+        } else if (existingUsers != config.users) {
+            throw new IllegalStateException("Veritabanında farklı boyutta (" + existingUsers
+                    + " kullanıcı) bir yük testi veri seti var; yeniden yüklemek için veritabanını silin");
+        } else {
+            log.info("Mevcut yük testi veri seti kullanılıyor");
+        }
+        return load();
+    }
+
+    private void seed() {
+        long started = System.currentTimeMillis();
+        long roleId = count("SELECT id FROM roles WHERE name = 'USER'");
+
+        insertInChunks("users", config.users, """
+                INSERT INTO users (username, email, hashed_password, is_online, created_at, role_id)
+                SELECT 'lt_user_' || x, 'lt_user_' || x || '@loadtest.dev', '-', FALSE, %s, %d
+                FROM %s
+                """, secondsAgo("x"), roleId);
+        long firstUserId = contiguousFirstId("users", "username LIKE 'lt!_user!_%' ESCAPE '!'", config.users);
+
+        insertInChunks("tags", config.tags, """
+                INSERT INTO tags (name, slug)
+                SELECT 'lt_tag_' || x, 'lt-tag-' || x
+                FROM %s
+                """);
+        long firstTagId = contiguousFirstId("tags", "name LIKE 'lt!_tag!_%' ESCAPE '!'", config.tags);
+
+        // x = 0 en yeni post
+        insertInChunks("posts", config.posts, """
+                INSERT INTO posts (title, slug, summary, content, is_published, views_count, unique_viewers,
+                                   created_at, updated_at, version, stats_version, author_id)
+                SELECT 'Yük testi postu ' || x, 'lt-post-' || x, 'Özet ' || x, '%s', TRUE, MOD(x * 31, 500), MOD(x * 31, 500),
+                       %s, %s, 0, 0, %d + MOD(x, %d)
+                FROM %s
+                """, CONTENT, secondsAgo("x"), secondsAgo("x"), firstUserId, config.users);
+        long firstPostId = contiguousFirstId("posts", "slug LIKE 'lt-post-%'", config.posts);
+
+        // MOD(x, T) ve MOD(7x + 3, T) T çift olduğu sürece hiç çakışmaz (6x + 3 tek)
+        int tagCount = config.tags % 2 == 0 ? config.tags : config.tags - 1;
+        insertInChunks("post_tags", config.posts, """
+                INSERT INTO post_tags (post_id, tag_id)
+                SELECT %d + x, %d + MOD(x, %d) FROM %s
+                """, firstPostId, firstTagId, tagCount);
+        insertInChunks("post_tags", config.posts, """
+                INSERT INTO post_tags (post_id, tag_id)
+                SELECT %d + x, %d + MOD(x * 7 + 3, %d) FROM %s
+                """, firstPostId, firstTagId, tagCount);
+
+        insertInChunks("likes", config.likes, """
+                INSERT INTO likes (user_id, post_id, liked_at)
+                SELECT %s, %s, %s FROM %s
+                """, userOf("x", firstUserId), postOf("x", firstPostId, config.likes, 0), secondsAgo("x"));
+
+        insertInChunks("post_views", config.views, """
+                INSERT INTO post_views (user_id, post_id, viewed_at)
+                SELECT %s, %s, %s FROM %s
+                """, userOf("x", firstUserId), postOf("x", firstPostId, config.views, 13), secondsAgo("x"));
+        seedViewedSets(firstUserId);
+
+        insertInChunks("saved_posts", config.saves, """
+                INSERT INTO saved_posts (user_id, post_id, created_at)
+                SELECT %s, %s, %s FROM %s
+                """, userOf("x", firstUserId), postOf("x", firstPostId, config.saves, 29), secondsAgo("x"));
+
+        insertInChunks("comments", config.comments, """
+                INSERT INTO comments (content, is_deleted, created_at, updated_at, author_id, post_id)
+                SELECT 'Yük testi yorumu ' || x, FALSE, %s, %s, %d + MOD(x * 13, %d), %d + MOD(x, %d)
+                FROM %s
+                """, secondsAgo("x"), secondsAgo("x"), firstUserId, config.users, firstPostId, config.posts);
+
+        jdbcTemplate.execute("ANALYZE");
+        log.info("Veri seti {} sn'de yüklendi", (System.currentTimeMillis() - started) / 1000);
+    }
+
+    /**
+     * post_view_seen: seed edilen görüntülenmeler kullanıcı başına sıkıştırılmış kümelere yazılır,
+     * böylece uygulama bu postları tekrar "ilk görüntülenme" saymaz. Kullanıcılar parça parça
+     * okunur; bellekte en fazla CHUNK_SIZE görüntülenme tutulur.
+     */
+    private void seedViewedSets(long firstUserId) {
+        long viewsPerUser = Math.max(1, config.views / config.users);
+        long usersPerChunk = Math.max(1, CHUNK_SIZE / viewsPerUser);
+        long lastUserId = firstUserId + config.users - 1;
+
+        for (long from = firstUserId; from <= lastUserId; from += usersPerChunk) {
+            long to = Math.min(lastUserId, from + usersPerChunk - 1);
+            Map<Long, Map<Long, CompactIdSet.Container>> sets = new HashMap<>();
+            jdbcTemplate.query("SELECT user_id, post_id FROM post_views WHERE user_id BETWEEN ? AND ?",
+                    (RowCallbackHandler) rs -> {
+                        long postId = rs.getLong(2);
+                        sets.computeIfAbsent(rs.getLong(1), user -> new HashMap<>())
+                                .computeIfAbsent(CompactIdSet.bucketOf(postId), bucket -> new CompactIdSet.Container())
+                                .add(CompactIdSet.lowOf(postId));
+                    }, from, to);
+
+            List<Object[]> rows = new ArrayList<>();
+            sets.forEach((userId, buckets) -> buckets.forEach((bucket, container) ->
+                    rows.add(new Object[]{userId, bucket, container.toBytes()})));
+            jdbcTemplate.batchUpdate("INSERT INTO post_view_seen (user_id, bucket, post_ids) VALUES (?, ?, ?)", rows);
+            log.info("post_view_seen: {}/{} kullanıcı", to - firstUserId + 1, config.users);
+        }
+    }
+
+    private SeededDataset load() {
+        long firstUserId = contiguousFirstId("users", "username LIKE 'lt!_user!_%' ESCAPE '!'", config.users);
+        long firstPostId = contiguousFirstId("posts", "slug LIKE 'lt-post-%'", config.posts);
+        return new SeededDataset(firstUserId, config.users, firstPostId, config.posts);
+    }
+
+    /**
+     * SQL şablonundaki son %s sayı aralığı kaynağıdır (x kolonu), önceki argümanlar şablona gömülür
+     */
+    private void insertInChunks(String table, long total, String template, Object... args) {
+        for (long from = 0; from < total; from += CHUNK_SIZE) {
+            long to = Math.min(total, from + CHUNK_SIZE) - 1;
+            Object[] formatArgs = new Object[args.length + 1];
+            System.arraycopy(args, 0, formatArgs, 0, args.length);
+            formatArgs[args.length] = range(from, to);
+            jdbcTemplate.update(template.formatted(formatArgs));
+            log.info("{}: {}/{}", table, to + 1, total);
+        }
+    }
+
+    /**
+     * x. satırın kullanıcısı: kullanıcılar sırayla dolaşılır
+     */
+    private String userOf(String x, long firstUserId) {
+        return "%d + MOD(%s, %d)".formatted(firstUserId, x, config.users);
+    }
+
+    /**
+     * x. satırın postu: k = x / U turu için post = (k * stride + u * 7 + offset) mod P
+     * Aynı kullanıcı için k farklı olduğunda k * stride < P olduğundan post da farklıdır
+     * → (user, post) çiftleri benzersiz (unique constraint)
+     */
+    private String postOf(String x, long firstPostId, long total, int offset) {
+        long rounds = (total + config.users - 1) / config.users;
+        long stride = Math.max(1, config.posts / Math.max(1, rounds));
+        return "%d + MOD((%s / %d) * %d + MOD(%s, %d) * 7 + %d, %d)".formatted(
+                firstPostId, x, config.users, stride, x, config.users, offset, config.posts);
+    }
+
+    private String range(long from, long to) {
+        return postgres
+                ? "generate_series(%d, %d) AS x".formatted(from, to)
+                : "SYSTEM_RANGE(%d, %d)".formatted(from, to);
+    }
+
+    private String secondsAgo(String x) {
+        return postgres
+                ? "LOCALTIMESTAMP - %s * INTERVAL '1 second'".formatted(x)
+                : "DATEADD('SECOND', -%s, LOCALTIMESTAMP)".formatted(x);
+    }
+
+    private long contiguousFirstId(String table, String where, long expected) {
+        Long first = jdbcTemplate.queryForObject("SELECT MIN(id) FROM " + table + " WHERE " + where, Long.class);
+        Long last = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table + " WHERE " + where, Long.class);
+        if (first == null || last == null || last - first + 1 != expected) {
+            throw new IllegalStateException(table + " ID'leri ardışık değil; boş bir veritabanı ile tekrar deneyin");
+        }
+        return first;
+    }
+
+    private long count(String sql) {
+        Long value = jdbcTemplate.queryForObject(sql, Long.class);
+        return value != null ? value : 0L;
+    }
+}
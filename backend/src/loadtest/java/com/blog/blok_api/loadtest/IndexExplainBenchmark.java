@@ -0,0 +1,157 @@
+package com.blog.blok_api.loadtest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * IndexExplainBenchmark - V1__add_query_indexes migration'ındaki her index için önce/sonra EXPLAIN
+ *
+ * Her index için: index düşürülür → sorgu planı (EXPLAIN ANALYZE) ve medyan süre ölçülür →
+ * index migration'daki tanımıyla yeniden oluşturulur → aynı ölçüm tekrarlanır.
+ * Sorgular repository sorgularının SQL karşılıklarıdır, parametreler seed edilmiş veri setinden seçilir.
+ * Çalışma sonunda tüm index'ler yerinde kalır.
+ *
+ * Not: H2 her foreign key için otomatik index oluşturur; bu yüzden H2'de likes/comments/post_views
+ * FK kolonlarındaki "önce" planı da index kullanır. Anlamlı karşılaştırma PostgreSQL'de alınır
+ * (-Dloadtest.args="mode=explain db.url=jdbc:postgresql://...").
+ *
+ * Çalıştırma: mvn -Ploadtest verify -Dloadtest.args="mode=explain"
+ */
+final class IndexExplainBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(IndexExplainBenchmark.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SeededDataset dataset;
+    private final int runs;
+    private final boolean postgres;
+
+    IndexExplainBenchmark(JdbcTemplate jdbcTemplate, SeededDataset dataset, int runs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataset = dataset;
+        this.runs = runs;
+        String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        this.postgres = "PostgreSQL".equalsIgnoreCase(product);
+    }
+
+    List<Map<String, Object>> runAll() {
+        long user = dataset.firstUserId;
+        long post = dataset.firstPostId;
+        String postIds = idList(post, 20);
+        String commentIds = jdbcTemplate.queryForList("SELECT id FROM comments ORDER BY id LIMIT 20", Long.class)
+                .stream().map(String::valueOf).collect(Collectors.joining(", "));
+        if (commentIds.isEmpty()) {
+            commentIds = "0";
+        }
+
+        List<IndexCase> cases = List.of(
+                new IndexCase("idx_posts_published_created",
+                        "posts (is_published, created_at DESC, id)", "deleted_at IS NULL",
+                        "SELECT id FROM posts WHERE is_published = TRUE AND deleted_at IS NULL ORDER BY created_at DESC LIMIT 100"),
+                new IndexCase("idx_posts_author_created",
+                        "posts (author_id, created_at)", null,
+                        "SELECT id FROM posts WHERE author_id = " + user + " AND deleted_at IS NULL ORDER BY created_at DESC"),
+                new IndexCase("idx_posts_deleted_at",
+                        "posts (deleted_at)", "deleted_at IS NOT NULL",
+                        "SELECT id FROM posts WHERE deleted_at IS NOT NULL ORDER BY deleted_at LIMIT 20"),
+                new IndexCase("idx_likes_post",
+                        "likes (post_id)", null,
+                        "SELECT post_id, COUNT(id) FROM likes WHERE post_id IN (" + postIds + ") GROUP BY post_id"),
+                new IndexCase("idx_likes_comment",
+                        "likes (comment_id)", null,
+                        "SELECT COUNT(id) FROM likes WHERE comment_id IN (" + commentIds + ")"),
+                new IndexCase("idx_likes_user_liked_at",
+                        "likes (user_id, liked_at DESC)", null,
+                        "SELECT post_id FROM likes WHERE user_id = " + user + " ORDER BY liked_at DESC"),
+                new IndexCase("idx_comments_post_active",
+                        "comments (post_id)", "is_deleted = false",
+                        "SELECT post_id, COUNT(id) FROM comments WHERE is_deleted = FALSE AND post_id IN (" + postIds + ") GROUP BY post_id"),
+                new IndexCase("idx_comments_parent",
+                        "comments (parent_comment_id)", null,
+                        "SELECT id FROM comments WHERE parent_comment_id IN (" + commentIds + ")"),
+                new IndexCase("idx_comments_author",
+                        "comments (author_id)", null,
+                        "SELECT DISTINCT post_id FROM comments WHERE author_id = " + user),
+                new IndexCase("idx_saved_posts_user_created",
+                        "saved_posts (user_id, created_at DESC)", null,
+                        "SELECT post_id FROM saved_posts WHERE user_id = " + user + " ORDER BY created_at DESC"),
+                new IndexCase("idx_post_views_post",
+                        "post_views (post_id)", null,
+                        "SELECT COUNT(id) FROM post_views WHERE post_id = " + post));
+
+        List<Map<String, Object>> results = new ArrayList<>();
+        for (IndexCase indexCase : cases) {
+            jdbcTemplate.execute("DROP INDEX IF EXISTS " + indexCase.name);
+            analyze();
+            Measurement before = measure(indexCase.query);
+
+            jdbcTemplate.execute(indexCase.createSql(postgres));
+            analyze();
+            Measurement after = measure(indexCase.query);
+
+            log.info("{}: {} ms -> {} ms", indexCase.name,
+                    String.format("%.2f", before.medianMillis), String.format("%.2f", after.medianMillis));
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("index", indexCase.name);
+            result.put("query", indexCase.query);
+            result.put("before", before.toMap());
+            result.put("after", after.toMap());
+            results.add(result);
+        }
+        return results;
+    }
+
+    private Measurement measure(String query) {
+        List<String> plan = jdbcTemplate.queryForList((postgres ? "EXPLAIN (ANALYZE, BUFFERS) " : "EXPLAIN ANALYZE ") + query,
+                String.class);
+
+        jdbcTemplate.queryForList(query);
+        long[] nanos = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            long start = System.nanoTime();
+            jdbcTemplate.queryForList(query);
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        return new Measurement(plan, nanos[runs / 2] / 1e6);
+    }
+
+    private void analyze() {
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    private static String idList(long first, int count) {
+        return LongStream.range(first, first + count).mapToObj(String::valueOf).collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Migration'daki index tanımı - PostgreSQL'de kısmi (partialPredicate), H2'de tam index
+     * Ölçüm sırasında başka yazma olmadığı için CONCURRENTLY kullanılmaz
+     */
+    private record IndexCase(String name, String definition, String partialPredicate, String query) {
+        String createSql(boolean postgres) {
+            String sql = "CREATE INDEX " + name + " ON " + definition;
+            return postgres && partialPredicate != null ? sql + " WHERE " + partialPredicate : sql;
+        }
+    }
+
+    private record Measurement(List<String> plan, double medianMillis) {
+        Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("medianMillis", medianMillis);
+            map.put("plan", plan);
+            return map;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.blog.blok_api.loadtest;
+
+import com.blog.blok_api.security.JwtUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * LoadDriver - Ana endpoint'leri sabit eşzamanlılıkla (kapalı döngü) çalıştırır
+ *
+ * Her senaryo önce ısınma istekleri (ölçülmez), sonra ölçülen istekler gönderir.
+ * Senaryolar sırayla çalışır; böylece SQL sayacı farkı tek senaryoya aittir.
+ * Post seçimi çarpıktır: isteklerin %80'i en yeni %1'lik postlara gider (popüler içerik).
+ */
+final class LoadDriver {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadDriver.class);
+
+    private static final int TOKEN_POOL_SIZE = 1000;
+
+    private final String baseUrl;
+    private final LoadTestConfig config;
+    private final SeededDataset dataset;
+    private final HttpClient httpClient;
+    private final List<String> tokens;
+
+    LoadDriver(int port, LoadTestConfig config, SeededDataset dataset, JwtUtil jwtUtil) {
+        this.baseUrl = "http://localhost:" + port;
+        this.config = config;
+        this.dataset = dataset;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        long poolSize = Math.min(TOKEN_POOL_SIZE, dataset.userCount);
+        this.tokens = LongStream.range(0, poolSize)
+                .mapToObj(i -> jwtUtil.generateToken(SeededDataset.username(i), dataset.firstUserId + i, List.of("USER")))
+                .collect(Collectors.toList());
+    }
+
+    List<ScenarioResult> runAll() throws InterruptedException {
+        List<ScenarioResult> results = new ArrayList<>();
+        results.add(run("GET /api/posts", config.feedRequests,
+                () -> get("/api/posts", null)));
+        results.add(run("GET /api/posts/top-liked", config.requests,
+                () -> get("/api/posts/top-liked", randomToken())));
+        results.add(run("GET /api/posts/{id}", config.requests,
+                () -> get("/api/posts/" + randomPostId(), randomToken())));
+        results.add(run("POST /api/posts/views", config.requests,
+                () -> post("/api/posts/views", "{\"postIds\":" + randomPostIds(10) + "}")));
+        results.add(run("GET /api/comments/post/{id}", config.requests,
+                () -> get("/api/comments/post/" + randomPostId(), randomToken())));
+        results.add(run("POST /api/comments", config.requests,
+                () -> post("/api/comments", "{\"postId\":" + randomPostId() + ",\"content\":\"Yük testi\"}")));
+        results.add(run("PATCH /api/like/post/{id}/toggle", config.requests,
+                () -> send(authorized(HttpRequest.newBuilder(uri("/api/like/post/" + randomPostId() + "/toggle")), randomToken())
+                        .method("PATCH", HttpRequest.BodyPublishers.noBody()))));
+        return results;
+    }
+
+    private ScenarioResult run(String name, int requests, Supplier<Integer> request) throws InterruptedException {
+        int warmup = Math.min(config.warmupRequests, requests);
+        execute(warmup, request, new long[warmup], new AtomicInteger());
+
+        long[] latencies = new long[requests];
+        AtomicInteger errors = new AtomicInteger();
+        long statementsBefore = CountingStatementInspector.count();
+        long started = System.nanoTime();
+        execute(requests, request, latencies, errors);
+        long elapsed = System.nanoTime() - started;
+        long statements = CountingStatementInspector.count() - statementsBefore;
+
+        ScenarioResult result = new ScenarioResult(name, errors.get(), elapsed, latencies, statements);
+        log.info("{}: {} istek, {}/sn, p99 {} ms, {} SQL/istek, {} hata", name, requests,
+                Math.round(result.throughput()), Math.round(result.percentileMillis(99)),
+                String.format("%.1f", result.sqlPerRequest()), result.errors);
+        return result;
+    }
+
+    private void execute(int requests, Supplier<Integer> request, long[] latencies, AtomicInteger errors)
+            throws InterruptedException {
+        AtomicInteger next = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(config.concurrency);
+        for (int w = 0; w < config.concurrency; w++) {
+            workers.execute(() -> {
+                int index;
+                while ((index = next.getAndIncrement()) < requests) {
+                    long started = System.nanoTime();
+                    int status;
+                    try {
+                        status = request.get();
+                    } catch (RuntimeException e) {
+                        status = -1;
+                    }
+                    latencies[index] = System.nanoTime() - started;
+                    if (status < 200 || status >= 400) {
+                        errors.incrementAndGet();
+                    }
+                }
+            });
+        }
+        workers.shutdown();
+        workers.awaitTermination(1, TimeUnit.HOURS);
+    }
+
+    private int get(String path, String token) {
+        return send(authorized(HttpRequest.newBuilder(uri(path)), token).GET());
+    }
+
+    private int post(String path, String json) {
+        return send(authorized(HttpRequest.newBuilder(uri(path)), randomToken())
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json)));
+    }
+
+    private int send(HttpRequest.Builder builder) {
+        try {
+            return httpClient.send(builder.timeout(Duration.ofMinutes(5)).build(),
+                    HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (java.io.IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static HttpRequest.Builder authorized(HttpRequest.Builder builder, String token) {
+        return token != null ? builder.header("Authorization", "Bearer " + token) : builder;
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private String randomToken() {
+        return tokens.get(ThreadLocalRandom.current().nextInt(tokens.size()));
+    }
+
+    private long randomPostId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long hotSet = Math.max(1, dataset.postCount / 100);
+        long offset = random.nextInt(100) < 80
+                ? random.nextLong(hotSet)
+                : random.nextLong(dataset.postCount);
+        return dataset.firstPostId + offset;
+    }
+
+    private String randomPostIds(int count) {
+        return LongStream.range(0, count)
+                .map(i -> randomPostId())
+                .distinct()
+                .mapToObj(Long::toString)
+                .collect(Collectors.joining(",", "[", "]"));
+    }
+}
@@ -0,0 +1,101 @@
+package com.blog.blok_api.loadtest;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * LoadTestConfig - "anahtar=değer" program argümanları
+ *
+ * Örnek: mvn -Ploadtest verify -Dloadtest.args="users=10000 posts=100000 likes=1000000 views=1000000"
+ * Index karşılaştırması: mvn -Ploadtest verify -Dloadtest.args="mode=explain explain.runs=9"
+ */
+final class LoadTestConfig {
+
+    final String dbUrl;
+    final String dbUsername;
+    final String dbPassword;
+
+    final long users;
+    final long posts;
+    final long likes;
+    final long views;
+    final long saves;
+    final long comments;
+    final int tags;
+
+    final int concurrency;
+    final int requests;
+    final int feedRequests;
+    final int warmupRequests;
+    final String reportFile;
+
+    /** http: endpoint senaryoları, explain: index önce/sonra EXPLAIN karşılaştırması */
+    final String mode;
+    final int explainRuns;
+    final String explainReportFile;
+
+    private LoadTestConfig(Map<String, String> values) {
+        this.dbUrl = values.getOrDefault("db.url", "jdbc:h2:file:./target/loadtest/blok");
+        this.dbUsername = values.getOrDefault("db.username", "sa");
+        this.dbPassword = values.getOrDefault("db.password", "");
+
+        this.users = Long.parseLong(values.getOrDefault("users", "100000"));
+        this.posts = Long.parseLong(values.getOrDefault("posts", "1000000"));
+        this.likes = Long.parseLong(values.getOrDefault("likes", "10000000"));
+        this.views = Long.parseLong(values.getOrDefault("views", "10000000"));
+        this.saves = Long.parseLong(values.getOrDefault("saves", String.valueOf(likes / 10)));
+        this.comments = Long.parseLong(values.getOrDefault("comments", String.valueOf(posts / 10)));
+        this.tags = Integer.parseInt(values.getOrDefault("tags", "200"));
+
+        this.concurrency = Integer.parseInt(values.getOrDefault("concurrency", "32"));
+        this.requests = Integer.parseInt(values.getOrDefault("requests", "2000"));
+        // Feed tüm yayınlanmış postları döndürür; büyük veri setinde istek başına çok pahalı
+        this.feedRequests = Integer.parseInt(values.getOrDefault("feed.requests", "10"));
+        this.warmupRequests = Integer.parseInt(values.getOrDefault("warmup", "200"));
+        this.reportFile = values.getOrDefault("report", "target/loadtest-report.json");
+
+        this.mode = values.getOrDefault("mode", "http");
+        this.explainRuns = Integer.parseInt(values.getOrDefault("explain.runs", "5"));
+        this.explainReportFile = values.getOrDefault("explain.report", "target/index-explain-report.json");
+
+        if (likes > users * posts || views > users * posts || saves > users * posts) {
+            throw new IllegalArgumentException("likes/views/saves, users * posts'tan büyük olamaz (user, post) çiftleri benzersiz");
+        }
+        if (!"http".equals(mode) && !"explain".equals(mode)) {
+            throw new IllegalArgumentException("mode http veya explain olmalı: " + mode);
+        }
+        if (users <= 0 || posts <= 0 || tags < 2) {
+            throw new IllegalArgumentException("users ve posts pozitif, tags en az 2 olmalı");
+        }
+    }
+
+    static LoadTestConfig parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Geçersiz argüman (anahtar=değer bekleniyor): " + arg);
+            }
+            values.put(arg.substring(0, separator).trim(), arg.substring(separator + 1).trim());
+        }
+        return new LoadTestConfig(values);
+    }
+
+    /**
+     * Uygulamanın yük testi için açılacağı Spring property'leri
+     */
+    Map<String, Object> springProperties() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("spring.datasource.url", dbUrl);
+        properties.put("spring.datasource.username", dbUsername);
+        properties.put("spring.datasource.password", dbPassword);
+        properties.put("spring.jpa.hibernate.ddl-auto", "update");
+        properties.put("spring.jpa.properties.hibernate.session_factory.statement_inspector",
+                CountingStatementInspector.class.getName());
+        properties.put("server.port", "0");
+        properties.put("management.server.port", "0");
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.com.blog.blok_api.loadtest", "INFO");
+        return properties;
+    }
+}
@@ -0,0 +1,104 @@
+package com.blog.blok_api.loadtest;
+
+import com.blog.blok_api.BlokApiApplication;
+import com.blog.blok_api.security.JwtUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * LoadTestRunner - Uçtan uca yük testi
+ *
+ * 1. Uygulamayı rastgele portta, yük testi veritabanıyla (varsayılan: target/loadtest altında H2 dosyası) başlatır
+ * 2. Veri setini yükler (bir kez): 100k kullanıcı, 1M post, 10M like, 10M görüntülenme
+ * 3. Ana endpoint'leri eşzamanlı çalıştırır
+ * 4. Throughput, p50/p90/p99/p99.9 ve istek başına SQL sayısını konsola ve JSON rapora yazar
+ *
+ * Çalıştırma: mvn -Ploadtest verify -Dloadtest.args="concurrency=64 requests=5000"
+ * mode=explain: HTTP senaryoları yerine index önce/sonra EXPLAIN karşılaştırması (IndexExplainBenchmark)
+ * PostgreSQL ile: -Dloadtest.args="db.url=jdbc:postgresql://localhost:5432/blok_loadtest db.username=... db.password=..."
+ */
+public final class LoadTestRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTestRunner.class);
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        // devtools (classpath'te) uygulamayı yeni classloader ile yeniden başlatıp builder property'lerini kaybeder
+        System.setProperty("spring.devtools.restart.enabled", "false");
+
+        // Komut satırı argümanı olarak verilir; application.properties'teki DB ayarlarını ezmesi gerekir
+        String[] springArgs = config.springProperties().entrySet().stream()
+                .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+                .toArray(String[]::new);
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BlokApiApplication.class)
+                .run(springArgs)) {
+            SeededDataset dataset = new DatasetSeeder(context.getBean(JdbcTemplate.class), config).seedIfEmpty();
+
+            if ("explain".equals(config.mode)) {
+                List<Map<String, Object>> explainResults =
+                        new IndexExplainBenchmark(context.getBean(JdbcTemplate.class), dataset, config.explainRuns).runAll();
+                writeJson(config.explainReportFile, Map.of("database", config.dbUrl, "indexes", explainResults));
+                return;
+            }
+
+            int port = Integer.parseInt(context.getEnvironment().getRequiredProperty("local.server.port"));
+            LoadDriver driver = new LoadDriver(port, config, dataset, context.getBean(JwtUtil.class));
+            List<ScenarioResult> results = driver.runAll();
+
+            printTable(results);
+            writeReport(config, results);
+        }
+    }
+
+    private static void printTable(List<ScenarioResult> results) {
+        StringBuilder table = new StringBuilder(String.format("%n%-34s %8s %6s %10s %9s %9s %9s %9s %8s%n",
+                "Senaryo", "İstek", "Hata", "İstek/sn", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "SQL/ist"));
+        for (ScenarioResult result : results) {
+            table.append(String.format("%-34s %8d %6d %10.1f %9.1f %9.1f %9.1f %9.1f %8.1f%n",
+                    result.name, result.requests, result.errors, result.throughput(),
+                    result.percentileMillis(50), result.percentileMillis(90),
+                    result.percentileMillis(99), result.percentileMillis(99.9), result.sqlPerRequest()));
+        }
+        log.info(table.toString());
+    }
+
+    private static void writeReport(LoadTestConfig config, List<ScenarioResult> results) throws Exception {
+        Map<String, Object> dataset = new LinkedHashMap<>();
+        dataset.put("users", config.users);
+        dataset.put("posts", config.posts);
+        dataset.put("likes", config.likes);
+        dataset.put("views", config.views);
+        dataset.put("saves", config.saves);
+        dataset.put("comments", config.comments);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("database", config.dbUrl);
+        report.put("concurrency", config.concurrency);
+        report.put("dataset", dataset);
+        report.put("scenarios", results.stream().map(ScenarioResult::toMap).toList());
+
+        writeJson(config.reportFile, report);
+    }
+
+    private static void writeJson(String path, Map<String, Object> report) throws Exception {
+        File file = new File(path);
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(file, report);
+        log.info("Rapor yazıldı: {}", file.getAbsolutePath());
+    }
+}
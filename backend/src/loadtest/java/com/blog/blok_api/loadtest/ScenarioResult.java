@@ -0,0 +1,61 @@
+package com.blog.blok_api.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * ScenarioResult - Bir senaryonun ölçüm sonucu (throughput, gecikme yüzdelikleri, SQL/istek)
+ */
+final class ScenarioResult {
+
+    final String name;
+    final int requests;
+    final int errors;
+    final double elapsedSeconds;
+    final long sqlStatements;
+    private final long[] sortedLatenciesNanos;
+
+    ScenarioResult(String name, int errors, long elapsedNanos, long[] latenciesNanos, long sqlStatements) {
+        this.name = name;
+        this.requests = latenciesNanos.length;
+        this.errors = errors;
+        this.elapsedSeconds = elapsedNanos / 1e9;
+        this.sqlStatements = sqlStatements;
+        this.sortedLatenciesNanos = latenciesNanos.clone();
+        Arrays.sort(this.sortedLatenciesNanos);
+    }
+
+    double throughput() {
+        return elapsedSeconds > 0 ? requests / elapsedSeconds : 0;
+    }
+
+    double percentileMillis(double percentile) {
+        if (sortedLatenciesNanos.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sortedLatenciesNanos.length) - 1;
+        return sortedLatenciesNanos[Math.max(0, Math.min(index, sortedLatenciesNanos.length - 1))] / 1e6;
+    }
+
+    double sqlPerRequest() {
+        return requests > 0 ? (double) sqlStatements / requests : 0;
+    }
+
+    Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("scenario", name);
+        map.put("requests", requests);
+        map.put("errors", errors);
+        map.put("elapsedSeconds", elapsedSeconds);
+        map.put("throughputPerSecond", throughput());
+        map.put("p50Millis", percentileMillis(50));
+        map.put("p90Millis", percentileMillis(90));
+        map.put("p99Millis", percentileMillis(99));
+        map.put("p999Millis", percentileMillis(99.9));
+        map.put("maxMillis", percentileMillis(100));
+        map.put("sqlStatements", sqlStatements);
+        map.put("sqlPerRequest", sqlPerRequest());
+        return map;
+    }
+}
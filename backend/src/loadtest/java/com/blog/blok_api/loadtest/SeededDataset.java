@@ -0,0 +1,24 @@
+package com.blog.blok_api.loadtest;
+
+/**
+ * SeededDataset - Seed edilen kullanıcı ve postların ID aralıkları (ardışık)
+ */
+final class SeededDataset {
+
+    final long firstUserId;
+    final long userCount;
+    final long firstPostId;
+    final long postCount;
+
+    SeededDataset(long firstUserId, long userCount, long firstPostId, long postCount) {
+        this.firstUserId = firstUserId;
+        this.userCount = userCount;
+        this.firstPostId = firstPostId;
+        this.postCount = postCount;
+    }
+
+    /** index: 0..userCount-1 → seed sırasındaki kullanıcı adı */
+    static String username(long index) {
+        return "lt_user_" + index;
+    }
+}
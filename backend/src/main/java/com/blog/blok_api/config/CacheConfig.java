@@ -0,0 +1,59 @@
+package com.blog.blok_api.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * CacheConfig - Spring Cache (Caffeine) yapılandırması
+ *
+ * Hibernate second-level cache'ten (hibernate-cache.conf) bağımsızdır; burada DTO seviyesinde
+ * cache'ler tutulur. Tüm cache'ler boyut sınırlıdır ve istatistik kaydeder.
+ *
+ * TransactionAwareCacheManagerProxy: transaction içindeki evict/put işlemleri commit sonrasına
+ * ertelenir, böylece commit edilmemiş eski veri tekrar cache'e yazılamaz.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /** Post detayının kullanıcıdan bağımsız kısmı - anahtar: "postId:version" */
+    public static final String POST_DETAILS = "postDetails";
+    /** Post sayaçları (like, yorum, görüntülenme) - anahtar: postId */
+    public static final String POST_COUNTERS = "postCounters";
+
+    @Value("${app.cache.post-details.max-size:5000}")
+    private long postDetailsMaxSize;
+
+    @Value("${app.cache.post-counters.max-size:20000}")
+    private long postCountersMaxSize;
+
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+        caffeineCacheManager.setAllowNullValues(false);
+
+        // Post içeriği sadece versiyon değişince değişir; anahtarda versiyon olduğu için TTL sadece bellek için
+        caffeineCacheManager.registerCustomCache(POST_DETAILS, Caffeine.newBuilder()
+                .maximumSize(postDetailsMaxSize)
+                .expireAfterAccess(Duration.ofHours(1))
+                .recordStats()
+                .build());
+
+        // Sayaçlar değişiklikte evict edilir; TTL kaçırılan evict'lere karşı güvenlik ağı
+        caffeineCacheManager.registerCustomCache(POST_COUNTERS, Caffeine.newBuilder()
+                .maximumSize(postCountersMaxSize)
+                .expireAfterWrite(Duration.ofMinutes(5))
+                .recordStats()
+                .build());
+
+        return new TransactionAwareCacheManagerProxy(caffeineCacheManager);
+    }
+}
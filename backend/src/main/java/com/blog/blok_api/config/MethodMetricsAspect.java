@@ -0,0 +1,75 @@
+package com.blog.blok_api.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MethodMetricsAspect - Controller ve *ServiceImpl metotları için Micrometer timer'ları
+ *
+ * - blok.controller: controller paketindeki tüm public metotlar
+ * - blok.service: *ServiceImpl sınıflarının public metotları
+ * Etiketler: class, method, exception ("none" veya exception sınıf adı)
+ *
+ * PERFORMANS: Başarılı çağrıların Timer'ı Method başına bir kez oluşturulup cache'lenir;
+ * her çağrıda sadece System.nanoTime ve map lookup yapılır.
+ * Repository sorguları Spring Boot'un spring.data.repository.invocations metriği ile ölçülür.
+ */
+@Aspect
+@Component
+public class MethodMetricsAspect {
+
+    static final String CONTROLLER_METRIC = "blok.controller";
+    static final String SERVICE_METRIC = "blok.service";
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<Method, Timer> controllerTimers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Method, Timer> serviceTimers = new ConcurrentHashMap<>();
+
+    public MethodMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * com.blog.blok_api.controller..*(..))")
+    public Object timeController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(CONTROLLER_METRIC, controllerTimers, joinPoint);
+    }
+
+    @Around("execution(public * com.blog.blok_api.service..*ServiceImpl.*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(SERVICE_METRIC, serviceTimers, joinPoint);
+    }
+
+    private Object time(String metric, ConcurrentMap<Method, Timer> timers, ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        try {
+            Object result = joinPoint.proceed();
+            timers.computeIfAbsent(method, m -> timer(metric, m, "none"))
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable e) {
+            // Hata yolu nadir; Timer registry'den (kendi cache'i ile) alınır
+            timer(metric, method, e.getClass().getSimpleName())
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private Timer timer(String metric, Method method, String exception) {
+        return Timer.builder(metric)
+                .tag("class", method.getDeclaringClass().getSimpleName())
+                .tag("method", method.getName())
+                .tag("exception", exception)
+                .register(meterRegistry);
+    }
+}
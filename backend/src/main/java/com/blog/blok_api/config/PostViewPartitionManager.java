@@ -0,0 +1,132 @@
+package com.blog.blok_api.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * PostViewPartitionManager - post_views aylık partition'larının bakımı (sadece PostgreSQL)
+ *
+ * Tablo V2__partition_post_views migration'ı ile viewed_at'e göre RANGE partition'lı hale gelir.
+ * Bu sınıf PostViewRollupJob'dan çağrılır:
+ * - İleri ay partition'ları: içinde bulunulan aydan itibaren months-ahead ay önceden oluşturulur
+ *   (default partition yok; satır gelmeden önce partition'ın var olması gerekir)
+ * - Arşivleme: üst sınırı saklama süresinden (raw-retention-months) eski VE günlük özeti tamamlanmış
+ *   partition'lar DETACH ... CONCURRENTLY ile ayrılır (yazmaları kilitlemez). Ayrılan tablo
+ *   (ör. post_views_y2025m01) pg_dump -t ile soğuk depoya alınıp silinebilir; drop-detached=true ise
+ *   hemen silinir.
+ *
+ * PostgreSQL dışındaki veritabanlarında (H2) post_views düz tablodur, hiçbir şey yapmaz.
+ */
+@Component
+public class PostViewPartitionManager {
+
+    private static final Logger log = LoggerFactory.getLogger(PostViewPartitionManager.class);
+
+    private static final DateTimeFormatter BOUND_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    /** pg_get_expr çıktısı: FOR VALUES FROM (MINVALUE | 'ts') TO ('ts') */
+    private static final Pattern UPPER_BOUND = Pattern.compile("TO \\('([^']+)'\\)");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final boolean dropDetached;
+    private Boolean partitioned;
+
+    public PostViewPartitionManager(JdbcTemplate jdbcTemplate,
+                                    @Value("${app.views.partitions.months-ahead:2}") int monthsAhead,
+                                    @Value("${app.views.partitions.raw-retention-months:6}") int retentionMonths,
+                                    @Value("${app.views.partitions.drop-detached:false}") boolean dropDetached) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+        this.dropDetached = dropDetached;
+    }
+
+    /**
+     * @param rolledUpBefore bu günden önceki tüm günlerin özeti tamamlandı (PostViewRollupJob.nextDay)
+     */
+    public void maintain(LocalDate rolledUpBefore) {
+        if (!isPartitioned()) {
+            return;
+        }
+
+        List<Partition> partitions = jdbcTemplate.query("""
+                SELECT c.relname, pg_get_expr(c.relpartbound, c.oid)
+                FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid
+                WHERE i.inhparent = 'post_views'::regclass
+                """, (rs, rowNum) -> new Partition(rs.getString(1), upperBound(rs.getString(2))));
+
+        createFuturePartitions(partitions);
+        detachExpiredPartitions(partitions, rolledUpBefore);
+    }
+
+    private void createFuturePartitions(List<Partition> partitions) {
+        YearMonth last = YearMonth.now().plusMonths(monthsAhead);
+        YearMonth month = partitions.stream()
+                .map(partition -> YearMonth.from(partition.upperBound))
+                .max(YearMonth::compareTo)
+                .orElse(YearMonth.now());
+
+        for (; !month.isAfter(last); month = month.plusMonths(1)) {
+            String name = "post_views_y%04dm%02d".formatted(month.getYear(), month.getMonthValue());
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS %s PARTITION OF post_views FOR VALUES FROM ('%s') TO ('%s')"
+                    .formatted(name, month.atDay(1), month.plusMonths(1).atDay(1)));
+            log.info("post_views partition'ı oluşturuldu: {}", name);
+        }
+    }
+
+    private void detachExpiredPartitions(List<Partition> partitions, LocalDate rolledUpBefore) {
+        LocalDateTime cutoff = YearMonth.now().minusMonths(retentionMonths).atDay(1).atStartOfDay();
+        if (rolledUpBefore.atStartOfDay().isBefore(cutoff)) {
+            cutoff = rolledUpBefore.atStartOfDay();
+        }
+
+        for (Partition partition : partitions) {
+            if (partition.upperBound.isAfter(cutoff)) {
+                continue;
+            }
+            jdbcTemplate.execute("ALTER TABLE post_views DETACH PARTITION " + partition.name + " CONCURRENTLY");
+            if (dropDetached) {
+                jdbcTemplate.execute("DROP TABLE " + partition.name);
+                log.info("post_views partition'ı ayrıldı ve silindi: {}", partition.name);
+            } else {
+                log.info("post_views partition'ı ayrıldı, arşivlenebilir: {} (pg_dump -t {})",
+                        partition.name, partition.name);
+            }
+        }
+    }
+
+    private boolean isPartitioned() {
+        if (partitioned == null) {
+            String product = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            partitioned = "PostgreSQL".equalsIgnoreCase(product) && Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                    "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass('post_views'))",
+                    Boolean.class));
+        }
+        return partitioned;
+    }
+
+    private static LocalDateTime upperBound(String boundExpression) {
+        Matcher matcher = UPPER_BOUND.matcher(boundExpression);
+        if (!matcher.find()) {
+            throw new IllegalStateException("post_views partition sınırı okunamadı: " + boundExpression);
+        }
+        return LocalDateTime.parse(matcher.group(1), BOUND_FORMAT);
+    }
+
+    private record Partition(String name, LocalDateTime upperBound) {
+    }
+}
@@ -0,0 +1,189 @@
+package com.blog.blok_api.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * QueryDiagnostics - HTTP isteği başına SQL sayacı (N+1 ve yavaş sorgu dedektörü)
+ *
+ * - preHandle: örneklenen istekler için thread'e bağlı bir bağlam açar (controller metodu ile)
+ * - inspect: Hibernate'in hazırladığı her SQL'i normalize edip "şekil" başına sayar
+ *   (IN listeleri ve literal'ler tek '?' olur, böylece sadece parametresi farklı sorgular aynı sayılır)
+ * - afterCompletion: aynı şekli eşikten fazla çalıştıran istekleri WARN olarak loglar
+ * - QueryTimingListener: JDBC çalışma süresini ölçer, eşik üstü sorgular controller metodu ile loglanır
+ *
+ * PERFORMANS: Örneklenmeyen isteklerde maliyet tek bir ThreadLocal okumasıdır; prod'da
+ * sample-rate düşük tutulur. Strict modda (testler) her istek izlenir ve eşik aşıldığı anda
+ * IllegalStateException fırlatılır, böylece yeni eklenen N+1'ler testi kırar.
+ *
+ * Hibernate sadece tek bir statement_inspector kabul eder; önceden tanımlı inspector
+ * (ör. load-test'in sayacı) QueryDiagnosticsConfig tarafından delegate olarak zincirlenir.
+ * Async (StreamingResponseBody) gövdeler farklı thread'de çalıştığı için sayılmaz.
+ */
+public class QueryDiagnostics implements StatementInspector, AsyncHandlerInterceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryDiagnostics.class);
+
+    private static final ThreadLocal<RequestContext> CONTEXT = new ThreadLocal<>();
+
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+\\b");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final int MAX_LOGGED_SQL_LENGTH = 500;
+
+    private final StatementInspector delegate;
+    private final double sampleRate;
+    private final int repeatThreshold;
+    private final long slowThresholdNanos;
+    private final boolean strict;
+    private final Counter repeatedCounter;
+    private final Counter slowCounter;
+
+    public QueryDiagnostics(StatementInspector delegate,
+                            double sampleRate,
+                            int repeatThreshold,
+                            long slowThresholdMs,
+                            boolean strict,
+                            MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.sampleRate = strict ? 1.0 : sampleRate;
+        this.repeatThreshold = repeatThreshold;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMs);
+        this.strict = strict;
+        this.repeatedCounter = meterRegistry.counter("blok.sql.repeated.statements");
+        this.slowCounter = meterRegistry.counter("blok.sql.slow.statements");
+    }
+
+    // ===== HandlerInterceptor: istek bağlamı =====
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod && isSampled()) {
+            CONTEXT.set(new RequestContext(this, describe(handlerMethod)));
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        finish();
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        finish();
+    }
+
+    // ===== StatementInspector =====
+
+    @Override
+    public String inspect(String sql) {
+        String result = delegate != null ? delegate.inspect(sql) : sql;
+        RequestContext context = CONTEXT.get();
+        if (context != null) {
+            context.record(result);
+        }
+        return result;
+    }
+
+    /**
+     * QueryTimingListener tarafından her JDBC çalıştırması sonrası çağrılır
+     */
+    static void statementExecuted(long elapsedNanos) {
+        RequestContext context = CONTEXT.get();
+        if (context != null) {
+            context.owner.checkSlow(context, elapsedNanos);
+        }
+    }
+
+    private void checkSlow(RequestContext context, long elapsedNanos) {
+        if (elapsedNanos < slowThresholdNanos || context.lastSql == null) {
+            return;
+        }
+        slowCounter.increment();
+        log.warn("Yavaş SQL ({} ms) - {}: {}",
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), context.handler, abbreviate(context.lastSql));
+    }
+
+    private void onRepeat(RequestContext context, String shape, int count) {
+        if (strict) {
+            throw new IllegalStateException("N+1 şüphesi: " + context.handler + " aynı SQL'i " + count
+                    + " kez çalıştırdı (eşik " + repeatThreshold + "): " + abbreviate(shape));
+        }
+    }
+
+    private void finish() {
+        RequestContext context = CONTEXT.get();
+        if (context == null) {
+            return;
+        }
+        CONTEXT.remove();
+        context.shapeCounts.forEach((shape, count) -> {
+            if (count > repeatThreshold) {
+                repeatedCounter.increment();
+                log.warn("N+1 şüphesi - {}: aynı SQL {} kez çalıştı (istekte toplam {} SQL): {}",
+                        context.handler, count, context.total, abbreviate(shape));
+            }
+        });
+    }
+
+    private boolean isSampled() {
+        return sampleRate >= 1.0 || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    private static String describe(HandlerMethod handlerMethod) {
+        return handlerMethod.getBeanType().getSimpleName() + "#" + handlerMethod.getMethod().getName();
+    }
+
+    static String normalize(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = WHITESPACE.matcher(shape).replaceAll(" ");
+        return IN_LIST.matcher(shape).replaceAll("(?)").trim();
+    }
+
+    private static String abbreviate(String sql) {
+        String oneLine = WHITESPACE.matcher(sql).replaceAll(" ");
+        return oneLine.length() <= MAX_LOGGED_SQL_LENGTH ? oneLine : oneLine.substring(0, MAX_LOGGED_SQL_LENGTH) + "...";
+    }
+
+    /**
+     * Tek bir isteğin SQL istatistikleri - sadece isteği işleyen thread erişir
+     */
+    private static final class RequestContext {
+        private final QueryDiagnostics owner;
+        private final String handler;
+        private final Map<String, Integer> shapeCounts = new HashMap<>();
+        private int total;
+        private String lastSql;
+
+        private RequestContext(QueryDiagnostics owner, String handler) {
+            this.owner = owner;
+            this.handler = handler;
+        }
+
+        private void record(String sql) {
+            total++;
+            lastSql = sql;
+            String shape = normalize(sql);
+            int count = shapeCounts.merge(shape, 1, Integer::sum);
+            if (count == owner.repeatThreshold + 1) {
+                owner.onRepeat(this, shape, count);
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.blog.blok_api.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.autoconfigure.orm.jpa.JpaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * QueryDiagnosticsConfig - QueryDiagnostics'i Hibernate'e (statement inspector + session listener)
+ * ve Spring MVC'ye (istek interceptor'ı) bağlar.
+ *
+ * spring.jpa.properties ile zaten bir statement_inspector tanımlıysa (ör. load-test'in
+ * CountingStatementInspector'ı) o inspector örneklenip QueryDiagnostics'in delegate'i olur.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.diagnostics.sql.enabled", havingValue = "true")
+public class QueryDiagnosticsConfig {
+
+    @Bean
+    public QueryDiagnostics queryDiagnostics(JpaProperties jpaProperties,
+                                             MeterRegistry meterRegistry,
+                                             @Value("${app.diagnostics.sql.sample-rate:0.01}") double sampleRate,
+                                             @Value("${app.diagnostics.sql.repeat-threshold:10}") int repeatThreshold,
+                                             @Value("${app.diagnostics.sql.slow-threshold-ms:200}") long slowThresholdMs,
+                                             @Value("${app.diagnostics.sql.strict:false}") boolean strict) {
+        StatementInspector delegate = instantiateConfiguredInspector(
+                jpaProperties.getProperties().get(AvailableSettings.STATEMENT_INSPECTOR));
+        return new QueryDiagnostics(delegate, sampleRate, repeatThreshold, slowThresholdMs, strict, meterRegistry);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer queryDiagnosticsHibernateCustomizer(QueryDiagnostics queryDiagnostics) {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, queryDiagnostics);
+            properties.putIfAbsent(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, QueryTimingListener.class.getName());
+        };
+    }
+
+    @Bean
+    public WebMvcConfigurer queryDiagnosticsInterceptorConfigurer(QueryDiagnostics queryDiagnostics) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(queryDiagnostics).addPathPatterns("/api/**");
+            }
+        };
+    }
+
+    private static StatementInspector instantiateConfiguredInspector(String className) {
+        if (className == null || className.isBlank()) {
+            return null;
+        }
+        Class<?> inspectorClass = ClassUtils.resolveClassName(className.trim(), QueryDiagnosticsConfig.class.getClassLoader());
+        return (StatementInspector) BeanUtils.instantiateClass(inspectorClass);
+    }
+}
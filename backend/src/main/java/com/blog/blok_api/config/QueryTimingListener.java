@@ -0,0 +1,34 @@
+package com.blog.blok_api.config;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * QueryTimingListener - Her JDBC çalıştırmasının süresini ölçüp QueryDiagnostics'e bildirir
+ * Hibernate her Session için "hibernate.session.events.auto" ile yeni bir örnek oluşturur;
+ * Session tek thread'de kullanıldığı için alanlar senkronizasyonsuzdur.
+ */
+public class QueryTimingListener implements SessionEventListener {
+
+    private long statementStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        QueryDiagnostics.statementExecuted(System.nanoTime() - statementStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        QueryDiagnostics.statementExecuted(System.nanoTime() - batchStart);
+    }
+}
@@ -0,0 +1,41 @@
+package com.blog.blok_api.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * ReadYourWritesFilter - Yazan kullanıcıyı ReplicaRoutingDataSource'a bildirir
+ *
+ * Spring Security zincirinden sonra çalışır (kullanıcı SecurityContext'te). POST / PUT / PATCH / DELETE
+ * isteğinde kullanıcı hem istek başında (aynı istekteki read-only okumalar) hem sonunda (commit'ten sonraki
+ * istekler için süre yeniden başlar) işaretlenir.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final ReplicaRoutingDataSource routingDataSource;
+
+    public ReadYourWritesFilter(ReplicaRoutingDataSource routingDataSource) {
+        this.routingDataSource = routingDataSource;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Long userId = READ_METHODS.contains(request.getMethod()) ? null : ReplicaRoutingDataSource.currentUserId();
+        routingDataSource.wrote(userId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            routingDataSource.wrote(userId);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.blog.blok_api.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * ReplicaDataSourceConfig - Okumaların streaming replica'ya yönlendirilmesi (app.datasource.replica.enabled=true)
+ *
+ * - primaryDataSource: spring.datasource.* ve spring.datasource.hikari.* (Boot'un tek havuzunun yerine)
+ * - replicaDataSource: app.datasource.replica.* ve app.datasource.replica.hikari.* - ayrı boyutlanan havuz
+ * - dataSource (@Primary, JPA / JdbcTemplate / Flyway bunu kullanır): primary üzerinde
+ *   LazyConnectionDataSourceProxy. Fiziksel bağlantı ilk sorguda alınır; o ana kadar transaction
+ *   read-only işaretlendiyse (Connection.setReadOnly(true)) bağlantı ReplicaRoutingDataSource'tan gelir.
+ *   Böylece sadece {@code @Transactional(readOnly = true)} okumalar replica'ya gider; yazmalar,
+ *   transaction dışı sorgular ve migration'lar primary'de kalır.
+ *
+ * Kapalıyken Boot'un varsayılan tek havuzu kullanılır, hiçbir şey değişmez.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(@Value("${app.datasource.replica.url}") String url,
+                                              @Value("${app.datasource.replica.username:}") String username,
+                                              @Value("${app.datasource.replica.password:}") String password) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                                             @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                                             MeterRegistry meterRegistry,
+                                                             @Value("${app.datasource.replica.max-lag-ms:5000}") long maxLagMs) {
+        return new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource, maxLagMs, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 ReplicaRoutingDataSource replicaRoutingDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaRoutingDataSource);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                               ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new ReplicaLagMonitor(replicaDataSource, replicaRoutingDataSource);
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new ReadYourWritesFilter(replicaRoutingDataSource);
+    }
+}
@@ -0,0 +1,71 @@
+package com.blog.blok_api.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * ReplicaLagMonitor - Replica gecikmesini periyodik ölçüp ReplicaRoutingDataSource'a bildirir
+ *
+ * PostgreSQL streaming replica: WAL alıcısı primary'den akış almıyorsa (pg_stat_wal_receiver'da satır yok
+ * veya status 'streaming' değil) replica kullanılamaz - primary'yi kaybetmiş bir standby'da alınan ve
+ * uygulanan WAL konumu eşit kalır, gecikme 0 görünürdü. Akış varken alınan ve uygulanan konum aynıysa
+ * gecikme 0, değilse son uygulanan transaction'dan bu yana geçen süre. Recovery'de olmayan sunucu
+ * (replica URL'si primary'yi gösteriyor) ve diğer veritabanları (H2) için gecikme 0 kabul edilir.
+ * Sorgu başarısızsa veya NULL dönerse replica kullanılamaz sayılır.
+ *
+ * pg_stat_wal_receiver'ın status kolonunu sadece superuser ve pg_read_all_stats (pg_monitor) rolleri görür;
+ * replica kullanıcısının bu role sahip olması gerekir, aksi halde replica hiç kullanılmaz.
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private static final String POSTGRES_LAG_SQL = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() THEN 0
+                WHEN NOT EXISTS (SELECT 1 FROM pg_stat_wal_receiver WHERE status = 'streaming') THEN NULL
+                WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE CAST(COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0) AS BIGINT)
+            END
+            """;
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final ReplicaRoutingDataSource routingDataSource;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, ReplicaRoutingDataSource routingDataSource) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.routingDataSource = routingDataSource;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval-ms:5000}")
+    public void check() {
+        Long lag;
+        try {
+            lag = replicaJdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+                if (!"PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())) {
+                    return connection.isValid(1) ? 0L : null;
+                }
+                try (Statement statement = connection.createStatement();
+                     ResultSet rs = statement.executeQuery(POSTGRES_LAG_SQL)) {
+                    if (!rs.next()) {
+                        return null;
+                    }
+                    long value = rs.getLong(1);
+                    return rs.wasNull() ? null : value;
+                }
+            });
+        } catch (DataAccessException e) {
+            log.debug("Replica gecikmesi ölçülemedi: {}", e.getMessage());
+            lag = null;
+        }
+        routingDataSource.replicaLag(lag);
+    }
+}
@@ -0,0 +1,126 @@
+package com.blog.blok_api.config;
+
+import com.blog.blok_api.security.CustomUserDetails;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ReplicaRoutingDataSource - Read-only transaction'ların bağlantı kaynağı: replica veya primary
+ *
+ * LazyConnectionDataSourceProxy'nin read-only hedefidir (ReplicaDataSourceConfig); sadece
+ * {@code @Transactional(readOnly = true)} transaction'lar (Spring Data'nın findById / findAll'ı dahil)
+ * buraya gelir, diğer her şey doğrudan primary'ye gider.
+ *
+ * Primary'ye düşülen durumlar:
+ * - Kullanıcının kendi yazması: yazan (POST/PUT/PATCH/DELETE) kullanıcı max-lag-ms boyunca primary'den okur
+ *   (ReadYourWritesFilter işaretler). Replica gecikmesi max-lag-ms'nin altındaysa bu süre sonunda yazma
+ *   replica'ya ulaşmıştır.
+ * - Replica gecikmesi: ReplicaLagMonitor'ın ölçtüğü gecikme max-lag-ms'yi geçtiyse veya replica'ya
+ *   ulaşılamıyorsa tüm okumalar primary'ye gider. İlk ölçüme kadar da primary kullanılır.
+ *
+ * Kullanıcı request thread'inin SecurityContext'inden okunur; başka thread'e geçen işlerde
+ * (ör. HomeService bölümleri) context'in taşınması gerekir.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    enum Target { PRIMARY, REPLICA }
+
+    private final long maxLagMs;
+    private final Cache<Long, Boolean> recentWriters;
+    private final AtomicLong lagMs = new AtomicLong(-1);
+    private volatile boolean replicaUsable;
+    private final Counter replicaReads;
+    private final Counter stickyReads;
+    private final Counter lagReads;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, long maxLagMs, MeterRegistry meterRegistry) {
+        this.maxLagMs = maxLagMs;
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(Duration.ofMillis(maxLagMs))
+                .build();
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+
+        this.replicaReads = readCounter(meterRegistry, "replica", "none");
+        this.stickyReads = readCounter(meterRegistry, "primary", "read-your-writes");
+        this.lagReads = readCounter(meterRegistry, "primary", "replica-lag");
+        meterRegistry.gauge("blok.datasource.replica.lag", lagMs);
+    }
+
+    /**
+     * Kullanıcı yazdı - max-lag-ms boyunca okumaları primary'den
+     */
+    public void wrote(Long userId) {
+        if (userId != null) {
+            recentWriters.put(userId, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Son ölçülen replica gecikmesi
+     *
+     * @param lag milisaniye; replica'ya ulaşılamadıysa null
+     */
+    public void replicaLag(Long lag) {
+        boolean usable = lag != null && lag <= maxLagMs;
+        lagMs.set(lag != null ? lag : -1);
+        if (usable != replicaUsable) {
+            if (usable) {
+                log.info("Replica kullanılabilir (gecikme {} ms), read-only okumalar replica'ya yönleniyor", lag);
+            } else {
+                log.warn("Replica kullanılamıyor (gecikme {} ms, sınır {} ms), okumalar primary'ye yönleniyor",
+                        lag != null ? lag : "?", maxLagMs);
+            }
+        }
+        replicaUsable = usable;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!replicaUsable) {
+            lagReads.increment();
+            return Target.PRIMARY;
+        }
+        Long userId = currentUserId();
+        if (userId != null && recentWriters.getIfPresent(userId) != null) {
+            stickyReads.increment();
+            return Target.PRIMARY;
+        }
+        replicaReads.increment();
+        return Target.REPLICA;
+    }
+
+    /**
+     * İsteği yapan giriş yapmış kullanıcı (JwtAuthenticationFilter) - yoksa null
+     */
+    static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails user) {
+            return user.getId();
+        }
+        return null;
+    }
+
+    private static Counter readCounter(MeterRegistry meterRegistry, String target, String reason) {
+        return Counter.builder("blok.datasource.reads")
+                .description("Read-only transaction bağlantılarının yönlendirildiği veritabanı")
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,67 @@
+package com.blog.blok_api.config;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * SchemaMigrations - Flyway migration'larını (index'ler) Hibernate şemayı oluşturduktan sonra çalıştırır
+ *
+ * Tablolar hâlâ spring.jpa.hibernate.ddl-auto=update ile yönetiliyor; Boot'un Flyway'i JPA'dan
+ * önce çalıştığı için boş veritabanında tablolar henüz yoktur. Bu yüzden otomatik Flyway kapalı
+ * (spring.flyway.enabled=false) ve migration'lar entityManagerFactory'den sonra, web sunucusu
+ * trafik almadan önce uygulanır.
+ *
+ * Script'ler veritabanına göre ayrıdır: db/migration/postgresql (CONCURRENTLY, kısmi index'ler)
+ * ve db/migration/h2 (testler, yük testi). Diğer veritabanlarında hiçbir şey yapmaz.
+ * Mevcut (flyway_schema_history olmayan) veritabanları versiyon 0'dan baseline'lanır.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+@ConditionalOnProperty(name = "app.schema.migrations.enabled", havingValue = "true", matchIfMissing = true)
+public class SchemaMigrations implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(SchemaMigrations.class);
+
+    private static final Map<String, String> LOCATIONS = Map.of(
+            "PostgreSQL", "classpath:db/migration/postgresql",
+            "H2", "classpath:db/migration/h2");
+
+    private final DataSource dataSource;
+
+    public SchemaMigrations(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        String product = new JdbcTemplate(dataSource).execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        String location = LOCATIONS.get(product);
+        if (location == null) {
+            log.info("{} için migration yok, atlanıyor", product);
+            return;
+        }
+
+        MigrateResult result = Flyway.configure()
+                .dataSource(dataSource)
+                .locations(location)
+                .baselineOnMigrate(true)
+                .baselineVersion("0")
+                .load()
+                .migrate();
+        if (result.migrationsExecuted > 0) {
+            log.info("{} migration uygulandı, şema versiyonu {}", result.migrationsExecuted, result.targetSchemaVersion);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.blog.blok_api.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * SearchSchemaInitializer - Arama için PostgreSQL'e özel şema nesnelerini oluşturur
+ * (ddl-auto=update bunları yönetemez). Tüm komutlar idempotent'tir.
+ *
+ * 1. pg_trgm index'leri: admin araması (users.username/email, posts.title/slug) ILIKE ile index kullanır
+ * 2. app.search.backend=postgres ise:
+ *    - posts.search_vector (tsvector) kolonu + GIN index
+ *    - title/summary/content değişince ve post_tags değişince vektörü güncelleyen trigger'lar
+ *      (tag isimleri başka tabloda olduğu için GENERATED kolon yerine trigger kullanılıyor)
+ *    - mevcut postlar için backfill
+ *
+ * PostgreSQL dışındaki veritabanlarında hiçbir şey yapmaz.
+ */
+@Component
+public class SearchSchemaInitializer implements CommandLineRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchSchemaInitializer.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String searchBackend;
+    private final String textSearchConfig;
+
+    public SearchSchemaInitializer(JdbcTemplate jdbcTemplate,
+                                   @Value("${app.search.backend:jpa}") String searchBackend,
+                                   @Value("${app.search.text-config:simple}") String textSearchConfig) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.searchBackend = searchBackend;
+        this.textSearchConfig = textSearchConfig;
+    }
+
+    @Override
+    public void run(String... args) {
+        if (!isPostgres()) {
+            return;
+        }
+
+        createTrigramIndexes();
+
+        if ("postgres".equalsIgnoreCase(searchBackend)) {
+            createFullTextSearchObjects();
+        }
+    }
+
+    private boolean isPostgres() {
+        String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        return "PostgreSQL".equalsIgnoreCase(product);
+    }
+
+    private void createTrigramIndexes() {
+        try {
+            jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_users_username_trgm ON users USING gin (username gin_trgm_ops)");
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_users_email_trgm ON users USING gin (email gin_trgm_ops)");
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_posts_title_trgm ON posts USING gin (title gin_trgm_ops)");
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_posts_slug_trgm ON posts USING gin (slug gin_trgm_ops)");
+        } catch (DataAccessException e) {
+            // Extension oluşturma yetkisi yoksa admin araması index'siz çalışmaya devam eder
+            log.warn("pg_trgm index'leri oluşturulamadı, admin araması sequential scan ile çalışacak: {}", e.getMessage());
+        }
+    }
+
+    private void createFullTextSearchObjects() {
+        // regconfig adı SQL'e gömüldüğü için sadece basit isimlere izin ver
+        if (!textSearchConfig.matches("[a-z_]+")) {
+            throw new IllegalStateException("Geçersiz app.search.text-config: " + textSearchConfig);
+        }
+
+        jdbcTemplate.execute("ALTER TABLE posts ADD COLUMN IF NOT EXISTS search_vector tsvector");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_posts_search_vector ON posts USING gin (search_vector)");
+
+        // Ağırlıklar: başlık ve tag'ler A, özet B, içerik C
+        jdbcTemplate.execute("""
+                CREATE OR REPLACE FUNCTION posts_search_vector_compute(p posts) RETURNS tsvector
+                LANGUAGE sql STABLE AS $$
+                    SELECT setweight(to_tsvector('%1$s', coalesce(p.title, '')), 'A')
+                        || setweight(to_tsvector('%1$s', coalesce((
+                               SELECT string_agg(t.name, ' ')
+                               FROM post_tags pt JOIN tags t ON t.id = pt.tag_id
+                               WHERE pt.post_id = p.id), '')), 'A')
+                        || setweight(to_tsvector('%1$s', coalesce(p.summary, '')), 'B')
+                        || setweight(to_tsvector('%1$s', coalesce(p.content, '')), 'C')
+                $$
+                """.formatted(textSearchConfig));
+
+        jdbcTemplate.execute("""
+                CREATE OR REPLACE FUNCTION posts_search_vector_trigger() RETURNS trigger
+                LANGUAGE plpgsql AS $$
+                BEGIN
+                    NEW.search_vector := posts_search_vector_compute(NEW);
+                    RETURN NEW;
+                END
+                $$
+                """);
+        jdbcTemplate.execute("DROP TRIGGER IF EXISTS trg_posts_search_vector ON posts");
+        jdbcTemplate.execute("""
+                CREATE TRIGGER trg_posts_search_vector
+                BEFORE INSERT OR UPDATE OF title, summary, content ON posts
+                FOR EACH ROW EXECUTE FUNCTION posts_search_vector_trigger()
+                """);
+
+        jdbcTemplate.execute("""
+                CREATE OR REPLACE FUNCTION post_tags_search_vector_trigger() RETURNS trigger
+                LANGUAGE plpgsql AS $$
+                DECLARE
+                    target_post_id bigint;
+                BEGIN
+                    IF TG_OP = 'DELETE' THEN
+                        target_post_id := OLD.post_id;
+                    ELSE
+                        target_post_id := NEW.post_id;
+                    END IF;
+                    UPDATE posts p SET search_vector = posts_search_vector_compute(p) WHERE p.id = target_post_id;
+                    RETURN NULL;
+                END
+                $$
+                """);
+        jdbcTemplate.execute("DROP TRIGGER IF EXISTS trg_post_tags_search_vector ON post_tags");
+        jdbcTemplate.execute("""
+                CREATE TRIGGER trg_post_tags_search_vector
+                AFTER INSERT OR DELETE ON post_tags
+                FOR EACH ROW EXECUTE FUNCTION post_tags_search_vector_trigger()
+                """);
+
+        int backfilled = jdbcTemplate.update(
+                "UPDATE posts p SET search_vector = posts_search_vector_compute(p) WHERE p.search_vector IS NULL");
+        if (backfilled > 0) {
+            log.info("{} post için search_vector dolduruldu", backfilled);
+        }
+    }
+}
@@ -3,10 +3,14 @@ package com.blog.blok_api.config;
 import com.blog.blok_api.security.CustomUserDetailsService;
 import com.blog.blok_api.security.JwtAuthenticationFilter;
 import jakarta.servlet.Filter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authorization.AuthenticatedAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -43,7 +47,8 @@ public class SecurityConfig {
     }
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http,
+                                           @Value("${app.views.unique.hll.enabled:false}") boolean anonymousViews) throws Exception {
         http
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .csrf().disable()
@@ -58,6 +63,20 @@ public class SecurityConfig {
                         // Kimlik gerektirmeyen auth uçları
                         .requestMatchers("/api/auth/**").permitAll()
 
+                        // Actuator sadece ayrı management portunda (management.server.port) yayınlanır.
+                        // Orada health (load balancer) ve prometheus (scrape) açık, diğer uçlar (metrics, info) ADMIN ister.
+                        // Ana portta actuator yoktur; /actuator/** aşağıdaki anyRequest kuralına düşer (anonim istek 403)
+                        .requestMatchers(EndpointRequest.to("health", "prometheus")).permitAll()
+                        .requestMatchers(EndpointRequest.toAnyEndpoint()).hasRole("ADMIN")
+
+                        // Toplu etkileşim durumu bir okuma işlemi (POST sadece ID listesi taşımak için)
+                        .requestMatchers(HttpMethod.POST, "/api/interactions/state").permitAll()
+
+                        // HLL modunda anonim görüntülenmeler de sayılır (sadece sketch'e eklenir)
+                        .requestMatchers(HttpMethod.POST, "/api/posts/views").access(anonymousViews
+                                ? (authentication, context) -> new AuthorizationDecision(true)
+                                : AuthenticatedAuthorizationManager.authenticated())
+
                         // Yazma işlemleri için kimlik doğrulama zorunlu
                         .requestMatchers(HttpMethod.POST, "/api/**").authenticated()
                         .requestMatchers(HttpMethod.PUT, "/api/**").authenticated()
@@ -87,7 +106,7 @@ public class SecurityConfig {
             "http://localhost:3000"
         ));
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
-        configuration.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type", "Accept", "Origin", "X-Requested-With"));
+        configuration.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type", "Accept", "Origin", "X-Requested-With", "X-Visitor-Id"));
         configuration.setExposedHeaders(Arrays.asList("Authorization"));
         configuration.setAllowCredentials(true);
         
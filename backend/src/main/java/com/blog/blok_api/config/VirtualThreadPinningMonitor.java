@@ -0,0 +1,88 @@
+package com.blog.blok_api.config;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * VirtualThreadPinningMonitor - Virtual thread pinning tanılaması
+ *
+ * Virtual thread synchronized blok/metot içinde (veya native çağrıda) bloklanırsa carrier
+ * thread'i serbest bırakamaz; JDBC havuzu gibi kaynaklarda beklerken tüm carrier'lar
+ * tükenebilir. JFR'ın jdk.VirtualThreadPinned event'i eşik üstü pinning'leri stack trace ile
+ * yakalar, burada uygulama loguna WARN olarak yazılır.
+ *
+ * app.diagnostics.pinning.enabled=true ile açılır. Java 21 öncesinde event bulunmadığı için
+ * hiçbir şey raporlamaz.
+ */
+@Component
+@ConditionalOnProperty(name = "app.diagnostics.pinning.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int MAX_FRAMES = 15;
+
+    private final Duration threshold;
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(@Value("${app.diagnostics.pinning.threshold-ms:20}") long thresholdMs) {
+        this.threshold = Duration.ofMillis(thresholdMs);
+    }
+
+    @Override
+    public synchronized void start() {
+        if (recordingStream != null) {
+            return;
+        }
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::report);
+        recordingStream.startAsync();
+        log.info("Virtual thread pinning tanılaması açık (eşik {} ms)", threshold.toMillis());
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+            recordingStream = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return recordingStream != null;
+    }
+
+    private void report(RecordedEvent event) {
+        StringBuilder frames = new StringBuilder();
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace != null) {
+            stackTrace.getFrames().stream()
+                    .limit(MAX_FRAMES)
+                    .forEach(frame -> appendFrame(frames, frame));
+        }
+        log.warn("Virtual thread {} ms boyunca carrier thread'e sabitlendi (synchronized/native içinde bloklama){}",
+                event.getDuration().toMillis(), frames);
+    }
+
+    private static void appendFrame(StringBuilder frames, RecordedFrame frame) {
+        frames.append("\n\tat ")
+                .append(frame.getMethod().getType().getName())
+                .append('.')
+                .append(frame.getMethod().getName())
+                .append(':')
+                .append(frame.getLineNumber());
+    }
+}
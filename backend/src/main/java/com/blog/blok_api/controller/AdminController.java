@@ -2,6 +2,7 @@ package com.blog.blok_api.controller;
 
 import com.blog.blok_api.dto.AdminPostResponseDto;
 import com.blog.blok_api.dto.AdminUserResponseDto;
+import com.blog.blok_api.dto.CacheRegionStatsDto;
 import com.blog.blok_api.service.AdminService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -11,6 +12,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/admin")
 public class AdminController {
@@ -55,4 +58,11 @@ public class AdminController {
         adminService.deleteUserById(id);
         return ResponseEntity.noContent().build();
     }
+
+    // Second-level cache hit/miss istatistikleri (sadece ADMIN)
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/cache-stats")
+    public ResponseEntity<List<CacheRegionStatsDto>> getCacheStats() {
+        return ResponseEntity.ok(adminService.getCacheStatistics());
+    }
 }
@@ -0,0 +1,36 @@
+package com.blog.blok_api.controller;
+
+import com.blog.blok_api.dto.HomeBundleDto;
+import com.blog.blok_api.service.HomeService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/home")
+public class HomeController {
+
+    private final HomeService homeService;
+
+    public HomeController(HomeService homeService) {
+        this.homeService = homeService;
+    }
+
+    /**
+     * Ana sayfa paketi: profil, kişisel akışın ilk sayfası, trend postlar, tag'ler ve etkileşim durumu
+     * Yüklenemeyen bölümler missingSections'ta listelenir; istemci onları ayrı endpoint'lerinden isteyebilir.
+     * Giriş zorunlu değildir. Örnek: GET /api/home?size=20
+     */
+    @GetMapping
+    public ResponseEntity<HomeBundleDto> getHome(
+            @RequestHeader(name = "Authorization", required = false) String token,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        if (token != null && token.startsWith("Bearer ")) {
+            token = token.substring(7);
+        }
+        int safeSize = Math.min(Math.max(size, 1), 50);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(homeService.getHome(token, safeSize));
+    }
+}
@@ -0,0 +1,32 @@
+package com.blog.blok_api.controller;
+
+import com.blog.blok_api.dto.InteractionStateRequestDto;
+import com.blog.blok_api.dto.InteractionStateResponseDto;
+import com.blog.blok_api.service.InteractionService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/interactions")
+public class InteractionController {
+
+    private final InteractionService interactionService;
+
+    public InteractionController(InteractionService interactionService) {
+        this.interactionService = interactionService;
+    }
+
+    /**
+     * Ekranda görünen post ve yorumların sayaçları + görüntüleyenin bayrakları tek istekte
+     * Öğe başına GET /api/like/post/{id}/count, /api/like/comment/{id}/count ve
+     * /api/saved-posts/post/{id}/status çağrılarının yerine kullanılır. Giriş zorunlu değildir.
+     */
+    @PostMapping("/state")
+    public ResponseEntity<InteractionStateResponseDto> getState(
+            @RequestHeader(value = "Authorization", required = false) String authHeader,
+            @RequestBody InteractionStateRequestDto request
+    ) throws Exception {
+        String token = authHeader != null ? authHeader.replace("Bearer ", "") : null;
+        return ResponseEntity.ok(interactionService.getState(token, request));
+    }
+}
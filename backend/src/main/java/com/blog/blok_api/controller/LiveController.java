@@ -0,0 +1,52 @@
+package com.blog.blok_api.controller;
+
+import com.blog.blok_api.service.LiveEventService;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/live")
+public class LiveController {
+
+    private final LiveEventService liveEventService;
+
+    public LiveController(LiveEventService liveEventService) {
+        this.liveEventService = liveEventService;
+    }
+
+    /**
+     * Canlı olay akışı (text/event-stream): ready, counters, notification
+     * Tarayıcı EventSource'u header gönderemediği için token access_token parametresiyle de verilebilir.
+     *
+     * @param postIds sayaçları izlenecek postlar (ör. ?postIds=1,2,3)
+     */
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(
+            @RequestHeader(value = "Authorization", required = false) String authHeader,
+            @RequestParam(value = "access_token", required = false) String accessToken,
+            @RequestParam(required = false) List<Long> postIds
+    ) throws Exception {
+        String token = authHeader != null ? authHeader.replace("Bearer ", "") : accessToken;
+        if (token == null || token.isBlank()) {
+            throw new Exception("Token gerekli.");
+        }
+        return liveEventService.open(token, postIds != null ? postIds : List.of());
+    }
+
+    /**
+     * Bağlantının izlediği postları değiştirir (sayfa / scroll değişince yeniden bağlanmadan)
+     * connectionId "ready" olayında gelir
+     */
+    @PutMapping("/{connectionId}/subscriptions")
+    public ResponseEntity<Void> subscribe(@PathVariable String connectionId,
+                                          @RequestHeader("Authorization") String authHeader,
+                                          @RequestBody List<Long> postIds) throws Exception {
+        String token = authHeader.replace("Bearer ", "");
+        liveEventService.subscribe(token, connectionId, postIds);
+        return ResponseEntity.noContent().build();
+    }
+}
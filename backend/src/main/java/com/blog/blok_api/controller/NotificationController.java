@@ -0,0 +1,52 @@
+package com.blog.blok_api.controller;
+
+import com.blog.blok_api.dto.NotificationPageDto;
+import com.blog.blok_api.service.NotificationService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/notifications")
+public class NotificationController {
+
+    private final NotificationService notificationService;
+
+    public NotificationController(NotificationService notificationService) {
+        this.notificationService = notificationService;
+    }
+
+    /**
+     * Bildirimler (en yeni önce) + okunmamış sayısı
+     * Sonraki sayfa için dönen nextCursor ?cursor= ile gönderilir
+     */
+    @GetMapping
+    public ResponseEntity<NotificationPageDto> getNotifications(
+            @RequestHeader("Authorization") String authHeader,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) throws Exception {
+        String token = authHeader.replace("Bearer ", "");
+        return ResponseEntity.ok(notificationService.getNotifications(token, cursor, size));
+    }
+
+    @GetMapping("/unread-count")
+    public ResponseEntity<Map<String, Integer>> getUnreadCount(@RequestHeader("Authorization") String authHeader) {
+        String token = authHeader.replace("Bearer ", "");
+        return ResponseEntity.ok(Map.of("unreadCount", notificationService.getUnreadCount(token)));
+    }
+
+    @PatchMapping("/{id}/read")
+    public ResponseEntity<Map<String, Boolean>> markRead(@PathVariable Long id,
+                                                         @RequestHeader("Authorization") String authHeader) {
+        String token = authHeader.replace("Bearer ", "");
+        return ResponseEntity.ok(Map.of("updated", notificationService.markRead(token, id)));
+    }
+
+    @PatchMapping("/read-all")
+    public ResponseEntity<Map<String, Integer>> markAllRead(@RequestHeader("Authorization") String authHeader) {
+        String token = authHeader.replace("Bearer ", "");
+        return ResponseEntity.ok(Map.of("updated", notificationService.markAllRead(token)));
+    }
+}
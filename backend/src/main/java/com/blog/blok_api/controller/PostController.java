@@ -1,18 +1,27 @@
 package com.blog.blok_api.controller;
 
 import com.blog.blok_api.dto.CategoryDto;
+import com.blog.blok_api.dto.NewPostsResponseDto;
 import com.blog.blok_api.dto.PostRequestDto;
 import com.blog.blok_api.dto.PostResponseDto;
+import com.blog.blok_api.dto.PostViewDailyDto;
 import com.blog.blok_api.dto.PostViewRequestDto;
 import com.blog.blok_api.dto.TagDto;
 import com.blog.blok_api.security.JwtUtil;
 import com.blog.blok_api.repository.CategoryRepository;
-import com.blog.blok_api.repository.TagRepository;
 import com.blog.blok_api.service.PostService;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.time.Duration;
 import java.util.List;
 import java.io.IOException;
 
@@ -22,14 +31,16 @@ import java.io.IOException;
 public class PostController {
     private final PostService postService;
     private final CategoryRepository categoryRepository;
-    private final TagRepository tagRepository;
     private final JwtUtil jwtUtil;
 
+    /** Anonim GET yanıtları için paylaşımlı cache süresi (saniye) */
+    @Value("${app.http.anonymous-max-age-seconds:15}")
+    private long anonymousMaxAgeSeconds;
+
     @Autowired
-    public PostController(PostService postService, CategoryRepository categoryRepository, TagRepository tagRepository, JwtUtil jwtUtil) {
+    public PostController(PostService postService, CategoryRepository categoryRepository, JwtUtil jwtUtil) {
         this.postService = postService;
         this.categoryRepository = categoryRepository;
-        this.tagRepository = tagRepository;
         this.jwtUtil = jwtUtil;
     }
 
@@ -43,23 +54,107 @@ public class PostController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Post detayı - koşullu istek destekli
+     * If-None-Match eşleşirse sadece versiyon lookup'ı yapılır ve 304 döner
+     */
     @GetMapping("/{id}")
     public ResponseEntity<PostResponseDto> getPostById(
-            @RequestHeader("Authorization") String authHeader,
-            @PathVariable Long id
+            @RequestHeader(name = "Authorization", required = false) String authHeader,
+            @PathVariable Long id,
+            WebRequest webRequest
     ) throws Exception {
-        String token = authHeader.replace("Bearer ", "");
+        String token = extractToken(authHeader);
+        String etag = postService.getPostEtag(id, token);
+        if (webRequest.checkNotModified(etag)) {
+            return null; // 304 Not Modified - gövde ve sayaçlar hiç yüklenmez
+        }
         PostResponseDto response = postService.getPostById(id, token);
-        return ResponseEntity.ok(response);
+        return conditionalOk(token).body(response);
     }
 
+    /**
+     * Benzer postlar - tag ve ortak beğenilere göre önceden hesaplanmış indeksten
+     * Örnek: GET /api/posts/42/related?size=5
+     */
+    @GetMapping("/{id}/related")
+    public ResponseEntity<List<PostResponseDto>> getRelatedPosts(
+            @RequestHeader(name = "Authorization", required = false) String authHeader,
+            @PathVariable Long id,
+            @RequestParam(value = "size", defaultValue = "5") int size) {
+        String token = extractToken(authHeader);
+        return ResponseEntity.ok(postService.getRelatedPosts(id, token, Math.min(Math.max(size, 1), 20)));
+    }
+
+    /**
+     * Feed - koşullu istek destekli, akış (streaming) olarak yazılır
+     * If-None-Match eşleşirse veritabanına gitmeden 304 döner (feed sürümü bellekte)
+     */
     @GetMapping
-    public ResponseEntity<List<PostResponseDto>> getAllPosts(
-            @RequestHeader("Authorization") String authHeader
+    public ResponseEntity<StreamingResponseBody> getAllPosts(
+            @RequestHeader(name = "Authorization", required = false) String authHeader,
+            WebRequest webRequest
+    ) {
+        String token = extractToken(authHeader);
+        String etag = postService.getFeedEtag("feed", token);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        // Liste bellekte oluşturulmaz; postlar parça parça okunup yanıta yazılır
+        StreamingResponseBody body = out -> postService.streamAllPosts(token, out);
+        return conditionalOk(token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+
+    /**
+     * "N yeni post" yoklaması - tüm feed'i yeniden çekmek yerine
+     * sinceId: istemcinin feed'de gördüğü en yeni post ID'si
+     */
+    @GetMapping("/new-since")
+    public ResponseEntity<NewPostsResponseDto> getNewPostsSince(
+            @RequestParam long sinceId,
+            @RequestParam(defaultValue = "false") boolean includeIds
     ) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(postService.getNewPostsSince(sinceId, includeIds));
+    }
+
+    /**
+     * Ana sayfa akışı - kullanıcının ve takip ettiklerinin postları, en yeni önce
+     * Sonraki sayfa: before = önceki sayfanın son post ID'si
+     * Örnek: GET /api/posts/home?size=20, GET /api/posts/home?before=1234&size=20
+     */
+    @GetMapping("/home")
+    public ResponseEntity<List<PostResponseDto>> getHomeTimeline(
+            @RequestHeader("Authorization") String authHeader,
+            @RequestParam(value = "before", required = false) Long before,
+            @RequestParam(value = "size", defaultValue = "20") int size) throws Exception {
         String token = authHeader.replace("Bearer ", "");
-        List<PostResponseDto> posts = postService.getAllPosts(token);
-        return ResponseEntity.ok(posts);
+        int safeSize = Math.min(Math.max(size, 1), 100);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(postService.getHomeTimeline(token, before, safeSize));
+    }
+
+    /**
+     * Kişisel sıralı akış - giriş yapmamış kullanıcıda etkileşim + tazelik sıralaması
+     * Örnek: GET /api/posts/for-you?page=0&size=20
+     */
+    @GetMapping("/for-you")
+    public ResponseEntity<List<PostResponseDto>> getRankedFeed(
+            @RequestHeader(name = "Authorization", required = false) String token,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        if (token != null && token.startsWith("Bearer ")) {
+            token = token.substring(7);
+        }
+        int safeSize = Math.min(Math.max(size, 1), 100);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(postService.getRankedFeed(token, Math.max(page, 0), safeSize));
     }
 
 
@@ -98,24 +193,40 @@ public class PostController {
 
     @GetMapping("/tags")
     public ResponseEntity<List<TagDto>> getTags() {
-        List<TagDto> tags = tagRepository.findAll().stream().map(tag -> {
-            TagDto dto = new TagDto();
-            dto.setId(tag.getId());
-            dto.setName(tag.getName());
-            dto.setSlug(tag.getSlug());
-            return dto;
-        }).toList();
-        return ResponseEntity.ok(tags);
+        return ResponseEntity.ok(postService.getAllTags());
     }
 
     @GetMapping("/top-liked")
     public ResponseEntity<List<PostResponseDto>> getTop5LikedPosts(
-            @RequestHeader(name = "Authorization", required = false) String token) {
+            @RequestHeader(name = "Authorization", required = false) String token,
+            WebRequest webRequest) {
         if (token != null && token.startsWith("Bearer ")) {
             token = token.substring(7); // "Bearer " prefixini sil
         }
+        String etag = postService.getFeedEtag("top", token);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         List<PostResponseDto> topPosts = postService.getTop5MostLikedPosts(token);
-        return ResponseEntity.ok(topPosts);
+        return conditionalOk(token).body(topPosts);
+    }
+
+    /**
+     * Post arama endpoint'i
+     * Örnek: GET /api/posts/search?q=spring boot&page=0&size=20
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<PostResponseDto>> searchPosts(
+            @RequestHeader(name = "Authorization", required = false) String token,
+            @RequestParam("q") String query,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        if (token != null && token.startsWith("Bearer ")) {
+            token = token.substring(7);
+        }
+        int safeSize = Math.min(Math.max(size, 1), 100);
+        List<PostResponseDto> posts = postService.searchPosts(token, query, Math.max(page, 0), safeSize);
+        return ResponseEntity.ok(posts);
     }
 
     @PostMapping("/upload-image")
@@ -141,19 +252,65 @@ public class PostController {
     /**
      * Toplu post görüntülenme takibi endpoint'i
      * Frontend'den ekranda görünen post ID'lerini alır ve görüntülenme sayısını artırır
+     * Token yoksa (sadece app.views.unique.hll.enabled=true iken) görüntülenme anonim ziyaretçi
+     * anahtarıyla yalnızca HLL sketch'ine eklenir: X-Visitor-Id (istemcinin sakladığı rastgele kimlik),
+     * yoksa IP + User-Agent
      * 
-     * @param authHeader JWT token (Authorization header)
+     * @param authHeader JWT token (Authorization header, anonim ziyaretçide yok)
      * @param request Ekranda görünen post ID'lerini içeren request body
      * @return Başarı mesajı
      */
     @PostMapping("/views")
     public ResponseEntity<String> trackPostViews(
-            @RequestHeader("Authorization") String authHeader,
-            @RequestBody PostViewRequestDto request
+            @RequestHeader(value = "Authorization", required = false) String authHeader,
+            @RequestHeader(value = "X-Visitor-Id", required = false) String visitorId,
+            @RequestHeader(value = HttpHeaders.USER_AGENT, required = false) String userAgent,
+            @RequestBody PostViewRequestDto request,
+            HttpServletRequest servletRequest
     ) throws Exception {
-        String token = authHeader.replace("Bearer ", "");
-        postService.trackMultiplePostViews(token, request.getPostIds());
+        String token = extractToken(authHeader);
+        if (token != null) {
+            postService.trackMultiplePostViews(token, request.getPostIds());
+        } else {
+            String visitorKey = visitorId != null && !visitorId.isBlank()
+                    ? "v:" + visitorId.substring(0, Math.min(visitorId.length(), 64))
+                    : "a:" + servletRequest.getRemoteAddr() + "|" + userAgent;
+            postService.trackAnonymousPostViews(visitorKey, request.getPostIds());
+        }
         return ResponseEntity.ok("Görüntülenmeler başarıyla kaydedildi.");
     }
 
-} 
\ No newline at end of file
+    /**
+     * Postun günlük görüntülenme özetleri (varsayılan son 30 gün, en fazla 365)
+     */
+    @GetMapping("/{id}/views/daily")
+    public ResponseEntity<List<PostViewDailyDto>> getDailyViews(
+            @PathVariable Long id,
+            @RequestParam(value = "days", defaultValue = "30") int days
+    ) throws Exception {
+        return ResponseEntity.ok(postService.getDailyViews(id, days));
+    }
+
+    private static String extractToken(String authHeader) {
+        if (authHeader == null || authHeader.isBlank()) {
+            return null;
+        }
+        return authHeader.replace("Bearer ", "");
+    }
+
+    /**
+     * 200 yanıtı için Cache-Control başlıkları
+     * - Anonim: public, kısa max-age (CDN/tarayıcı paylaşımlı cache'leyebilir)
+     * - Giriş yapmış: private, no-cache (likedByCurrentUser kişiye özel, her seferinde ETag ile doğrulanır)
+     * ETag başlığını WebRequest.checkNotModified zaten yazar; burada tekrar eklenirse akış (streaming)
+     * yanıtlarında iki ETag başlığı gider
+     */
+    private ResponseEntity.BodyBuilder conditionalOk(String token) {
+        CacheControl cacheControl = token == null
+                ? CacheControl.maxAge(Duration.ofSeconds(anonymousMaxAgeSeconds)).cachePublic()
+                : CacheControl.noCache().cachePrivate();
+        return ResponseEntity.ok()
+                .cacheControl(cacheControl)
+                .header(HttpHeaders.VARY, HttpHeaders.AUTHORIZATION);
+    }
+}
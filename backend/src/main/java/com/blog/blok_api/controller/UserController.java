@@ -1,9 +1,11 @@
 package com.blog.blok_api.controller;
 
 
+import com.blog.blok_api.dto.FollowStatsDto;
 import com.blog.blok_api.dto.PostResponseDto;
 import com.blog.blok_api.dto.ProfileImageResponse;
 import com.blog.blok_api.dto.ProfileResponseDto;
+import com.blog.blok_api.service.FollowService;
 import com.blog.blok_api.service.PostService;
 import com.blog.blok_api.service.UserService;
 import com.blog.blok_api.security.JwtUtil;
@@ -22,13 +24,16 @@ public class UserController {
     private final JwtUtil jwtUtil;
     private final UserRepository userRepository;
     private final PostService postService;
+    private final FollowService followService;
 
     @Autowired
-    public UserController(UserService userService, JwtUtil jwtUtil, UserRepository userRepository, PostService postService) {
+    public UserController(UserService userService, JwtUtil jwtUtil, UserRepository userRepository, PostService postService,
+                          FollowService followService) {
         this.userService = userService;
         this.jwtUtil = jwtUtil;
         this.userRepository = userRepository;
         this.postService = postService;
+        this.followService = followService;
     }
 
     @GetMapping("/profile")
@@ -56,6 +61,32 @@ public class UserController {
         return ResponseEntity.ok(new ProfileImageResponse(imageUrl));
     }
 
+    @PostMapping("/{userId}/follow")
+    public ResponseEntity<FollowStatsDto> follow(
+            @RequestHeader("Authorization") String authHeader,
+            @PathVariable Long userId) throws Exception {
+        String token = authHeader.replace("Bearer ", "");
+        followService.follow(token, userId);
+        return ResponseEntity.ok(followService.getFollowStats(userId, token));
+    }
+
+    @DeleteMapping("/{userId}/follow")
+    public ResponseEntity<FollowStatsDto> unfollow(
+            @RequestHeader("Authorization") String authHeader,
+            @PathVariable Long userId) throws Exception {
+        String token = authHeader.replace("Bearer ", "");
+        followService.unfollow(token, userId);
+        return ResponseEntity.ok(followService.getFollowStats(userId, token));
+    }
+
+    @GetMapping("/{userId}/follow-stats")
+    public FollowStatsDto getFollowStats(
+            @RequestHeader(value = "Authorization", required = false) String authHeader,
+            @PathVariable Long userId) throws Exception {
+        String token = authHeader != null ? authHeader.replace("Bearer ", "") : null;
+        return followService.getFollowStats(userId, token);
+    }
+
 
 
 }
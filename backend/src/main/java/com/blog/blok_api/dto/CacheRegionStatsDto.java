@@ -0,0 +1,44 @@
+package com.blog.blok_api.dto;
+
+/**
+ * CacheRegionStatsDto - Second-level / query cache bölgesi istatistikleri
+ */
+public class CacheRegionStatsDto {
+    private String region;
+    private long hitCount;
+    private long missCount;
+    private long putCount;
+    private long elementCountInMemory;
+    private double hitRatio;
+
+    public CacheRegionStatsDto() {}
+
+    public CacheRegionStatsDto(String region, long hitCount, long missCount,
+                               long putCount, long elementCountInMemory) {
+        this.region = region;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.putCount = putCount;
+        this.elementCountInMemory = elementCountInMemory;
+        long total = hitCount + missCount;
+        this.hitRatio = total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    public String getRegion() { return region; }
+    public void setRegion(String region) { this.region = region; }
+
+    public long getHitCount() { return hitCount; }
+    public void setHitCount(long hitCount) { this.hitCount = hitCount; }
+
+    public long getMissCount() { return missCount; }
+    public void setMissCount(long missCount) { this.missCount = missCount; }
+
+    public long getPutCount() { return putCount; }
+    public void setPutCount(long putCount) { this.putCount = putCount; }
+
+    public long getElementCountInMemory() { return elementCountInMemory; }
+    public void setElementCountInMemory(long elementCountInMemory) { this.elementCountInMemory = elementCountInMemory; }
+
+    public double getHitRatio() { return hitRatio; }
+    public void setHitRatio(double hitRatio) { this.hitRatio = hitRatio; }
+}
@@ -0,0 +1,44 @@
+package com.blog.blok_api.dto;
+
+/**
+ * FollowStatsDto - GET /api/user/{userId}/follow-stats yanıtı
+ * followedByMe sadece token ile istenirse dolar (anonimde false)
+ */
+public class FollowStatsDto {
+    private long followers;
+    private long following;
+    private boolean followedByMe;
+
+    public FollowStatsDto() {
+    }
+
+    public FollowStatsDto(long followers, long following, boolean followedByMe) {
+        this.followers = followers;
+        this.following = following;
+        this.followedByMe = followedByMe;
+    }
+
+    public long getFollowers() {
+        return followers;
+    }
+
+    public void setFollowers(long followers) {
+        this.followers = followers;
+    }
+
+    public long getFollowing() {
+        return following;
+    }
+
+    public void setFollowing(long following) {
+        this.following = following;
+    }
+
+    public boolean isFollowedByMe() {
+        return followedByMe;
+    }
+
+    public void setFollowedByMe(boolean followedByMe) {
+        this.followedByMe = followedByMe;
+    }
+}
@@ -0,0 +1,68 @@
+package com.blog.blok_api.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * HomeBundleDto - GET /api/home yanıtı: ana sayfanın tüm bölümleri tek istekte
+ *
+ * Zaman aşımına uğrayan veya hata veren bölüm null döner ve adı missingSections'a eklenir;
+ * istemci yalnız o bölümü ilgili endpoint'ten tekrar isteyebilir.
+ * profile ve interactionState anonim istekte null'dır (missingSections'a eklenmez).
+ */
+public class HomeBundleDto {
+    private ProfileResponseDto profile;
+    private List<PostResponseDto> feed;
+    private List<PostResponseDto> topLiked;
+    private List<TagDto> tags;
+    private InteractionStateResponseDto interactionState;
+    private List<String> missingSections = new ArrayList<>();
+
+    public ProfileResponseDto getProfile() {
+        return profile;
+    }
+
+    public void setProfile(ProfileResponseDto profile) {
+        this.profile = profile;
+    }
+
+    public List<PostResponseDto> getFeed() {
+        return feed;
+    }
+
+    public void setFeed(List<PostResponseDto> feed) {
+        this.feed = feed;
+    }
+
+    public List<PostResponseDto> getTopLiked() {
+        return topLiked;
+    }
+
+    public void setTopLiked(List<PostResponseDto> topLiked) {
+        this.topLiked = topLiked;
+    }
+
+    public List<TagDto> getTags() {
+        return tags;
+    }
+
+    public void setTags(List<TagDto> tags) {
+        this.tags = tags;
+    }
+
+    public InteractionStateResponseDto getInteractionState() {
+        return interactionState;
+    }
+
+    public void setInteractionState(InteractionStateResponseDto interactionState) {
+        this.interactionState = interactionState;
+    }
+
+    public List<String> getMissingSections() {
+        return missingSections;
+    }
+
+    public void setMissingSections(List<String> missingSections) {
+        this.missingSections = missingSections;
+    }
+}
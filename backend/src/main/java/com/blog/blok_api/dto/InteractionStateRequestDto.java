@@ -0,0 +1,36 @@
+package com.blog.blok_api.dto;
+
+import java.util.List;
+
+/**
+ * InteractionStateRequestDto - Ekranda görünen post ve yorumların etkileşim durumu isteği
+ * POST /api/interactions/state
+ */
+public class InteractionStateRequestDto {
+    private List<Long> postIds;
+    private List<Long> commentIds;
+
+    public InteractionStateRequestDto() {
+    }
+
+    public InteractionStateRequestDto(List<Long> postIds, List<Long> commentIds) {
+        this.postIds = postIds;
+        this.commentIds = commentIds;
+    }
+
+    public List<Long> getPostIds() {
+        return postIds;
+    }
+
+    public void setPostIds(List<Long> postIds) {
+        this.postIds = postIds;
+    }
+
+    public List<Long> getCommentIds() {
+        return commentIds;
+    }
+
+    public void setCommentIds(List<Long> commentIds) {
+        this.commentIds = commentIds;
+    }
+}
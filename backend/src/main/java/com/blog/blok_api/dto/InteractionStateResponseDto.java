@@ -0,0 +1,73 @@
+package com.blog.blok_api.dto;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * InteractionStateResponseDto - İstenen her post ve yorum için sayaçlar ve görüntüleyenin bayrakları
+ * Anahtarlar istekteki ID'lerdir; bulunamayan ID'ler sıfır sayaçla döner.
+ * Giriş yapılmamışsa liked / saved her zaman false.
+ */
+public class InteractionStateResponseDto {
+    private Map<Long, PostState> posts = new LinkedHashMap<>();
+    private Map<Long, CommentState> comments = new LinkedHashMap<>();
+
+    public Map<Long, PostState> getPosts() { return posts; }
+    public void setPosts(Map<Long, PostState> posts) { this.posts = posts; }
+
+    public Map<Long, CommentState> getComments() { return comments; }
+    public void setComments(Map<Long, CommentState> comments) { this.comments = comments; }
+
+    public static class PostState {
+        private int likeCount;
+        private int commentCount;
+        private int saveCount;
+        private boolean liked;
+        private boolean saved;
+
+        public PostState() {
+        }
+
+        public PostState(int likeCount, int commentCount, int saveCount, boolean liked, boolean saved) {
+            this.likeCount = likeCount;
+            this.commentCount = commentCount;
+            this.saveCount = saveCount;
+            this.liked = liked;
+            this.saved = saved;
+        }
+
+        public int getLikeCount() { return likeCount; }
+        public void setLikeCount(int likeCount) { this.likeCount = likeCount; }
+
+        public int getCommentCount() { return commentCount; }
+        public void setCommentCount(int commentCount) { this.commentCount = commentCount; }
+
+        public int getSaveCount() { return saveCount; }
+        public void setSaveCount(int saveCount) { this.saveCount = saveCount; }
+
+        public boolean isLiked() { return liked; }
+        public void setLiked(boolean liked) { this.liked = liked; }
+
+        public boolean isSaved() { return saved; }
+        public void setSaved(boolean saved) { this.saved = saved; }
+    }
+
+    public static class CommentState {
+        private int likeCount;
+        private boolean liked;
+
+        public CommentState() {
+        }
+
+        public CommentState(int likeCount, boolean liked) {
+            this.likeCount = likeCount;
+            this.liked = liked;
+        }
+
+        public int getLikeCount() { return likeCount; }
+        public void setLikeCount(int likeCount) { this.likeCount = likeCount; }
+
+        public boolean isLiked() { return liked; }
+        public void setLiked(boolean liked) { this.liked = liked; }
+    }
+}
@@ -0,0 +1,36 @@
+package com.blog.blok_api.dto;
+
+import java.util.List;
+
+/**
+ * NewPostsResponseDto - GET /api/posts/new-since yanıtı
+ * count en fazla app.posts.new-since.max-count'a kadar sayılır; postIds sadece includeIds=true ise dolar (en yeni önce)
+ */
+public class NewPostsResponseDto {
+    private long count;
+    private List<Long> postIds;
+
+    public NewPostsResponseDto() {
+    }
+
+    public NewPostsResponseDto(long count, List<Long> postIds) {
+        this.count = count;
+        this.postIds = postIds;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    public List<Long> getPostIds() {
+        return postIds;
+    }
+
+    public void setPostIds(List<Long> postIds) {
+        this.postIds = postIds;
+    }
+}
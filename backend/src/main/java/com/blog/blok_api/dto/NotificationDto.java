@@ -0,0 +1,94 @@
+package com.blog.blok_api.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * NotificationDto - Bildirim listesi öğesi
+ * actorCount > 1 ise bildirim birleştirilmiştir ("ali ve 11 kişi daha postunu beğendi"), actorId son aktördür
+ */
+public class NotificationDto {
+    private Long id;
+    private String type;
+    private String content;
+    private boolean read;
+    private LocalDateTime createdAt;
+    private Long postId;
+    private Long commentId;
+    private Long actorId;
+    private int actorCount;
+
+    public NotificationDto() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+
+    public boolean isRead() {
+        return read;
+    }
+
+    public void setRead(boolean read) {
+        this.read = read;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Long getPostId() {
+        return postId;
+    }
+
+    public void setPostId(Long postId) {
+        this.postId = postId;
+    }
+
+    public Long getCommentId() {
+        return commentId;
+    }
+
+    public void setCommentId(Long commentId) {
+        this.commentId = commentId;
+    }
+
+    public Long getActorId() {
+        return actorId;
+    }
+
+    public void setActorId(Long actorId) {
+        this.actorId = actorId;
+    }
+
+    public int getActorCount() {
+        return actorCount;
+    }
+
+    public void setActorCount(int actorCount) {
+        this.actorCount = actorCount;
+    }
+}
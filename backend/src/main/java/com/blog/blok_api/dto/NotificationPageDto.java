@@ -0,0 +1,46 @@
+package com.blog.blok_api.dto;
+
+import java.util.List;
+
+/**
+ * NotificationPageDto - Bildirim sayfası (keyset)
+ * nextCursor sonraki sayfa için ?cursor= ile gönderilir; son sayfada null
+ */
+public class NotificationPageDto {
+    private List<NotificationDto> items;
+    private String nextCursor;
+    private int unreadCount;
+
+    public NotificationPageDto() {
+    }
+
+    public NotificationPageDto(List<NotificationDto> items, String nextCursor, int unreadCount) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.unreadCount = unreadCount;
+    }
+
+    public List<NotificationDto> getItems() {
+        return items;
+    }
+
+    public void setItems(List<NotificationDto> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public int getUnreadCount() {
+        return unreadCount;
+    }
+
+    public void setUnreadCount(int unreadCount) {
+        this.unreadCount = unreadCount;
+    }
+}
@@ -12,6 +12,7 @@ public class PostResponseDto {
     private String coverImageUrl;
     private boolean isPublished;
     private int viewsCount;
+    private long uniqueViewers;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private UserDto author;
@@ -46,6 +47,9 @@ public class PostResponseDto {
     public int getViewsCount() { return viewsCount; }
     public void setViewsCount(int viewsCount) { this.viewsCount = viewsCount; }
 
+    public long getUniqueViewers() { return uniqueViewers; }
+    public void setUniqueViewers(long uniqueViewers) { this.uniqueViewers = uniqueViewers; }
+
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
 
@@ -0,0 +1,46 @@
+package com.blog.blok_api.dto;
+
+import java.time.LocalDate;
+
+/**
+ * PostViewDailyDto - Postun bir günlük görüntülenme özeti
+ * views: o günkü tüm görüntülenmeler, uniqueViewers: o gün görüntüleyen farklı kullanıcılar
+ */
+public class PostViewDailyDto {
+    private LocalDate day;
+    private long views;
+    private long uniqueViewers;
+
+    public PostViewDailyDto() {
+    }
+
+    public PostViewDailyDto(LocalDate day, long views, long uniqueViewers) {
+        this.day = day;
+        this.views = views;
+        this.uniqueViewers = uniqueViewers;
+    }
+
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public void setDay(LocalDate day) {
+        this.day = day;
+    }
+
+    public long getViews() {
+        return views;
+    }
+
+    public void setViews(long views) {
+        this.views = views;
+    }
+
+    public long getUniqueViewers() {
+        return uniqueViewers;
+    }
+
+    public void setUniqueViewers(long uniqueViewers) {
+        this.uniqueViewers = uniqueViewers;
+    }
+}
@@ -50,4 +50,7 @@ public interface PostMapper {
     }
 
     List<PostResponseDto> toDtoList(List<Post> posts);
+
+    // Cache'teki DTO'yu değiştirmeden kullanıcıya özel alanları set edebilmek için kopya
+    PostResponseDto copy(PostResponseDto source);
 }
@@ -26,8 +26,12 @@ public class Comment {
     @ManyToOne
     private User author;
 
+    /**
+     * LAZY: Post @SQLRestriction ile silinmiş (tombstone) postları gizler; EAGER yüklemede
+     * silinmiş posttaki yorum yüklenemez (EntityNotFoundException). Proxy üzerinden getId() sorgu atmaz.
+     */
     @ToString.Exclude
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "post_id", nullable = false)
     private Post post;
 
@@ -0,0 +1,77 @@
+package com.blog.blok_api.model;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Follow - Takip ilişkisi (follower, followee'yi takip eder)
+ *
+ * PK (follower_id, followee_id): "kimi takip ediyorum" PK aralık okuması.
+ * "Beni kim takip ediyor" (fan-out, takipçi sayısı) için (followee_id, follower_id) index'i
+ * V6__follows_followee_index ile eklenir.
+ */
+@Entity
+@Table(name = "follows")
+@IdClass(Follow.Key.class)
+public class Follow {
+
+    @Id
+    @Column(name = "follower_id")
+    private Long followerId;
+
+    @Id
+    @Column(name = "followee_id")
+    private Long followeeId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public Follow() {
+    }
+
+    public Follow(Long followerId, Long followeeId, LocalDateTime createdAt) {
+        this.followerId = followerId;
+        this.followeeId = followeeId;
+        this.createdAt = createdAt;
+    }
+
+    public Long getFollowerId() {
+        return followerId;
+    }
+
+    public Long getFolloweeId() {
+        return followeeId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public static class Key implements Serializable {
+        private Long followerId;
+        private Long followeeId;
+
+        public Key() {
+        }
+
+        public Key(Long followerId, Long followeeId) {
+            this.followerId = followerId;
+            this.followeeId = followeeId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key key)) return false;
+            return Objects.equals(followerId, key.followerId) && Objects.equals(followeeId, key.followeeId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(followerId, followeeId);
+        }
+    }
+}
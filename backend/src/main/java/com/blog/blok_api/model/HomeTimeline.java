@@ -0,0 +1,56 @@
+package com.blog.blok_api.model;
+
+import jakarta.persistence.*;
+
+import java.nio.ByteBuffer;
+
+/**
+ * HomeTimeline - Kullanıcının önceden hesaplanmış ana sayfa akışı (fan-out on write)
+ *
+ * post_ids: en yeni önce sıralı post ID'leri, ID başına 8 byte (long[]), en fazla app.timeline.capacity adet.
+ * Ana sayfanın ilk sayfaları bu tek satırdan (PK okuması) çıkar; kapasitenin gerisi sorgu ile okunur.
+ * Satır sadece akışını açmış kullanıcılar için vardır (ilk okumada oluşturulur); takip / takipten
+ * çıkma satırı siler, sonraki okumada yeniden kurulur.
+ */
+@Entity
+@Table(name = "home_timelines")
+public class HomeTimeline {
+
+    /** post_ids sütun boyutu: en fazla 1024 ID */
+    public static final int MAX_CAPACITY = 1024;
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "post_ids", nullable = false, length = MAX_CAPACITY * Long.BYTES)
+    private byte[] postIds;
+
+    public HomeTimeline() {
+    }
+
+    public HomeTimeline(Long userId, long[] postIds) {
+        this.userId = userId;
+        this.postIds = encode(postIds);
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public long[] getPostIds() {
+        return decode(postIds);
+    }
+
+    public static byte[] encode(long[] postIds) {
+        ByteBuffer buffer = ByteBuffer.allocate(postIds.length * Long.BYTES);
+        buffer.asLongBuffer().put(postIds);
+        return buffer.array();
+    }
+
+    public static long[] decode(byte[] bytes) {
+        long[] postIds = new long[bytes.length / Long.BYTES];
+        ByteBuffer.wrap(bytes).asLongBuffer().get(postIds);
+        return postIds;
+    }
+}
@@ -7,18 +7,49 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
+/**
+ * Notification - Kullanıcı bildirimi
+ *
+ * Satırlar NotificationBatchWriter tarafından toplu olarak (JDBC batch) yazılır.
+ * Aynı hedefe (post / yorum) pencere içinde gelen aynı tipteki olaylar tek satırda birleştirilir:
+ * actorCount farklı aktör sayısı kadar artar, content yeniden üretilir ("ali ve 11 kişi daha postunu beğendi"), createdAt
+ * son olayın zamanına çekilir (liste başına çıkar).
+ * Liste (user_id, created_at DESC, id DESC) index'i üzerinden keyset sayfalama ile okunur.
+ */
 @Entity
 @Table(name = "notifications")
 public class Notification {
+
+    public static final String TYPE_LIKE = "LIKE";
+    public static final String TYPE_COMMENT = "COMMENT";
+    public static final String TYPE_REPLY = "REPLY";
+    public static final String TYPE_FOLLOW = "FOLLOW";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
-    private String type; // "LIKE", "COMMENT", "FOLLOW"
+    private String type; // "LIKE", "COMMENT", "REPLY", "FOLLOW"
     private String content;
     private boolean isRead;
     private LocalDateTime createdAt;
 
-    @ManyToOne
+    /** İlgili post (LIKE, COMMENT, REPLY) */
+    private Long postId;
+    /** Cevap verilen yorum (REPLY) */
+    private Long commentId;
+    /** Son olayı yapan kullanıcı */
+    private Long actorId;
+    /** Bu satırda birleştirilen olay sayısı */
+    @Column(nullable = false, columnDefinition = "integer default 1")
+    private int actorCount;
+    /**
+     * Bu satırda sayılmış farklı aktörler (virgülle ayrılmış, en fazla 100) - sonraki flush'larda
+     * aynı aktörün tekrarı actorCount'u artırmaz
+     */
+    @Column(length = 2000)
+    private String actorIds;
+
+    @ManyToOne(fetch = FetchType.LAZY)
     private User user; // bildirimi alan kişi
 
 
@@ -74,6 +105,22 @@ public class Notification {
         this.createdAt = createdAt;
     }
 
+    public Long getPostId() {
+        return postId;
+    }
+
+    public Long getCommentId() {
+        return commentId;
+    }
+
+    public Long getActorId() {
+        return actorId;
+    }
+
+    public int getActorCount() {
+        return actorCount;
+    }
+
     public User getUser() {
         return user;
     }
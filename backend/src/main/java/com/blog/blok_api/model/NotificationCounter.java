@@ -0,0 +1,34 @@
+package com.blog.blok_api.model;
+
+import jakarta.persistence.*;
+
+/**
+ * NotificationCounter - Kullanıcının okunmamış bildirim sayısı (artımlı tutulur)
+ *
+ * COUNT(*) yerine: NotificationBatchWriter yeni okunmamış satır ekledikçe artırır,
+ * okundu işaretlemeleri değişen satır sayısı kadar azaltır. Zil ikonundaki sayı tek PK okumasıdır.
+ * users tablosunda değil ayrı tabloda: users second-level cache'te ve native UPDATE'ler
+ * o bölgeyi temizlerdi.
+ */
+@Entity
+@Table(name = "notification_counters")
+public class NotificationCounter {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "unread_count", nullable = false)
+    private int unreadCount;
+
+    public NotificationCounter() {
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public int getUnreadCount() {
+        return unreadCount;
+    }
+}
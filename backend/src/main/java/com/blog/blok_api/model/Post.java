@@ -1,7 +1,7 @@
 package com.blog.blok_api.model;
 
 import jakarta.persistence.*;
-
+import org.hibernate.annotations.SQLRestriction;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -9,6 +9,7 @@ import java.util.Set;
 
 @Entity
 @Table(name = "posts")
+@SQLRestriction("deleted_at IS NULL")
 public class Post {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY) private Long id;
     private String title;
@@ -24,6 +25,38 @@ public class Post {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    /**
+     * Optimistic lock versiyonu - post her güncellendiğinde Hibernate tarafından artırılır
+     * Post detay cache anahtarı (id:version) bu alanı kullanır
+     * views_count native sorgu ile artırıldığı için versiyonu değiştirmez
+     */
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private long version;
+
+    /**
+     * Sayaç versiyonu - like, yorum, kaydetme ve görüntülenme değiştikçe native sorgu ile artırılır
+     * ETag hesaplamasında kullanılır; entity üzerinden yazılmaz (eski değerle ezilmesin diye)
+     */
+    @Column(nullable = false, insertable = false, updatable = false, columnDefinition = "bigint default 0")
+    private long statsVersion;
+
+    /**
+     * Tekil görüntüleyen sayısı - sadece native sorgularla yazılır:
+     * - kullanıcının ilk görüntülenmesinde views_count ile birlikte +1 (kesin, sadece giriş yapmış kullanıcılar)
+     * - HLL modunda PostViewSketchFlushJob tahmini bununla birleştirir (anonim ziyaretçiler dahil, GREATEST ile)
+     */
+    @Column(nullable = false, insertable = false, updatable = false, columnDefinition = "bigint default 0")
+    private long uniqueViewers;
+
+    /**
+     * Silinme zamanı (tombstone) - doluysa @SQLRestriction ile Post'u kök olarak okuyan sorgulardan gizlenir
+     * İlişki JOIN'leri (ör. JOIN c.post p) ve FK okumaları (c.post.id) bu koşulu almaz; bağlı satır sorguları
+     * gerekirse "p.deletedAt IS NULL" yazar. Comment.post ve SavedPost.post bu yüzden LAZY
+     * Post ve bağlı satırlar arka planda PostPurgeJob tarafından parça parça fiziksel olarak silinir
+     */
+    private LocalDateTime deletedAt;
+
     @ManyToOne
     private User author;
 
@@ -124,6 +157,10 @@ public class Post {
         this.viewsCount = viewsCount;
     }
 
+    public long getUniqueViewers() {
+        return uniqueViewers;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -140,6 +177,30 @@ public class Post {
         this.updatedAt = updatedAt;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public long getStatsVersion() {
+        return statsVersion;
+    }
+
+    public void setStatsVersion(long statsVersion) {
+        this.statsVersion = statsVersion;
+    }
+
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+
+    public void setDeletedAt(LocalDateTime deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+
     public User getAuthor() {
         return author;
     }
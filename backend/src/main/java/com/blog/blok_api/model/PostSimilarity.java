@@ -0,0 +1,69 @@
+package com.blog.blok_api.model;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * PostSimilarity - Bir postun önceden hesaplanmış benzer postlarından biri (RelatedPostsService)
+ *
+ * Post başına en fazla top-k satır; PK (post_id, related_post_id): "benzer postlar" tek PK aralık okumasıdır.
+ * Skor tag Jaccard benzerliği ve ortak beğeni (co-like) benzerliğinin ağırlıklı toplamıdır.
+ */
+@Entity
+@Table(name = "post_similarities")
+@IdClass(PostSimilarity.Key.class)
+public class PostSimilarity {
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Id
+    @Column(name = "related_post_id")
+    private Long relatedPostId;
+
+    @Column(nullable = false)
+    private double score;
+
+    public PostSimilarity() {
+    }
+
+    public Long getPostId() {
+        return postId;
+    }
+
+    public Long getRelatedPostId() {
+        return relatedPostId;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public static class Key implements Serializable {
+        private Long postId;
+        private Long relatedPostId;
+
+        public Key() {
+        }
+
+        public Key(Long postId, Long relatedPostId) {
+            this.postId = postId;
+            this.relatedPostId = relatedPostId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key key)) return false;
+            return Objects.equals(postId, key.postId) && Objects.equals(relatedPostId, key.relatedPostId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(postId, relatedPostId);
+        }
+    }
+}
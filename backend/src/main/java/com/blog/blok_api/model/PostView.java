@@ -5,15 +5,17 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 /**
- * PostView - Post görüntülenme kayıtları
- * Aynı kullanıcı aynı postu birden fazla kez görüntülediğinde tekrar sayılmaz
- * Unique constraint: (user_id, post_id) çifti tekil olmalı
+ * PostView - Ham post görüntülenme olayları (her görüntülenme bir satır)
+ *
+ * PostgreSQL'de tablo viewed_at'e göre aylık RANGE partition'lıdır (V2__partition_post_views);
+ * eski partition'lar günlük özetler (PostViewDaily) çıkarıldıktan sonra ayrılıp arşivlenir.
+ * Bu yüzden:
+ * - (user_id, post_id) tekilliği burada değil PostViewSeen'de tutulur (views_count sadece ilk görüntülenmede artar)
+ * - Foreign key yok: ayrılan partition'lar post/kullanıcı silmeyi engellememeli, satırlar
+ *   CascadeDeleteService tarafından açıkça silinir
  */
 @Entity
-@Table(name = "post_views", 
-       uniqueConstraints = {
-           @UniqueConstraint(columnNames = {"user_id", "post_id"})
-       })
+@Table(name = "post_views")
 public class PostView {
 
     @Id
@@ -21,11 +23,11 @@ public class PostView {
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "user_id", nullable = false)
+    @JoinColumn(name = "user_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private User user;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "post_id", nullable = false)
+    @JoinColumn(name = "post_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private Post post;
 
     @Column(nullable = false)
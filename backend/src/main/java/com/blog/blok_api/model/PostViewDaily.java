@@ -0,0 +1,76 @@
+package com.blog.blok_api.model;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * PostViewDaily - Post başına günlük görüntülenme özeti (PostViewRollupJob doldurur)
+ * views: o gün kaydedilen tüm görüntülenme olayları, uniqueViewers: o gün görüntüleyen farklı kullanıcılar
+ * Ham post_views partition'ları arşivlendikten sonra geçmiş istatistikler buradan okunur.
+ */
+@Entity
+@Table(name = "post_view_daily")
+@IdClass(PostViewDaily.Key.class)
+public class PostViewDaily {
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Id
+    @Column(name = "view_date")
+    private LocalDate viewDate;
+
+    @Column(nullable = false)
+    private long views;
+
+    @Column(name = "unique_viewers", nullable = false)
+    private long uniqueViewers;
+
+    public PostViewDaily() {
+    }
+
+    public Long getPostId() {
+        return postId;
+    }
+
+    public LocalDate getViewDate() {
+        return viewDate;
+    }
+
+    public long getViews() {
+        return views;
+    }
+
+    public long getUniqueViewers() {
+        return uniqueViewers;
+    }
+
+    public static class Key implements Serializable {
+        private Long postId;
+        private LocalDate viewDate;
+
+        public Key() {
+        }
+
+        public Key(Long postId, LocalDate viewDate) {
+            this.postId = postId;
+            this.viewDate = viewDate;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key key)) return false;
+            return Objects.equals(postId, key.postId) && Objects.equals(viewDate, key.viewDate);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(postId, viewDate);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.blog.blok_api.model;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * PostViewSeen - Kullanıcının daha önce görüntülediği post ID'leri (kalıcı tekillik kaydı)
+ *
+ * post_views artık ham, aylık partition'lı bir olay log'u olduğu için (user_id, post_id) unique
+ * constraint'i orada tutulamaz. Tekillik burada, kullanıcı başına sıkıştırılmış kümelerle sağlanır:
+ * her satır bir kullanıcının 65536'lık bir post ID aralığını (bucket) tutar, içerik
+ * CompactIdSet.Container byte'larıdır (eleman başına en fazla 2 byte).
+ * Post ID'leri artan olduğu için aktif bir kullanıcının yeni görüntülenmeleri genelde tek satıra düşer.
+ */
+@Entity
+@Table(name = "post_view_seen")
+@IdClass(PostViewSeen.Key.class)
+public class PostViewSeen {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(name = "bucket")
+    private Long bucket;
+
+    @Column(name = "post_ids", nullable = false, length = 8192)
+    private byte[] postIds;
+
+    public PostViewSeen() {
+    }
+
+    public PostViewSeen(Long userId, Long bucket, byte[] postIds) {
+        this.userId = userId;
+        this.bucket = bucket;
+        this.postIds = postIds;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Long getBucket() {
+        return bucket;
+    }
+
+    public byte[] getPostIds() {
+        return postIds;
+    }
+
+    public void setPostIds(byte[] postIds) {
+        this.postIds = postIds;
+    }
+
+    public static class Key implements Serializable {
+        private Long userId;
+        private Long bucket;
+
+        public Key() {
+        }
+
+        public Key(Long userId, Long bucket) {
+            this.userId = userId;
+            this.bucket = bucket;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key key)) return false;
+            return Objects.equals(userId, key.userId) && Objects.equals(bucket, key.bucket);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userId, bucket);
+        }
+    }
+}
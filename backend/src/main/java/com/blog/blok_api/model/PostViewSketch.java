@@ -0,0 +1,55 @@
+package com.blog.blok_api.model;
+
+import jakarta.persistence.*;
+
+/**
+ * PostViewSketch - Post başına tekil görüntüleyen HyperLogLog sketch'i (app.views.unique.hll.enabled)
+ *
+ * Kimliği doğrulanmış kullanıcılar ve anonim ziyaretçiler aynı sketch'e eklenir; bellekteki
+ * bekleyen sketch'ler PostViewSketchFlushJob ile periyodik olarak buraya birleştirilir.
+ * estimate, sketch'in son tahminidir; posts.unique_viewers bu değerden güncellenir.
+ * Boyut: az görüntülenen postlarda dolu register başına 3 byte, en fazla 2^p + 2 byte.
+ */
+@Entity
+@Table(name = "post_view_sketches")
+public class PostViewSketch {
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Column(nullable = false, length = 65538)
+    private byte[] sketch;
+
+    @Column(nullable = false)
+    private long estimate;
+
+    public PostViewSketch() {
+    }
+
+    public PostViewSketch(Long postId, byte[] sketch, long estimate) {
+        this.postId = postId;
+        this.sketch = sketch;
+        this.estimate = estimate;
+    }
+
+    public Long getPostId() {
+        return postId;
+    }
+
+    public byte[] getSketch() {
+        return sketch;
+    }
+
+    public void setSketch(byte[] sketch) {
+        this.sketch = sketch;
+    }
+
+    public long getEstimate() {
+        return estimate;
+    }
+
+    public void setEstimate(long estimate) {
+        this.estimate = estimate;
+    }
+}
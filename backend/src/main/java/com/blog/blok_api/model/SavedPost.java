@@ -20,7 +20,8 @@ public class SavedPost {
     @ManyToOne
     private User user;
 
-    @ManyToOne
+    /** LAZY: silinmiş (tombstone) postun kaydı da yüklenebilsin (bkz. Comment.post) */
+    @ManyToOne(fetch = FetchType.LAZY)
     private Post post;
 
     public SavedPost() {
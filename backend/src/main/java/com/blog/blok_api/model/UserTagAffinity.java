@@ -0,0 +1,70 @@
+package com.blog.blok_api.model;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * UserTagAffinity - Kullanıcının bir tag'e ilgisi (çevrimdışı hesaplanır)
+ *
+ * TagAffinityJob son "window-days" gündeki beğeni ve görüntülenmelerden kullanıcı parçaları halinde
+ * yeniden yazar; skor trend puanlamasıyla aynı ağırlıklarla toplanır (beğeni * 5, görüntülenme * 3).
+ * PK (user_id, tag_id): kullanıcının vektörü tek PK aralık okumasıdır.
+ */
+@Entity
+@Table(name = "user_tag_affinities")
+@IdClass(UserTagAffinity.Key.class)
+public class UserTagAffinity {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(name = "tag_id")
+    private Long tagId;
+
+    @Column(nullable = false)
+    private double score;
+
+    public UserTagAffinity() {
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Long getTagId() {
+        return tagId;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public static class Key implements Serializable {
+        private Long userId;
+        private Long tagId;
+
+        public Key() {
+        }
+
+        public Key(Long userId, Long tagId) {
+            this.userId = userId;
+            this.tagId = tagId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key key)) return false;
+            return Objects.equals(userId, key.userId) && Objects.equals(tagId, key.tagId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userId, tagId);
+        }
+    }
+}
@@ -5,8 +5,12 @@ import com.blog.blok_api.model.Post;
 import com.blog.blok_api.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -23,6 +27,19 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      */
     List<Comment> findByPostAndIsDeletedFalse(Post post);
     
+    /**
+     * Posttaki silinmemiş yorumlar (cevaplar dahil), yazarları ve üst yorumlarıyla tek sorguda
+     * Yorum ağacı bellekte kurulur - seviye başına replies koleksiyonu yüklenmez
+     */
+    @Query("""
+           SELECT c FROM Comment c
+           JOIN FETCH c.author
+           LEFT JOIN FETCH c.parentComment
+           WHERE c.post.id = :postId AND c.isDeleted = false
+           ORDER BY c.id
+           """)
+    List<Comment> findActiveByPostIdWithAuthor(@Param("postId") Long postId);
+
     /**
      * Belirli bir kullanıcının silinmemiş yorumlarını getir
      */
@@ -38,12 +55,37 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      */
     Optional<Comment> findByIdAndAuthorId(Long commentId, Long authorId);
 
+    /**
+     * Yorumu postu silinmemişse getir - silinmiş (tombstone) posttaki yorum bulunamaz
+     * Post'un @SQLRestriction'ı ilişki JOIN'lerine uygulanmadığı için koşul açıkça yazılır
+     */
+    @Query("SELECT c FROM Comment c JOIN c.post p WHERE c.id = :commentId AND p.deletedAt IS NULL")
+    Optional<Comment> findVisibleById(@Param("commentId") Long commentId);
+
+    /**
+     * Listeden postu silinmemiş yorumların ID'leri (etkileşim durumunda silinmiş postları elemek için)
+     */
+    @Query("SELECT c.id FROM Comment c JOIN c.post p WHERE c.id IN :commentIds AND p.deletedAt IS NULL")
+    List<Long> findVisibleIds(@Param("commentIds") List<Long> commentIds);
+
     /**
      * Kullanıcının yorum yaptığı postları getir (distinct)
      */
     @Query("SELECT DISTINCT c.post FROM Comment c WHERE c.author.id = :userId")
     List<Post> findDistinctPostsByAuthorId(@Param("userId") Long userId);
 
+    /**
+     * Kullanıcının yorum yaptığı postların ID'leri - en son yorum yapılan önce
+     * Post'un @SQLRestriction'ı ilişki JOIN'lerine uygulanmadığı için silinmiş postlar açıkça elenir
+     */
+    @Query("""
+           SELECT p.id FROM Comment c JOIN c.post p
+           WHERE c.author.id = :userId AND p.deletedAt IS NULL
+           GROUP BY p.id
+           ORDER BY MAX(c.id) DESC
+           """)
+    List<Long> findCommentedPostIdsByAuthorId(@Param("userId") Long userId);
+
     /**
      * Kullanıcının tüm yorumlarını sil
      */
@@ -61,5 +103,40 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
            GROUP BY c.post.id
            """)
     List<Object[]> countActiveCommentsByPostIds(@Param("postIds") List<Long> postIds);
-}
 
+    // ====== TOPLU SİLME (CascadeDeleteService) ======
+
+    /**
+     * Kullanıcının yazdığı ve kullanıcının postlarına yazılmış yorumların ID'leri (silinecek ağaçların kökleri)
+     * Native: silinmiş (tombstone) postlardaki yorumlar da dahil
+     */
+    @Query(value = """
+           SELECT c.id FROM comments c
+           WHERE c.author_id = :userId
+              OR c.post_id IN (SELECT p.id FROM posts p WHERE p.author_id = :userId)
+           """, nativeQuery = true)
+    List<Long> findIdsByAuthorIdOrPostAuthorId(@Param("userId") Long userId);
+
+    /**
+     * Posttaki üst seviye yorumların ID'leri (silinmiş post temizliği için kökler)
+     * Cevaplar aynı posta ait olduğu için ağaç gezilerek bulunur
+     */
+    @Query(value = "SELECT c.id FROM comments c WHERE c.post_id = :postId AND c.parent_comment_id IS NULL",
+           nativeQuery = true)
+    List<Long> findRootIdsByPostId(@Param("postId") Long postId);
+
+    /**
+     * Verilen yorumlara yazılmış cevapların ID'leri (ağacı seviye seviye gezmek için)
+     */
+    @Query("SELECT c.id FROM Comment c WHERE c.parentComment.id IN :parentIds")
+    List<Long> findIdsByParentIdIn(@Param("parentIds") List<Long> parentIds);
+
+    /**
+     * Yorumları tek DELETE ile sil - cevapları ve like'ları önceden silinmiş olmalıdır
+     */
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "comments"))
+    @Query(value = "DELETE FROM comments WHERE id IN (:ids)", nativeQuery = true)
+    int deleteByIds(@Param("ids") List<Long> ids);
+}
@@ -0,0 +1,94 @@
+package com.blog.blok_api.repository;
+
+import com.blog.blok_api.model.Follow;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * FollowRepository - Takip ilişkileri
+ */
+@Repository
+public interface FollowRepository extends JpaRepository<Follow, Follow.Key> {
+
+    boolean existsByFollowerIdAndFolloweeId(Long followerId, Long followeeId);
+
+    long countByFolloweeId(Long followeeId);
+
+    long countByFollowerId(Long followerId);
+
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "follows"))
+    @Query(value = "DELETE FROM follows WHERE follower_id = :followerId AND followee_id = :followeeId", nativeQuery = true)
+    int deleteFollow(@Param("followerId") Long followerId, @Param("followeeId") Long followeeId);
+
+    /**
+     * Fan-out: yazarın takipçileri, follower_id sırasıyla keyset parçalar halinde
+     */
+    @Query(value = """
+           SELECT follower_id FROM follows
+           WHERE followee_id = :followeeId AND follower_id > :afterId
+           ORDER BY follower_id
+           LIMIT :limit
+           """, nativeQuery = true)
+    List<Long> findFollowerIdsAfter(@Param("followeeId") Long followeeId,
+                                    @Param("afterId") long afterId,
+                                    @Param("limit") int limit);
+
+    /**
+     * Takipçi sayısı en fazla "limit"e kadar sayılır (eşik kontrolü; çok takipçili yazarda tamamı sayılmaz)
+     */
+    @Query(value = """
+           SELECT COUNT(*) FROM (
+               SELECT 1 FROM follows WHERE followee_id = :followeeId LIMIT :limit
+           ) capped
+           """, nativeQuery = true)
+    long countFollowersUpTo(@Param("followeeId") Long followeeId, @Param("limit") int limit);
+
+    /**
+     * Takipçi sayısı eşiği geçen yazarlar (fan-out on read) - (followee_id, follower_id) index'i üzerinden
+     */
+    @Query(value = "SELECT followee_id FROM follows GROUP BY followee_id HAVING COUNT(*) >= :threshold",
+           nativeQuery = true)
+    List<Long> findFolloweeIdsWithFollowersAtLeast(@Param("threshold") long threshold);
+
+    /**
+     * Verilen yazarlardan kullanıcının takip ettikleri - PK aralığı
+     */
+    @Query("SELECT f.followeeId FROM Follow f WHERE f.followerId = :followerId AND f.followeeId IN :followeeIds")
+    List<Long> findFolloweeIdsAmong(@Param("followerId") Long followerId,
+                                    @Param("followeeIds") Collection<Long> followeeIds);
+
+    /**
+     * Kullanıcı silinirken (CascadeDeleteService) - takip ettikleri, her çağrı en fazla "limit" satır
+     */
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "follows"))
+    @Query(value = """
+           DELETE FROM follows WHERE follower_id = :userId AND followee_id IN (
+               SELECT followee_id FROM follows WHERE follower_id = :userId LIMIT :limit)
+           """, nativeQuery = true)
+    int deleteBatchByFollowerId(@Param("userId") Long userId, @Param("limit") int limit);
+
+    /**
+     * Kullanıcı silinirken (CascadeDeleteService) - takipçileri, her çağrı en fazla "limit" satır
+     */
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "follows"))
+    @Query(value = """
+           DELETE FROM follows WHERE followee_id = :userId AND follower_id IN (
+               SELECT follower_id FROM follows WHERE followee_id = :userId LIMIT :limit)
+           """, nativeQuery = true)
+    int deleteBatchByFolloweeId(@Param("userId") Long userId, @Param("limit") int limit);
+}
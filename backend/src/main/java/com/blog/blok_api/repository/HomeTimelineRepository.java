@@ -0,0 +1,50 @@
+package com.blog.blok_api.repository;
+
+import com.blog.blok_api.model.HomeTimeline;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * HomeTimelineRepository - Önceden hesaplanmış ana sayfa akışları
+ * Fan-out yazmaları TimelineService'te JDBC batch ile yapılır
+ */
+@Repository
+public interface HomeTimelineRepository extends JpaRepository<HomeTimeline, Long> {
+
+    /**
+     * Fan-out parçasındaki mevcut akışları kilitleyerek oku: [userId, postIds]
+     * user_id sırasıyla kilitlenir, eşzamanlı fan-out'lar birbirini deadlock'a sokmaz
+     */
+    @Query(value = "SELECT user_id, post_ids FROM home_timelines WHERE user_id IN (:userIds) ORDER BY user_id FOR UPDATE",
+           nativeQuery = true)
+    List<Object[]> lockByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * İlk okumada kurulan akış - ayrı transaction'da: okuma salt-okunur transaction içinde yapılabilir,
+     * eşzamanlı kurulumdaki PK çakışması da sadece bu transaction'ı geri alır
+     */
+    @Modifying
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "home_timelines"))
+    @Query(value = "INSERT INTO home_timelines (user_id, post_ids) VALUES (:userId, :postIds)", nativeQuery = true)
+    int insert(@Param("userId") Long userId, @Param("postIds") byte[] postIds);
+
+    /**
+     * Akışı geçersiz kıl (takip / takipten çıkma, kullanıcı silme) - sonraki okumada yeniden kurulur
+     */
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "home_timelines"))
+    @Query(value = "DELETE FROM home_timelines WHERE user_id = :userId", nativeQuery = true)
+    int deleteByUserId(@Param("userId") Long userId);
+}
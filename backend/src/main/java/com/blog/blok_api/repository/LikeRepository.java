@@ -6,8 +6,12 @@ import com.blog.blok_api.model.User;
 import com.blog.blok_api.model.Post;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -24,7 +28,11 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
     Long countByPost(Post post);
     Long countByComment(Comment comment);
 
-    int countByPostId(Long postId);
+    /**
+     * Postun beğeni sayısı - silinmiş (tombstone) post için 0 döner
+     */
+    @Query("SELECT COUNT(l) FROM Like l JOIN l.post p WHERE p.id = :postId AND p.deletedAt IS NULL")
+    int countByPostId(@Param("postId") Long postId);
 
     @Query("SELECT COUNT(l) FROM Like l WHERE l.post.author.id = :userId")
     int countByAuthorPosts(@Param("userId") Long userId);
@@ -47,6 +55,13 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
            """)
     List<Long> findLikedPostIdsByUserId(@Param("userId") Long userId);
 
+    /**
+     * Kullanıcının beğendiği tüm post ID'leri, sırasız (UserInteractionStateService yüklemesi)
+     * posts tablosuna join yapılmaz; yorum beğenileri (post_id NULL) elenir
+     */
+    @Query("SELECT l.post.id FROM Like l WHERE l.user.id = :userId AND l.post.id IS NOT NULL")
+    List<Long> findAllPostIdsByUserId(@Param("userId") Long userId);
+
     // ====== OPTİMİZASYON EKLERİ ======
 
     // NEW: Tek post için beğenmiş mi? (ID ile, nesne yüklemeden)
@@ -61,4 +76,60 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
            """)
     List<Long> findLikedPostIdsByUserIdAndPostIds(@Param("userId") Long userId,
                                                   @Param("postIds") List<Long> postIds);
+
+    // Yorum listesi için beğeni sayıları (tek gruplu sorgu)
+    @Query("""
+           SELECT l.comment.id, COUNT(l.id)
+           FROM Like l
+           WHERE l.comment.id IN :commentIds
+           GROUP BY l.comment.id
+           """)
+    List<Object[]> countLikesByCommentIds(@Param("commentIds") List<Long> commentIds);
+
+    // Yorum listesi içinde hangilerini beğenmiş? (tek sorgu)
+    @Query("""
+           SELECT l.comment.id
+           FROM Like l
+           WHERE l.user.id = :userId AND l.comment.id IN :commentIds
+           """)
+    List<Long> findLikedCommentIdsByUserIdAndCommentIds(@Param("userId") Long userId,
+                                                        @Param("commentIds") List<Long> commentIds);
+
+    // ====== TOPLU SİLME (CascadeDeleteService) ======
+    // Türetilmiş deleteAllBy* metotları her satırı yükleyip tek tek siler; bunlar tek DELETE ile çalışır.
+    // LIMIT'li alt sorgu ile her çağrı en fazla "limit" satır siler (kısa transaction, kısa kilit)
+
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "likes"))
+    @Query(value = "DELETE FROM likes WHERE id IN (SELECT id FROM likes WHERE user_id = :userId LIMIT :limit)",
+           nativeQuery = true)
+    int deleteBatchByUserId(@Param("userId") Long userId, @Param("limit") int limit);
+
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "likes"))
+    @Query(value = """
+           DELETE FROM likes WHERE id IN (
+               SELECT l.id FROM likes l JOIN posts p ON p.id = l.post_id
+               WHERE p.author_id = :authorId
+               LIMIT :limit)
+           """, nativeQuery = true)
+    int deleteBatchByPostAuthorId(@Param("authorId") Long authorId, @Param("limit") int limit);
+
+    /**
+     * Yorum like'larını sil - commentIds çağıran tarafından sınırlı boyutta verilir
+     */
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "likes"))
+    @Query(value = "DELETE FROM likes WHERE comment_id IN (:commentIds)", nativeQuery = true)
+    int deleteByCommentIds(@Param("commentIds") List<Long> commentIds);
+
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "likes"))
+    @Query(value = "DELETE FROM likes WHERE id IN (SELECT id FROM likes WHERE post_id = :postId LIMIT :limit)",
+           nativeQuery = true)
+    int deleteBatchByPostId(@Param("postId") Long postId, @Param("limit") int limit);
 }
@@ -0,0 +1,50 @@
+package com.blog.blok_api.repository;
+
+import com.blog.blok_api.model.NotificationCounter;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * NotificationCounterRepository - Okunmamış bildirim sayaçları
+ * Artırma NotificationBatchWriter'da JDBC batch ile yapılır
+ */
+@Repository
+public interface NotificationCounterRepository extends JpaRepository<NotificationCounter, Long> {
+
+    @Query("SELECT c.unreadCount FROM NotificationCounter c WHERE c.userId = :userId")
+    Optional<Integer> findUnreadCount(@Param("userId") Long userId);
+
+    /**
+     * [userId, unreadCount] - canlı kanala bağlı kullanıcılar için tek sorgu (LiveEventService)
+     */
+    @Query("SELECT c.userId, c.unreadCount FROM NotificationCounter c WHERE c.userId IN :userIds")
+    List<Object[]> findUnreadCounts(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * Okundu işaretlenen satır sayısı kadar azalt (sıfırın altına inmez)
+     */
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "notification_counters"))
+    @Query(value = """
+           UPDATE notification_counters SET unread_count = GREATEST(unread_count - :count, 0)
+           WHERE user_id = :userId
+           """, nativeQuery = true)
+    int decrement(@Param("userId") Long userId, @Param("count") int count);
+
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "notification_counters"))
+    @Query(value = "DELETE FROM notification_counters WHERE user_id = :userId", nativeQuery = true)
+    int deleteByUserId(@Param("userId") Long userId);
+}
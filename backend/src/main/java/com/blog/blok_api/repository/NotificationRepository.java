@@ -0,0 +1,131 @@
+package com.blog.blok_api.repository;
+
+import com.blog.blok_api.model.Notification;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface NotificationRepository extends JpaRepository<Notification, Long> {
+
+    /**
+     * Kullanıcının bildirimlerini sil (CascadeDeleteService) - her çağrı en fazla "limit" satır
+     */
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "notifications"))
+    @Query(value = "DELETE FROM notifications WHERE id IN (SELECT id FROM notifications WHERE user_id = :userId LIMIT :limit)",
+           nativeQuery = true)
+    int deleteBatchByUserId(@Param("userId") Long userId, @Param("limit") int limit);
+
+    /**
+     * Silinmiş posta ait bildirimleri sil (CascadeDeleteService.purgePost) - her çağrı en fazla "limit" satır
+     * (post_id) index'i: V8__notifications_post_index
+     */
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "notifications"))
+    @Query(value = "DELETE FROM notifications WHERE id IN (SELECT id FROM notifications WHERE post_id = :postId LIMIT :limit)",
+           nativeQuery = true)
+    int deleteBatchByPostId(@Param("postId") Long postId, @Param("limit") int limit);
+
+    /**
+     * Posta ait okunmamış bildirim sayıları, alıcı bazında (silmeden önce sayaçları düşmek için)
+     * [userId, count]
+     */
+    @Query("""
+           SELECT n.user.id, COUNT(n.id)
+           FROM Notification n
+           WHERE n.postId = :postId AND n.isRead = false
+           GROUP BY n.user.id
+           """)
+    List<Object[]> countUnreadByPostId(@Param("postId") Long postId);
+
+    /**
+     * Kullanıcının postlarına ait bildirimleri sil (CascadeDeleteService.deleteUser) - her çağrı en fazla "limit" satır
+     */
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "notifications"))
+    @Query(value = """
+           DELETE FROM notifications WHERE id IN (
+               SELECT n.id FROM notifications n JOIN posts p ON p.id = n.post_id
+               WHERE p.author_id = :authorId LIMIT :limit)
+           """, nativeQuery = true)
+    int deleteBatchByPostAuthorId(@Param("authorId") Long authorId, @Param("limit") int limit);
+
+    /**
+     * Kullanıcının postlarına ait okunmamış bildirim sayıları, alıcı bazında - [userId, count]
+     * Native: silinmiş (tombstone) postlar da dahil olmalı (Post üzerindeki @SQLRestriction atlanır)
+     */
+    @Query(value = """
+           SELECT n.user_id, COUNT(*)
+           FROM notifications n JOIN posts p ON p.id = n.post_id
+           WHERE p.author_id = :authorId AND n.is_read = FALSE
+           GROUP BY n.user_id
+           """, nativeQuery = true)
+    List<Object[]> countUnreadByPostAuthorId(@Param("authorId") Long authorId);
+
+    /**
+     * Bildirim listesinin ilk sayfası - (user_id, created_at DESC, id DESC) index'i
+     * Silinmiş (tombstone) postlara ait bildirimler listelenmez (PostPurgeJob fiziksel olarak siler)
+     */
+    @Query("""
+           SELECT n FROM Notification n
+           WHERE n.user.id = :userId
+             AND (n.postId IS NULL OR EXISTS (SELECT p.id FROM Post p WHERE p.id = n.postId))
+           ORDER BY n.createdAt DESC, n.id DESC
+           """)
+    List<Notification> findFirstPage(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * Sonraki sayfalar (keyset) - OFFSET yok, her sayfa index'te imleçten devam eder
+     */
+    @Query("""
+           SELECT n FROM Notification n
+           WHERE n.user.id = :userId
+             AND (n.postId IS NULL OR EXISTS (SELECT p.id FROM Post p WHERE p.id = n.postId))
+             AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id))
+           ORDER BY n.createdAt DESC, n.id DESC
+           """)
+    List<Notification> findPageBefore(@Param("userId") Long userId,
+                                      @Param("createdAt") LocalDateTime createdAt,
+                                      @Param("id") Long id,
+                                      Pageable pageable);
+
+    /**
+     * Birleştirme adayları: alıcıların pencere içindeki okunmamış bildirimleri (tek sorgu)
+     * [id, userId, type, postId, commentId, actorCount, actorId, actorIds]
+     */
+    @Query("""
+           SELECT n.id, n.user.id, n.type, n.postId, n.commentId, n.actorCount, n.actorId, n.actorIds
+           FROM Notification n
+           WHERE n.user.id IN :userIds AND n.isRead = false AND n.createdAt >= :since
+           """)
+    List<Object[]> findUnreadSince(@Param("userIds") Collection<Long> userIds,
+                                   @Param("since") LocalDateTime since);
+
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "notifications"))
+    @Query(value = "UPDATE notifications SET is_read = TRUE WHERE id = :id AND user_id = :userId AND is_read = FALSE",
+           nativeQuery = true)
+    int markRead(@Param("userId") Long userId, @Param("id") Long id);
+
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "notifications"))
+    @Query(value = "UPDATE notifications SET is_read = TRUE WHERE user_id = :userId AND is_read = FALSE",
+           nativeQuery = true)
+    int markAllRead(@Param("userId") Long userId);
+}
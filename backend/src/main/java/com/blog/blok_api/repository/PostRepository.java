@@ -2,14 +2,19 @@ package com.blog.blok_api.repository;
 
 import com.blog.blok_api.model.Post;
 import com.blog.blok_api.model.User;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,11 +33,23 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     
     List<Post> findAllByAuthor(User user);
     
-    boolean existsBySlug(String slug);
+    /**
+     * Native: silinmiş (tombstone) postlar da sayılır, slug'ları fiziksel silinene kadar doludur
+     */
+    @Query(value = "SELECT COUNT(*) > 0 FROM posts WHERE slug = :slug", nativeQuery = true)
+    boolean existsBySlug(@Param("slug") String slug);
 
-    Page<Post> findByTitleContainingIgnoreCaseOrSlugContainingIgnoreCase(
-            String title, String slug, Pageable pageable
-    );
+    /**
+     * Admin post araması - pg_trgm GIN index'leri (posts.title, posts.slug) ILIKE ile kullanılır
+     * pattern SearchPatternUtil.containsPattern ile üretilmelidir
+     */
+    @Query("""
+           SELECT p
+           FROM Post p
+           WHERE p.title ILIKE :pattern ESCAPE '!'
+              OR p.slug ILIKE :pattern ESCAPE '!'
+           """)
+    Page<Post> searchByTitleOrSlug(@Param("pattern") String pattern, Pageable pageable);
 
     void deleteAllByAuthor(User user);
 
@@ -51,6 +68,33 @@ public interface PostRepository extends JpaRepository<Post, Long> {
            """)
     List<Post> findAllPublishedPostsWithRelations();
 
+    /**
+     * Feed akışının (streamAllPosts) ilk parçası - [id, createdAt], en yeni en üstte
+     * Sıra idx_posts_published_created index'i ile aynı: (created_at DESC, id)
+     */
+    @Query("""
+           SELECT p.id, p.createdAt
+           FROM Post p
+           WHERE p.isPublished = true
+           ORDER BY p.createdAt DESC, p.id
+           """)
+    List<Object[]> findPublishedFeedKeys(Pageable pageable);
+
+    /**
+     * Feed akışının sonraki parçası - keyset: önceki parçanın son (createdAt, id) değerinden sonrası
+     * OFFSET kullanılmaz; her parça index üzerinde kaldığı yerden başlar
+     */
+    @Query("""
+           SELECT p.id, p.createdAt
+           FROM Post p
+           WHERE p.isPublished = true
+             AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id > :id))
+           ORDER BY p.createdAt DESC, p.id
+           """)
+    List<Object[]> findPublishedFeedKeysAfter(@Param("createdAt") LocalDateTime createdAt,
+                                             @Param("id") Long id,
+                                             Pageable pageable);
+
     /**
      * Kullanıcının postları (ilişkilerle) – My Posts ekranı
      */
@@ -75,6 +119,50 @@ public interface PostRepository extends JpaRepository<Post, Long> {
            """)
     Optional<Post> findByIdWithRelations(@Param("id") Long id);
 
+    /**
+     * Sadece post versiyonu (PK lookup) - post detay cache anahtarı için
+     */
+    @Query("SELECT p.version FROM Post p WHERE p.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * Post detay ETag'i için doğrulayıcılar (tek PK lookup): [version, statsVersion, author.updatedAt]
+     */
+    @Query("""
+           SELECT p.version, p.statsVersion, a.updatedAt
+           FROM Post p
+           LEFT JOIN p.author a
+           WHERE p.id = :id
+           """)
+    List<Object[]> findValidatorsById(@Param("id") Long id);
+
+    /**
+     * Feed ETag'i için doğrulayıcılar (tek satır):
+     * [postCount, maxId, SUM(version), SUM(statsVersion), MAX(author.updatedAt)]
+     * Versiyonlar sadece artar ve yeni post her zaman daha büyük ID alır, böylece
+     * feed'deki herhangi bir değişiklik bu parmak izini değiştirir
+     */
+    @Query("""
+           SELECT COUNT(p.id), MAX(p.id), SUM(p.version), SUM(p.statsVersion), MAX(a.updatedAt)
+           FROM Post p
+           LEFT JOIN p.author a
+           WHERE p.isPublished = true
+           """)
+    List<Object[]> findPublishedFeedValidators();
+
+    /**
+     * Tek post için sayaçlar tek sorguda: [viewsCount, likeCount, activeCommentCount, uniqueViewers]
+     */
+    @Query("""
+           SELECT p.viewsCount,
+                  (SELECT COUNT(l.id) FROM Like l WHERE l.post.id = p.id),
+                  (SELECT COUNT(c.id) FROM Comment c WHERE c.post.id = p.id AND c.isDeleted = false),
+                  p.uniqueViewers
+           FROM Post p
+           WHERE p.id = :id
+           """)
+    List<Object[]> findCountersById(@Param("id") Long id);
+
     /**
      * Post ID listesi ile postları getir (ilişkilerle) - LazyInitializationException önleme
      * ID listesindeki sıralama korunur
@@ -110,6 +198,41 @@ public interface PostRepository extends JpaRepository<Post, Long> {
            """)
     List<Long> findTopTrendingPostIds(Pageable pageable);
 
+    /**
+     * Yayınlanmış postlarda arama (JPA arama altyapısı) - en yeni en üstte
+     * Başlık, özet, içerik ve tag isimlerinde ILIKE ile arar
+     */
+    @Query("""
+           SELECT p.id
+           FROM Post p
+           WHERE p.isPublished = true
+             AND (p.title ILIKE :pattern ESCAPE '!'
+                  OR p.summary ILIKE :pattern ESCAPE '!'
+                  OR p.content ILIKE :pattern ESCAPE '!'
+                  OR EXISTS (SELECT 1 FROM Post p2 JOIN p2.tags t
+                             WHERE p2 = p AND t.name ILIKE :pattern ESCAPE '!'))
+           ORDER BY p.createdAt DESC
+           """)
+    List<Long> searchPublishedPostIds(@Param("pattern") String pattern, Pageable pageable);
+
+    /**
+     * Yayınlanmış postlarda full-text arama (PostgreSQL arama altyapısı)
+     * posts.search_vector GIN index'i kullanılır, ts_rank'e göre sıralanır
+     * websearch_to_tsquery: "kelime1 kelime2", "tırnaklı ifade" ve -hariç sözdizimini destekler
+     */
+    @Query(value = """
+           SELECT p.id
+           FROM posts p
+           CROSS JOIN websearch_to_tsquery(CAST(:config AS regconfig), :query) q
+           WHERE p.is_published = true
+             AND p.deleted_at IS NULL
+             AND p.search_vector @@ q
+           ORDER BY ts_rank(p.search_vector, q) DESC, p.created_at DESC
+           """, nativeQuery = true)
+    List<Long> searchPublishedPostIdsFullText(@Param("query") String query,
+                                              @Param("config") String config,
+                                              Pageable pageable);
+
     /**
      * Belirli post ID'leri için like count (tek sorgu, group-by)
      * Sonuç: [postId, count] şeklinde Object[] array'leri
@@ -134,16 +257,200 @@ public interface PostRepository extends JpaRepository<Post, Long> {
            """)
     List<Object[]> countActiveCommentsByPostIds(@Param("postIds") List<Long> postIds);
 
+    /**
+     * Listeden var olan (silinmemiş) post ID'leri - görüntülenme takibinde geçersiz ID'leri elemek için
+     */
+    @Query("SELECT p.id FROM Post p WHERE p.id IN :postIds")
+    List<Long> findExistingIds(@Param("postIds") List<Long> postIds);
+
     /**
      * Belirli post ID'leri için views_count'u toplu olarak artır
      * PERFORMANS: Native query ile tek sorguda güncelleme
-     * Sadece listedeki ID'ler için views_count += 1 yapar
+     * Sadece listedeki ID'ler için views_count += 1 yapar (ilk görüntülenme olduğu için unique_viewers da)
+     * native.spaces: Hibernate'e sadece posts tablosunun değiştiğini bildirir,
+     * aksi halde native UPDATE tüm second-level cache bölgelerini temizler
      */
     @org.springframework.data.jpa.repository.Modifying
+    @org.springframework.data.jpa.repository.QueryHints(
+        @jakarta.persistence.QueryHint(name = "org.hibernate.query.native.spaces", value = "posts")
+    )
     @org.springframework.data.jpa.repository.Query(
-        value = "UPDATE posts SET views_count = views_count + 1 WHERE id IN :postIds",
+        value = "UPDATE posts SET views_count = views_count + 1, unique_viewers = unique_viewers + 1, stats_version = stats_version + 1 WHERE id IN :postIds",
         nativeQuery = true
     )
     @org.springframework.transaction.annotation.Transactional
     int incrementViewsBatch(@Param("postIds") List<Long> postIds);
+
+    /**
+     * HLL tahminlerini posts.unique_viewers'a yansıt (PostViewSketchFlushJob)
+     * GREATEST: kesin sayım (giriş yapmış kullanıcılar) tahminden büyükse geri düşmez
+     */
+    @org.springframework.data.jpa.repository.Modifying
+    @org.springframework.data.jpa.repository.QueryHints(
+        @jakarta.persistence.QueryHint(name = "org.hibernate.query.native.spaces", value = "posts")
+    )
+    @org.springframework.data.jpa.repository.Query(
+        value = """
+                UPDATE posts SET unique_viewers = GREATEST(unique_viewers,
+                    COALESCE((SELECT s.estimate FROM post_view_sketches s WHERE s.post_id = posts.id), 0)),
+                    stats_version = stats_version + 1
+                WHERE id IN :postIds
+                """,
+        nativeQuery = true
+    )
+    @org.springframework.transaction.annotation.Transactional
+    int updateUniqueViewersFromSketches(@Param("postIds") Collection<Long> postIds);
+
+    /**
+     * Sayaç versiyonunu artır (like, yorum, kaydetme değişikliklerinde) - ETag'in değişmesi için
+     */
+    @org.springframework.data.jpa.repository.Modifying
+    @org.springframework.data.jpa.repository.QueryHints(
+        @jakarta.persistence.QueryHint(name = "org.hibernate.query.native.spaces", value = "posts")
+    )
+    @org.springframework.data.jpa.repository.Query(
+        value = "UPDATE posts SET stats_version = stats_version + 1 WHERE id = :postId",
+        nativeQuery = true
+    )
+    @org.springframework.transaction.annotation.Transactional
+    int incrementStatsVersion(@Param("postId") Long postId);
+
+    // ====== YENİ POSTLAR (RecentPostsService) ======
+
+    /**
+     * sinceId'den yeni yayınlanmış post sayısı, en fazla "limit"e kadar sayılır
+     * Kısmi (id) index'i (V5__posts_feed_id_index) ile index-only scan
+     */
+    @Query(value = """
+           SELECT COUNT(*) FROM (
+               SELECT 1 FROM posts
+               WHERE is_published = TRUE AND deleted_at IS NULL AND id > :sinceId
+               LIMIT :limit
+           ) recent
+           """, nativeQuery = true)
+    long countPublishedAfter(@Param("sinceId") long sinceId, @Param("limit") int limit);
+
+    /**
+     * sinceId'den yeni yayınlanmış post ID'leri, en yeni önce - aynı index
+     */
+    @Query(value = """
+           SELECT id FROM posts
+           WHERE is_published = TRUE AND deleted_at IS NULL AND id > :sinceId
+           ORDER BY id DESC
+           LIMIT :limit
+           """, nativeQuery = true)
+    List<Long> findPublishedIdsAfter(@Param("sinceId") long sinceId, @Param("limit") int limit);
+
+    // ====== ANA SAYFA AKIŞI (TimelineService) ======
+
+    /**
+     * Kullanıcının ve takip ettiklerinin beforeId'den eski yayınlanmış postları, en yeni önce
+     * Akış ilk kurulurken ve saklanan kapasitenin gerisindeki sayfalarda kullanılır
+     */
+    @Query(value = """
+           SELECT p.id FROM posts p
+           WHERE p.is_published = TRUE AND p.deleted_at IS NULL AND p.id < :beforeId
+             AND (p.author_id = :userId
+                  OR p.author_id IN (SELECT f.followee_id FROM follows f WHERE f.follower_id = :userId))
+           ORDER BY p.id DESC
+           LIMIT :limit
+           """, nativeQuery = true)
+    List<Long> findTimelinePostIds(@Param("userId") Long userId,
+                                   @Param("beforeId") long beforeId,
+                                   @Param("limit") int limit);
+
+    /**
+     * Çok takipçili (fan-out on read) yazarların beforeId'den eski yayınlanmış postları, en yeni önce
+     */
+    @Query(value = """
+           SELECT id FROM posts
+           WHERE is_published = TRUE AND deleted_at IS NULL AND author_id IN (:authorIds) AND id < :beforeId
+           ORDER BY id DESC
+           LIMIT :limit
+           """, nativeQuery = true)
+    List<Long> findPublishedIdsByAuthorsBefore(@Param("authorIds") Collection<Long> authorIds,
+                                               @Param("beforeId") long beforeId,
+                                               @Param("limit") int limit);
+
+    // ====== KİŞİSEL SIRALAMA (FeedRankingService) ======
+
+    /**
+     * Sıralama penceresi: en yeni "limit" yayınlanmış post ve etkileşim sayıları, en yeni önce
+     * [id, created_at, views_count, likeCount, commentCount, savedCount] - sayılar post_id index'lerinden
+     */
+    @Query(value = """
+           SELECT p.id, p.created_at, p.views_count,
+                  (SELECT COUNT(*) FROM likes l WHERE l.post_id = p.id),
+                  (SELECT COUNT(*) FROM comments c WHERE c.post_id = p.id AND c.is_deleted = FALSE),
+                  (SELECT COUNT(*) FROM saved_posts s WHERE s.post_id = p.id)
+           FROM posts p
+           WHERE p.is_published = TRUE AND p.deleted_at IS NULL
+           ORDER BY p.id DESC
+           LIMIT :limit
+           """, nativeQuery = true)
+    List<Object[]> findRankingFeatures(@Param("limit") int limit);
+
+    /**
+     * Sıralama penceresindeki postların tag'leri: [post_id, tag_id]
+     */
+    @Query(value = """
+           SELECT pt.post_id, pt.tag_id
+           FROM post_tags pt
+           JOIN (SELECT id FROM posts
+                 WHERE is_published = TRUE AND deleted_at IS NULL
+                 ORDER BY id DESC
+                 LIMIT :limit) w ON w.id = pt.post_id
+           """, nativeQuery = true)
+    List<Object[]> findRankingTags(@Param("limit") int limit);
+
+    // ====== BENZER POSTLAR (RelatedPostsService) ======
+
+    /**
+     * Yayınlanmış post ID'leri, id sırasıyla keyset parçalar halinde (tam yeniden hesaplama)
+     */
+    @Query(value = """
+           SELECT id FROM posts
+           WHERE is_published = TRUE AND deleted_at IS NULL AND id > :afterId
+           ORDER BY id
+           LIMIT :limit
+           """, nativeQuery = true)
+    List<Long> findPublishedIdsFrom(@Param("afterId") long afterId, @Param("limit") int limit);
+
+    // ====== TOPLU SİLME (CascadeDeleteService) ======
+
+    /**
+     * Native: @SQLRestriction'ı atlar, silinmiş (tombstone) postlar da döner
+     */
+    @Query(value = "SELECT id FROM posts WHERE author_id = :authorId LIMIT :limit", nativeQuery = true)
+    List<Long> findAllIdsByAuthorId(@Param("authorId") Long authorId, @Param("limit") int limit);
+
+    /**
+     * Fiziksel silinmeyi bekleyen (tombstone) postlar - en eski silinen önce
+     */
+    @Query(value = "SELECT id FROM posts WHERE deleted_at IS NOT NULL ORDER BY deleted_at LIMIT :limit", nativeQuery = true)
+    List<Long> findTombstonedIds(@Param("limit") int limit);
+
+    /**
+     * Postu silinmiş olarak işaretle (tombstone) - post anında tüm entity sorgularından gizlenir
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "posts"))
+    @Query(value = "UPDATE posts SET deleted_at = :deletedAt WHERE id = :postId AND deleted_at IS NULL", nativeQuery = true)
+    @org.springframework.transaction.annotation.Transactional
+    int markDeleted(@Param("postId") Long postId, @Param("deletedAt") java.time.LocalDateTime deletedAt);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "post_tags"))
+    @Query(value = "DELETE FROM post_tags WHERE post_id IN (:postIds)", nativeQuery = true)
+    @org.springframework.transaction.annotation.Transactional
+    int deletePostTagsByPostIds(@Param("postIds") List<Long> postIds);
+
+    /**
+     * Postları tek DELETE ile sil - bağlı like/yorum/görüntülenme/kaydetme/tag satırları önceden silinmiş olmalıdır
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "posts"))
+    @Query(value = "DELETE FROM posts WHERE id IN (:postIds)", nativeQuery = true)
+    @org.springframework.transaction.annotation.Transactional
+    int deleteByIds(@Param("postIds") List<Long> postIds);
 }
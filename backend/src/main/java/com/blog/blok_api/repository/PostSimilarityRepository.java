@@ -0,0 +1,87 @@
+package com.blog.blok_api.repository;
+
+import com.blog.blok_api.model.PostSimilarity;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * PostSimilarityRepository - Benzer post indeksi (RelatedPostsService)
+ */
+@Repository
+public interface PostSimilarityRepository extends JpaRepository<PostSimilarity, PostSimilarity.Key> {
+
+    /**
+     * Postun benzerleri, en benzer önce - PK aralığı
+     */
+    @Query(value = """
+           SELECT related_post_id FROM post_similarities
+           WHERE post_id = :postId
+           ORDER BY score DESC, related_post_id DESC
+           LIMIT :limit
+           """, nativeQuery = true)
+    List<Long> findRelatedPostIds(@Param("postId") Long postId, @Param("limit") int limit);
+
+    /**
+     * Verilen postları beğenen kullanıcıların tüm post beğenileri: [user_id, post_id], kullanıcı sırasıyla
+     * Satırlar JDBC fetch size kadar parça parça okunur (co-like sayımı tek geçişte, liste oluşturulmadan)
+     * Kullanıcı içinde en yeni beğeni önce - (user_id, liked_at) index'i sırayı verir
+     * Aktif transaction içinde tüketilmeli ve kapatılmalıdır
+     */
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "1000"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query(value = """
+           SELECT l.user_id, l.post_id
+           FROM likes l
+           WHERE l.post_id IS NOT NULL
+             AND l.user_id IN (SELECT d.user_id FROM likes d WHERE d.post_id IN (:postIds))
+           ORDER BY l.user_id, l.liked_at DESC
+           """, nativeQuery = true)
+    Stream<Object[]> streamCoLikes(@Param("postIds") Collection<Long> postIds);
+
+    /**
+     * Verilen postlarla en az bir tag paylaşan yayınlanmış postlar:
+     * [post_id, other_post_id, ortak tag sayısı, post_id'nin tag sayısı, other_post_id'nin tag sayısı]
+     */
+    @Query(value = """
+           SELECT a.post_id, b.post_id, COUNT(*),
+                  (SELECT COUNT(*) FROM post_tags x WHERE x.post_id = a.post_id),
+                  (SELECT COUNT(*) FROM post_tags y WHERE y.post_id = b.post_id)
+           FROM post_tags a
+           JOIN post_tags b ON b.tag_id = a.tag_id AND b.post_id <> a.post_id
+           JOIN posts p ON p.id = b.post_id AND p.is_published = TRUE AND p.deleted_at IS NULL
+           WHERE a.post_id IN (:postIds)
+           GROUP BY a.post_id, b.post_id
+           """, nativeQuery = true)
+    List<Object[]> findTagOverlaps(@Param("postIds") Collection<Long> postIds);
+
+    /**
+     * Yeniden hesaplanan postların eski benzer listeleri
+     */
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "post_similarities"))
+    @Query(value = "DELETE FROM post_similarities WHERE post_id IN (:postIds)", nativeQuery = true)
+    int deleteByPostIds(@Param("postIds") Collection<Long> postIds);
+
+    /**
+     * Fiziksel silinen postlar (CascadeDeleteService) - kendi listeleri ve diğer listelerdeki geçişleri
+     */
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "post_similarities"))
+    @Query(value = "DELETE FROM post_similarities WHERE post_id IN (:postIds) OR related_post_id IN (:postIds)",
+           nativeQuery = true)
+    int deleteByPostIdsOrRelated(@Param("postIds") Collection<Long> postIds);
+}
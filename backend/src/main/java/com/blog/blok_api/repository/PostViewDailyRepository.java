@@ -0,0 +1,79 @@
+package com.blog.blok_api.repository;
+
+import com.blog.blok_api.model.PostViewDaily;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * PostViewDailyRepository - Günlük görüntülenme özetleri (post_view_daily)
+ */
+@Repository
+public interface PostViewDailyRepository extends JpaRepository<PostViewDaily, PostViewDaily.Key> {
+
+    /**
+     * Postun belirli bir günden itibaren günlük özetleri (eskiden yeniye)
+     */
+    List<PostViewDaily> findByPostIdAndViewDateGreaterThanEqualOrderByViewDateAsc(Long postId, LocalDate from);
+
+    /**
+     * Özeti çıkarılmış son gün (rollup watermark'ı yeniden başlatmada buradan okunur)
+     */
+    @Query("SELECT MAX(d.viewDate) FROM PostViewDaily d")
+    LocalDate findMaxViewDate();
+
+    // ====== ROLLUP (PostViewRollupService) - bir gün sil + yeniden hesapla, aynı transaction ======
+
+    @Modifying
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "post_view_daily"))
+    @Query(value = "DELETE FROM post_view_daily WHERE view_date = :day", nativeQuery = true)
+    int deleteByViewDate(@Param("day") LocalDate day);
+
+    /**
+     * [start, end) aralığındaki ham olaylardan günün özetini çıkar
+     * PostgreSQL'de aralık koşulu sadece ilgili aylık partition'ı tarar (partition pruning + viewed_at index'i)
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "post_view_daily"))
+    @Query(value = """
+           INSERT INTO post_view_daily (post_id, view_date, views, unique_viewers)
+           SELECT post_id, :day, COUNT(*), COUNT(DISTINCT user_id)
+           FROM post_views
+           WHERE viewed_at >= :start AND viewed_at < :end
+           GROUP BY post_id
+           """, nativeQuery = true)
+    int insertRollup(@Param("day") LocalDate day,
+                     @Param("start") LocalDateTime start,
+                     @Param("end") LocalDateTime end);
+
+    // ====== TOPLU SİLME (CascadeDeleteService) - her çağrı en fazla "limit" satır siler ======
+
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "post_view_daily"))
+    @Query(value = """
+           DELETE FROM post_view_daily WHERE (post_id, view_date) IN (
+               SELECT post_id, view_date FROM post_view_daily WHERE post_id = :postId LIMIT :limit)
+           """, nativeQuery = true)
+    int deleteBatchByPostId(@Param("postId") Long postId, @Param("limit") int limit);
+
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "post_view_daily"))
+    @Query(value = """
+           DELETE FROM post_view_daily WHERE (post_id, view_date) IN (
+               SELECT d.post_id, d.view_date FROM post_view_daily d JOIN posts p ON p.id = d.post_id
+               WHERE p.author_id = :authorId
+               LIMIT :limit)
+           """, nativeQuery = true)
+    int deleteBatchByPostAuthorId(@Param("authorId") Long authorId, @Param("limit") int limit);
+}
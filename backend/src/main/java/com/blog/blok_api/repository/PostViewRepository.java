@@ -5,47 +5,45 @@ import com.blog.blok_api.model.PostView;
 import com.blog.blok_api.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Set;
 
 /**
- * PostViewRepository - Post görüntülenme kayıtları için repository
+ * PostViewRepository - Ham görüntülenme olayları için repository
  * Performans odaklı batch sorgular ile optimize edilmiş
+ * "Daha önce görüntüledi mi" kontrolü PostViewSeenRepository'de (ham satırlar arşivlenebilir)
  */
 @Repository
 public interface PostViewRepository extends JpaRepository<PostView, Long> {
 
     /**
-     * Kullanıcının belirli bir postu daha önce görüntüleyip görüntülemediğini kontrol et
+     * Görüntülenme olaylarını tek INSERT ... SELECT ile yaz
+     * Sadece var olan ve silinmemiş postlar için satır oluşur (foreign key yok, kontrol burada)
      */
-    boolean existsByUserAndPost(User user, Post post);
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "post_views"))
+    @Query(value = """
+           INSERT INTO post_views (user_id, post_id, viewed_at)
+           SELECT :userId, p.id, :viewedAt FROM posts p
+           WHERE p.id IN :postIds AND p.deleted_at IS NULL
+           """, nativeQuery = true)
+    int insertViews(@Param("userId") Long userId,
+                    @Param("postIds") List<Long> postIds,
+                    @Param("viewedAt") LocalDateTime viewedAt);
 
     /**
-     * Kullanıcı ID ve Post ID ile kontrol (nesne yüklemeden, performanslı)
+     * En eski ham görüntülenme zamanı (rollup'ın ilk çalışmada başlayacağı gün)
      */
-    @Query("SELECT COUNT(pv) > 0 FROM PostView pv WHERE pv.user.id = :userId AND pv.post.id = :postId")
-    boolean existsByUserIdAndPostId(@Param("userId") Long userId, @Param("postId") Long postId);
-
-    /**
-     * Kullanıcının belirli post ID'leri için hangilerini daha önce görüntülediğini toplu olarak getir
-     * Sonuç: Sadece post ID'leri (Set<Long>)
-     * PERFORMANS: Tek sorgu ile tüm kontrol
-     */
-    @Query("""
-           SELECT pv.post.id
-           FROM PostView pv
-           WHERE pv.user.id = :userId AND pv.post.id IN :postIds
-           """)
-    Set<Long> findViewedPostIdsByUserIdAndPostIds(@Param("userId") Long userId, @Param("postIds") List<Long> postIds);
-
-    /**
-     * Belirli bir kullanıcı için tüm görüntülenen post ID'lerini getir
-     */
-    @Query("SELECT pv.post.id FROM PostView pv WHERE pv.user.id = :userId")
-    List<Long> findAllPostIdsByUserId(@Param("userId") Long userId);
+    @Query("SELECT MIN(pv.viewedAt) FROM PostView pv")
+    LocalDateTime findMinViewedAt();
 
     /**
      * PostView kayıtlarını toplu olarak sil (kullanıcı silindiğinde)
@@ -56,5 +54,38 @@ public interface PostViewRepository extends JpaRepository<PostView, Long> {
      * PostView kayıtlarını toplu olarak sil (post silindiğinde)
      */
     void deleteAllByPost(Post post);
-}
 
+    // ====== TOPLU SİLME (CascadeDeleteService) - her çağrı en fazla "limit" satır siler ======
+    // post_views partition'lı olduğu için id tek başına index'li değil; dış WHERE'deki user_id/post_id
+    // koşulu her partition'da ilgili index'in kullanılmasını sağlar
+
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "post_views"))
+    @Query(value = """
+           DELETE FROM post_views WHERE user_id = :userId
+           AND id IN (SELECT id FROM post_views WHERE user_id = :userId LIMIT :limit)
+           """, nativeQuery = true)
+    int deleteBatchByUserId(@Param("userId") Long userId, @Param("limit") int limit);
+
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "post_views"))
+    @Query(value = """
+           DELETE FROM post_views WHERE post_id IN (SELECT id FROM posts WHERE author_id = :authorId)
+           AND id IN (
+               SELECT x.id FROM post_views x JOIN posts p ON p.id = x.post_id
+               WHERE p.author_id = :authorId
+               LIMIT :limit)
+           """, nativeQuery = true)
+    int deleteBatchByPostAuthorId(@Param("authorId") Long authorId, @Param("limit") int limit);
+
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "post_views"))
+    @Query(value = """
+           DELETE FROM post_views WHERE post_id = :postId
+           AND id IN (SELECT id FROM post_views WHERE post_id = :postId LIMIT :limit)
+           """, nativeQuery = true)
+    int deleteBatchByPostId(@Param("postId") Long postId, @Param("limit") int limit);
+}
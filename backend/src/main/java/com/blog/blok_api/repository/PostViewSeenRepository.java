@@ -0,0 +1,36 @@
+package com.blog.blok_api.repository;
+
+import com.blog.blok_api.model.PostViewSeen;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * PostViewSeenRepository - Kullanıcı başına görüntülenmiş post kümeleri (görüntülenme tekilliği)
+ */
+@Repository
+public interface PostViewSeenRepository extends JpaRepository<PostViewSeen, PostViewSeen.Key> {
+
+    /**
+     * Kullanıcının istenen bucket'larını tek sorguda getir
+     * Post ID'leri artan olduğu için bir feed sayfası genelde 1-2 bucket'a düşer
+     */
+    List<PostViewSeen> findByUserIdAndBucketIn(Long userId, Collection<Long> buckets);
+
+    /**
+     * Kullanıcı silinirken - kullanıcı başına satır sayısı bucket sayısı kadar (az), tek DELETE yeterli
+     */
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "post_view_seen"))
+    @Query(value = "DELETE FROM post_view_seen WHERE user_id = :userId", nativeQuery = true)
+    int deleteByUserId(@Param("userId") Long userId);
+}
@@ -0,0 +1,40 @@
+package com.blog.blok_api.repository;
+
+import com.blog.blok_api.model.PostViewSketch;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * PostViewSketchRepository - Post başına tekil görüntüleyen HyperLogLog sketch'leri
+ */
+@Repository
+public interface PostViewSketchRepository extends JpaRepository<PostViewSketch, Long> {
+
+    /**
+     * Birleştirilecek sketch'leri tek sorguda kilitleyerek getir (SELECT ... FOR UPDATE)
+     * Birden fazla instance aynı postun sketch'ini aynı anda yazarsa eklemeler kaybolmasın diye
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM PostViewSketch s WHERE s.postId IN :postIds")
+    List<PostViewSketch> findAllForUpdate(@Param("postIds") Collection<Long> postIds);
+
+    /**
+     * Post silinirken - post başına tek satır
+     */
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "post_view_sketches"))
+    @Query(value = "DELETE FROM post_view_sketches WHERE post_id IN :postIds", nativeQuery = true)
+    int deleteByPostIds(@Param("postIds") Collection<Long> postIds);
+}
@@ -1,11 +1,15 @@
 package com.blog.blok_api.repository;
 
 import com.blog.blok_api.model.Role;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.Optional;
 
 public interface RoleRepository extends JpaRepository<Role, Long> {
+    // Sorgu cache'i: sonuç "roles" bölgesindeki entity'lerden okunur
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     Optional<Role> findByName(String name);
 
 }
\ No newline at end of file
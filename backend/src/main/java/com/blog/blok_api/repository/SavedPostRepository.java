@@ -5,8 +5,12 @@ import com.blog.blok_api.model.SavedPost;
 import com.blog.blok_api.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -19,6 +23,12 @@ public interface SavedPostRepository extends JpaRepository<SavedPost, Long> {
     
     @Query("SELECT sp.post FROM SavedPost sp WHERE sp.user.id = :userId ORDER BY sp.createdAt DESC")
     List<Post> findSavedPostsByUserId(@Param("userId") Long userId);
+
+    /**
+     * Kullanıcının kaydettiği tüm post ID'leri, sırasız (UserInteractionStateService yüklemesi)
+     */
+    @Query("SELECT sp.post.id FROM SavedPost sp WHERE sp.user.id = :userId")
+    List<Long> findAllPostIdsByUserId(@Param("userId") Long userId);
     
     void deleteByUserAndPost(User user, Post post);
     void deleteAllByPost(Post post);
@@ -35,5 +45,31 @@ public interface SavedPostRepository extends JpaRepository<SavedPost, Long> {
            GROUP BY sp.post.id
            """)
     List<Object[]> countSavedByPostIds(@Param("postIds") List<Long> postIds);
-}
 
+    // ====== TOPLU SİLME (CascadeDeleteService) - her çağrı en fazla "limit" satır siler ======
+
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "saved_posts"))
+    @Query(value = "DELETE FROM saved_posts WHERE id IN (SELECT id FROM saved_posts WHERE user_id = :userId LIMIT :limit)",
+           nativeQuery = true)
+    int deleteBatchByUserId(@Param("userId") Long userId, @Param("limit") int limit);
+
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "saved_posts"))
+    @Query(value = """
+           DELETE FROM saved_posts WHERE id IN (
+               SELECT x.id FROM saved_posts x JOIN posts p ON p.id = x.post_id
+               WHERE p.author_id = :authorId
+               LIMIT :limit)
+           """, nativeQuery = true)
+    int deleteBatchByPostAuthorId(@Param("authorId") Long authorId, @Param("limit") int limit);
+
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "saved_posts"))
+    @Query(value = "DELETE FROM saved_posts WHERE id IN (SELECT id FROM saved_posts WHERE post_id = :postId LIMIT :limit)",
+           nativeQuery = true)
+    int deleteBatchByPostId(@Param("postId") Long postId, @Param("limit") int limit);
+}
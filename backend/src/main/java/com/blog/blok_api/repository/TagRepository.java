@@ -1,11 +1,15 @@
 package com.blog.blok_api.repository;
 
 import com.blog.blok_api.model.Tag;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface TagRepository extends JpaRepository<Tag, Long> {
+    // Post oluştururken her tag için çağrılır - sorgu cache'inden döner
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     java.util.Optional<Tag> findByNameIgnoreCase(String name);
     boolean existsByNameIgnoreCase(String name);
 } 
\ No newline at end of file
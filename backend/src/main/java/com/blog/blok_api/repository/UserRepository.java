@@ -3,20 +3,67 @@ package com.blog.blok_api.repository;
 import com.blog.blok_api.model.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
+    /**
+     * JwtAuthenticationFilter her istekte çağırır - sorgu cache'i + "users" bölgesi ile DB'ye gitmez
+     * users tablosuna yazıldığında Hibernate sorgu sonuçlarını otomatik geçersiz kılar
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     Optional<User> findByUsername(String username);
 
-    Page<User> findByUsernameContainingIgnoreCaseOrEmailContainingIgnoreCase(
-            String username, String email, Pageable pageable
-    );
+    /**
+     * Admin kullanıcı araması - pg_trgm GIN index'leri (users.username, users.email) ILIKE ile kullanılır
+     * pattern SearchPatternUtil.containsPattern ile üretilmelidir
+     */
+    @Query("""
+           SELECT u
+           FROM User u
+           WHERE u.username ILIKE :pattern ESCAPE '!'
+              OR u.email ILIKE :pattern ESCAPE '!'
+           """)
+    Page<User> searchByUsernameOrEmail(@Param("pattern") String pattern, Pageable pageable);
+
     void deleteById(Long id);
 
+    /**
+     * Kullanıcı satırını tek DELETE ile sil (CascadeDeleteService) - bağlı tüm satırlar önceden silinmiş olmalıdır
+     * native.spaces: "users" bölgesi ve findByUsername sorgu cache'i geçersiz kılınır
+     */
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "users"))
+    @Query(value = "DELETE FROM users WHERE id = :userId", nativeQuery = true)
+    int deleteRowById(@Param("userId") Long userId);
+
+    /**
+     * Kullanıcı satırını transaction sonuna kadar kilitle, entity yüklemeden (görüntülenme takibi)
+     * Aynı kullanıcının eşzamanlı istekleri sıraya girer; post_view_seen bucket'larına yazma yarışı olmaz
+     *
+     * @return kullanıcı yoksa boş
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "users"))
+    @Query(value = "SELECT id FROM users WHERE id = :userId FOR UPDATE", nativeQuery = true)
+    Optional<Long> lockById(@Param("userId") Long userId);
+
+    /**
+     * Toplu işler için kullanıcı ID'leri, id sırasıyla keyset parçalar halinde (TagAffinityJob)
+     */
+    @Query(value = "SELECT id FROM users WHERE id > :afterId ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Long> findIdsAfter(@Param("afterId") long afterId, @Param("limit") int limit);
+
     Optional<User> findByEmail(String email);
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
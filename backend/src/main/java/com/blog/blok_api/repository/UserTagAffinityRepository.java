@@ -0,0 +1,70 @@
+package com.blog.blok_api.repository;
+
+import com.blog.blok_api.model.UserTagAffinity;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * UserTagAffinityRepository - Kullanıcı tag ilgi vektörleri (TagAffinityService)
+ */
+@Repository
+public interface UserTagAffinityRepository extends JpaRepository<UserTagAffinity, UserTagAffinity.Key> {
+
+    /**
+     * Kullanıcının en güçlü "limit" tag'i: [tag_id, score] - PK aralığı
+     */
+    @Query(value = """
+           SELECT tag_id, score FROM user_tag_affinities
+           WHERE user_id = :userId
+           ORDER BY score DESC
+           LIMIT :limit
+           """, nativeQuery = true)
+    List<Object[]> findTopByUserId(@Param("userId") Long userId, @Param("limit") int limit);
+
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "user_tag_affinities"))
+    @Query(value = "DELETE FROM user_tag_affinities WHERE user_id IN (:userIds)", nativeQuery = true)
+    int deleteByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * Kullanıcı parçasının vektörlerini since'den sonraki beğeni ve görüntülenmelerden yeniden hesaplar
+     * Ağırlıklar trend puanlamasıyla aynı: beğeni * 5, görüntülenme * 3 (findTopTrendingPostIds)
+     */
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "user_tag_affinities"))
+    @Query(value = """
+           INSERT INTO user_tag_affinities (user_id, tag_id, score)
+           SELECT s.user_id, s.tag_id, SUM(s.weight)
+           FROM (
+               SELECT l.user_id, pt.tag_id, 5 AS weight
+               FROM likes l
+               JOIN post_tags pt ON pt.post_id = l.post_id
+               WHERE l.user_id IN (:userIds) AND l.liked_at >= :since
+               UNION ALL
+               SELECT v.user_id, pt.tag_id, 3 AS weight
+               FROM post_views v
+               JOIN post_tags pt ON pt.post_id = v.post_id
+               WHERE v.user_id IN (:userIds) AND v.viewed_at >= :since
+           ) s
+           GROUP BY s.user_id, s.tag_id
+           """, nativeQuery = true)
+    int insertForUsers(@Param("userIds") Collection<Long> userIds, @Param("since") LocalDateTime since);
+
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "user_tag_affinities"))
+    @Query(value = "DELETE FROM user_tag_affinities WHERE user_id = :userId", nativeQuery = true)
+    int deleteByUserId(@Param("userId") Long userId);
+}
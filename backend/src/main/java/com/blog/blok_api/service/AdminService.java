@@ -2,13 +2,21 @@ package com.blog.blok_api.service;
 
 import com.blog.blok_api.dto.AdminPostResponseDto;
 import com.blog.blok_api.dto.AdminUserResponseDto;
+import com.blog.blok_api.dto.CacheRegionStatsDto;
 import org.springframework.data.domain.Page; // ✅
 import org.springframework.data.domain.Pageable; // ✅
 
+import java.util.List;
+
 public interface AdminService {
     Page<AdminUserResponseDto> getAllUsers(String q, Pageable pageable);
     Page<AdminPostResponseDto> getAllPosts(String q, Pageable pageable);
     void deleteUserById(Long userId);
 
+    /**
+     * Hibernate second-level / query cache bölgeleri ve Spring Cache'lerinin hit/miss istatistikleri
+     */
+    List<CacheRegionStatsDto> getCacheStatistics();
+
 
 }
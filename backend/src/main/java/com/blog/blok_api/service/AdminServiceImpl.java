@@ -2,20 +2,30 @@ package com.blog.blok_api.service;
 
 import com.blog.blok_api.dto.AdminPostResponseDto;
 import com.blog.blok_api.dto.AdminUserResponseDto;
+import com.blog.blok_api.dto.CacheRegionStatsDto;
 import com.blog.blok_api.exception.ResourceNotFoundException;
 import com.blog.blok_api.mapper.AdminPostMapper;
 import com.blog.blok_api.mapper.AdminUserMapper;
 import com.blog.blok_api.model.Post;
 import com.blog.blok_api.model.User;
-import com.blog.blok_api.repository.CommentRepository;
-import com.blog.blok_api.repository.LikeRepository;
 import com.blog.blok_api.repository.PostRepository;
 import com.blog.blok_api.repository.UserRepository;
+import com.blog.blok_api.util.SearchPatternUtil;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 @Service
 public class AdminServiceImpl implements AdminService {
 
@@ -24,16 +34,24 @@ public class AdminServiceImpl implements AdminService {
     private final AdminUserMapper adminUserMapper;
     private final AdminPostMapper adminPostMapper;
 
-    private final LikeRepository likeRepository;
-    private final CommentRepository commentRepository;
+    private final CascadeDeleteService cascadeDeleteService;
+    private final EntityManagerFactory entityManagerFactory;
+    private final PostDetailCacheService postDetailCacheService;
+    private final UserInteractionStateService userInteractionStateService;
+    private final RecentPostsService recentPostsService;
+    private final CacheManager cacheManager;
 
-    public AdminServiceImpl(UserRepository userRepository, AdminUserMapper adminUserMapper, PostRepository postRepository, AdminPostMapper adminPostMapper, LikeRepository likeRepository, CommentRepository commentRepository) {
+    public AdminServiceImpl(UserRepository userRepository, AdminUserMapper adminUserMapper, PostRepository postRepository, AdminPostMapper adminPostMapper, CascadeDeleteService cascadeDeleteService, EntityManagerFactory entityManagerFactory, PostDetailCacheService postDetailCacheService, UserInteractionStateService userInteractionStateService, RecentPostsService recentPostsService, CacheManager cacheManager) {
         this.userRepository = userRepository;
         this.adminUserMapper = adminUserMapper;
         this.postRepository = postRepository;
         this.adminPostMapper = adminPostMapper;
-        this.likeRepository = likeRepository;
-        this.commentRepository = commentRepository;
+        this.cascadeDeleteService = cascadeDeleteService;
+        this.entityManagerFactory = entityManagerFactory;
+        this.postDetailCacheService = postDetailCacheService;
+        this.userInteractionStateService = userInteractionStateService;
+        this.recentPostsService = recentPostsService;
+        this.cacheManager = cacheManager;
     }
 
     @Override
@@ -41,7 +59,7 @@ public class AdminServiceImpl implements AdminService {
     public Page<AdminUserResponseDto> getAllUsers(String q, Pageable pageable) {
         Page<User> page = (q == null || q.isBlank())
                 ? userRepository.findAll(pageable)
-                : userRepository.findByUsernameContainingIgnoreCaseOrEmailContainingIgnoreCase(q, q, pageable);
+                : userRepository.searchByUsernameOrEmail(SearchPatternUtil.containsPattern(q), pageable);
 
         return page.map(adminUserMapper::toDto);
     }
@@ -51,33 +69,75 @@ public class AdminServiceImpl implements AdminService {
     public Page<AdminPostResponseDto> getAllPosts(String q, Pageable pageable) {
         Page<Post> page = (q == null || q.isBlank())
                 ? postRepository.findAll(pageable)
-                : postRepository.findByTitleContainingIgnoreCaseOrSlugContainingIgnoreCase(q, q, pageable);
+                : postRepository.searchByTitleOrSlug(SearchPatternUtil.containsPattern(q), pageable);
 
         return page.map(adminPostMapper::toDto);
     }
 
+    /**
+     * Kullanıcı silme - bağlı satırlar CascadeDeleteService ile parçalı toplu DELETE'lerle silinir
+     * Bilinçli olarak @Transactional değil: her parça kendi transaction'ında commit edilir
+     */
     @Override
-    @Transactional
     public void deleteUserById(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("Kullanıcı bulunamadı: " + userId));
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("Kullanıcı bulunamadı: " + userId);
+        }
 
-        // Önce kullanıcının like'larını sil
-        likeRepository.deleteAllByUser(user);
+        cascadeDeleteService.deleteUser(userId);
 
-        // Kullanıcının postlarına ait like'ları sil
-        postRepository.findByAuthor(user).forEach(post -> {
-            likeRepository.deleteAllByPost(post);
-        });
+        // Birçok postun like/yorum sayacı ve birçok kullanıcının kümeleri değişti - hepsini temizle
+        postDetailCacheService.evictAllCounters();
+        userInteractionStateService.evictAll();
+        recentPostsService.reload();
+    }
 
-        // Kullanıcının yorumlarını ve alt cevaplarını sil
-        commentRepository.deleteAllByAuthor(user);
+    @Override
+    public List<CacheRegionStatsDto> getCacheStatistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        List<CacheRegionStatsDto> result = new ArrayList<>();
+
+        // Entity bölgeleri (roles, tags, categories, users) ve sorgu sonuç bölgesi
+        Arrays.stream(statistics.getSecondLevelCacheRegionNames()).sorted().forEach(region -> {
+            CacheRegionStatistics regionStats = statistics.getDomainDataRegionStatistics(region);
+            if (regionStats == null) {
+                regionStats = statistics.getQueryRegionStatistics(region);
+            }
+            if (regionStats != null) {
+                result.add(toDto(region, regionStats));
+            }
+        });
 
-        // Kullanıcının postlarını sil (onlara bağlı yorumlar cascade ile silinmeli)
-        postRepository.deleteAllByAuthor(user);
+        // Hibernate'in toplam sorgu cache sayaçları
+        result.add(new CacheRegionStatsDto("query-cache (toplam)",
+                statistics.getQueryCacheHitCount(),
+                statistics.getQueryCacheMissCount(),
+                statistics.getQueryCachePutCount(),
+                -1));
+
+        // Spring Cache (Caffeine) cache'leri: postDetails, postCounters
+        cacheManager.getCacheNames().stream().sorted().forEach(name -> {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null && cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeine) {
+                com.github.benmanes.caffeine.cache.stats.CacheStats stats = caffeine.stats();
+                result.add(new CacheRegionStatsDto("spring:" + name,
+                        stats.hitCount(),
+                        stats.missCount(),
+                        stats.loadCount(),
+                        caffeine.estimatedSize()));
+            }
+        });
+        return result;
+    }
 
-        // En son kullanıcıyı sil
-        userRepository.delete(user);
+    private CacheRegionStatsDto toDto(String region, CacheRegionStatistics stats) {
+        // JCache eleman sayısını raporlamaz (Long.MIN_VALUE döner), -1 olarak göster
+        long elementCount = stats.getElementCountInMemory();
+        return new CacheRegionStatsDto(region,
+                stats.getHitCount(),
+                stats.getMissCount(),
+                stats.getPutCount(),
+                elementCount < 0 ? -1 : elementCount);
     }
 
 }
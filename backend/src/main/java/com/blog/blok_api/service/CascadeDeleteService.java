@@ -0,0 +1,259 @@
+package com.blog.blok_api.service;
+
+import com.blog.blok_api.repository.CommentRepository;
+import com.blog.blok_api.repository.FollowRepository;
+import com.blog.blok_api.repository.HomeTimelineRepository;
+import com.blog.blok_api.repository.LikeRepository;
+import com.blog.blok_api.repository.NotificationCounterRepository;
+import com.blog.blok_api.repository.NotificationRepository;
+import com.blog.blok_api.repository.PostRepository;
+import com.blog.blok_api.repository.PostSimilarityRepository;
+import com.blog.blok_api.repository.PostViewDailyRepository;
+import com.blog.blok_api.repository.PostViewRepository;
+import com.blog.blok_api.repository.PostViewSeenRepository;
+import com.blog.blok_api.repository.PostViewSketchRepository;
+import com.blog.blok_api.repository.SavedPostRepository;
+import com.blog.blok_api.repository.UserRepository;
+import com.blog.blok_api.repository.UserTagAffinityRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.IntSupplier;
+
+/**
+ * CascadeDeleteService - Kullanıcı silme ve silinmiş post temizliği için set tabanlı, parçalı toplu silme
+ *
+ * Türetilmiş deleteAllBy* metotları her satırı entity olarak yükleyip tek tek siler ve
+ * orphanRemoval koleksiyonlarını gezer; yoğun bir kullanıcıyı silmek dakikalar sürer ve
+ * kilitleri o süre boyunca tutar. Burada her adım native DELETE ile yapılır:
+ *
+ * 1. Yorum ağaçları (kullanıcının yorumları + postlarındaki yorumlar ve tüm cevapları):
+ *    ağaç seviye seviye gezilir, en derin seviyeden başlanarak like'ları ve yorumlar silinir
+ * 2. likes, post_views, saved_posts: kullanıcının kendi satırları ve postlarına ait satırlar
+ *    (+ kullanıcının post_view_seen kümeleri, postlarının post_view_daily özetleri)
+ * 3. notifications + notification_counters (+ kuyrukta bekleyen, henüz yazılmamış bildirimleri)
+ *    + postlarına ait başka kullanıcılara giden bildirimler (okunmamışlar alıcıların sayaçlarından düşülür)
+ * 4. follows (iki yön) + home_timelines satırı + user_tag_affinities
+ * 5. post_tags + post_view_sketches + post_similarities + posts
+ * 6. users
+ *
+ * purgePost aynı sırayı tek bir silinmiş (tombstone) post için uygular (PostPurgeJob);
+ * posta ait bildirimler de silinir, okunmamış olanlar alıcıların sayaçlarından düşülür.
+ *
+ * PERFORMANS: Her DELETE en fazla app.delete.batch-size satır siler ve kendi transaction'ında
+ * çalışır (repository metotları @Transactional); kilitler kısa tutulur, büyük undo/WAL oluşmaz.
+ * Ara adımda hata olursa kalan satırlar aynı çağrı tekrarlanarak silinebilir (her adım idempotent).
+ * İlerleme her adım sonunda INFO, her parçada DEBUG olarak loglanır.
+ */
+@Service
+public class CascadeDeleteService {
+
+    private static final Logger log = LoggerFactory.getLogger(CascadeDeleteService.class);
+
+    private final UserRepository userRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final LikeRepository likeRepository;
+    private final PostViewRepository postViewRepository;
+    private final PostViewSeenRepository postViewSeenRepository;
+    private final PostViewDailyRepository postViewDailyRepository;
+    private final PostViewSketchRepository postViewSketchRepository;
+    private final SavedPostRepository savedPostRepository;
+    private final NotificationRepository notificationRepository;
+    private final NotificationCounterRepository notificationCounterRepository;
+    private final NotificationBatchWriter notificationBatchWriter;
+    private final FollowRepository followRepository;
+    private final HomeTimelineRepository homeTimelineRepository;
+    private final UserTagAffinityRepository userTagAffinityRepository;
+    private final PostSimilarityRepository postSimilarityRepository;
+    private final int batchSize;
+
+    public CascadeDeleteService(UserRepository userRepository,
+                                PostRepository postRepository,
+                                CommentRepository commentRepository,
+                                LikeRepository likeRepository,
+                                PostViewRepository postViewRepository,
+                                PostViewSeenRepository postViewSeenRepository,
+                                PostViewDailyRepository postViewDailyRepository,
+                                PostViewSketchRepository postViewSketchRepository,
+                                SavedPostRepository savedPostRepository,
+                                NotificationRepository notificationRepository,
+                                NotificationCounterRepository notificationCounterRepository,
+                                NotificationBatchWriter notificationBatchWriter,
+                                FollowRepository followRepository,
+                                HomeTimelineRepository homeTimelineRepository,
+                                UserTagAffinityRepository userTagAffinityRepository,
+                                PostSimilarityRepository postSimilarityRepository,
+                                @Value("${app.delete.batch-size:1000}") int batchSize) {
+        this.userRepository = userRepository;
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.likeRepository = likeRepository;
+        this.postViewRepository = postViewRepository;
+        this.postViewSeenRepository = postViewSeenRepository;
+        this.postViewDailyRepository = postViewDailyRepository;
+        this.postViewSketchRepository = postViewSketchRepository;
+        this.savedPostRepository = savedPostRepository;
+        this.notificationRepository = notificationRepository;
+        this.notificationCounterRepository = notificationCounterRepository;
+        this.notificationBatchWriter = notificationBatchWriter;
+        this.followRepository = followRepository;
+        this.homeTimelineRepository = homeTimelineRepository;
+        this.userTagAffinityRepository = userTagAffinityRepository;
+        this.postSimilarityRepository = postSimilarityRepository;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Kullanıcıyı ve ona bağlı tüm satırları bağımlılık sırasıyla siler
+     * Dışarıdan transaction içinde çağrılmamalıdır (her parça ayrı commit edilir)
+     *
+     * @return silinen toplam satır sayısı
+     */
+    public long deleteUser(Long userId) {
+        long start = System.currentTimeMillis();
+        String target = "Kullanıcı " + userId;
+        long total = 0;
+
+        total += deleteCommentTrees(target, commentRepository.findIdsByAuthorIdOrPostAuthorId(userId));
+
+        total += deleteInBatches(target, "likes (kullanıcının)", () -> likeRepository.deleteBatchByUserId(userId, batchSize));
+        total += deleteInBatches(target, "likes (postlarına)", () -> likeRepository.deleteBatchByPostAuthorId(userId, batchSize));
+        total += deleteInBatches(target, "post_views (kullanıcının)", () -> postViewRepository.deleteBatchByUserId(userId, batchSize));
+        total += deleteInBatches(target, "post_views (postlarına)", () -> postViewRepository.deleteBatchByPostAuthorId(userId, batchSize));
+        total += postViewSeenRepository.deleteByUserId(userId);
+        total += deleteInBatches(target, "post_view_daily (postlarına)", () -> postViewDailyRepository.deleteBatchByPostAuthorId(userId, batchSize));
+        total += deleteInBatches(target, "saved_posts (kullanıcının)", () -> savedPostRepository.deleteBatchByUserId(userId, batchSize));
+        total += deleteInBatches(target, "saved_posts (postlarına)", () -> savedPostRepository.deleteBatchByPostAuthorId(userId, batchSize));
+        notificationBatchWriter.discardRecipient(userId);
+        total += deleteInBatches(target, "notifications", () -> notificationRepository.deleteBatchByUserId(userId, batchSize));
+        total += notificationCounterRepository.deleteByUserId(userId);
+        // Postlarına ait bildirimler: okunmamışlar silinmeden önce alıcıların sayaçlarından düşülür
+        for (Object[] row : notificationRepository.countUnreadByPostAuthorId(userId)) {
+            notificationCounterRepository.decrement(((Number) row[0]).longValue(), ((Number) row[1]).intValue());
+        }
+        total += deleteInBatches(target, "notifications (postlarına)", () -> notificationRepository.deleteBatchByPostAuthorId(userId, batchSize));
+        total += deleteInBatches(target, "follows (takip ettikleri)", () -> followRepository.deleteBatchByFollowerId(userId, batchSize));
+        total += deleteInBatches(target, "follows (takipçileri)", () -> followRepository.deleteBatchByFolloweeId(userId, batchSize));
+        total += homeTimelineRepository.deleteByUserId(userId);
+        total += userTagAffinityRepository.deleteByUserId(userId);
+
+        total += deleteInBatches(target, "posts", () -> {
+            List<Long> postIds = postRepository.findAllIdsByAuthorId(userId, batchSize);
+            if (postIds.isEmpty()) {
+                return 0;
+            }
+            postRepository.deletePostTagsByPostIds(postIds);
+            postViewSketchRepository.deleteByPostIds(postIds);
+            postSimilarityRepository.deleteByPostIdsOrRelated(postIds);
+            return postRepository.deleteByIds(postIds);
+        });
+
+        total += userRepository.deleteRowById(userId);
+
+        log.info("{} silindi: toplam {} satır, {} ms", target, total, System.currentTimeMillis() - start);
+        return total;
+    }
+
+    /**
+     * Silinmiş olarak işaretlenmiş (tombstone) postu ve bağlı satırlarını fiziksel olarak siler
+     *
+     * @return silinen toplam satır sayısı
+     */
+    public long purgePost(Long postId) {
+        long start = System.currentTimeMillis();
+        String target = "Post " + postId;
+        long total = 0;
+
+        total += deleteCommentTrees(target, commentRepository.findRootIdsByPostId(postId));
+        total += deleteInBatches(target, "likes", () -> likeRepository.deleteBatchByPostId(postId, batchSize));
+        total += deleteInBatches(target, "post_views", () -> postViewRepository.deleteBatchByPostId(postId, batchSize));
+        total += deleteInBatches(target, "post_view_daily", () -> postViewDailyRepository.deleteBatchByPostId(postId, batchSize));
+        total += deleteInBatches(target, "saved_posts", () -> savedPostRepository.deleteBatchByPostId(postId, batchSize));
+
+        // Bildirimler: okunmamışlar silinmeden önce alıcıların sayaçlarından düşülür
+        for (Object[] row : notificationRepository.countUnreadByPostId(postId)) {
+            notificationCounterRepository.decrement(((Number) row[0]).longValue(), ((Number) row[1]).intValue());
+        }
+        total += deleteInBatches(target, "notifications", () -> notificationRepository.deleteBatchByPostId(postId, batchSize));
+
+        List<Long> postIds = List.of(postId);
+        postRepository.deletePostTagsByPostIds(postIds);
+        total += postViewSketchRepository.deleteByPostIds(postIds);
+        total += postSimilarityRepository.deleteByPostIdsOrRelated(postIds);
+        total += postRepository.deleteByIds(postIds);
+
+        log.info("{} temizlendi: toplam {} satır, {} ms", target, total, System.currentTimeMillis() - start);
+        return total;
+    }
+
+    /**
+     * Kök yorumları ve tüm alt cevaplarını (ve like'larını) siler
+     * Ağaç seviye seviye gezilir; silme en derin seviyeden başlar, böylece parent_comment_id
+     * FK'si hiçbir anda ihlal edilmez. Bir kök başka bir kökün altındaysa birden fazla seviyede
+     * görünür; en derin görüldüğü yerde silinir, sonraki tekrarları atlanır.
+     */
+    private long deleteCommentTrees(String target, List<Long> rootIds) {
+        List<List<Long>> levels = new ArrayList<>();
+        List<Long> level = rootIds;
+        while (!level.isEmpty()) {
+            levels.add(level);
+            List<Long> next = new ArrayList<>();
+            for (List<Long> chunk : partition(level)) {
+                next.addAll(commentRepository.findIdsByParentIdIn(chunk));
+            }
+            level = next;
+        }
+
+        Set<Long> deletedIds = new HashSet<>();
+        long deleted = 0;
+        for (int depth = levels.size() - 1; depth >= 0; depth--) {
+            List<Long> remaining = levels.get(depth).stream()
+                    .filter(deletedIds::add)
+                    .toList();
+            for (List<Long> chunk : partition(remaining)) {
+                likeRepository.deleteByCommentIds(chunk);
+                deleted += commentRepository.deleteByIds(chunk);
+                log.debug("{} siliniyor - comments: {} satır", target, deleted);
+            }
+        }
+        if (deleted > 0) {
+            log.info("{} siliniyor - comments: {} satır ({} seviye)", target, deleted, levels.size());
+        }
+        return deleted;
+    }
+
+    /**
+     * Parça başına en fazla batchSize satır silen işlemi, tam dolu olmayan parça gelene kadar tekrarlar
+     */
+    private long deleteInBatches(String target, String step, IntSupplier batch) {
+        long total = 0;
+        int deleted;
+        do {
+            deleted = batch.getAsInt();
+            total += deleted;
+            if (deleted > 0) {
+                log.debug("{} siliniyor - {}: {} satır", target, step, total);
+            }
+        } while (deleted >= batchSize);
+
+        if (total > 0) {
+            log.info("{} siliniyor - {}: {} satır", target, step, total);
+        }
+        return total;
+    }
+
+    private List<List<Long>> partition(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i += batchSize) {
+            chunks.add(ids.subList(i, Math.min(i + batchSize, ids.size())));
+        }
+        return chunks;
+    }
+}
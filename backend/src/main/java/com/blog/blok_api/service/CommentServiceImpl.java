@@ -11,13 +11,19 @@ import com.blog.blok_api.repository.LikeRepository;
 import com.blog.blok_api.repository.PostRepository;
 import com.blog.blok_api.repository.UserRepository;
 import com.blog.blok_api.security.JwtUtil;
+import com.blog.blok_api.util.CountUtil;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,23 +33,30 @@ public class CommentServiceImpl implements CommentService {
     private final PostRepository postRepository;
     private final UserRepository userRepository;
     private final JwtUtil jwtUtil;
-    private final LikeService likeService;
     private final LikeRepository likeRepository;
     private final PostMapper postMapper;
+    private final PostDetailCacheService postDetailCacheService;
+    private final UserInteractionStateService userInteractionStateService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public CommentServiceImpl(CommentRepository commentRepository,
                               PostRepository postRepository,
                               UserRepository userRepository,
                               JwtUtil jwtUtil,
-                              LikeService likeService, LikeRepository likeRepository, PostMapper postMapper) {
+                              LikeRepository likeRepository, PostMapper postMapper,
+                              PostDetailCacheService postDetailCacheService,
+                              UserInteractionStateService userInteractionStateService,
+                              ApplicationEventPublisher eventPublisher) {
         this.commentRepository = commentRepository;
         this.postRepository = postRepository;
         this.userRepository = userRepository;
         this.jwtUtil = jwtUtil;
-        this.likeService = likeService;
         this.likeRepository = likeRepository;
         this.postMapper = postMapper;
+        this.postDetailCacheService = postDetailCacheService;
+        this.userInteractionStateService = userInteractionStateService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -69,35 +82,65 @@ public class CommentServiceImpl implements CommentService {
         }
 
         Comment saved = commentRepository.save(comment);
-        return toDto(saved, author);
+        postDetailCacheService.evictCounters(post.getId());
+        postRepository.incrementStatsVersion(post.getId());
+        eventPublisher.publishEvent(new PostCountersChangedEvent(post.getId()));
+
+        // Üst yoruma cevapsa yorum sahibine REPLY, değilse post sahibine COMMENT (toplu yazılır)
+        Comment parent = saved.getParentComment();
+        eventPublisher.publishEvent(parent != null
+                ? new NotificationEvent(parent.getAuthor().getId(), Notification.TYPE_REPLY,
+                        post.getId(), parent.getId(), author.getId(), author.getUsername())
+                : new NotificationEvent(post.getAuthor().getId(), Notification.TYPE_COMMENT,
+                        post.getId(), null, author.getId(), author.getUsername()));
+        // Yeni yorum: beğeni ve cevap yok
+        return toDto(saved, Map.of(), Set.of(), Map.of());
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<CommentResponseDto> getCommentsByPostId(Long postId, String token) throws Exception {
-        Post post = postRepository.findById(postId)
+        postRepository.findById(postId)
                 .orElseThrow(() -> new Exception("Post bulunamadı"));
 
-        Optional<User> currentUserOptional;
+        Long currentUserId;
         try {
-            Long userId = jwtUtil.extractUserId(token);
-            currentUserOptional = userRepository.findById(userId);
+            currentUserId = jwtUtil.extractUserId(token);
         } catch (Exception ignored) {
-            currentUserOptional = Optional.empty();
+            currentUserId = null;
         }
-        final User currentUser = currentUserOptional.orElse(null);
 
-        List<Comment> topLevelComments = commentRepository.findByPostAndIsDeletedFalse(post).stream()
-                .filter(c -> c.getParentComment() == null)
-                .collect(Collectors.toList());
+        // Tüm ağaç tek sorguda; sayaçlar ve beğeni bayrakları yorum başına değil, toplu sorgularla
+        List<Comment> comments = commentRepository.findActiveByPostIdWithAuthor(postId);
+        if (comments.isEmpty()) {
+            return List.of();
+        }
+        List<Long> commentIds = comments.stream().map(Comment::getId).toList();
+        Map<Long, Integer> likeCounts = CountUtil.toCountMap(likeRepository.countLikesByCommentIds(commentIds));
+        Set<Long> likedCommentIds = currentUserId != null
+                ? new HashSet<>(likeRepository.findLikedCommentIdsByUserIdAndCommentIds(currentUserId, commentIds))
+                : Set.of();
+
+        List<Comment> topLevelComments = new ArrayList<>();
+        Map<Long, List<Comment>> repliesByParentId = new HashMap<>();
+        for (Comment comment : comments) {
+            if (comment.getParentComment() == null) {
+                topLevelComments.add(comment);
+            } else {
+                repliesByParentId.computeIfAbsent(comment.getParentComment().getId(), id -> new ArrayList<>()).add(comment);
+            }
+        }
 
         return topLevelComments.stream()
-                .map(c -> toDto(c, currentUser))
+                .map(c -> toDto(c, likeCounts, likedCommentIds, repliesByParentId))
                 .collect(Collectors.toList());
     }
 
-
-    private CommentResponseDto toDto(Comment comment, User currentUser) {
+    /**
+     * Yorum ve (silinmemiş) cevapları - sayaçlar ve cevaplar önceden yüklenmiş map'lerden
+     */
+    private CommentResponseDto toDto(Comment comment, Map<Long, Integer> likeCounts, Set<Long> likedCommentIds,
+                                     Map<Long, List<Comment>> repliesByParentId) {
         CommentResponseDto dto = new CommentResponseDto();
         dto.setId(comment.getId());
         dto.setContent(comment.getContent());
@@ -111,15 +154,12 @@ public class CommentServiceImpl implements CommentService {
         author.setProfileImgUrl(comment.getAuthor().getProfileImgUrl());
         dto.setAuthor(author);
 
-        dto.setLikeCount(likeService.countByComment(comment).intValue());
-        dto.setLikedByCurrentUser(currentUser != null && likeService.hasUserLikedComment(currentUser, comment));
+        dto.setLikeCount(likeCounts.getOrDefault(comment.getId(), 0));
+        dto.setLikedByCurrentUser(likedCommentIds.contains(comment.getId()));
 
-        List<CommentResponseDto> replies = comment.getReplies() != null
-                ? comment.getReplies().stream()
-                .filter(r -> !r.isDeleted())
-                .map(reply -> toDto(reply, currentUser))
-                .collect(Collectors.toList())
-                : List.of();
+        List<CommentResponseDto> replies = repliesByParentId.getOrDefault(comment.getId(), List.of()).stream()
+                .map(reply -> toDto(reply, likeCounts, likedCommentIds, repliesByParentId))
+                .collect(Collectors.toList());
 
         dto.setReplies(replies);
         return dto;
@@ -136,19 +176,39 @@ public class CommentServiceImpl implements CommentService {
 
         // 2. Yorumu sil
         commentRepository.delete(comment);
+
+        // 3. Post'un yorum sayacı değişti (evict commit sonrası uygulanır)
+        postDetailCacheService.evictCounters(comment.getPost().getId());
+        postRepository.incrementStatsVersion(comment.getPost().getId());
+        eventPublisher.publishEvent(new PostCountersChangedEvent(comment.getPost().getId()));
     }
 
+    /**
+     * Kullanıcının yorum yaptığı postlar - LikeServiceImpl.getPostsLikedByUser ile aynı yol:
+     * ID'ler, EntityGraph ile postlar, toplu sayaç sorguları
+     */
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public List<PostResponseDto> getPostsUserCommentedOn(Long userId) {
-        List<Post> posts = commentRepository.findDistinctPostsByAuthorId(userId);
-        User currentUser = userRepository.findById(userId).orElse(null);
-        return posts.stream()
+        List<Long> postIds = commentRepository.findCommentedPostIdsByAuthorId(userId);
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Post> postMap = postRepository.findByIdsWithRelations(postIds).stream()
+                .collect(Collectors.toMap(Post::getId, post -> post, (p1, p2) -> p1));
+        Map<Long, Integer> likeCounts = CountUtil.toCountMap(postRepository.countLikesByPostIds(postIds));
+        Map<Long, Integer> commentCounts = CountUtil.toCountMap(postRepository.countActiveCommentsByPostIds(postIds));
+        Set<Long> likedPostIds = userInteractionStateService.likedAmong(userId, postIds);
+
+        return postIds.stream()
+                .map(postMap::get)
+                .filter(post -> post != null)
                 .map(post -> {
                     PostResponseDto dto = postMapper.toDto(post);
-                    dto.setLikeCount(likeService.countByPost(post).intValue());
-                    dto.setLikedByCurrentUser(currentUser != null && likeService.hasUserLikedPost(currentUser, post));
-                    dto.setCommentCount(post.getComments() != null ? (int) post.getComments().stream().filter(c -> !c.isDeleted()).count() : 0);
+                    dto.setLikeCount(likeCounts.getOrDefault(post.getId(), 0));
+                    dto.setLikedByCurrentUser(likedPostIds.contains(post.getId()));
+                    dto.setCommentCount(commentCounts.getOrDefault(post.getId(), 0));
                     return dto;
                 })
                 .collect(Collectors.toList());
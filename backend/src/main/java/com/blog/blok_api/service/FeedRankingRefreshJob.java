@@ -0,0 +1,35 @@
+package com.blog.blok_api.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * FeedRankingRefreshJob - Kişisel sıralamanın post penceresini (FeedRankingService) periyodik yeniler
+ * Başarısız yenilemede önceki pencere kullanılmaya devam eder.
+ */
+@Component
+@ConditionalOnProperty(name = "app.feed.ranking.enabled", havingValue = "true", matchIfMissing = true)
+public class FeedRankingRefreshJob {
+
+    private static final Logger log = LoggerFactory.getLogger(FeedRankingRefreshJob.class);
+
+    private final FeedRankingService feedRankingService;
+
+    public FeedRankingRefreshJob(FeedRankingService feedRankingService) {
+        this.feedRankingService = feedRankingService;
+    }
+
+    @Scheduled(fixedDelayString = "${app.feed.ranking.refresh-interval-ms:60000}",
+               initialDelayString = "${app.feed.ranking.refresh-interval-ms:60000}")
+    public void run() {
+        try {
+            feedRankingService.refresh();
+        } catch (DataAccessException e) {
+            log.warn("Sıralama penceresi yenilenemedi, önceki pencere kullanılıyor: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,324 @@
+package com.blog.blok_api.service;
+
+import com.blog.blok_api.repository.PostRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * FeedRankingService - Kişisel akış sıralaması (GET /api/posts/for-you)
+ *
+ * Pencere: en yeni window-size yayınlanmış post, etkileşim sayıları ve tag'leriyle iki sorguda okunup
+ * primitive dizilere (Snapshot) yazılır; FeedRankingRefreshJob periyodik yeniler. İstek yolunda sorgu yok.
+ *
+ * 1. Adaylar (en fazla max-candidates):
+ *    - trend: pencerede etkileşim puanı en yüksek trending-candidates post
+ *    - yeni: en yeni recent-candidates post
+ *    - ilgi: kullanıcının en güçlü tag'lerini taşıyan postlar (tag -> post index'i), kalan kapasite kadar
+ * 2. Puan: (1 + ln(1 + etkileşim) + affinity-weight * tag ilgisi) * 2^(-yaş / half-life-hours)
+ *    - etkileşim: findTopTrendingPostIds ile aynı ağırlıklar (beğeni * 5 + yorum * 10 + kaydetme * 15 + görüntülenme * 3)
+ *    - tag ilgisi: postun tag'lerinin kullanıcı vektöründeki [0, 1] ağırlıkları toplamı (TagAffinityService)
+ * 3. Sıralama: puan ve index tek long anahtarda birleştirilip Arrays.sort ile sıralanır (kutulama yok)
+ *
+ * Bütçe: puanlama budget-ms'yi aşarsa kalan adaylar puansız (yeniden eskiye) sona eklenir ve
+ * blok.feed.ranking.budget.exceeded artar. Toplam süre blok.feed.ranking timer'ında izlenir.
+ *
+ * Pencere yenilenene kadar (refresh-interval-ms) yeni postlar ve sayaç değişiklikleri sıralamaya yansımaz.
+ * Yenileme sürerken istekler eski pencereyle devam eder; sadece ilk yüklemeden önce gelen istekler bekler
+ * (ReentrantLock: synchronized'ın aksine JDBC sırasında virtual thread'i carrier'a sabitlemez).
+ */
+@Service
+public class FeedRankingService {
+
+    private static final double LN2 = Math.log(2);
+
+    private final PostRepository postRepository;
+    private final TagAffinityService tagAffinityService;
+    private final int windowSize;
+    private final int maxCandidates;
+    private final int recentCandidates;
+    private final int trendingCandidates;
+    private final double affinityWeight;
+    private final double halfLifeHours;
+    private final long budgetNanos;
+    private final Timer rankTimer;
+    private final Counter budgetExceeded;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile Snapshot snapshot;
+
+    public FeedRankingService(PostRepository postRepository,
+                              TagAffinityService tagAffinityService,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.feed.ranking.window-size:5000}") int windowSize,
+                              @Value("${app.feed.ranking.max-candidates:500}") int maxCandidates,
+                              @Value("${app.feed.ranking.recent-candidates:200}") int recentCandidates,
+                              @Value("${app.feed.ranking.trending-candidates:150}") int trendingCandidates,
+                              @Value("${app.feed.ranking.affinity-weight:2.0}") double affinityWeight,
+                              @Value("${app.feed.ranking.half-life-hours:24}") double halfLifeHours,
+                              @Value("${app.feed.ranking.budget-ms:20}") long budgetMs) {
+        this.postRepository = postRepository;
+        this.tagAffinityService = tagAffinityService;
+        this.windowSize = windowSize;
+        this.maxCandidates = maxCandidates;
+        this.recentCandidates = recentCandidates;
+        this.trendingCandidates = trendingCandidates;
+        this.affinityWeight = affinityWeight;
+        this.halfLifeHours = halfLifeHours;
+        this.budgetNanos = TimeUnit.MILLISECONDS.toNanos(budgetMs);
+        this.rankTimer = Timer.builder("blok.feed.ranking")
+                .description("Kişisel akış aday üretimi + puanlama + sıralama süresi")
+                .register(meterRegistry);
+        this.budgetExceeded = Counter.builder("blok.feed.ranking.budget.exceeded")
+                .description("Puanlaması bütçeyi aşıp kısmi sıralanan istekler")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Kullanıcıya göre sıralanmış post ID'leri
+     *
+     * @param userId anonim için 0 (tag ilgisi kullanılmaz)
+     */
+    public List<Long> rank(long userId, int page, int size) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            current = initialSnapshot();
+        }
+        TagAffinityService.TagVector vector = tagAffinityService.vector(userId);
+
+        long start = System.nanoTime();
+        int[] candidates = candidates(current, vector);
+        long[] keys = score(current, vector, candidates, start + budgetNanos);
+        Arrays.sort(keys);
+
+        List<Long> postIds = new ArrayList<>(size);
+        for (int k = keys.length - 1 - page * size; k >= 0 && postIds.size() < size; k--) {
+            postIds.add(current.postIds[Integer.MAX_VALUE - (int) keys[k]]);
+        }
+        rankTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return postIds;
+    }
+
+    /**
+     * Pencereyi yeniden okur; başka bir yenileme sürüyorsa atlanır
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void refresh() {
+        if (!refreshLock.tryLock()) {
+            return;
+        }
+        try {
+            snapshot = load();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private Snapshot initialSnapshot() {
+        refreshLock.lock();
+        try {
+            if (snapshot == null) {
+                snapshot = load();
+            }
+            return snapshot;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private Snapshot load() {
+        List<Object[]> features = postRepository.findRankingFeatures(windowSize);
+        List<Object[]> tagRows = postRepository.findRankingTags(windowSize);
+        return Snapshot.build(features, tagRows);
+    }
+
+    private int[] candidates(Snapshot current, TagAffinityService.TagVector vector) {
+        int n = current.postIds.length;
+        int limit = Math.min(maxCandidates, n);
+        int[] candidates = new int[limit];
+        BitSet seen = new BitSet(n);
+        int count = 0;
+
+        for (int t = 0; t < Math.min(trendingCandidates, n) && count < limit; t++) {
+            int index = current.trendingOrder[t];
+            if (!seen.get(index)) {
+                seen.set(index);
+                candidates[count++] = index;
+            }
+        }
+        for (int index = 0; index < Math.min(recentCandidates, n) && count < limit; index++) {
+            if (!seen.get(index)) {
+                seen.set(index);
+                candidates[count++] = index;
+            }
+        }
+        // En güçlü tag'den başlayarak, her tag'in postları yeniden eskiye
+        for (int t = 0; t < vector.size() && count < limit; t++) {
+            int[] indexes = current.postsByTag.get(vector.tagAt(t));
+            if (indexes == null) {
+                continue;
+            }
+            for (int i = 0; i < indexes.length && count < limit; i++) {
+                if (!seen.get(indexes[i])) {
+                    seen.set(indexes[i]);
+                    candidates[count++] = indexes[i];
+                }
+            }
+        }
+        return count == limit ? candidates : Arrays.copyOf(candidates, count);
+    }
+
+    /**
+     * Anahtar: üst 32 bit puan (negatif olmayan float'ın bitleri puan sırasını korur), alt 32 bit
+     * (Integer.MAX_VALUE - index): eşit puanda daha yeni post önce. Puanlanamayan adayın puanı 0.
+     */
+    private long[] score(Snapshot current, TagAffinityService.TagVector vector, int[] candidates, long deadline) {
+        long now = System.currentTimeMillis() / 1000;
+        long[] keys = new long[candidates.length];
+        boolean scoring = true;
+        for (int c = 0; c < candidates.length; c++) {
+            int index = candidates[c];
+            if (scoring && (c & 31) == 0 && System.nanoTime() > deadline) {
+                scoring = false;
+                budgetExceeded.increment();
+            }
+            float score = 0f;
+            if (scoring) {
+                double affinity = 0;
+                if (!vector.isEmpty()) {
+                    for (int t = current.tagStart[index]; t < current.tagStart[index + 1]; t++) {
+                        affinity += vector.weight(current.tags[t]);
+                    }
+                }
+                double ageHours = Math.max(0, now - current.createdAt[index]) / 3600.0;
+                double decay = Math.exp(-LN2 * ageHours / halfLifeHours);
+                score = (float) ((1 + current.engagement[index] + affinityWeight * affinity) * decay);
+            }
+            keys[c] = ((long) Float.floatToIntBits(score) << 32) | (Integer.MAX_VALUE - index);
+        }
+        return keys;
+    }
+
+    /**
+     * Değişmez sıralama penceresi - index 0 en yeni post
+     */
+    static final class Snapshot {
+        final long[] postIds;
+        final long[] createdAt;
+        final float[] engagement;
+        /** Postun tag'leri: tags[tagStart[i] .. tagStart[i + 1]) */
+        final int[] tagStart;
+        final long[] tags;
+        /** Etkileşim puanına göre azalan index'ler */
+        final int[] trendingOrder;
+        /** tag -> o tag'i taşıyan post index'leri (artan = yeniden eskiye) */
+        final Map<Long, int[]> postsByTag;
+
+        private Snapshot(long[] postIds, long[] createdAt, float[] engagement, int[] tagStart, long[] tags,
+                         int[] trendingOrder, Map<Long, int[]> postsByTag) {
+            this.postIds = postIds;
+            this.createdAt = createdAt;
+            this.engagement = engagement;
+            this.tagStart = tagStart;
+            this.tags = tags;
+            this.trendingOrder = trendingOrder;
+            this.postsByTag = postsByTag;
+        }
+
+        /**
+         * @param features [id, created_at, views_count, likeCount, commentCount, savedCount], en yeni önce
+         * @param tagRows  [post_id, tag_id]
+         */
+        static Snapshot build(List<Object[]> features, List<Object[]> tagRows) {
+            int n = features.size();
+            long[] postIds = new long[n];
+            long[] createdAt = new long[n];
+            float[] engagement = new float[n];
+            Map<Long, Integer> indexById = new HashMap<>(n * 2);
+            for (int i = 0; i < n; i++) {
+                Object[] row = features.get(i);
+                postIds[i] = ((Number) row[0]).longValue();
+                createdAt[i] = toEpochSeconds(row[1]);
+                // findTopTrendingPostIds ile aynı ağırlıklar
+                double raw = ((Number) row[3]).doubleValue() * 5
+                        + ((Number) row[4]).doubleValue() * 10
+                        + ((Number) row[5]).doubleValue() * 15
+                        + ((Number) row[2]).doubleValue() * 3;
+                engagement[i] = (float) Math.log1p(raw);
+                indexById.put(postIds[i], i);
+            }
+
+            // CSR: önce post başına tag sayısı, sonra yerleştirme
+            int[] postOf = new int[tagRows.size()];
+            int[] tagStart = new int[n + 1];
+            for (int r = 0; r < tagRows.size(); r++) {
+                Integer index = indexById.get(((Number) tagRows.get(r)[0]).longValue());
+                postOf[r] = index != null ? index : -1;
+                if (index != null) {
+                    tagStart[index + 1]++;
+                }
+            }
+            for (int i = 0; i < n; i++) {
+                tagStart[i + 1] += tagStart[i];
+            }
+            long[] tags = new long[tagStart[n]];
+            int[] fill = Arrays.copyOf(tagStart, n);
+            Map<Long, Integer> tagCounts = new HashMap<>();
+            for (int r = 0; r < tagRows.size(); r++) {
+                if (postOf[r] >= 0) {
+                    long tagId = ((Number) tagRows.get(r)[1]).longValue();
+                    tags[fill[postOf[r]]++] = tagId;
+                    tagCounts.merge(tagId, 1, Integer::sum);
+                }
+            }
+
+            Map<Long, int[]> postsByTag = new HashMap<>(tagCounts.size() * 2);
+            Map<Long, Integer> tagFill = new HashMap<>(tagCounts.size() * 2);
+            tagCounts.forEach((tagId, count) -> {
+                postsByTag.put(tagId, new int[count]);
+                tagFill.put(tagId, 0);
+            });
+            for (int i = 0; i < n; i++) {
+                for (int t = tagStart[i]; t < tagStart[i + 1]; t++) {
+                    int position = tagFill.merge(tags[t], 1, Integer::sum) - 1;
+                    postsByTag.get(tags[t])[position] = i;
+                }
+            }
+
+            // Etkileşime göre azalan, eşitlikte yeni önce: anahtar sıralaması (puan bitleri | ters index)
+            long[] keys = new long[n];
+            for (int i = 0; i < n; i++) {
+                keys[i] = ((long) Float.floatToIntBits(engagement[i]) << 32) | (Integer.MAX_VALUE - i);
+            }
+            Arrays.sort(keys);
+            int[] trendingOrder = new int[n];
+            for (int k = 0; k < n; k++) {
+                trendingOrder[k] = Integer.MAX_VALUE - (int) keys[n - 1 - k];
+            }
+            return new Snapshot(postIds, createdAt, engagement, tagStart, tags, trendingOrder, postsByTag);
+        }
+
+        private static long toEpochSeconds(Object value) {
+            LocalDateTime dateTime = value instanceof Timestamp timestamp
+                    ? timestamp.toLocalDateTime()
+                    : (LocalDateTime) value;
+            return dateTime != null ? dateTime.atZone(ZoneId.systemDefault()).toEpochSecond() : 0;
+        }
+    }
+}
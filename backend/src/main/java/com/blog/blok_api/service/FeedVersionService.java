@@ -0,0 +1,105 @@
+package com.blog.blok_api.service;
+
+import com.blog.blok_api.repository.PostRepository;
+import com.blog.blok_api.util.TransactionUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * FeedVersionService - Feed ETag'lerinin (GET /api/posts, /api/posts/top-liked) sürümü
+ *
+ * Her feed isteğinde tüm posts tablosunu gezen aggregate yerine bellekte bir sayaç tutulur:
+ * post oluşturma / silme, like, yorum, kaydetme, görüntülenme ve yazar profili değişiklikleri
+ * commit sonrası sayacı artırır (PostDetailCacheService evict'leri ve createPost üzerinden).
+ * 304 yanıtı veritabanına hiç gitmez.
+ *
+ * Başka instance'lardaki yazmalar bu sayacı artırmaz; bunun için veritabanı parmak izi
+ * (findPublishedFeedValidators) en fazla fingerprint-refresh-ms'de bir yeniden okunur ve ETag'e eklenir.
+ * Başka instance'ın yazması en geç bu süre sonra ETag'e yansır.
+ *
+ * Yenilemeyi tek bir istek yapar (tryLock); o sırada gelen feed istekleri beklemeden eski parmak izini
+ * kullanır. Sadece ilk okumada istekler bekler - ReentrantLock, synchronized'ın aksine JDBC sırasında
+ * virtual thread'i carrier'a sabitlemez.
+ */
+@Service
+public class FeedVersionService {
+
+    private final PostRepository postRepository;
+    private final long fingerprintRefreshMs;
+    private final AtomicLong version = new AtomicLong();
+    /** Yeniden başlatmadan önce verilmiş ETag'ler yeni sayaçla çakışmasın */
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile String fingerprint;
+    private volatile long fingerprintReadAt;
+
+    public FeedVersionService(PostRepository postRepository,
+                              @Value("${app.feed.etag.fingerprint-refresh-ms:5000}") long fingerprintRefreshMs) {
+        this.postRepository = postRepository;
+        this.fingerprintRefreshMs = fingerprintRefreshMs;
+    }
+
+    /**
+     * Feed'de görünen bir şey değişti - sayaç commit sonrası artar
+     * (commit'ten önce artsaydı eşzamanlı okuma eski veriyi yeni ETag ile cache'leyebilirdi)
+     */
+    public void changed() {
+        TransactionUtil.afterCommit(version::incrementAndGet);
+    }
+
+    /**
+     * Güncel feed sürümü: "{epoch}.{sayaç}.{parmak izi}"
+     */
+    public String current() {
+        return epoch + "." + version.get() + "." + fingerprint();
+    }
+
+    private String fingerprint() {
+        String current = fingerprint;
+        if (current != null) {
+            if (expired() && refreshLock.tryLock()) {
+                try {
+                    if (expired()) {
+                        current = readFingerprint();
+                    }
+                } finally {
+                    refreshLock.unlock();
+                }
+            }
+            return current;
+        }
+        refreshLock.lock();
+        try {
+            return fingerprint != null ? fingerprint : readFingerprint();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private boolean expired() {
+        return System.currentTimeMillis() - fingerprintReadAt >= fingerprintRefreshMs;
+    }
+
+    private String readFingerprint() {
+        long now = System.currentTimeMillis();
+        Object[] row = postRepository.findPublishedFeedValidators().get(0);
+        String value = row[0]
+                + "-" + (row[1] != null ? row[1] : 0)
+                + "-" + (row[2] != null ? row[2] : 0)
+                + "-" + (row[3] != null ? row[3] : 0)
+                + "-" + toStamp((LocalDateTime) row[4]);
+        fingerprintReadAt = now;
+        fingerprint = value;
+        return value;
+    }
+
+    private static String toStamp(LocalDateTime dateTime) {
+        return dateTime != null ? Long.toString(dateTime.toInstant(ZoneOffset.UTC).toEpochMilli(), 36) : "0";
+    }
+}
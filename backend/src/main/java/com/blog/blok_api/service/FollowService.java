@@ -0,0 +1,9 @@
+package com.blog.blok_api.service;
+
+import com.blog.blok_api.dto.FollowStatsDto;
+
+public interface FollowService {
+    boolean follow(String token, Long userId) throws Exception;
+    boolean unfollow(String token, Long userId) throws Exception;
+    FollowStatsDto getFollowStats(Long userId, String token) throws Exception;
+}
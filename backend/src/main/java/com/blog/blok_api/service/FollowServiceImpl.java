@@ -0,0 +1,95 @@
+package com.blog.blok_api.service;
+
+import com.blog.blok_api.dto.FollowStatsDto;
+import com.blog.blok_api.model.Follow;
+import com.blog.blok_api.model.Notification;
+import com.blog.blok_api.model.User;
+import com.blog.blok_api.repository.FollowRepository;
+import com.blog.blok_api.repository.UserRepository;
+import com.blog.blok_api.security.JwtUtil;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * FollowServiceImpl - Takip / takipten çıkma
+ * Takip değişince kullanıcının ana sayfa akışı silinir, sonraki okumada yeni takip listesiyle kurulur.
+ */
+@Service
+public class FollowServiceImpl implements FollowService {
+
+    private final FollowRepository followRepository;
+    private final UserRepository userRepository;
+    private final JwtUtil jwtUtil;
+    private final TimelineService timelineService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public FollowServiceImpl(FollowRepository followRepository,
+                             UserRepository userRepository,
+                             JwtUtil jwtUtil,
+                             TimelineService timelineService,
+                             ApplicationEventPublisher eventPublisher) {
+        this.followRepository = followRepository;
+        this.userRepository = userRepository;
+        this.jwtUtil = jwtUtil;
+        this.timelineService = timelineService;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * @return true: yeni takip, false: zaten takip ediliyordu
+     */
+    @Override
+    @Transactional
+    public boolean follow(String token, Long userId) throws Exception {
+        Long followerId = jwtUtil.extractUserId(token);
+        if (followerId.equals(userId)) {
+            throw new Exception("Kullanıcı kendini takip edemez.");
+        }
+        if (!userRepository.existsById(userId)) {
+            throw new Exception("Kullanıcı bulunamadı.");
+        }
+        if (followRepository.existsByFollowerIdAndFolloweeId(followerId, userId)) {
+            return false;
+        }
+        User follower = userRepository.findById(followerId)
+                .orElseThrow(() -> new Exception("Kullanıcı bulunamadı."));
+
+        followRepository.save(new Follow(followerId, userId, LocalDateTime.now()));
+        timelineService.invalidate(followerId);
+        eventPublisher.publishEvent(new NotificationEvent(userId, Notification.TYPE_FOLLOW,
+                null, null, followerId, follower.getUsername()));
+        return true;
+    }
+
+    /**
+     * @return true: takipten çıkıldı, false: zaten takip edilmiyordu
+     */
+    @Override
+    @Transactional
+    public boolean unfollow(String token, Long userId) throws Exception {
+        Long followerId = jwtUtil.extractUserId(token);
+        if (followRepository.deleteFollow(followerId, userId) == 0) {
+            return false;
+        }
+        timelineService.invalidate(followerId);
+        return true;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public FollowStatsDto getFollowStats(Long userId, String token) throws Exception {
+        if (!userRepository.existsById(userId)) {
+            throw new Exception("Kullanıcı bulunamadı.");
+        }
+        boolean followedByMe = false;
+        if (token != null) {
+            Long currentUserId = jwtUtil.extractUserId(token);
+            followedByMe = followRepository.existsByFollowerIdAndFolloweeId(currentUserId, userId);
+        }
+        return new FollowStatsDto(followRepository.countByFolloweeId(userId),
+                followRepository.countByFollowerId(userId), followedByMe);
+    }
+}
@@ -0,0 +1,15 @@
+package com.blog.blok_api.service;
+
+import com.blog.blok_api.dto.HomeBundleDto;
+
+public interface HomeService {
+
+    /**
+     * Ana sayfa bölümleri (profil, akış, trend postlar, tag'ler, etkileşim durumu) tek yanıtta
+     * Bölümler paralel yüklenir; süresinde yüklenemeyen bölüm eksik döner
+     *
+     * @param token JWT token (opsiyonel)
+     * @param feedSize akışın ilk sayfasındaki post sayısı
+     */
+    HomeBundleDto getHome(String token, int feedSize);
+}
@@ -0,0 +1,224 @@
+package com.blog.blok_api.service;
+
+import com.blog.blok_api.dto.HomeBundleDto;
+import com.blog.blok_api.dto.InteractionStateRequestDto;
+import com.blog.blok_api.dto.PostResponseDto;
+import com.blog.blok_api.repository.UserRepository;
+import com.blog.blok_api.security.JwtUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.task.DelegatingSecurityContextAsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * HomeServiceImpl - Ana sayfa paketi (GET /api/home)
+ *
+ * İstemcinin açılışta attığı ayrı istekler (akış, /api/posts/top-liked, /api/posts/tags, profil,
+ * /api/interactions/state) sunucuda birleştirilir:
+ * - Kullanıcı bir kez çözülür: JWT tek seferde doğrulanır, kullanıcı satırı tek PK okumasıyla yüklenir
+ *   (sadece profil bölümü kullanır). Geçersiz token anonim istek sayılır. Bölümlere token değil çözülmüş
+ *   userId iletilir (userId alan servis metotları), token bölümlerde yeniden parse edilmez.
+ * - Bağımsız bölümler (profil, akış, trend postlar, tag'ler) sınırlı bir havuzda paralel yüklenir.
+ *   Etkileşim durumu akış ve trend postlar bitince, ekrana gelecek post ID'leriyle yüklenir.
+ * - Her bölümün kendi süresi vardır (section-timeout-ms). Süresinde bitmeyen, hata veren veya havuz dolu
+ *   olduğu için reddedilen bölüm null döner ve adı missingSections'a yazılır; diğer bölümler yine döner.
+ *   Süresi dolan bölümün işi arka planda tamamlanır, sonucu atılır.
+ *
+ * En kötü yanıt süresi yaklaşık iki bölüm süresidir (akış + etkileşim durumu).
+ * Bölüm süreleri blok.home.section timer'ında (section, outcome etiketleri) izlenir.
+ */
+@Service
+public class HomeServiceImpl implements HomeService {
+
+    private static final Logger log = LoggerFactory.getLogger(HomeServiceImpl.class);
+
+    static final String PROFILE = "profile";
+    static final String FEED = "feed";
+    static final String TOP_LIKED = "topLiked";
+    static final String TAGS = "tags";
+    static final String INTERACTION_STATE = "interactionState";
+
+    private final UserService userService;
+    private final PostService postService;
+    private final InteractionService interactionService;
+    private final UserRepository userRepository;
+    private final JwtUtil jwtUtil;
+    private final MeterRegistry meterRegistry;
+    private final AsyncTaskExecutor sectionExecutor;
+    private final AsyncTaskExecutor executor;
+    private final long sectionTimeoutMs;
+
+    public HomeServiceImpl(UserService userService,
+                           PostService postService,
+                           InteractionService interactionService,
+                           UserRepository userRepository,
+                           JwtUtil jwtUtil,
+                           MeterRegistry meterRegistry,
+                           @Value("${app.home.threads:16}") int threads,
+                           @Value("${app.home.queue-capacity:256}") int queueCapacity,
+                           @Value("${app.home.section-timeout-ms:500}") long sectionTimeoutMs,
+                           @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.userService = userService;
+        this.postService = postService;
+        this.interactionService = interactionService;
+        this.userRepository = userRepository;
+        this.jwtUtil = jwtUtil;
+        this.meterRegistry = meterRegistry;
+        this.sectionTimeoutMs = sectionTimeoutMs;
+        this.sectionExecutor = sectionExecutor(threads, queueCapacity, virtualThreads);
+        // Bölümler isteğin SecurityContext'iyle çalışır (ör. yazan kullanıcının okumaları primary'den)
+        this.executor = new DelegatingSecurityContextAsyncTaskExecutor(sectionExecutor);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (sectionExecutor instanceof ThreadPoolTaskExecutor pool) {
+            pool.shutdown();
+        }
+    }
+
+    @Override
+    public HomeBundleDto getHome(String token, int feedSize) {
+        Long userId = resolveUserId(token);
+
+        CompletableFuture<?> profile = userId != null
+                ? section(PROFILE, () -> userRepository.findById(userId).map(userService::getProfile).orElse(null))
+                : CompletableFuture.completedFuture(null);
+        CompletableFuture<List<PostResponseDto>> feed =
+                section(FEED, () -> postService.getRankedFeed(userId, 0, feedSize));
+        CompletableFuture<List<PostResponseDto>> topLiked =
+                section(TOP_LIKED, () -> postService.getTop5MostLikedPosts(userId));
+        CompletableFuture<?> tags = section(TAGS, postService::getAllTags);
+
+        // Etkileşim durumu ekrandaki postlara bağlı: akış ve trend postlar bitince (veya süreleri dolunca)
+        CompletableFuture<?> interactionState = CompletableFuture.allOf(feed, topLiked)
+                .handle((ignored, error) -> postIds(feed, topLiked))
+                .thenCompose(postIds -> postIds.isEmpty()
+                        ? CompletableFuture.completedFuture(null)
+                        : section(INTERACTION_STATE, () -> interactionService.getState(
+                                userId, new InteractionStateRequestDto(postIds, List.of()))));
+
+        HomeBundleDto bundle = new HomeBundleDto();
+        bundle.setProfile(join(PROFILE, profile, bundle));
+        bundle.setFeed(join(FEED, feed, bundle));
+        bundle.setTopLiked(join(TOP_LIKED, topLiked, bundle));
+        bundle.setTags(join(TAGS, tags, bundle));
+        bundle.setInteractionState(join(INTERACTION_STATE, interactionState, bundle));
+        return bundle;
+    }
+
+    private Long resolveUserId(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            return jwtUtil.extractUserId(token);
+        } catch (Exception ignored) {
+            return null;
+        }
+    }
+
+    /**
+     * Bölümü havuzda başlatır; süre ve sonuç timer'a yazılır
+     */
+    private <T> CompletableFuture<T> section(String name, Callable<T> loader) {
+        long start = System.nanoTime();
+        CompletableFuture<T> future;
+        try {
+            future = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return loader.call();
+                } catch (Exception e) {
+                    throw new CompletionException(e);
+                }
+            }, executor);
+        } catch (RuntimeException e) {
+            // Havuz dolu (TaskRejectedException)
+            future = CompletableFuture.failedFuture(e);
+        }
+        return future.orTimeout(sectionTimeoutMs, TimeUnit.MILLISECONDS)
+                .whenComplete((result, error) -> Timer.builder("blok.home.section")
+                        .description("Ana sayfa paketinin bölüm yükleme süresi")
+                        .tag("section", name)
+                        .tag("outcome", outcome(error))
+                        .register(meterRegistry)
+                        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+    }
+
+    /**
+     * Bölüm sonucu - başarısızsa null, bölüm adı missingSections'a eklenir
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T join(String name, CompletableFuture<?> future, HomeBundleDto bundle) {
+        try {
+            return (T) future.join();
+        } catch (CompletionException e) {
+            bundle.getMissingSections().add(name);
+            if (!(e.getCause() instanceof TimeoutException)) {
+                log.warn("Ana sayfa bölümü yüklenemedi ({}): {}", name, e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Tamamlanmış akış ve trend postların ID'leri, ekrandaki sırayla
+     */
+    private static List<Long> postIds(CompletableFuture<List<PostResponseDto>> feed,
+                                      CompletableFuture<List<PostResponseDto>> topLiked) {
+        Set<Long> postIds = new LinkedHashSet<>();
+        for (CompletableFuture<List<PostResponseDto>> part : List.of(feed, topLiked)) {
+            if (part.isDone() && !part.isCompletedExceptionally()) {
+                List<PostResponseDto> posts = part.join();
+                if (posts != null) {
+                    posts.forEach(post -> postIds.add(post.getId()));
+                }
+            }
+        }
+        return new ArrayList<>(postIds);
+    }
+
+    private static String outcome(Throwable error) {
+        if (error == null) {
+            return "success";
+        }
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause instanceof TimeoutException ? "timeout" : "error";
+    }
+
+    private static AsyncTaskExecutor sectionExecutor(int threads, int queueCapacity, boolean virtualThreads) {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("home-");
+            executor.setVirtualThreads(true);
+            // Havuzdaki iş + kuyruk sınırının karşılığı: aynı anda en fazla bu kadar bölüm
+            executor.setConcurrencyLimit(threads + queueCapacity);
+            executor.setRejectTasksWhenLimitReached(true);
+            return executor;
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("home-");
+        executor.setDaemon(true);
+        executor.initialize();
+        return executor;
+    }
+}
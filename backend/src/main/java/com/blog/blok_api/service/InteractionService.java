@@ -0,0 +1,23 @@
+package com.blog.blok_api.service;
+
+import com.blog.blok_api.dto.InteractionStateRequestDto;
+import com.blog.blok_api.dto.InteractionStateResponseDto;
+
+public interface InteractionService {
+
+    /**
+     * Post ve yorumların sayaçları ve görüntüleyenin beğeni / kaydetme bayrakları tek seferde
+     * Öğe başına like/count ve saved-posts/status çağrılarının yerine
+     *
+     * @param token JWT token (yoksa bayraklar false)
+     * @throws Exception ID listesi sınırı aşıldığında
+     */
+    InteractionStateResponseDto getState(String token, InteractionStateRequestDto request) throws Exception;
+
+    /**
+     * getState - kullanıcısı önceden çözülmüş çağıranlar için (HomeService)
+     *
+     * @param userId anonim için null (bayraklar false)
+     */
+    InteractionStateResponseDto getState(Long userId, InteractionStateRequestDto request) throws Exception;
+}
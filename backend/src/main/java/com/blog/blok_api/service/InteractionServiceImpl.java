@@ -0,0 +1,127 @@
+package com.blog.blok_api.service;
+
+import com.blog.blok_api.dto.InteractionStateRequestDto;
+import com.blog.blok_api.dto.InteractionStateResponseDto;
+import com.blog.blok_api.repository.CommentRepository;
+import com.blog.blok_api.repository.LikeRepository;
+import com.blog.blok_api.repository.PostRepository;
+import com.blog.blok_api.repository.SavedPostRepository;
+import com.blog.blok_api.security.JwtUtil;
+import com.blog.blok_api.util.CountUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * InteractionServiceImpl - Toplu etkileşim durumu
+ *
+ * PERFORMANS: ID sayısından bağımsız, sabit sayıda sorgu:
+ * - Postlar: silinmemiş ID'ler için 1 sorgu + like, aktif yorum ve kaydetme sayıları için 3 gruplu sorgu;
+ *   liked / saved bayrakları UserInteractionStateService'teki kullanıcı kümelerinden (sorgu yok)
+ * - Yorumlar: postu silinmemiş ID'ler için 1 sorgu + like sayıları için 1 gruplu sorgu
+ *   + kullanıcının beğendikleri için 1 sorgu
+ * Listeler boşsa ilgili sorgular hiç çalışmaz. Silinmiş (tombstone) postlar ve yorumları
+ * bilinmeyen ID'ler gibi sıfır sayılarla döner.
+ */
+@Service
+public class InteractionServiceImpl implements InteractionService {
+
+    private final PostRepository postRepository;
+    private final SavedPostRepository savedPostRepository;
+    private final CommentRepository commentRepository;
+    private final LikeRepository likeRepository;
+    private final UserInteractionStateService userInteractionStateService;
+    private final JwtUtil jwtUtil;
+    private final int maxIds;
+
+    public InteractionServiceImpl(PostRepository postRepository,
+                                  SavedPostRepository savedPostRepository,
+                                  CommentRepository commentRepository,
+                                  LikeRepository likeRepository,
+                                  UserInteractionStateService userInteractionStateService,
+                                  JwtUtil jwtUtil,
+                                  @Value("${app.interactions.state.max-ids:200}") int maxIds) {
+        this.postRepository = postRepository;
+        this.savedPostRepository = savedPostRepository;
+        this.commentRepository = commentRepository;
+        this.likeRepository = likeRepository;
+        this.userInteractionStateService = userInteractionStateService;
+        this.jwtUtil = jwtUtil;
+        this.maxIds = maxIds;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public InteractionStateResponseDto getState(String token, InteractionStateRequestDto request) throws Exception {
+        Long userId = null;
+        if (token != null && !token.isBlank()) {
+            try {
+                userId = jwtUtil.extractUserId(token);
+            } catch (Exception ignored) {
+            }
+        }
+        return getState(userId, request);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public InteractionStateResponseDto getState(Long userId, InteractionStateRequestDto request) throws Exception {
+        List<Long> postIds = distinct(request.getPostIds());
+        List<Long> commentIds = distinct(request.getCommentIds());
+        if (postIds.size() > maxIds || commentIds.size() > maxIds) {
+            throw new Exception("Tek istekte en fazla " + maxIds + " post ve " + maxIds + " yorum sorgulanabilir.");
+        }
+
+        InteractionStateResponseDto response = new InteractionStateResponseDto();
+        if (!postIds.isEmpty()) {
+            // Silinmiş (tombstone) postlar bilinmeyen ID gibi sıfır döner
+            List<Long> visiblePostIds = postRepository.findExistingIds(postIds);
+            Map<Long, Integer> likeCounts = countsOf(visiblePostIds, postRepository::countLikesByPostIds);
+            Map<Long, Integer> commentCounts = countsOf(visiblePostIds, postRepository::countActiveCommentsByPostIds);
+            Map<Long, Integer> saveCounts = countsOf(visiblePostIds, savedPostRepository::countSavedByPostIds);
+            Set<Long> liked = userInteractionStateService.likedAmong(userId, visiblePostIds);
+            Set<Long> saved = userInteractionStateService.savedAmong(userId, visiblePostIds);
+
+            for (Long postId : postIds) {
+                response.getPosts().put(postId, new InteractionStateResponseDto.PostState(
+                        likeCounts.getOrDefault(postId, 0),
+                        commentCounts.getOrDefault(postId, 0),
+                        saveCounts.getOrDefault(postId, 0),
+                        liked.contains(postId),
+                        saved.contains(postId)));
+            }
+        }
+
+        if (!commentIds.isEmpty()) {
+            List<Long> visibleCommentIds = commentRepository.findVisibleIds(commentIds);
+            Map<Long, Integer> likeCounts = countsOf(visibleCommentIds, likeRepository::countLikesByCommentIds);
+            Set<Long> liked = userId != null && !visibleCommentIds.isEmpty()
+                    ? new HashSet<>(likeRepository.findLikedCommentIdsByUserIdAndCommentIds(userId, visibleCommentIds))
+                    : Set.of();
+
+            for (Long commentId : commentIds) {
+                response.getComments().put(commentId, new InteractionStateResponseDto.CommentState(
+                        likeCounts.getOrDefault(commentId, 0),
+                        liked.contains(commentId)));
+            }
+        }
+        return response;
+    }
+
+    private static List<Long> distinct(List<Long> ids) {
+        if (ids == null) {
+            return List.of();
+        }
+        return ids.stream().filter(id -> id != null).distinct().toList();
+    }
+
+    private static Map<Long, Integer> countsOf(List<Long> ids, Function<List<Long>, List<Object[]>> query) {
+        return ids.isEmpty() ? Map.of() : CountUtil.toCountMap(query.apply(ids));
+    }
+}
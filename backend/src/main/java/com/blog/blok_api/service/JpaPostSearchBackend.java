@@ -0,0 +1,30 @@
+package com.blog.blok_api.service;
+
+import com.blog.blok_api.repository.PostRepository;
+import com.blog.blok_api.util.SearchPatternUtil;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * JpaPostSearchBackend - Veritabanından bağımsız arama (ILIKE)
+ * Başlık, özet, içerik ve tag isimlerinde arar; en yeni post en üstte
+ */
+@Service
+@ConditionalOnProperty(name = "app.search.backend", havingValue = "jpa", matchIfMissing = true)
+public class JpaPostSearchBackend implements PostSearchBackend {
+
+    private final PostRepository postRepository;
+
+    public JpaPostSearchBackend(PostRepository postRepository) {
+        this.postRepository = postRepository;
+    }
+
+    @Override
+    public List<Long> searchPublishedPostIds(String query, int page, int size) {
+        return postRepository.searchPublishedPostIds(
+                SearchPatternUtil.containsPattern(query), PageRequest.of(page, size));
+    }
+}
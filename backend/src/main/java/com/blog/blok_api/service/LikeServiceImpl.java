@@ -4,6 +4,7 @@ import com.blog.blok_api.dto.PostResponseDto;
 import com.blog.blok_api.mapper.PostMapper;
 import com.blog.blok_api.model.Comment;
 import com.blog.blok_api.model.Like;
+import com.blog.blok_api.model.Notification;
 import com.blog.blok_api.model.Post;
 import com.blog.blok_api.model.User;
 import com.blog.blok_api.repository.CommentRepository;
@@ -14,6 +15,8 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.stream.Collectors;
 import com.blog.blok_api.security.JwtUtil;
+import com.blog.blok_api.util.CountUtil;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,17 +33,26 @@ public class LikeServiceImpl implements LikeService {
     private final UserRepository userRepository;
     private final JwtUtil jwtUtil;
     private final PostMapper postMapper;
+    private final PostDetailCacheService postDetailCacheService;
+    private final UserInteractionStateService userInteractionStateService;
+    private final ApplicationEventPublisher eventPublisher;
     public LikeServiceImpl(LikeRepository likeRepository,
                            PostRepository postRepository,
                            CommentRepository commentRepository,
                            UserRepository userRepository,
-                           JwtUtil jwtUtil, PostMapper postMapper) {
+                           JwtUtil jwtUtil, PostMapper postMapper,
+                           PostDetailCacheService postDetailCacheService,
+                           UserInteractionStateService userInteractionStateService,
+                           ApplicationEventPublisher eventPublisher) {
         this.likeRepository = likeRepository;
         this.postRepository = postRepository;
         this.commentRepository = commentRepository;
         this.userRepository = userRepository;
         this.jwtUtil = jwtUtil;
         this.postMapper = postMapper;
+        this.postDetailCacheService = postDetailCacheService;
+        this.userInteractionStateService = userInteractionStateService;
+        this.eventPublisher = eventPublisher;
     }
 
 
@@ -53,7 +65,11 @@ public class LikeServiceImpl implements LikeService {
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new Exception("Post bulunamadı"));
 
-        return likeRepository.findByUserAndPost(user, post)
+        // Sayaç ve kullanıcının beğeni kümesi değişiyor (ikisi de commit sonrası uygulanır)
+        postDetailCacheService.evictCounters(postId);
+        postRepository.incrementStatsVersion(postId);
+
+        boolean liked = likeRepository.findByUserAndPost(user, post)
                 .map(existingLike -> {
                     likeRepository.delete(existingLike);
                     return false; // kaldırıldı
@@ -66,6 +82,12 @@ public class LikeServiceImpl implements LikeService {
                     likeRepository.save(like);
                     return true; // eklendi
                 });
+        userInteractionStateService.markLiked(userId, postId, liked);
+        eventPublisher.publishEvent(new PostCountersChangedEvent(postId));
+        if (liked) {
+            publishLikeNotification(post, user);
+        }
+        return liked;
     }
 
 
@@ -87,13 +109,27 @@ public class LikeServiceImpl implements LikeService {
         like.setPost(post);
         like.setLikedAt(LocalDateTime.now());
         likeRepository.save(like);
+
+        postDetailCacheService.evictCounters(postId);
+        userInteractionStateService.markLiked(userId, postId, true);
+        postRepository.incrementStatsVersion(postId);
+        eventPublisher.publishEvent(new PostCountersChangedEvent(postId));
+        publishLikeNotification(post, user);
+    }
+
+    /**
+     * Bildirim commit sonrası kuyruğa alınır ve NotificationFlushJob ile toplu yazılır (istek yolunda INSERT yok)
+     */
+    private void publishLikeNotification(Post post, User liker) {
+        eventPublisher.publishEvent(new NotificationEvent(post.getAuthor().getId(), Notification.TYPE_LIKE,
+                post.getId(), null, liker.getId(), liker.getUsername()));
     }
 
 
 
     @Override
     public boolean hasUserLikedPost(User user, Post post) {
-        return likeRepository.existsByUserAndPost(user, post);
+        return userInteractionStateService.isLiked(user.getId(), post.getId());
     }
 
     @Override
@@ -110,7 +146,7 @@ public class LikeServiceImpl implements LikeService {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new RuntimeException("Kullanıcı bulunamadı: " + username));
 
-        Comment comment = commentRepository.findById(commentId)
+        Comment comment = commentRepository.findVisibleById(commentId)
                 .orElseThrow(() -> new RuntimeException("Yorum bulunamadı"));
 
         Optional<Like> existingLike = likeRepository.findByUserAndComment(user, comment);
@@ -131,7 +167,7 @@ public class LikeServiceImpl implements LikeService {
 
     @Override
     public Long countByCommentId(Long commentId) {
-        Comment comment = commentRepository.findById(commentId)
+        Comment comment = commentRepository.findVisibleById(commentId)
                 .orElseThrow(() -> new RuntimeException("Yorum bulunamadı"));
         return likeRepository.countByComment(comment);
     }
@@ -168,15 +204,19 @@ public class LikeServiceImpl implements LikeService {
         Map<Long, Post> postMap = likedPosts.stream()
                 .collect(Collectors.toMap(Post::getId, post -> post, (p1, p2) -> p1, LinkedHashMap::new));
         
-        // 4. Sıralamayı koruyarak Post'ları DTO'ya çevir
+        // 4. Sayaçlar toplu sorgularla (post başına sorgu yerine - N+1 önlendi)
+        Map<Long, Integer> likeCounts = CountUtil.toCountMap(postRepository.countLikesByPostIds(likedPostIds));
+        Map<Long, Integer> commentCounts = CountUtil.toCountMap(postRepository.countActiveCommentsByPostIds(likedPostIds));
+
+        // 5. Sıralamayı koruyarak Post'ları DTO'ya çevir
         return likedPostIds.stream()
                 .map(postId -> postMap.get(postId))
                 .filter(post -> post != null)
                 .map(post -> {
                     PostResponseDto dto = postMapper.toDto(post);
-                    dto.setLikeCount(likeRepository.countByPostId(post.getId()));
+                    dto.setLikeCount(likeCounts.getOrDefault(post.getId(), 0));
                     dto.setLikedByCurrentUser(true);
-                    dto.setCommentCount(post.getComments() != null ? (int) post.getComments().stream().filter(c -> !c.isDeleted()).count() : 0);
+                    dto.setCommentCount(commentCounts.getOrDefault(post.getId(), 0));
                     return dto;
                 })
                 .toList();
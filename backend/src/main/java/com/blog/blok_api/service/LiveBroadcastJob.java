@@ -0,0 +1,42 @@
+package com.blog.blok_api.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * LiveBroadcastJob - Canlı sayaç yayını ve SSE heartbeat'i
+ *
+ * counter-interval-ms (varsayılan 1 sn) aralığı bir postun en fazla ne sıklıkla yayınlanacağını belirler:
+ * aralık içindeki tüm like / yorum değişiklikleri tek "counters" olayında birleşir.
+ */
+@Component
+@ConditionalOnProperty(name = "app.live.enabled", havingValue = "true", matchIfMissing = true)
+public class LiveBroadcastJob {
+
+    private static final Logger log = LoggerFactory.getLogger(LiveBroadcastJob.class);
+
+    private final LiveEventService liveEventService;
+
+    public LiveBroadcastJob(LiveEventService liveEventService) {
+        this.liveEventService = liveEventService;
+    }
+
+    @Scheduled(fixedDelayString = "${app.live.counter-interval-ms:1000}")
+    public void broadcastCounters() {
+        try {
+            liveEventService.broadcastCounters();
+        } catch (DataAccessException e) {
+            log.warn("Canlı sayaç yayını başarısız: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.live.heartbeat-interval-ms:25000}",
+               initialDelayString = "${app.live.heartbeat-interval-ms:25000}")
+    public void heartbeat() {
+        liveEventService.heartbeat();
+    }
+}
@@ -0,0 +1,412 @@
+package com.blog.blok_api.service;
+
+import com.blog.blok_api.repository.NotificationCounterRepository;
+import com.blog.blok_api.repository.PostRepository;
+import com.blog.blok_api.security.JwtUtil;
+import com.blog.blok_api.util.CountUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * LiveEventService - Server-Sent Events ile canlı sayaçlar ve bildirimler
+ *
+ * Her giriş yapmış istemci GET /api/live/stream ile bir SSE bağlantısı açar ve ekrandaki postlara abone olur.
+ * Olaylar:
+ * - ready:        {connectionId, unreadCount} - bağlantı açılınca (abonelik güncellemesi için connectionId)
+ * - counters:     {postId, likeCount, commentCount} - abone olunan postun sayaçları değişince
+ * - notification: {unreadCount} - kullanıcıya yeni / birleştirilmiş bildirim yazılınca (NotificationFlushJob)
+ *
+ * PERFORMANS:
+ * - Bağlantılar servlet async (SseEmitter) ile tutulur: boşta bekleyen bağlantı Tomcat worker thread'i işgal etmez.
+ *   Yazmalar ayrı bir gönderici havuzunda yapılır (virtual thread açıksa her gönderim virtual thread'de).
+ * - emitter.send bloklayan bir yazmadır; okumayan istemcide soket tamponu dolunca Tomcat'in yazma
+ *   zaman aşımına (server.tomcat.connection-timeout, varsayılan 60 sn) kadar bekler.
+ *   Virtual thread'lerde bu sadece o bağlantının thread'ini bekletir. Platform thread havuzunda
+ *   (sender-threads) takılan her istemci bir thread'i tutar; aynı anda sender-threads kadar istemci
+ *   takılırsa diğer bağlantıların gönderimleri de bekler (kuyrukları dolanlar kapatılır).
+ *   Havuz, aynı anda takılması beklenen istemci sayısından büyük tutulmalıdır.
+ * - Birleştirme: sayaç değişiklikleri sadece "değişti" işareti bırakır; LiveBroadcastJob saniyede bir
+ *   değişen abone postların sayaçlarını iki gruplu sorguyla okur ve post başına tek olay yayınlar.
+ * - Her bağlantının gönderim kuyruğu sınırlıdır (buffer-size). Kuyruğu dolan (yavaş okuyan) istemci
+ *   bağlantısı kapatılır; EventSource kendiliğinden yeniden bağlanır ve güncel durumu yeniden okur.
+ * - Kullanıcı başına bağlantı sınırı aşılınca en eski bağlantı kapatılır (açık kalmış eski sekmeler).
+ *
+ * Tek instance varsayılır; çok instance'ta olaylar sadece o instance'a bağlı istemcilere gider.
+ */
+@Service
+public class LiveEventService {
+
+    private static final Logger log = LoggerFactory.getLogger(LiveEventService.class);
+
+    /** Sayaç sorgularında IN listesi parça boyutu */
+    private static final int QUERY_CHUNK_SIZE = 500;
+
+    private final PostRepository postRepository;
+    private final NotificationCounterRepository notificationCounterRepository;
+    private final JwtUtil jwtUtil;
+    private final TaskExecutor senderExecutor;
+    private final Counter evictionCounter;
+    private final boolean enabled;
+    private final long timeoutMs;
+    private final int bufferSize;
+    private final int maxConnections;
+    private final int maxConnectionsPerUser;
+    private final int maxSubscriptions;
+
+    private final Map<String, Connection> connections = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Connection>> connectionsByUser = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Connection>> subscribersByPost = new ConcurrentHashMap<>();
+    private final Set<Long> changedPosts = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public LiveEventService(PostRepository postRepository,
+                            NotificationCounterRepository notificationCounterRepository,
+                            JwtUtil jwtUtil,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.live.enabled:true}") boolean enabled,
+                            @Value("${app.live.timeout-ms:1800000}") long timeoutMs,
+                            @Value("${app.live.buffer-size:64}") int bufferSize,
+                            @Value("${app.live.max-connections:10000}") int maxConnections,
+                            @Value("${app.live.max-connections-per-user:5}") int maxConnectionsPerUser,
+                            @Value("${app.live.max-subscriptions:100}") int maxSubscriptions,
+                            @Value("${app.live.sender-threads:32}") int senderThreads,
+                            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this(postRepository, notificationCounterRepository, jwtUtil, meterRegistry, enabled, timeoutMs, bufferSize,
+                maxConnections, maxConnectionsPerUser, maxSubscriptions, senderExecutor(senderThreads, virtualThreads));
+    }
+
+    LiveEventService(PostRepository postRepository,
+                     NotificationCounterRepository notificationCounterRepository,
+                     JwtUtil jwtUtil,
+                     MeterRegistry meterRegistry,
+                     boolean enabled,
+                     long timeoutMs,
+                     int bufferSize,
+                     int maxConnections,
+                     int maxConnectionsPerUser,
+                     int maxSubscriptions,
+                     TaskExecutor senderExecutor) {
+        this.postRepository = postRepository;
+        this.notificationCounterRepository = notificationCounterRepository;
+        this.jwtUtil = jwtUtil;
+        this.enabled = enabled;
+        this.timeoutMs = timeoutMs;
+        this.bufferSize = bufferSize;
+        this.maxConnections = maxConnections;
+        this.maxConnectionsPerUser = maxConnectionsPerUser;
+        this.maxSubscriptions = maxSubscriptions;
+        this.senderExecutor = senderExecutor;
+        this.evictionCounter = Counter.builder("blok.live.evictions")
+                .description("Kuyruğu dolduğu (yavaş okuduğu) için kapatılan SSE bağlantıları")
+                .register(meterRegistry);
+        meterRegistry.gauge("blok.live.connections", connections, Map::size);
+    }
+
+    /**
+     * Yeni SSE bağlantısı
+     *
+     * @param postIds başlangıç abonelikleri (en fazla max-subscriptions)
+     * @throws Exception canlı kanal kapalıysa veya toplam bağlantı sınırı doluysa
+     */
+    public SseEmitter open(String token, Collection<Long> postIds) throws Exception {
+        if (!enabled) {
+            throw new Exception("Canlı bağlantı kapalı.");
+        }
+        if (connections.size() >= maxConnections) {
+            throw new Exception("Canlı bağlantı sınırına ulaşıldı.");
+        }
+        Long userId = jwtUtil.extractUserId(token);
+
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Connection connection = new Connection(UUID.randomUUID().toString(), userId, emitter, bufferSize);
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onTimeout(() -> remove(connection));
+        emitter.onError(error -> remove(connection));
+
+        Connection oldest = register(connection);
+        if (oldest != null) {
+            close(oldest);
+        }
+        updateSubscriptions(connection, postIds);
+
+        Map<String, Object> ready = new HashMap<>();
+        ready.put("connectionId", connection.id);
+        ready.put("unreadCount", notificationCounterRepository.findUnreadCount(userId).orElse(0));
+        enqueue(connection, SseEmitter.event().name("ready").data(ready));
+        return emitter;
+    }
+
+    /**
+     * Bağlantının post aboneliklerini verilen liste ile değiştirir
+     *
+     * @throws Exception bağlantı yoksa veya kullanıcıya ait değilse
+     */
+    public void subscribe(String token, String connectionId, Collection<Long> postIds) throws Exception {
+        Long userId = jwtUtil.extractUserId(token);
+        Connection connection = connections.get(connectionId);
+        if (connection == null || !connection.userId.equals(userId)) {
+            throw new Exception("Canlı bağlantı bulunamadı.");
+        }
+        updateSubscriptions(connection, postIds);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostCountersChanged(PostCountersChangedEvent event) {
+        // Abonesi olmayan postlar için bir şey tutulmaz
+        if (subscribersByPost.containsKey(event.postId())) {
+            changedPosts.add(event.postId());
+        }
+    }
+
+    /**
+     * Son yayından beri sayacı değişen abone postların güncel sayaçlarını yayınlar (LiveBroadcastJob, saniyede bir)
+     *
+     * @return yayınlanan post sayısı
+     */
+    public int broadcastCounters() {
+        List<Long> postIds = new ArrayList<>();
+        for (Long postId : changedPosts) {
+            changedPosts.remove(postId);
+            if (subscribersByPost.containsKey(postId)) {
+                postIds.add(postId);
+            }
+        }
+
+        for (int from = 0; from < postIds.size(); from += QUERY_CHUNK_SIZE) {
+            List<Long> chunk = postIds.subList(from, Math.min(from + QUERY_CHUNK_SIZE, postIds.size()));
+            Map<Long, Integer> likeCounts = CountUtil.toCountMap(postRepository.countLikesByPostIds(chunk));
+            Map<Long, Integer> commentCounts = CountUtil.toCountMap(postRepository.countActiveCommentsByPostIds(chunk));
+            for (Long postId : chunk) {
+                Map<String, Object> counters = Map.of(
+                        "postId", postId,
+                        "likeCount", likeCounts.getOrDefault(postId, 0),
+                        "commentCount", commentCounts.getOrDefault(postId, 0));
+                for (Connection connection : subscribersByPost.getOrDefault(postId, Set.of())) {
+                    enqueue(connection, SseEmitter.event().name("counters").data(counters));
+                }
+            }
+        }
+        return postIds.size();
+    }
+
+    /**
+     * Bildirimleri değişen kullanıcılara güncel okunmamış sayısını gönderir (bağlı olanlar için tek sorgu)
+     */
+    public void notificationsChanged(Collection<Long> userIds) {
+        List<Long> connected = userIds.stream().filter(connectionsByUser::containsKey).toList();
+        if (connected.isEmpty()) {
+            return;
+        }
+        for (Object[] row : notificationCounterRepository.findUnreadCounts(connected)) {
+            Map<String, Object> data = Map.of("unreadCount", ((Number) row[1]).intValue());
+            for (Connection connection : connectionsByUser.getOrDefault((Long) row[0], Set.of())) {
+                enqueue(connection, SseEmitter.event().name("notification").data(data));
+            }
+        }
+    }
+
+    /**
+     * Proxy'lerin boşta bağlantıyı kesmemesi ve kopmuş istemcilerin (yazma hatası) temizlenmesi için
+     */
+    public void heartbeat() {
+        for (Connection connection : connections.values()) {
+            enqueue(connection, SseEmitter.event().comment("ping"));
+        }
+    }
+
+    public int connectionCount() {
+        return connections.size();
+    }
+
+    /**
+     * Kapanışta bağlantılar web sunucusu durdurulmadan önce kapatılır; açık async istekler
+     * Tomcat'in durmasını bekletir
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void closeConnections() {
+        connections.values().forEach(this::close);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (senderExecutor instanceof ThreadPoolTaskExecutor pool) {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * @return kullanıcı sınırı aşıldıysa kapatılması gereken en eski bağlantı
+     */
+    private Connection register(Connection connection) {
+        connections.put(connection.id, connection);
+        Connection[] oldest = new Connection[1];
+        connectionsByUser.compute(connection.userId, (userId, current) -> {
+            Set<Connection> own = current != null ? current : ConcurrentHashMap.newKeySet();
+            if (own.size() >= maxConnectionsPerUser) {
+                oldest[0] = own.stream().min((a, b) -> Long.compare(a.openedAt, b.openedAt)).orElse(null);
+            }
+            own.add(connection);
+            return own;
+        });
+        return oldest[0];
+    }
+
+    private void updateSubscriptions(Connection connection, Collection<Long> postIds) {
+        Set<Long> requested = new LinkedHashSet<>();
+        for (Long postId : postIds) {
+            if (postId != null && requested.size() < maxSubscriptions) {
+                requested.add(postId);
+            }
+        }
+        synchronized (connection) {
+            if (connection.closed) {
+                return;
+            }
+            for (Long postId : new HashSet<>(connection.postIds)) {
+                if (!requested.contains(postId)) {
+                    connection.postIds.remove(postId);
+                    removeFrom(subscribersByPost, postId, connection);
+                }
+            }
+            for (Long postId : requested) {
+                if (connection.postIds.add(postId)) {
+                    subscribersByPost.computeIfAbsent(postId, id -> ConcurrentHashMap.newKeySet()).add(connection);
+                }
+            }
+        }
+    }
+
+    private void enqueue(Connection connection, SseEmitter.SseEventBuilder event) {
+        if (connection.closed) {
+            return;
+        }
+        if (!connection.queue.offer(event)) {
+            evictionCounter.increment();
+            log.debug("SSE bağlantısı yavaş okuduğu için kapatıldı: kullanıcı {}", connection.userId);
+            close(connection);
+            return;
+        }
+        scheduleSend(connection);
+    }
+
+    /**
+     * Bağlantı başına en fazla bir gönderim görevi: olay sırası korunur, bir bağlantının olayları
+     * aynı anda birden fazla havuz thread'ini tutmaz (bloklanan yazma için sınıf açıklamasına bakın)
+     */
+    private void scheduleSend(Connection connection) {
+        if (connection.sending.compareAndSet(false, true)) {
+            senderExecutor.execute(() -> send(connection));
+        }
+    }
+
+    private void send(Connection connection) {
+        try {
+            SseEmitter.SseEventBuilder event;
+            while (!connection.closed && (event = connection.queue.poll()) != null) {
+                connection.emitter.send(event);
+            }
+        } catch (IOException | IllegalStateException e) {
+            // İstemci kopmuş veya bağlantı tamamlanmış
+            remove(connection);
+        } finally {
+            connection.sending.set(false);
+            if (!connection.closed && !connection.queue.isEmpty()) {
+                scheduleSend(connection);
+            }
+        }
+    }
+
+    private void close(Connection connection) {
+        remove(connection);
+        try {
+            connection.emitter.complete();
+        } catch (IllegalStateException ignored) {
+            // Zaten tamamlanmış
+        }
+    }
+
+    private void remove(Connection connection) {
+        synchronized (connection) {
+            if (connection.closed) {
+                return;
+            }
+            connection.closed = true;
+        }
+        connection.queue.clear();
+        connections.remove(connection.id);
+        removeFrom(connectionsByUser, connection.userId, connection);
+        for (Long postId : connection.postIds) {
+            removeFrom(subscribersByPost, postId, connection);
+        }
+    }
+
+    private static void removeFrom(Map<Long, Set<Connection>> index, Long key, Connection connection) {
+        index.computeIfPresent(key, (k, set) -> {
+            set.remove(connection);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    private static TaskExecutor senderExecutor(int threads, boolean virtualThreads) {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("live-sse-");
+            executor.setVirtualThreads(true);
+            return executor;
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setThreadNamePrefix("live-sse-");
+        executor.setDaemon(true);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Tek SSE bağlantısı: sınırlı gönderim kuyruğu + abone olunan postlar
+     */
+    private static final class Connection {
+        private final String id;
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final ArrayBlockingQueue<SseEmitter.SseEventBuilder> queue;
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private final Set<Long> postIds = ConcurrentHashMap.newKeySet();
+        private final long openedAt = System.nanoTime();
+        private volatile boolean closed;
+
+        private Connection(String id, Long userId, SseEmitter emitter, int bufferSize) {
+            this.id = id;
+            this.userId = userId;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package com.blog.blok_api.service;
+
+import com.blog.blok_api.model.Notification;
+import com.blog.blok_api.repository.NotificationRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * NotificationBatchWriter - Bildirim olaylarını biriktirip toplu yazar
+ *
+ * 1. Like / yorum servisleri NotificationEvent yayınlar; olay commit sonrası (transaction yoksa hemen)
+ *    bellekteki kuyruğa alınır. İsteği yapan thread veritabanına bildirim yazmaz.
+ * 2. Aynı (alıcı, tip, hedef) için kuyruktaki olaylar tek kayıtta birleşir (farklı aktörler sayılır).
+ * 3. NotificationFlushJob kuyruğu parça parça flush'a verir. Her parça tek transaction:
+ *    - pencere (coalesce-window-minutes) içindeki okunmamış bildirimler tek sorguyla okunur
+ *    - eşleşenler güncellenir (actorCount sadece kayıttaki actor_ids'te olmayan aktörler kadar artar,
+ *      createdAt öne çekilir), diğerleri eklenir: JDBC batch
+ *    - ekleme INSERT ... SELECT ile yapılır: alıcısı silinmiş ya da postu silinmiş olaylar satır üretmez
+ *      (user_id FK hatası tüm parçayı her çalışmada tekrar düşürmez)
+ *    - okunmamış sayaçları gerçekten eklenen satır sayısı kadar artırılır: JDBC batch
+ *
+ * Notification IDENTITY ID kullandığı için Hibernate insert'leri batch'leyemez; yazmalar JdbcTemplate ile yapılır.
+ * Kuyruk bellektedir: instance flush'tan önce kapanırsa en fazla bir flush aralığının bildirimleri kaybolur.
+ */
+@Service
+public class NotificationBatchWriter {
+
+    /** Bir kayıtta tutulan farklı aktör ID'si sınırı (sayım bundan sonra her olayı sayar) */
+    private static final int MAX_TRACKED_ACTORS = 100;
+
+    private final NotificationRepository notificationRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration coalesceWindow;
+
+    private final ConcurrentHashMap<Key, Pending> pending = new ConcurrentHashMap<>();
+
+    public NotificationBatchWriter(NotificationRepository notificationRepository,
+                                   JdbcTemplate jdbcTemplate,
+                                   @Value("${app.notifications.coalesce-window-minutes:60}") long coalesceWindowMinutes) {
+        this.notificationRepository = notificationRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.coalesceWindow = Duration.ofMinutes(coalesceWindowMinutes);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEvent(NotificationEvent event) {
+        // Kendi postunu beğenme / kendi yorumuna cevap bildirim üretmez
+        if (event.recipientId() == null || event.recipientId().equals(event.actorId())) {
+            return;
+        }
+        Key key = new Key(event.recipientId(), event.type(), event.postId(),
+                Notification.TYPE_REPLY.equals(event.type()) ? event.commentId() : null);
+        pending.compute(key, (k, current) -> {
+            Pending target = current != null ? current : new Pending();
+            target.add(event.actorId(), event.actorUsername());
+            return target;
+        });
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    public Map<Key, Pending> drain(int limit) {
+        Map<Key, Pending> batch = new HashMap<>();
+        Iterator<Key> keys = pending.keySet().iterator();
+        while (keys.hasNext() && batch.size() < limit) {
+            Key key = keys.next();
+            Pending value = pending.remove(key);
+            if (value != null) {
+                batch.put(key, value);
+            }
+        }
+        return batch;
+    }
+
+    /**
+     * Silinen kullanıcının kuyruktaki bildirimlerini atar (CascadeDeleteService.deleteUser)
+     */
+    public void discardRecipient(Long userId) {
+        pending.keySet().removeIf(key -> key.recipientId().equals(userId));
+    }
+
+    public void requeue(Map<Key, Pending> batch) {
+        batch.forEach((key, value) -> pending.merge(key, value, (current, failed) -> {
+            current.merge(failed);
+            return current;
+        }));
+    }
+
+    /**
+     * @return bildirimleri değişen (yeni veya birleştirilmiş) alıcılar
+     */
+    @Transactional
+    public Set<Long> flush(Map<Key, Pending> batch) {
+        LocalDateTime now = LocalDateTime.now();
+        Set<Long> recipients = new LinkedHashSet<>();
+        batch.keySet().forEach(key -> recipients.add(key.recipientId()));
+        Set<Long> changed = new LinkedHashSet<>();
+
+        // Pencere içindeki okunmamış bildirimler: [id, userId, type, postId, commentId, actorCount, actorId, actorIds]
+        Map<Key, Object[]> existing = new HashMap<>();
+        for (Object[] row : notificationRepository.findUnreadSince(recipients, now.minus(coalesceWindow))) {
+            String type = (String) row[2];
+            Key key = new Key((Long) row[1], type, (Long) row[3],
+                    Notification.TYPE_REPLY.equals(type) ? (Long) row[4] : null);
+            existing.merge(key, row, (a, b) -> (Long) a[0] > (Long) b[0] ? a : b);
+        }
+
+        List<Map.Entry<Key, Pending>> updated = new ArrayList<>();
+        List<Object[]> updates = new ArrayList<>();
+        List<Map.Entry<Key, Pending>> inserted = new ArrayList<>();
+        for (Map.Entry<Key, Pending> entry : batch.entrySet()) {
+            Object[] row = existing.get(entry.getKey());
+            if (row == null) {
+                inserted.add(entry);
+                continue;
+            }
+            Pending value = entry.getValue();
+            Set<Long> actors = parseActors((String) row[7], (Long) row[6]);
+            int added = value.addTo(actors);
+            if (added == 0) {
+                // Önceki flush'ta sayılmış aktörün tekrarı (beğen / geri al / beğen): değişiklik yok
+                continue;
+            }
+            int actorCount = ((Number) row[5]).intValue() + added;
+            updated.add(entry);
+            updates.add(new Object[] { actorCount, content(entry.getKey().type(), value.lastActorUsername, actorCount),
+                    joinActors(actors), value.lastActorId, Timestamp.valueOf(now), row[0] });
+        }
+
+        // Arada okundu işaretlenmiş olanlar (0 satır) yeni bildirim olarak eklenir
+        int[] updateCounts = jdbcTemplate.batchUpdate("""
+                UPDATE notifications SET actor_count = ?, content = ?, actor_ids = ?, actor_id = ?, created_at = ?
+                WHERE id = ? AND is_read = FALSE
+                """, updates);
+        for (int i = 0; i < updateCounts.length; i++) {
+            if (updateCounts[i] == 0) {
+                inserted.add(updated.get(i));
+            } else {
+                changed.add(updated.get(i).getKey().recipientId());
+            }
+        }
+
+        List<Object[]> inserts = new ArrayList<>();
+        for (Map.Entry<Key, Pending> entry : inserted) {
+            Key key = entry.getKey();
+            Pending value = entry.getValue();
+            inserts.add(new Object[] { key.type(), content(key.type(), value.lastActorUsername, value.count),
+                    Timestamp.valueOf(now), key.postId(), key.commentId(), value.lastActorId, value.count,
+                    joinActors(value.actorIds), key.recipientId(), key.postId(), key.postId() });
+        }
+        // Alıcı (users) ya da post (silinmiş / tombstone) yoksa satır eklenmez, olay atılır
+        int[] insertCounts = jdbcTemplate.batchUpdate("""
+                INSERT INTO notifications (user_id, type, content, is_read, created_at, post_id, comment_id, actor_id, actor_count, actor_ids)
+                SELECT u.id, ?, ?, FALSE, ?, CAST(? AS BIGINT), CAST(? AS BIGINT), ?, ?, ?
+                FROM users u
+                WHERE u.id = ?
+                  AND (CAST(? AS BIGINT) IS NULL
+                       OR EXISTS (SELECT 1 FROM posts p WHERE p.id = ? AND p.deleted_at IS NULL))
+                """, inserts);
+
+        Map<Long, Integer> unreadIncrements = new HashMap<>();
+        for (int i = 0; i < insertCounts.length; i++) {
+            if (insertCounts[i] != 0) {
+                Long recipientId = inserted.get(i).getKey().recipientId();
+                unreadIncrements.merge(recipientId, 1, Integer::sum);
+                changed.add(recipientId);
+            }
+        }
+
+        incrementUnread(unreadIncrements);
+        return changed;
+    }
+
+    /**
+     * Kayıttaki aktör kümesi; actor_ids'i olmayan eski satırlarda son aktörle başlar
+     */
+    private static Set<Long> parseActors(String actorIds, Long lastActorId) {
+        Set<Long> actors = new LinkedHashSet<>();
+        if (actorIds != null && !actorIds.isEmpty()) {
+            for (String id : actorIds.split(",")) {
+                actors.add(Long.valueOf(id));
+            }
+        } else if (lastActorId != null) {
+            actors.add(lastActorId);
+        }
+        return actors;
+    }
+
+    private static String joinActors(Set<Long> actors) {
+        StringJoiner joiner = new StringJoiner(",");
+        actors.forEach(id -> joiner.add(id.toString()));
+        return joiner.toString();
+    }
+
+    private void incrementUnread(Map<Long, Integer> increments) {
+        List<Object[]> rows = new ArrayList<>();
+        increments.forEach((userId, count) -> rows.add(new Object[] { count, userId }));
+        int[] counts = jdbcTemplate.batchUpdate(
+                "UPDATE notification_counters SET unread_count = unread_count + ? WHERE user_id = ?", rows);
+
+        // Sayaç satırı olmayanlar (ilk bildirim) eklenir
+        List<Object[]> missing = new ArrayList<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0) {
+                missing.add(new Object[] { rows.get(i)[1], rows.get(i)[0] });
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO notification_counters (user_id, unread_count) VALUES (?, ?)", missing);
+    }
+
+    static String content(String type, String actorUsername, int actorCount) {
+        String actors = actorCount > 1 ? actorUsername + " ve " + (actorCount - 1) + " kişi daha" : actorUsername;
+        return switch (type) {
+            case Notification.TYPE_LIKE -> actors + " postunu beğendi";
+            case Notification.TYPE_COMMENT -> actors + " postuna yorum yaptı";
+            case Notification.TYPE_REPLY -> actors + " yorumuna cevap verdi";
+            case Notification.TYPE_FOLLOW -> actors + " seni takip etmeye başladı";
+            default -> actors;
+        };
+    }
+
+    /**
+     * Birleştirme anahtarı: commentId sadece REPLY'de (cevap verilen yorum), diğerlerinde null
+     */
+    public record Key(Long recipientId, String type, Long postId, Long commentId) {
+    }
+
+    /**
+     * Bir anahtar için kuyruktaki olaylar - sadece ConcurrentHashMap.compute/merge içinde değiştirilir
+     */
+    public static final class Pending {
+        private final Set<Long> actorIds = new LinkedHashSet<>();
+        private int count;
+        private Long lastActorId;
+        private String lastActorUsername;
+
+        void add(Long actorId, String actorUsername) {
+            // Aynı aktörün tekrarları (beğen / geri al / beğen) bir kez sayılır
+            if (actorIds.size() < MAX_TRACKED_ACTORS) {
+                if (!actorIds.add(actorId)) {
+                    return;
+                }
+            }
+            count++;
+            lastActorId = actorId;
+            lastActorUsername = actorUsername;
+        }
+
+        /**
+         * Kuyruktaki aktörleri kayıttaki kümeye ekler
+         *
+         * @return sayıma eklenecek olay sayısı: kümede olmayan aktörler + takip sınırını aşan olaylar
+         */
+        int addTo(Set<Long> stored) {
+            int added = count - actorIds.size();
+            for (Long actorId : actorIds) {
+                if (stored.size() < MAX_TRACKED_ACTORS) {
+                    if (stored.add(actorId)) {
+                        added++;
+                    }
+                } else if (!stored.contains(actorId)) {
+                    added++;
+                }
+            }
+            return added;
+        }
+
+        void merge(Pending older) {
+            for (Long actorId : older.actorIds) {
+                if (actorIds.size() < MAX_TRACKED_ACTORS && actorIds.add(actorId)) {
+                    count++;
+                }
+            }
+            count += older.count - older.actorIds.size();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.blog.blok_api.service;
+
+/**
+ * NotificationEvent - Bildirim üreten olay (like, yorum, cevap)
+ * Servisler ApplicationEventPublisher ile yayınlar; NotificationBatchWriter commit sonrası kuyruğa alır.
+ *
+ * @param recipientId bildirimi alacak kullanıcı
+ * @param type        Notification.TYPE_*
+ * @param postId      ilgili post
+ * @param commentId   cevap verilen yorum (REPLY), diğerlerinde null
+ */
+public record NotificationEvent(Long recipientId, String type, Long postId, Long commentId,
+                                Long actorId, String actorUsername) {
+}
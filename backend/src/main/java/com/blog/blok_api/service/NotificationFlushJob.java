@@ -0,0 +1,82 @@
+package com.blog.blok_api.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * NotificationFlushJob - Kuyruktaki bildirimleri periyodik olarak veritabanına yazar
+ *
+ * Bekleyen anahtarlar batch-size'lık parçalar halinde, her parça ayrı transaction'da
+ * NotificationBatchWriter.flush ile yazılır. Başarısız parça (veritabanı hatası) kuyruğa geri konur ve
+ * sonraki çalışmada tekrar denenir; alıcısı ya da postu silinmiş olaylar flush'ta atıldığı için
+ * tek bir bozuk olay kuyruğu kalıcı olarak tıkamaz. Bildirimi değişen kullanıcılara canlı kanaldan (SSE)
+ * güncel okunmamış sayısı gönderilir.
+ */
+@Component
+@ConditionalOnProperty(name = "app.notifications.enabled", havingValue = "true", matchIfMissing = true)
+public class NotificationFlushJob {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationFlushJob.class);
+
+    private final NotificationBatchWriter notificationBatchWriter;
+    private final LiveEventService liveEventService;
+    private final int batchSize;
+
+    public NotificationFlushJob(NotificationBatchWriter notificationBatchWriter,
+                                LiveEventService liveEventService,
+                                @Value("${app.notifications.flush-batch-size:500}") int batchSize) {
+        this.notificationBatchWriter = notificationBatchWriter;
+        this.liveEventService = liveEventService;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${app.notifications.flush-interval-ms:5000}",
+               initialDelayString = "${app.notifications.flush-interval-ms:5000}")
+    public void run() {
+        long start = System.currentTimeMillis();
+        int written = 0;
+        Set<Long> recipients = new HashSet<>();
+        // Çalışma sırasında gelen olaylar bir sonraki çalışmaya kalır (döngü sınırlı)
+        int remaining = notificationBatchWriter.pendingCount();
+        while (remaining > 0) {
+            Map<NotificationBatchWriter.Key, NotificationBatchWriter.Pending> batch =
+                    notificationBatchWriter.drain(Math.min(batchSize, remaining));
+            if (batch.isEmpty()) {
+                break;
+            }
+            remaining -= batch.size();
+            try {
+                recipients.addAll(notificationBatchWriter.flush(batch));
+                written += batch.size();
+            } catch (DataAccessException e) {
+                notificationBatchWriter.requeue(batch);
+                log.warn("Bildirim flush'ı başarısız, sonraki çalışmada tekrar denenecek: {}", e.getMessage());
+                break;
+            }
+        }
+        if (!recipients.isEmpty()) {
+            liveEventService.notificationsChanged(recipients);
+        }
+        if (written > 0) {
+            log.debug("Bildirim flush'ı: {} bildirim, {} ms", written, System.currentTimeMillis() - start);
+        }
+    }
+
+    /**
+     * Kapanışta bekleyenleri son kez yaz
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        run();
+    }
+}
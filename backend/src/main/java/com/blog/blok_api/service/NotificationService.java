@@ -0,0 +1,29 @@
+package com.blog.blok_api.service;
+
+import com.blog.blok_api.dto.NotificationPageDto;
+
+public interface NotificationService {
+
+    /**
+     * Bildirimler (en yeni önce), keyset sayfalama
+     *
+     * @param cursor önceki sayfanın nextCursor'ı (ilk sayfa için null)
+     * @throws Exception imleç geçersizse
+     */
+    NotificationPageDto getNotifications(String token, String cursor, int size) throws Exception;
+
+    /**
+     * Okunmamış bildirim sayısı - sayaç tablosundan tek satır (COUNT yok)
+     */
+    int getUnreadCount(String token);
+
+    /**
+     * @return bildirim okunmamış durumdan okunduya geçtiyse true
+     */
+    boolean markRead(String token, Long notificationId);
+
+    /**
+     * @return okundu işaretlenen bildirim sayısı
+     */
+    int markAllRead(String token);
+}
@@ -0,0 +1,135 @@
+package com.blog.blok_api.service;
+
+import com.blog.blok_api.dto.NotificationDto;
+import com.blog.blok_api.dto.NotificationPageDto;
+import com.blog.blok_api.model.Notification;
+import com.blog.blok_api.repository.NotificationCounterRepository;
+import com.blog.blok_api.repository.NotificationRepository;
+import com.blog.blok_api.security.JwtUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * NotificationServiceImpl - Bildirim listesi ve okunmamış sayacı
+ *
+ * PERFORMANS:
+ * - Liste (user_id, created_at DESC, id DESC) index'inden keyset ile okunur: OFFSET yok,
+ *   her sayfa imleçten devam eden tek index aralık taraması (V4__notifications_user_created_index)
+ * - Okunmamış sayısı notification_counters'tan PK ile okunur; sayaç NotificationBatchWriter'da
+ *   yeni bildirim eklenince artırılır, okundu işaretlemede etkilenen satır sayısı kadar azaltılır
+ */
+@Service
+public class NotificationServiceImpl implements NotificationService {
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationCounterRepository notificationCounterRepository;
+    private final JwtUtil jwtUtil;
+    private final int maxPageSize;
+
+    public NotificationServiceImpl(NotificationRepository notificationRepository,
+                                   NotificationCounterRepository notificationCounterRepository,
+                                   JwtUtil jwtUtil,
+                                   @Value("${app.notifications.max-page-size:50}") int maxPageSize) {
+        this.notificationRepository = notificationRepository;
+        this.notificationCounterRepository = notificationCounterRepository;
+        this.jwtUtil = jwtUtil;
+        this.maxPageSize = maxPageSize;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public NotificationPageDto getNotifications(String token, String cursor, int size) throws Exception {
+        Long userId = jwtUtil.extractUserId(token);
+        int pageSize = Math.max(1, Math.min(size, maxPageSize));
+        PageRequest limit = PageRequest.of(0, pageSize);
+
+        List<Notification> notifications;
+        if (cursor == null || cursor.isBlank()) {
+            notifications = notificationRepository.findFirstPage(userId, limit);
+        } else {
+            Cursor position = decodeCursor(cursor);
+            notifications = notificationRepository.findPageBefore(userId, position.createdAt(), position.id(), limit);
+        }
+
+        String nextCursor = null;
+        if (notifications.size() == pageSize) {
+            Notification last = notifications.get(notifications.size() - 1);
+            nextCursor = encodeCursor(last.getCreatedAt(), last.getId());
+        }
+        List<NotificationDto> items = notifications.stream().map(NotificationServiceImpl::toDto).toList();
+        return new NotificationPageDto(items, nextCursor, unreadCount(userId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public int getUnreadCount(String token) {
+        return unreadCount(jwtUtil.extractUserId(token));
+    }
+
+    @Override
+    @Transactional
+    public boolean markRead(String token, Long notificationId) {
+        Long userId = jwtUtil.extractUserId(token);
+        int updated = notificationRepository.markRead(userId, notificationId);
+        if (updated > 0) {
+            notificationCounterRepository.decrement(userId, updated);
+        }
+        return updated > 0;
+    }
+
+    @Override
+    @Transactional
+    public int markAllRead(String token) {
+        Long userId = jwtUtil.extractUserId(token);
+        int updated = notificationRepository.markAllRead(userId);
+        if (updated > 0) {
+            notificationCounterRepository.decrement(userId, updated);
+        }
+        return updated;
+    }
+
+    private int unreadCount(Long userId) {
+        return notificationCounterRepository.findUnreadCount(userId).orElse(0);
+    }
+
+    private static NotificationDto toDto(Notification notification) {
+        NotificationDto dto = new NotificationDto();
+        dto.setId(notification.getId());
+        dto.setType(notification.getType());
+        dto.setContent(notification.getContent());
+        dto.setRead(notification.isRead());
+        dto.setCreatedAt(notification.getCreatedAt());
+        dto.setPostId(notification.getPostId());
+        dto.setCommentId(notification.getCommentId());
+        dto.setActorId(notification.getActorId());
+        dto.setActorCount(notification.getActorCount());
+        return dto;
+    }
+
+    /**
+     * İmleç: son öğenin (createdAt, id) çifti, istemci için opak (base64url)
+     */
+    private static String encodeCursor(LocalDateTime createdAt, Long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((createdAt + "|" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Cursor decodeCursor(String cursor) throws Exception {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            return new Cursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (RuntimeException e) {
+            throw new Exception("Geçersiz imleç.");
+        }
+    }
+
+    private record Cursor(LocalDateTime createdAt, Long id) {
+    }
+}
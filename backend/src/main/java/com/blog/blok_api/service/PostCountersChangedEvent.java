@@ -0,0 +1,8 @@
+package com.blog.blok_api.service;
+
+/**
+ * PostCountersChangedEvent - Postun like / yorum sayısı değişti
+ * Like ve yorum servisleri yayınlar; LiveEventService commit sonrası postu canlı yayın kuyruğuna alır.
+ */
+public record PostCountersChangedEvent(Long postId) {
+}
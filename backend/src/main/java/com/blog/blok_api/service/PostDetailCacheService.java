@@ -0,0 +1,135 @@
+package com.blog.blok_api.service;
+
+import com.blog.blok_api.config.CacheConfig;
+import com.blog.blok_api.dto.PostResponseDto;
+import com.blog.blok_api.mapper.PostMapper;
+import com.blog.blok_api.repository.PostRepository;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * PostDetailCacheService - GET /api/posts/{id} için read-through cache katmanı
+ *
+ * Post detayı üç parçaya ayrılır:
+ * 1. Gövde (başlık, içerik, yazar, tag'ler) - "postId:version" anahtarıyla, sadece post güncellenince değişir
+ * 2. Sayaçlar (like, yorum, görüntülenme) - postId anahtarıyla, sayaç değişince evict edilir
+ * 3. Kullanıcıya özel bayraklar - burada değil, UserInteractionStateService'teki kullanıcı kümelerinden
+ *
+ * Böylece popüler bir post her istekte sadece versiyon lookup'ı ile bellekten servis edilir.
+ * Dönen nesneler cache'te paylaşılır, değiştirilmeden önce kopyalanmalıdır.
+ * Evict'ler feed'de görünen bir değişiklik demektir; feed ETag sürümü de artırılır (FeedVersionService).
+ */
+@Service
+public class PostDetailCacheService {
+
+    private final PostRepository postRepository;
+    private final PostMapper postMapper;
+    private final CacheManager cacheManager;
+    private final FeedVersionService feedVersionService;
+
+    public PostDetailCacheService(PostRepository postRepository,
+                                  PostMapper postMapper,
+                                  CacheManager cacheManager,
+                                  FeedVersionService feedVersionService) {
+        this.postRepository = postRepository;
+        this.postMapper = postMapper;
+        this.cacheManager = cacheManager;
+        this.feedVersionService = feedVersionService;
+    }
+
+    /**
+     * Post gövdesi (sayaçlar ve kullanıcı bayrakları olmadan)
+     * Post bulunamazsa null döner ve cache'lenmez
+     */
+    @Cacheable(cacheNames = CacheConfig.POST_DETAILS, key = "#postId + ':' + #version", unless = "#result == null")
+    @Transactional(readOnly = true)
+    public PostResponseDto getPostBody(Long postId, long version) {
+        return postRepository.findByIdWithRelations(postId)
+                .map(postMapper::toDto)
+                .orElse(null);
+    }
+
+    /**
+     * Post sayaçları - tek sorguda viewsCount, likeCount, commentCount, uniqueViewers
+     * Read-only değil: replica açıkken paylaşılan cache gecikmeli replica'dan eski sayaçla dolmasın (primary'den okunur)
+     */
+    @Cacheable(cacheNames = CacheConfig.POST_COUNTERS, key = "#postId", unless = "#result == null")
+    @Transactional
+    public PostCounters getCounters(Long postId) {
+        List<Object[]> rows = postRepository.findCountersById(postId);
+        if (rows.isEmpty()) {
+            return null;
+        }
+        Object[] row = rows.get(0);
+        return new PostCounters(
+                ((Number) row[0]).intValue(),
+                ((Number) row[1]).intValue(),
+                ((Number) row[2]).intValue(),
+                ((Number) row[3]).longValue());
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.POST_COUNTERS, key = "#postId")
+    public void evictCounters(Long postId) {
+        feedVersionService.changed();
+    }
+
+    public void evictCounters(Collection<Long> postIds) {
+        feedVersionService.changed();
+        Cache cache = cacheManager.getCache(CacheConfig.POST_COUNTERS);
+        if (cache != null) {
+            postIds.forEach(cache::evict);
+        }
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.POST_DETAILS, key = "#postId + ':' + #version")
+    public void evictPostBody(Long postId, long version) {
+        feedVersionService.changed();
+    }
+
+    /**
+     * Yazar kartı (kullanıcı adı, profil resmi) gövdeye gömülü olduğu için profil
+     * değişikliklerinde tüm gövdeler temizlenir (nadir işlem)
+     */
+    @CacheEvict(cacheNames = CacheConfig.POST_DETAILS, allEntries = true)
+    public void evictAllPostBodies() {
+        feedVersionService.changed();
+    }
+
+    /**
+     * Toplu silmelerde (ör. kullanıcı silme) etkilenen postları tek tek bulmak yerine
+     * tüm sayaç cache'ini temizler
+     */
+    @CacheEvict(cacheNames = CacheConfig.POST_COUNTERS, allEntries = true)
+    public void evictAllCounters() {
+        feedVersionService.changed();
+    }
+
+    /**
+     * Cache değeri - değiştirilemez
+     */
+    public static final class PostCounters {
+        private final int viewsCount;
+        private final int likeCount;
+        private final int commentCount;
+        private final long uniqueViewers;
+
+        public PostCounters(int viewsCount, int likeCount, int commentCount, long uniqueViewers) {
+            this.viewsCount = viewsCount;
+            this.likeCount = likeCount;
+            this.commentCount = commentCount;
+            this.uniqueViewers = uniqueViewers;
+        }
+
+        public int getViewsCount() { return viewsCount; }
+        public int getLikeCount() { return likeCount; }
+        public int getCommentCount() { return commentCount; }
+        public long getUniqueViewers() { return uniqueViewers; }
+    }
+}
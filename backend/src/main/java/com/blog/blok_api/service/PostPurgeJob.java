@@ -0,0 +1,54 @@
+package com.blog.blok_api.service;
+
+import com.blog.blok_api.repository.PostRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * PostPurgeJob - Silinmiş olarak işaretlenen (tombstone) postların arka planda fiziksel temizliği
+ *
+ * Kullanıcı postu sildiğinde sadece posts.deleted_at doldurulur; yorum, like, görüntülenme ve
+ * kaydetme satırları burada CascadeDeleteService.purgePost ile sınırlı parçalar halinde silinir.
+ * Her çalışmada en fazla max-posts-per-run post işlenir, kalanlar sonraki çalışmaya kalır.
+ *
+ * Birden fazla instance aynı postu temizlemeye çalışırsa silmeler idempotent olduğu için sorun olmaz.
+ */
+@Component
+@ConditionalOnProperty(name = "app.posts.purge.enabled", havingValue = "true", matchIfMissing = true)
+public class PostPurgeJob {
+
+    private static final Logger log = LoggerFactory.getLogger(PostPurgeJob.class);
+
+    private final PostRepository postRepository;
+    private final CascadeDeleteService cascadeDeleteService;
+    private final int maxPostsPerRun;
+
+    public PostPurgeJob(PostRepository postRepository,
+                        CascadeDeleteService cascadeDeleteService,
+                        @Value("${app.posts.purge.max-posts-per-run:20}") int maxPostsPerRun) {
+        this.postRepository = postRepository;
+        this.cascadeDeleteService = cascadeDeleteService;
+        this.maxPostsPerRun = maxPostsPerRun;
+    }
+
+    @Scheduled(fixedDelayString = "${app.posts.purge.interval-ms:30000}",
+               initialDelayString = "${app.posts.purge.interval-ms:30000}")
+    public void purgeDeletedPosts() {
+        List<Long> postIds = postRepository.findTombstonedIds(maxPostsPerRun);
+        for (Long postId : postIds) {
+            try {
+                cascadeDeleteService.purgePost(postId);
+            } catch (DataAccessException e) {
+                // Tombstone yerinde kalır, sonraki çalışmada tekrar denenir
+                log.warn("Post {} temizlenemedi, sonraki çalışmada tekrar denenecek: {}", postId, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.blog.blok_api.service;
+
+import java.util.List;
+
+/**
+ * PostSearchBackend - Post arama altyapısı
+ * Hangi implementasyonun kullanılacağı app.search.backend ile seçilir:
+ *  - jpa      : LIKE tabanlı, her veritabanında çalışır (varsayılan)
+ *  - postgres : tsvector + GIN index + ts_rank sıralaması
+ *
+ * Sadece sıralı post ID'lerini döndürür, DTO'lar PostService içinde batch sorgularla oluşturulur.
+ */
+public interface PostSearchBackend {
+
+    List<Long> searchPublishedPostIds(String query, int page, int size);
+}
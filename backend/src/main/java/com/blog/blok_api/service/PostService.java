@@ -1,23 +1,107 @@
 package com.blog.blok_api.service;
 
+import com.blog.blok_api.dto.NewPostsResponseDto;
 import com.blog.blok_api.dto.PostRequestDto;
 import com.blog.blok_api.dto.PostResponseDto;
+import com.blog.blok_api.dto.PostViewDailyDto;
+import com.blog.blok_api.dto.TagDto;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 import java.io.IOException;
+import java.io.OutputStream;
 
 public interface PostService {
     PostResponseDto createPost(String token, PostRequestDto postRequestDto) throws Exception;
     PostResponseDto getPostById(Long id, String token) throws Exception;
     List<PostResponseDto> getAllPosts(String token);
+
+    /**
+     * Feed yoklaması: sinceId'den (istemcinin gördüğü en yeni post) yeni yayınlanmış post sayısı
+     * Çoğunlukla bellekteki son yayınlar tamponundan, sorgusuz cevaplanır (RecentPostsService)
+     *
+     * @param includeIds true ise yeni postların ID'leri de döner (en yeni önce, sınırlı)
+     */
+    NewPostsResponseDto getNewPostsSince(long sinceId, boolean includeIds);
+
+    /**
+     * Ana sayfa akışı: kullanıcının ve takip ettiklerinin postları, en yeni önce (TimelineService)
+     *
+     * @param beforeId önceki sayfanın son post ID'si (ilk sayfa için null)
+     * @throws Exception Token geçersizse
+     */
+    List<PostResponseDto> getHomeTimeline(String token, Long beforeId, int size) throws Exception;
+
+    /**
+     * Kişisel sıralı akış: yeni, trend ve ilgi duyulan tag'lerden adaylar etkileşim, tag ilgisi ve
+     * tazeliğe göre puanlanır (FeedRankingService)
+     *
+     * @param token JWT token (opsiyonel; anonimde tag ilgisi kullanılmaz)
+     */
+    List<PostResponseDto> getRankedFeed(String token, int page, int size);
+
+    /**
+     * getRankedFeed - kullanıcısı önceden çözülmüş çağıranlar için (HomeService)
+     *
+     * @param userId anonim için null
+     */
+    List<PostResponseDto> getRankedFeed(Long userId, int page, int size);
+
+    /**
+     * Post detayındaki "benzer postlar" - önceden hesaplanmış indeksten tek okuma (RelatedPostsService)
+     * Henüz hesaplanmamış postta boş liste döner
+     */
+    List<PostResponseDto> getRelatedPosts(Long postId, String token, int size);
+
+    /**
+     * Tüm yayınlanmış postları JSON dizisi olarak doğrudan çıkış akışına yazar
+     * getAllPosts ile aynı çıktı; fakat postlar parça parça okunup yazıldığı için
+     * istek başına bellek kullanımı sonuç sayısından bağımsızdır
+     *
+     * @param token JWT token (opsiyonel, likedByCurrentUser için)
+     * @param out Yanıt gövdesi (kapatılmaz)
+     */
+    void streamAllPosts(String token, OutputStream out) throws IOException;
+
+    /**
+     * GET /api/posts/{id} için strong ETag - post versiyonu, sayaç versiyonu, yazar güncellenme
+     * zamanı ve izleyen kullanıcıdan tek PK lookup'ı ile hesaplanır (enrichment sorguları çalışmaz)
+     *
+     * @throws Exception Post bulunamadığında
+     */
+    String getPostEtag(Long id, String token) throws Exception;
+
+    /**
+     * Feed ve trend listesi için strong ETag - yayınlanmış postların versiyon parmak izi
+     * ve izleyen kullanıcıdan tek aggregate sorgu ile hesaplanır
+     *
+     * @param scope Listeyi ayırt eden önek (ör. "feed", "top")
+     */
+    String getFeedEtag(String scope, String token);
     List<PostResponseDto> getMyPosts(String token);
 
     @Transactional
     void deletePostByIdAndUser(Long postId, Long userId);
 
     List<PostResponseDto> getTop5MostLikedPosts(String token);
+
+    /**
+     * @param userId likedByCurrentUser için; anonim için null
+     */
+    List<PostResponseDto> getTop5MostLikedPosts(Long userId);
+
+    List<TagDto> getAllTags();
+
+    /**
+     * Yayınlanmış postlarda arama - kullanılan altyapı app.search.backend ile seçilir
+     *
+     * @param token JWT token (opsiyonel, likedByCurrentUser için)
+     * @param query Arama ifadesi
+     * @param page Sayfa numarası (0'dan başlar)
+     * @param size Sayfa boyutu
+     */
+    List<PostResponseDto> searchPosts(String token, String query, int page, int size);
     String uploadPostImage(String token, MultipartFile file) throws IOException;
     String uploadPostMedia(String token, MultipartFile file) throws IOException;
 
@@ -32,4 +116,17 @@ public interface PostService {
      */
     @Transactional
     void trackMultiplePostViews(String token, List<Long> postIds) throws Exception;
-}
\ No newline at end of file
+
+    /**
+     * Anonim görüntülenmeler - sadece HLL sketch'ine eklenir (ham olay ve views_count yok)
+     */
+    void trackAnonymousPostViews(String visitorKey, List<Long> postIds) throws Exception;
+
+    /**
+     * Postun son "days" günlük görüntülenme özetleri (post_view_daily, rollup ile dolar)
+     * Bugünün satırı en son rollup çalışmasına kadar olan görüntülenmeleri içerir
+     *
+     * @throws Exception Post bulunamadığında
+     */
+    List<PostViewDailyDto> getDailyViews(Long postId, int days) throws Exception;
+}
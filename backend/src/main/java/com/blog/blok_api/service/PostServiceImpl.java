@@ -1,14 +1,25 @@
 package com.blog.blok_api.service;
 
+import com.blog.blok_api.dto.NewPostsResponseDto;
 import com.blog.blok_api.dto.PostRequestDto;
 import com.blog.blok_api.dto.PostResponseDto;
+import com.blog.blok_api.dto.PostViewDailyDto;
+import com.blog.blok_api.dto.TagDto;
 import com.blog.blok_api.mapper.PostMapper;
 import com.blog.blok_api.model.*;
 import com.blog.blok_api.repository.*;
 import com.blog.blok_api.security.JwtUtil;
+import com.blog.blok_api.util.CompactIdSet;
+import com.blog.blok_api.util.HyperLogLog;
 import com.blog.blok_api.util.SlugUtil;
 import com.cloudinary.Cloudinary;
 import com.cloudinary.utils.ObjectUtils;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -16,7 +27,10 @@ import org.springframework.transaction.annotation.Transactional;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.web.multipart.MultipartFile;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -24,6 +38,7 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import java.io.IOException;
+import java.io.OutputStream;
 
 @Service
 public class PostServiceImpl implements PostService {
@@ -36,10 +51,27 @@ public class PostServiceImpl implements PostService {
     private final PostMapper postMapper;
     private final LikeService likeService;
     private final LikeRepository likeRepository;
-    private final CommentRepository commentRepository;
     private final PostViewRepository postViewRepository;
+    private final PostViewSeenRepository postViewSeenRepository;
+    private final PostViewDailyRepository postViewDailyRepository;
+    private final PostViewSketchService postViewSketchService;
     private final SavedPostRepository savedPostRepository;
     private final Cloudinary cloudinary;
+    private final PostSearchBackend postSearchBackend;
+    private final PostDetailCacheService postDetailCacheService;
+    private final UserInteractionStateService userInteractionStateService;
+    private final RecentPostsService recentPostsService;
+    private final TimelineService timelineService;
+    private final FeedRankingService feedRankingService;
+    private final RelatedPostsService relatedPostsService;
+    private final FeedVersionService feedVersionService;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final DistributionSummary viewBatchSize;
+    private final Counter newViewsCounter;
+
+    /** Feed akışında tek seferde zenginleştirilip yazılan post sayısı */
+    private static final int STREAM_CHUNK_SIZE = 100;
 
     public PostServiceImpl(PostRepository postRepository,
                            UserRepository userRepository,
@@ -49,10 +81,23 @@ public class PostServiceImpl implements PostService {
                            PostMapper postMapper,
                            LikeService likeService, 
                            LikeRepository likeRepository, 
-                           CommentRepository commentRepository,
                            PostViewRepository postViewRepository,
+                           PostViewSeenRepository postViewSeenRepository,
+                           PostViewDailyRepository postViewDailyRepository,
+                           PostViewSketchService postViewSketchService,
                            SavedPostRepository savedPostRepository,
-                           Cloudinary cloudinary) {
+                           Cloudinary cloudinary,
+                           PostSearchBackend postSearchBackend,
+                           PostDetailCacheService postDetailCacheService,
+                           UserInteractionStateService userInteractionStateService,
+                           RecentPostsService recentPostsService,
+                           TimelineService timelineService,
+                           FeedRankingService feedRankingService,
+                           RelatedPostsService relatedPostsService,
+                           FeedVersionService feedVersionService,
+                           ObjectMapper objectMapper,
+                           EntityManager entityManager,
+                           MeterRegistry meterRegistry) {
         this.postRepository = postRepository;
         this.userRepository = userRepository;
         this.categoryRepository = categoryRepository;
@@ -61,10 +106,29 @@ public class PostServiceImpl implements PostService {
         this.postMapper = postMapper;
         this.likeService = likeService;
         this.likeRepository = likeRepository;
-        this.commentRepository = commentRepository;
         this.postViewRepository = postViewRepository;
+        this.postViewSeenRepository = postViewSeenRepository;
+        this.postViewDailyRepository = postViewDailyRepository;
+        this.postViewSketchService = postViewSketchService;
         this.savedPostRepository = savedPostRepository;
         this.cloudinary = cloudinary;
+        this.postSearchBackend = postSearchBackend;
+        this.postDetailCacheService = postDetailCacheService;
+        this.userInteractionStateService = userInteractionStateService;
+        this.recentPostsService = recentPostsService;
+        this.timelineService = timelineService;
+        this.feedRankingService = feedRankingService;
+        this.relatedPostsService = relatedPostsService;
+        this.feedVersionService = feedVersionService;
+        this.objectMapper = objectMapper;
+        this.entityManager = entityManager;
+        // Görüntülenme takibi senkron çalışır (kuyruk yok); istek başına ID sayısı ve yeni görüntülenmeler izlenir
+        this.viewBatchSize = DistributionSummary.builder("blok.views.batch.size")
+                .description("POST /api/posts/views isteği başına gelen post ID sayısı")
+                .register(meterRegistry);
+        this.newViewsCounter = Counter.builder("blok.views.new")
+                .description("Kaydedilen yeni (kullanıcı, post) görüntülenmeleri")
+                .register(meterRegistry);
     }
 
     @Override
@@ -108,35 +172,182 @@ public class PostServiceImpl implements PostService {
         post.setViewsCount(0);
 
         Post saved = postRepository.save(post);
+        recentPostsService.published(saved.getId());
+        timelineService.postPublished(saved.getId(), author.getId());
+        relatedPostsService.published(saved.getId());
+        feedVersionService.changed();
         PostResponseDto responseDto = postMapper.toDto(saved);
         responseDto.setLikeCount(0); // Yeni post, henüz like yok
         responseDto.setLikedByCurrentUser(false);
         return responseDto;
     }
 
+    /**
+     * Post detayı - CACHE'Lİ
+     * 1. Versiyon lookup (tek PK sorgusu) - post yoksa 404
+     * 2. Gövde: "id:version" anahtarıyla cache'ten (post güncellenince anahtar değişir)
+     * 3. Sayaçlar: postId anahtarıyla cache'ten (like/yorum/görüntülenmede evict edilir)
+     * 4. likedByCurrentUser: kullanıcının beğendiği post ID setinden (kullanıcı lookup'ı yok)
+     */
     @Override
     @Transactional(readOnly = true)
     public PostResponseDto getPostById(Long id, String token) throws Exception {
-        // EntityGraph ile tags'ı eager olarak yükle - LazyInitializationException önleme
-        Post post = postRepository.findByIdWithRelations(id)
+        Long version = postRepository.findVersionById(id)
                 .orElseThrow(() -> new Exception("Post bulunamadı."));
 
-        User currentUser = null;
+        PostResponseDto body = postDetailCacheService.getPostBody(id, version);
+        PostDetailCacheService.PostCounters counters = postDetailCacheService.getCounters(id);
+        if (body == null || counters == null) {
+            throw new Exception("Post bulunamadı.");
+        }
+
+        Long currentUserId = null;
         if (token != null && !token.isBlank()) {
             try {
-                Long userId = jwtUtil.extractUserId(token);
-                currentUser = userRepository.findById(userId).orElse(null);
+                currentUserId = jwtUtil.extractUserId(token);
             } catch (Exception ignored) {
             }
         }
 
-        PostResponseDto dto = postMapper.toDto(post);
-        dto.setLikeCount(likeService.countByPost(post).intValue());
-        dto.setLikedByCurrentUser(currentUser != null && likeService.hasUserLikedPost(currentUser, post));
-        dto.setCommentCount(post.getComments() != null ? (int) post.getComments().stream().filter(c -> !c.isDeleted()).count() : 0);
+        // Cache'teki nesne paylaşımlı - kopyası üzerinde çalış
+        PostResponseDto dto = postMapper.copy(body);
+        dto.setViewsCount(counters.getViewsCount());
+        dto.setUniqueViewers(counters.getUniqueViewers());
+        dto.setLikeCount(counters.getLikeCount());
+        dto.setCommentCount(counters.getCommentCount());
+        dto.setLikedByCurrentUser(userInteractionStateService.isLiked(currentUserId, id));
         return dto;
     }
 
+    /**
+     * Post detay ETag'i: "p{id}-{version}-{statsVersion}-{yazarDamgası}-u{kullanıcı}"
+     * - version: içerik güncellemelerinde artar (@Version)
+     * - statsVersion: like, yorum, kaydetme, görüntülenmede artar
+     * - likedByCurrentUser kullanıcıya göre değiştiği için kullanıcı ID'si de ETag'in parçası
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public String getPostEtag(Long id, String token) throws Exception {
+        List<Object[]> rows = postRepository.findValidatorsById(id);
+        if (rows.isEmpty()) {
+            throw new Exception("Post bulunamadı.");
+        }
+        Object[] row = rows.get(0);
+        return "p" + id
+                + "-" + row[0]
+                + "-" + row[1]
+                + "-" + toEtagStamp((LocalDateTime) row[2])
+                + "-u" + resolveCurrentUserId(token);
+    }
+
+    /**
+     * Feed ETag'i: bellekteki feed sürümü (FeedVersionService) ve kullanıcı
+     * 304 yanıtı için veritabanı sorgusu çalışmaz
+     */
+    @Override
+    public String getFeedEtag(String scope, String token) {
+        return scope + "-" + feedVersionService.current() + "-u" + resolveCurrentUserId(token);
+    }
+
+    private static String toEtagStamp(LocalDateTime dateTime) {
+        return dateTime != null ? Long.toString(dateTime.toInstant(ZoneOffset.UTC).toEpochMilli(), 36) : "0";
+    }
+
+    /**
+     * Token'dan kullanıcı ID'si - token yoksa veya geçersizse 0 (anonim)
+     */
+    private long resolveCurrentUserId(String token) {
+        if (token == null || token.isBlank()) {
+            return 0L;
+        }
+        try {
+            Long userId = jwtUtil.extractUserId(token);
+            return userId != null ? userId : 0L;
+        } catch (Exception ignored) {
+            return 0L;
+        }
+    }
+
+    /**
+     * Feed yoklaması: sinceId'den yeni yayınlanmış post sayısı (RecentPostsService önbelleğinden)
+     */
+    @Override
+    public NewPostsResponseDto getNewPostsSince(long sinceId, boolean includeIds) {
+        return recentPostsService.newSince(sinceId, includeIds);
+    }
+
+    /**
+     * Ana sayfa akışı - sıralı post ID'leri akıştan (çoğunlukla tek PK okuması), postlar ve
+     * sayaçlar trend / arama listeleriyle aynı yoldan (EntityGraph + batch count sorguları)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<PostResponseDto> getHomeTimeline(String token, Long beforeId, int size) throws Exception {
+        Long userId = jwtUtil.extractUserId(token);
+        if (userId == null) {
+            throw new Exception("Kullanıcı bulunamadı.");
+        }
+
+        List<Long> postIds = timelineService.homePostIds(userId, beforeId, size);
+        return toOrderedDtos(postIds, userId);
+    }
+
+    /**
+     * Kişisel sıralı akış - sıralama bellekteki pencereden (sorgusuz), postlar ve sayaçlar ana sayfa
+     * akışıyla aynı yoldan
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<PostResponseDto> getRankedFeed(String token, int page, int size) {
+        long userId = resolveCurrentUserId(token);
+        return getRankedFeed(userId != 0 ? userId : null, page, size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PostResponseDto> getRankedFeed(Long userId, int page, int size) {
+        List<Long> postIds = feedRankingService.rank(userId != null ? userId : 0L, page, size);
+        return toOrderedDtos(postIds, userId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PostResponseDto> getRelatedPosts(Long postId, String token, int size) {
+        long userId = resolveCurrentUserId(token);
+        List<Long> postIds = relatedPostsService.relatedPostIds(postId, size);
+        return toOrderedDtos(postIds, userId != 0 ? userId : null);
+    }
+
+    /**
+     * Sıralı post ID'lerinden DTO listesi: EntityGraph + batch count sorguları, sıra korunur,
+     * silinmiş postlar atlanır
+     */
+    private List<PostResponseDto> toOrderedDtos(List<Long> postIds, Long userId) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Post> postMap = postRepository.findByIdsWithRelations(postIds).stream()
+                .collect(Collectors.toMap(Post::getId, post -> post, (p1, p2) -> p1));
+        Map<Long, Integer> likeCountMap = getLikeCountsByPostIds(postIds);
+        Map<Long, Integer> commentCountMap = getCommentCountsByPostIds(postIds);
+        Set<Long> likedPostIds = userId != null
+            ? getLikedPostIdsByUserIdAndPostIds(userId, postIds)
+            : Set.of();
+
+        return postIds.stream()
+                .map(postMap::get)
+                .filter(post -> post != null)
+                .map(post -> {
+                    PostResponseDto dto = postMapper.toDto(post);
+                    dto.setLikeCount(likeCountMap.getOrDefault(post.getId(), 0));
+                    dto.setCommentCount(commentCountMap.getOrDefault(post.getId(), 0));
+                    dto.setLikedByCurrentUser(likedPostIds.contains(post.getId()));
+                    return dto;
+                })
+                .collect(Collectors.toList());
+    }
+
     /**
      * Tüm yayınlanmış postları getir - OPTİMİZE EDİLMİŞ
      * N+1 problemi çözüldü: Tek sorguda ilişkiler, batch count sorguları
@@ -182,6 +393,69 @@ public class PostServiceImpl implements PostService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Feed akışı - getAllPosts ile aynı JSON, fakat sabit bellekle:
+     * 1. Post ID'leri (created_at DESC, id) keyset sayfalamasıyla 100'erli parçalar halinde okunur
+     * 2. Her parça için: postlar (author, role, tags) tek sorguda, like/yorum sayıları ve
+     *    kullanıcının beğenileri batch sorgularla yüklenir
+     * 3. DTO'lar JsonGenerator ile yazılır ve parça flush edilir
+     *
+     * Metot transaction açmaz: her sorgu kendi kısa (readOnly) transaction'ında çalışır ve
+     * bağlantı, istemci parçayı okurken havuza döner; yavaş bir indirme bağlantı ya da snapshot tutmaz.
+     * Parçalar farklı anlarda okunduğu için indirme sürerken yayınlanan postlar yanıta girmez,
+     * silinenler (henüz yazılmadıysa) atlanır.
+     */
+    @Override
+    public void streamAllPosts(String token, OutputStream out) throws IOException {
+        long currentUserId = resolveCurrentUserId(token);
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            // Yanıt akışını Spring kapatır
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartArray();
+
+            Pageable chunk = PageRequest.of(0, STREAM_CHUNK_SIZE);
+            List<Object[]> keys = postRepository.findPublishedFeedKeys(chunk);
+            while (!keys.isEmpty()) {
+                writePostChunk(generator, keys.stream().map(row -> (Long) row[0]).collect(Collectors.toList()),
+                        currentUserId);
+                if (keys.size() < STREAM_CHUNK_SIZE) {
+                    break;
+                }
+                Object[] last = keys.get(keys.size() - 1);
+                keys = postRepository.findPublishedFeedKeysAfter((LocalDateTime) last[1], (Long) last[0], chunk);
+            }
+
+            generator.writeEndArray();
+        }
+    }
+
+    private void writePostChunk(JsonGenerator generator, List<Long> postIds, long currentUserId) throws IOException {
+        // findByIdsWithRelations sırayı garanti etmez; keyset sırasına göre yazılır
+        Map<Long, Post> postsById = postRepository.findByIdsWithRelations(postIds).stream()
+                .collect(Collectors.toMap(Post::getId, post -> post));
+
+        Map<Long, Integer> likeCountMap = getLikeCountsByPostIds(postIds);
+        Map<Long, Integer> commentCountMap = getCommentCountsByPostIds(postIds);
+        Set<Long> likedPostIds = currentUserId != 0L
+                ? getLikedPostIdsByUserIdAndPostIds(currentUserId, postIds)
+                : Set.of();
+
+        for (Long postId : postIds) {
+            Post post = postsById.get(postId);
+            if (post == null) {
+                // ID okunduktan sonra silinmiş
+                continue;
+            }
+            PostResponseDto dto = postMapper.toDto(post);
+            dto.setLikeCount(likeCountMap.getOrDefault(postId, 0));
+            dto.setCommentCount(commentCountMap.getOrDefault(postId, 0));
+            dto.setLikedByCurrentUser(likedPostIds.contains(postId));
+            generator.writeObject(dto);
+        }
+        generator.flush();
+    }
+
     /**
      * Kullanıcının postlarını getir - OPTİMİZE EDİLMİŞ
      * N+1 problemi çözüldü: Batch sorgular kullanılıyor
@@ -230,28 +504,16 @@ public class PostServiceImpl implements PostService {
             throw new SecurityException("Bu postu silme yetkiniz yok.");
         }
 
-        // 1. Posta ait yorumları bul
-        List<Comment> comments = commentRepository.findAllByPostId(postId);
-        List<Long> commentIds = comments.stream()
-                .map(Comment::getId)
-                .toList();
-
-        // 2. Yorumlara ait like'ları sil
-        if (!commentIds.isEmpty()) {
-            likeRepository.deleteAllByCommentIdIn(commentIds);
-        }
-
-        // 3. Posta ait like'ları sil
-        likeRepository.deleteAllByPostId(postId);
+        // 1. Tombstone: post anında Post sorgularından gizlenir (tek satır UPDATE, @SQLRestriction)
+        //    Bağlı satırlar purge'e kadar durur; okuma yolları postu JOIN/EXISTS ile eler
+        //    (yorum beğenileri, like sayısı, etkileşim durumu, bildirim listesi)
+        //    Yorumlar, like'lar, görüntülenme, kaydetme ve bildirim satırları PostPurgeJob ile arka planda parça parça silinir
+        postRepository.markDeleted(postId, LocalDateTime.now());
 
-        // 4. Posta ait görüntülenme kayıtlarını sil (foreign key constraint hatası önleme)
-        postViewRepository.deleteAllByPost(post);
-
-        // 5. Posta ait kaydedilmiş post kayıtlarını sil (foreign key constraint hatası önleme)
-        savedPostRepository.deleteAllByPost(post);
-
-        // 6. En son post'u sil
-        postRepository.delete(post);
+        // 2. Detay cache'ini temizle (commit sonrası uygulanır)
+        postDetailCacheService.evictPostBody(postId, post.getVersion());
+        postDetailCacheService.evictCounters(postId);
+        recentPostsService.removed(postId);
     }
 
 
@@ -263,6 +525,13 @@ public class PostServiceImpl implements PostService {
     @Override
     @Transactional(readOnly = true)
     public List<PostResponseDto> getTop5MostLikedPosts(String token) {
+        long userId = resolveCurrentUserId(token);
+        return getTop5MostLikedPosts(userId != 0 ? userId : null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PostResponseDto> getTop5MostLikedPosts(Long currentUserId) {
         Pageable top5 = PageRequest.of(0, 5);
 
         // 1. Önce puanlama sistemine göre sıralı Post ID'lerini al
@@ -278,17 +547,7 @@ public class PostServiceImpl implements PostService {
         Map<Long, Post> postMap = topPosts.stream()
                 .collect(Collectors.toMap(Post::getId, post -> post, (p1, p2) -> p1, java.util.LinkedHashMap::new));
 
-        // 4. Current user bilgisini al
-        Long currentUserId = null;
-        if (token != null && !token.isBlank()) {
-            try {
-                currentUserId = jwtUtil.extractUserId(token);
-            } catch (Exception ignored) {
-                // Token geçersizse devam et
-            }
-        }
-
-        // 5. Batch sorgular: Like count, Comment count, Liked post IDs
+        // 4. Batch sorgular: Like count, Comment count, Liked post IDs
         // NOT: Puanlama (beğeni*5 + yorum*10 + kaydetme*15 + görüntülenme*3) sorgu içinde yapılıyor
         Map<Long, Integer> likeCountMap = getLikeCountsByPostIds(topPostIds);
         Map<Long, Integer> commentCountMap = getCommentCountsByPostIds(topPostIds);
@@ -296,7 +555,7 @@ public class PostServiceImpl implements PostService {
             ? getLikedPostIdsByUserIdAndPostIds(currentUserId, topPostIds)
             : Set.of();
 
-        // 6. Sıralamayı koruyarak DTO'ları oluştur
+        // 5. Sıralamayı koruyarak DTO'ları oluştur
         return topPostIds.stream()
                 .map(postId -> postMap.get(postId))
                 .filter(post -> post != null)
@@ -312,6 +571,66 @@ public class PostServiceImpl implements PostService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<TagDto> getAllTags() {
+        return tagRepository.findAll().stream().map(tag -> {
+            TagDto dto = new TagDto();
+            dto.setId(tag.getId());
+            dto.setName(tag.getName());
+            dto.setSlug(tag.getSlug());
+            return dto;
+        }).toList();
+    }
+
+    /**
+     * Post arama - İki adımlı yaklaşım:
+     * 1. Arama altyapısından sıralı post ID'leri (ts_rank veya tarih sırası)
+     * 2. EntityGraph ile postlar + batch count sorguları (trend postlarla aynı yol)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<PostResponseDto> searchPosts(String token, String query, int page, int size) {
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+
+        List<Long> postIds = postSearchBackend.searchPublishedPostIds(query, page, size);
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Post> postMap = postRepository.findByIdsWithRelations(postIds).stream()
+                .collect(Collectors.toMap(Post::getId, post -> post, (p1, p2) -> p1));
+
+        Long currentUserId = null;
+        if (token != null && !token.isBlank()) {
+            try {
+                currentUserId = jwtUtil.extractUserId(token);
+            } catch (Exception ignored) {
+                // Token geçersizse devam et
+            }
+        }
+
+        Map<Long, Integer> likeCountMap = getLikeCountsByPostIds(postIds);
+        Map<Long, Integer> commentCountMap = getCommentCountsByPostIds(postIds);
+        Set<Long> likedPostIds = currentUserId != null
+            ? getLikedPostIdsByUserIdAndPostIds(currentUserId, postIds)
+            : Set.of();
+
+        // Arama sıralamasını koruyarak DTO'ları oluştur
+        return postIds.stream()
+                .map(postMap::get)
+                .filter(post -> post != null)
+                .map(post -> {
+                    PostResponseDto dto = postMapper.toDto(post);
+                    dto.setLikeCount(likeCountMap.getOrDefault(post.getId(), 0));
+                    dto.setCommentCount(commentCountMap.getOrDefault(post.getId(), 0));
+                    dto.setLikedByCurrentUser(likedPostIds.contains(post.getId()));
+                    return dto;
+                })
+                .collect(Collectors.toList());
+    }
+
     @Override
     public String uploadPostImage(String token, MultipartFile file) throws IOException {
         // Token'dan kullanıcı ID'sini al
@@ -458,31 +777,28 @@ public class PostServiceImpl implements PostService {
 
     /**
      * Kullanıcının beğendiği post ID'lerini toplu olarak getir
+     * PERFORMANS: Sorgu yok - kullanıcının bellekteki beğeni kümesinden (UserInteractionStateService)
      * @param userId Kullanıcı ID
      * @param postIds Post ID listesi
      * @return Set<PostId> - Beğenilen post ID'leri
      */
     private Set<Long> getLikedPostIdsByUserIdAndPostIds(Long userId, List<Long> postIds) {
-        if (postIds.isEmpty()) {
-            return Set.of();
-        }
-
-        List<Long> likedPostIds = likeRepository.findLikedPostIdsByUserIdAndPostIds(userId, postIds);
-        return Set.copyOf(likedPostIds);
+        return userInteractionStateService.likedAmong(userId, postIds);
     }
 
     /**
      * Toplu post görüntülenme takibi - PERFORMANS ODAKLI
      * 
      * İşlem Adımları:
-     * 1. Token'dan user ID al
-     * 2. Boş liste kontrolü
-     * 3. Kullanıcının daha önce görüntülediği post ID'lerini tek sorguda bul
-     * 4. Yeni görüntülenmeler için PostView kayıtları oluştur (batch insert)
-     * 5. views_count'u toplu olarak artır (native query)
+     * 1. Token'dan user ID al, kullanıcı satırını kilitle (aynı kullanıcının eşzamanlı istekleri sıraya girer)
+     * 2. Var olan (silinmemiş) post ID'lerini filtrele
+     * 3. Her görüntülenmeyi ham olay olarak post_views'e yaz (tek INSERT ... SELECT, aylık partition)
+     * 4. Kullanıcının görüntülenmiş post kümesinde (post_view_seen) olmayanları bul ve kümeye ekle
+     * 5. Sadece ilk görüntülenmeler için views_count'u toplu olarak artır (native query)
+     * HLL modunda kullanıcı ayrıca bellekteki sketch'lere eklenir (sorgu yok)
      * 
-     * Toplam sorgu sayısı: 3 (user çekme, görüntülenmiş postlar kontrolü, views_count güncelleme)
-     * PostView kayıtları: Batch save ile toplu insert
+     * Toplam sorgu sayısı: 5-6 (kilit, ID filtresi, olay insert'ü, küme okuma, views_count, küme yazma)
+     * Tekillik ham tabloda değil kümede tutulduğu için eski partition'lar arşivlense de bozulmaz
      */
     @Override
     @Transactional
@@ -491,6 +807,7 @@ public class PostServiceImpl implements PostService {
         if (postIds == null || postIds.isEmpty()) {
             return;
         }
+        viewBatchSize.record(postIds.size());
 
         // 2. Token'dan user ID al
         Long userId = jwtUtil.extractUserId(token);
@@ -498,44 +815,103 @@ public class PostServiceImpl implements PostService {
             throw new Exception("Kullanıcı bulunamadı.");
         }
 
-        // 3. User'ı bul (sadece ID ile, lazy loading)
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new Exception("Kullanıcı bulunamadı."));
+        // 3. Kullanıcı satırını kilitle (entity yüklemeden)
+        if (userRepository.lockById(userId).isEmpty()) {
+            throw new Exception("Kullanıcı bulunamadı.");
+        }
 
-        // 4. Daha önce görüntülenmemiş post ID'lerini bul (TEK SORGU)
-        Set<Long> alreadyViewedPostIds = postViewRepository.findViewedPostIdsByUserIdAndPostIds(userId, postIds);
-        
-        // 5. Yeni görüntülenmeler için post ID'lerini filtrele
-        List<Long> newViewPostIds = postIds.stream()
-                .filter(postId -> !alreadyViewedPostIds.contains(postId))
-                .distinct()
-                .collect(Collectors.toList());
+        // 4. Geçersiz / silinmiş post ID'lerini ele (kümeye rastgele ID yazılamasın)
+        List<Long> existingPostIds = postRepository.findExistingIds(postIds.stream().distinct().toList());
+        if (existingPostIds.isEmpty()) {
+            return;
+        }
+
+        // 5. Ham görüntülenme olayları (günlük rollup'ın kaynağı)
+        postViewRepository.insertViews(userId, existingPostIds, LocalDateTime.now());
+        postViewSketchService.record(HyperLogLog.hash(userId), existingPostIds);
 
-        // 6. Eğer yeni görüntülenme yoksa işlem yapma
+        // 6. İlk kez görüntülenenleri kümeye ekle
+        List<Long> newViewPostIds = markViewed(userId, existingPostIds);
         if (newViewPostIds.isEmpty()) {
             return;
         }
 
-        // 7. PostView kayıtları oluştur (batch insert için)
-        LocalDateTime now = LocalDateTime.now();
-        List<PostView> newPostViews = newViewPostIds.stream()
-                .map(postId -> {
-                    Post post = new Post();
-                    post.setId(postId);
-                    
-                    PostView postView = new PostView();
-                    postView.setUser(user);
-                    postView.setPost(post);
-                    postView.setViewedAt(now);
-                    return postView;
-                })
-                .collect(Collectors.toList());
+        // 7. views_count'u toplu olarak artır (TEK NATIVE QUERY)
+        postRepository.incrementViewsBatch(newViewPostIds);
+
+        // 8. Sayaç cache'ini temizle (commit sonrası uygulanır)
+        postDetailCacheService.evictCounters(newViewPostIds);
+        newViewsCounter.increment(newViewPostIds.size());
+    }
 
-        // 8. PostView kayıtlarını toplu olarak kaydet
-        postViewRepository.saveAll(newPostViews);
+    /**
+     * Anonim görüntülenme takibi - sadece HLL modunda
+     * Tek sorgu (var olan post ID'leri); ziyaretçi bellekteki sketch'lere eklenir,
+     * post_views / post_view_seen / views_count'a dokunulmaz
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void trackAnonymousPostViews(String visitorKey, List<Long> postIds) throws Exception {
+        if (!postViewSketchService.isEnabled()) {
+            throw new Exception("Görüntülenme takibi için giriş yapılmalı.");
+        }
+        if (postIds == null || postIds.isEmpty()) {
+            return;
+        }
+        viewBatchSize.record(postIds.size());
 
-        // 9. views_count'u toplu olarak artır (TEK NATIVE QUERY)
-        postRepository.incrementViewsBatch(newViewPostIds);
+        List<Long> existingPostIds = postRepository.findExistingIds(postIds.stream().distinct().toList());
+        if (!existingPostIds.isEmpty()) {
+            postViewSketchService.recordAnonymous(visitorKey, existingPostIds);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PostViewDailyDto> getDailyViews(Long postId, int days) throws Exception {
+        if (!postRepository.existsById(postId)) {
+            throw new Exception("Post bulunamadı.");
+        }
+        LocalDate from = LocalDate.now().minusDays(Math.max(1, Math.min(days, 365)) - 1L);
+        return postViewDailyRepository.findByPostIdAndViewDateGreaterThanEqualOrderByViewDateAsc(postId, from)
+                .stream()
+                .map(daily -> new PostViewDailyDto(daily.getViewDate(), daily.getViews(), daily.getUniqueViewers()))
+                .toList();
+    }
+
+    /**
+     * Post ID'lerini kullanıcının görüntülenmiş kümesine ekler, daha önce kümede olmayanları döner
+     * Dokunulan bucket'lar tek sorguyla okunur; değişenler dirty checking ile, yeniler persist ile yazılır
+     */
+    private List<Long> markViewed(Long userId, List<Long> postIds) {
+        Map<Long, List<Long>> idsByBucket = postIds.stream()
+                .collect(Collectors.groupingBy(CompactIdSet::bucketOf));
+        Map<Long, PostViewSeen> rows = postViewSeenRepository.findByUserIdAndBucketIn(userId, idsByBucket.keySet())
+                .stream()
+                .collect(Collectors.toMap(PostViewSeen::getBucket, row -> row));
+
+        List<Long> newlyViewed = new ArrayList<>();
+        idsByBucket.forEach((bucket, ids) -> {
+            PostViewSeen row = rows.get(bucket);
+            CompactIdSet.Container container = row != null
+                    ? CompactIdSet.Container.fromBytes(row.getPostIds())
+                    : new CompactIdSet.Container();
+            int before = newlyViewed.size();
+            for (Long id : ids) {
+                if (container.add(CompactIdSet.lowOf(id))) {
+                    newlyViewed.add(id);
+                }
+            }
+            if (newlyViewed.size() == before) {
+                return;
+            }
+            if (row != null) {
+                row.setPostIds(container.toBytes());
+            } else {
+                entityManager.persist(new PostViewSeen(userId, bucket, container.toBytes()));
+            }
+        });
+        return newlyViewed;
     }
 
 }
@@ -0,0 +1,101 @@
+package com.blog.blok_api.service;
+
+import com.blog.blok_api.config.PostViewPartitionManager;
+import com.blog.blok_api.repository.PostViewDailyRepository;
+import com.blog.blok_api.repository.PostViewRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * PostViewRollupJob - Ham görüntülenmelerin günlük özetlenmesi ve post_views partition bakımı
+ *
+ * Her çalışmada:
+ * 1. nextDay'den bugüne kadar (en fazla max-days-per-run gün) her gün PostViewRollupService ile özetlenir.
+ *    Bugün her çalışmada yeniden hesaplanır; gece yarısından sonraki ilk çalışma dünü son kez hesaplar.
+ *    İlk çalışmada nextDay, post_view_daily'deki son gün (yoksa en eski ham olay) olur; geçmiş
+ *    birikmişse her çalışma max-days-per-run gün ilerler.
+ * 2. PostViewPartitionManager ileri ayların partition'larını oluşturur ve özeti tamamlanmış,
+ *    saklama süresini aşmış partition'ları ayırır (PostgreSQL).
+ *
+ * Tek instance çalıştığı varsayılır; birden fazla instance aynı günü hesaplarsa sonuç yine doğrudur
+ * (gün silinip yeniden yazılır) ama iş tekrarlanır.
+ */
+@Component
+@ConditionalOnProperty(name = "app.views.rollup.enabled", havingValue = "true", matchIfMissing = true)
+public class PostViewRollupJob {
+
+    private static final Logger log = LoggerFactory.getLogger(PostViewRollupJob.class);
+
+    private final PostViewRollupService postViewRollupService;
+    private final PostViewRepository postViewRepository;
+    private final PostViewDailyRepository postViewDailyRepository;
+    private final PostViewPartitionManager partitionManager;
+    private final int maxDaysPerRun;
+
+    /** Özeti henüz kesinleşmemiş ilk gün; bundan önceki günler tamamlandı */
+    private LocalDate nextDay;
+
+    public PostViewRollupJob(PostViewRollupService postViewRollupService,
+                             PostViewRepository postViewRepository,
+                             PostViewDailyRepository postViewDailyRepository,
+                             PostViewPartitionManager partitionManager,
+                             @Value("${app.views.rollup.max-days-per-run:31}") int maxDaysPerRun) {
+        this.postViewRollupService = postViewRollupService;
+        this.postViewRepository = postViewRepository;
+        this.postViewDailyRepository = postViewDailyRepository;
+        this.partitionManager = partitionManager;
+        this.maxDaysPerRun = maxDaysPerRun;
+    }
+
+    @Scheduled(fixedDelayString = "${app.views.rollup.interval-ms:600000}",
+               initialDelayString = "${app.views.rollup.initial-delay-ms:60000}")
+    public void run() {
+        try {
+            rollup();
+            partitionManager.maintain(nextDay);
+        } catch (DataAccessException e) {
+            // nextDay ilerlemez, aynı günler sonraki çalışmada tekrar hesaplanır
+            log.warn("Görüntülenme rollup'ı başarısız, sonraki çalışmada tekrar denenecek: {}", e.getMessage());
+        }
+    }
+
+    private void rollup() {
+        LocalDate today = LocalDate.now();
+        if (nextDay == null) {
+            nextDay = initialDay(today);
+        }
+
+        LocalDate last = nextDay.plusDays(maxDaysPerRun - 1L);
+        if (last.isAfter(today)) {
+            last = today;
+        }
+
+        long start = System.currentTimeMillis();
+        int posts = 0;
+        for (LocalDate day = nextDay; !day.isAfter(last); day = day.plusDays(1)) {
+            posts += postViewRollupService.rollupDay(day);
+        }
+        log.debug("Görüntülenme rollup'ı: {} - {} ({} post-gün, {} ms)", nextDay, last, posts,
+                System.currentTimeMillis() - start);
+
+        // Bugün tamamlanmadı: bir sonraki çalışma bugünden başlar
+        nextDay = last.isBefore(today) ? last.plusDays(1) : today;
+    }
+
+    private LocalDate initialDay(LocalDate today) {
+        LocalDate lastRolledUp = postViewDailyRepository.findMaxViewDate();
+        if (lastRolledUp != null) {
+            return lastRolledUp.isAfter(today) ? today : lastRolledUp;
+        }
+        LocalDateTime oldestView = postViewRepository.findMinViewedAt();
+        return oldestView != null ? oldestView.toLocalDate() : today;
+    }
+}
@@ -0,0 +1,33 @@
+package com.blog.blok_api.service;
+
+import com.blog.blok_api.repository.PostViewDailyRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+/**
+ * PostViewRollupService - Bir günün ham görüntülenme olaylarından post_view_daily satırlarını üretir
+ *
+ * Gün önce silinip tek INSERT ... SELECT ile yeniden hesaplanır; aynı gün tekrar tekrar
+ * (bugün her çalışmada, dün gece yarısından sonraki ilk çalışmada) güvenle işlenebilir.
+ * Silme ve ekleme aynı transaction'da olduğu için okuyucular yarım gün görmez.
+ */
+@Service
+public class PostViewRollupService {
+
+    private final PostViewDailyRepository postViewDailyRepository;
+
+    public PostViewRollupService(PostViewDailyRepository postViewDailyRepository) {
+        this.postViewDailyRepository = postViewDailyRepository;
+    }
+
+    /**
+     * @return özeti çıkarılan post sayısı
+     */
+    @Transactional
+    public int rollupDay(LocalDate day) {
+        postViewDailyRepository.deleteByViewDate(day);
+        return postViewDailyRepository.insertRollup(day, day.atStartOfDay(), day.plusDays(1).atStartOfDay());
+    }
+}
@@ -0,0 +1,71 @@
+package com.blog.blok_api.service;
+
+import com.blog.blok_api.util.HyperLogLog;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * PostViewSketchFlushJob - Bellekteki HLL sketch'lerini periyodik olarak veritabanına yazar
+ *
+ * Her çalışmada bekleyen tüm postlar batch-size'lık parçalar halinde, her parça ayrı
+ * transaction'da PostViewSketchService.flush ile birleştirilir. Başarısız parça kuyruğa geri
+ * konur ve sonraki çalışmada tekrar denenir (HLL birleştirmesi idempotent olduğu için
+ * aynı eklemenin iki kez yazılması sonucu değiştirmez).
+ */
+@Component
+@ConditionalOnProperty(name = "app.views.unique.hll.enabled", havingValue = "true")
+public class PostViewSketchFlushJob {
+
+    private static final Logger log = LoggerFactory.getLogger(PostViewSketchFlushJob.class);
+
+    private final PostViewSketchService postViewSketchService;
+    private final int batchSize;
+
+    public PostViewSketchFlushJob(PostViewSketchService postViewSketchService,
+                                  @Value("${app.views.unique.hll.flush-batch-size:500}") int batchSize) {
+        this.postViewSketchService = postViewSketchService;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${app.views.unique.hll.flush-interval-ms:30000}",
+               initialDelayString = "${app.views.unique.hll.flush-interval-ms:30000}")
+    public void run() {
+        long start = System.currentTimeMillis();
+        int posts = 0;
+        // Çalışma sırasında gelen eklemeler bir sonraki çalışmaya kalır (döngü sınırlı)
+        int remaining = postViewSketchService.pendingCount();
+        while (remaining > 0) {
+            Map<Long, HyperLogLog> batch = postViewSketchService.drain(Math.min(batchSize, remaining));
+            if (batch.isEmpty()) {
+                break;
+            }
+            remaining -= batch.size();
+            try {
+                posts += postViewSketchService.flush(batch);
+            } catch (DataAccessException e) {
+                postViewSketchService.requeue(batch);
+                log.warn("HLL sketch flush'ı başarısız, sonraki çalışmada tekrar denenecek: {}", e.getMessage());
+                break;
+            }
+        }
+        if (posts > 0) {
+            log.debug("HLL sketch flush'ı: {} post, {} ms", posts, System.currentTimeMillis() - start);
+        }
+    }
+
+    /**
+     * Kapanışta bekleyenleri son kez yaz
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        run();
+    }
+}
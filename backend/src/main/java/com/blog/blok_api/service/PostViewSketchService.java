@@ -0,0 +1,156 @@
+package com.blog.blok_api.service;
+
+import com.blog.blok_api.model.PostViewSketch;
+import com.blog.blok_api.repository.PostRepository;
+import com.blog.blok_api.repository.PostViewSketchRepository;
+import com.blog.blok_api.util.HyperLogLog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * PostViewSketchService - HyperLogLog ile tekil görüntüleyen tahmini (app.views.unique.hll.enabled)
+ *
+ * Görüntülenmeler önce bellekteki post başına sketch'lere eklenir (veritabanı yazması yok);
+ * PostViewSketchFlushJob bunları periyodik olarak post_view_sketches'e birleştirir ve
+ * posts.unique_viewers'ı günceller. Böylece anonim ziyaretçiler için ham olay (post_views) ve
+ * tekillik kümesi (post_view_seen) tutulmadan tekil görüntüleyen sayısı verilebilir.
+ *
+ * Hata oranı app.views.unique.hll.error-rate ile ayarlanır (precision = ceil(log2((1.04 / hata)^2))).
+ * Hata oranı düşürülürse (precision artarsa) eski sketch'ler eski precision'da kalır, sadece
+ * yükseltilirse eski sketch'ler yeni precision'a indirgenir.
+ *
+ * Bekleyen sketch'ler flush'tan önce instance kapanırsa kaybolur (en fazla bir flush aralığı);
+ * kesin sayım gereken views_count bu yoldan etkilenmez.
+ */
+@Service
+public class PostViewSketchService {
+
+    private final PostViewSketchRepository postViewSketchRepository;
+    private final PostRepository postRepository;
+    private final PostDetailCacheService postDetailCacheService;
+    private final EntityManager entityManager;
+    private final boolean enabled;
+    private final int precision;
+    private final Counter anonymousViewsCounter;
+
+    /** Henüz yazılmamış eklemeler; compute ile güncellenir, remove ile alınır (sketch'ler thread-safe değil) */
+    private final ConcurrentHashMap<Long, HyperLogLog> pending = new ConcurrentHashMap<>();
+
+    public PostViewSketchService(PostViewSketchRepository postViewSketchRepository,
+                                 PostRepository postRepository,
+                                 PostDetailCacheService postDetailCacheService,
+                                 EntityManager entityManager,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.views.unique.hll.enabled:false}") boolean enabled,
+                                 @Value("${app.views.unique.hll.error-rate:0.02}") double errorRate) {
+        this.postViewSketchRepository = postViewSketchRepository;
+        this.postRepository = postRepository;
+        this.postDetailCacheService = postDetailCacheService;
+        this.entityManager = entityManager;
+        this.enabled = enabled;
+        this.precision = HyperLogLog.precisionFor(errorRate);
+        this.anonymousViewsCounter = Counter.builder("blok.views.anonymous")
+                .description("Sadece HLL sketch'ine eklenen anonim görüntülenmeler")
+                .register(meterRegistry);
+        meterRegistry.gauge("blok.views.hll.pending.posts", pending, Map::size);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Ziyaretçiyi (kullanıcı ID'si ya da anonim anahtar hash'i) postların sketch'lerine ekler
+     */
+    public void record(long visitorHash, Collection<Long> postIds) {
+        if (!enabled) {
+            return;
+        }
+        for (Long postId : postIds) {
+            pending.compute(postId, (id, sketch) -> {
+                HyperLogLog target = sketch != null ? sketch : new HyperLogLog(precision);
+                target.add(visitorHash);
+                return target;
+            });
+        }
+    }
+
+    public void recordAnonymous(String visitorKey, Collection<Long> postIds) {
+        record(HyperLogLog.hash(visitorKey), postIds);
+        anonymousViewsCounter.increment(postIds.size());
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Bekleyen sketch'lerden en fazla limit kadarını kuyruktan alır
+     */
+    public Map<Long, HyperLogLog> drain(int limit) {
+        Map<Long, HyperLogLog> batch = new HashMap<>();
+        Iterator<Long> ids = pending.keySet().iterator();
+        while (ids.hasNext() && batch.size() < limit) {
+            Long postId = ids.next();
+            HyperLogLog sketch = pending.remove(postId);
+            if (sketch != null) {
+                batch.put(postId, sketch);
+            }
+        }
+        return batch;
+    }
+
+    /**
+     * Yazılamayan sketch'leri kuyruğa geri koyar (arada gelen eklemelerle birleştirilir)
+     */
+    public void requeue(Map<Long, HyperLogLog> batch) {
+        batch.forEach((postId, sketch) -> pending.merge(postId, sketch, (current, failed) -> {
+            current.merge(failed);
+            return current;
+        }));
+    }
+
+    /**
+     * Bekleyen sketch'leri kayıtlı sketch'lerle birleştirir ve unique_viewers'ı günceller
+     * Sorgu sayısı parça büyüklüğünden bağımsız: kilitli okuma, sketch yazmaları (JDBC batch), tek UPDATE
+     *
+     * @return güncellenen post sayısı
+     */
+    @Transactional
+    public int flush(Map<Long, HyperLogLog> batch) {
+        Map<Long, PostViewSketch> rows = postViewSketchRepository.findAllForUpdate(batch.keySet()).stream()
+                .collect(Collectors.toMap(PostViewSketch::getPostId, Function.identity()));
+
+        batch.forEach((postId, sketch) -> {
+            PostViewSketch row = rows.get(postId);
+            if (row == null) {
+                entityManager.persist(new PostViewSketch(postId, sketch.toBytes(), sketch.estimate()));
+                return;
+            }
+            HyperLogLog stored = HyperLogLog.fromBytes(row.getSketch());
+            if (stored.precision() > sketch.precision()) {
+                stored = stored.withPrecision(sketch.precision());
+            }
+            stored.merge(sketch);
+            row.setSketch(stored.toBytes());
+            row.setEstimate(stored.estimate());
+        });
+        entityManager.flush();
+
+        int updated = postRepository.updateUniqueViewersFromSketches(batch.keySet());
+        postDetailCacheService.evictCounters(batch.keySet());
+        return updated;
+    }
+}
@@ -0,0 +1,38 @@
+package com.blog.blok_api.service;
+
+import com.blog.blok_api.repository.PostRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * PostgresPostSearchBackend - PostgreSQL full-text arama
+ * posts.search_vector (title, tag isimleri, summary, content) üzerindeki GIN index kullanılır,
+ * sonuçlar ts_rank'e göre sıralanır.
+ * Kolon, index ve trigger'lar SearchSchemaInitializer tarafından oluşturulur.
+ */
+@Service
+@ConditionalOnProperty(name = "app.search.backend", havingValue = "postgres")
+public class PostgresPostSearchBackend implements PostSearchBackend {
+
+    private final PostRepository postRepository;
+    private final String textSearchConfig;
+
+    public PostgresPostSearchBackend(PostRepository postRepository,
+                                     @Value("${app.search.text-config:simple}") String textSearchConfig) {
+        this.postRepository = postRepository;
+        this.textSearchConfig = textSearchConfig;
+    }
+
+    @Override
+    public List<Long> searchPublishedPostIds(String query, int page, int size) {
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        return postRepository.searchPublishedPostIdsFullText(
+                query.trim(), textSearchConfig, PageRequest.of(page, size));
+    }
+}
@@ -0,0 +1,182 @@
+package com.blog.blok_api.service;
+
+import com.blog.blok_api.dto.NewPostsResponseDto;
+import com.blog.blok_api.repository.PostRepository;
+import com.blog.blok_api.util.TransactionUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * RecentPostsService - Son yayınlanan postların halka tamponu (ring buffer) ve "yeni post var" sorgusu
+ *
+ * Feed'i yoklayan istemci en yeni gördüğü post ID'sini gönderir; cevap (N yeni post) tüm feed'i
+ * yeniden çekmeden, çoğunlukla sorgusuz bulunur:
+ * - Tampon: son "capacity" yayının ID'leri (long[]), createPost commit sonrası ekler, silme commit sonrası
+ *   işaretler. Sorgu tüm tamponu tarar (1024 long, mikro saniyeler); commit sırası ID sırasından farklı
+ *   olabileceği için sıraya güvenilmez.
+ * - floorId: tampondan düşen en büyük ID. floorId'den büyük tüm yayınlanmış postlar tampondadır;
+ *   sinceId >= floorId ise cevap tampondan, değilse (çok eski istemci) kısmi id index'i üzerinden
+ *   index-only COUNT ile verilir.
+ * - Başlangıçta (ApplicationReadyEvent) son capacity post tek sorguyla yüklenir; yüklenene kadar
+ *   cevaplar veritabanından verilir.
+ *
+ * Post ID'leri (IDENTITY) oluşturulma sırasıyla artar, bu yüzden "sinceId'den büyük" = "daha yeni".
+ * Tek instance varsayılır; diğer instance'larda oluşturulan postlar sadece veritabanı yolunda görünür.
+ */
+@Service
+public class RecentPostsService {
+
+    private final PostRepository postRepository;
+    private final int maxCount;
+    private final int maxIds;
+
+    private final long[] ids;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private int next;
+    private long floorId;
+    private volatile boolean ready;
+
+    public RecentPostsService(PostRepository postRepository,
+                              @Value("${app.posts.new-since.capacity:1024}") int capacity,
+                              @Value("${app.posts.new-since.max-count:1000}") int maxCount,
+                              @Value("${app.posts.new-since.max-ids:50}") int maxIds) {
+        this.postRepository = postRepository;
+        this.ids = new long[capacity];
+        this.maxCount = maxCount;
+        this.maxIds = maxIds;
+    }
+
+    /**
+     * sinceId'den yeni yayınlanmış postlar
+     *
+     * @param includeIds true ise en yeni max-ids post ID'si de döner
+     */
+    public NewPostsResponseDto newSince(long sinceId, boolean includeIds) {
+        if (ready) {
+            lock.readLock().lock();
+            try {
+                if (sinceId >= floorId) {
+                    return fromBuffer(sinceId, includeIds);
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+        long count = postRepository.countPublishedAfter(sinceId, maxCount);
+        List<Long> postIds = includeIds && count > 0
+                ? postRepository.findPublishedIdsAfter(sinceId, maxIds)
+                : List.of();
+        return new NewPostsResponseDto(count, postIds);
+    }
+
+    /**
+     * Yeni yayınlanan post (commit sonrası eklenir)
+     */
+    public void published(Long postId) {
+        TransactionUtil.afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                add(postId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Silinen post (commit sonrası tampondan çıkarılır)
+     */
+    public void removed(Long postId) {
+        TransactionUtil.afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                for (int i = 0; i < ids.length; i++) {
+                    if (ids[i] == postId) {
+                        ids[i] = 0;
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Toplu silmelerden (ör. kullanıcı silme) sonra tamponu veritabanından yeniden kurar
+     */
+    public void reload() {
+        TransactionUtil.afterCommit(this::load);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<Long> recent = postRepository.findPublishedIdsAfter(0, ids.length);
+        Set<Long> loaded = new HashSet<>(recent);
+        lock.writeLock().lock();
+        try {
+            // Yükleme sırasında eklenenler korunur; yüklenenler eskiden yeniye eklenir
+            List<Long> live = new ArrayList<>();
+            for (long id : ids) {
+                if (id != 0 && !loaded.contains(id)) {
+                    live.add(id);
+                }
+            }
+            Arrays.fill(ids, 0);
+            next = 0;
+            // Tampon dolu yüklendiyse daha eski postlar tampon dışında kalır
+            floorId = recent.size() == ids.length ? recent.get(recent.size() - 1) - 1 : 0;
+            for (int i = recent.size() - 1; i >= 0; i--) {
+                add(recent.get(i));
+            }
+            live.forEach(this::add);
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Yazma kilidi altında çağrılır: en eski slotun üzerine yazar, düşen ID floorId'yi yükseltir
+     */
+    private void add(long postId) {
+        long evicted = ids[next];
+        if (evicted > floorId) {
+            floorId = evicted;
+        }
+        ids[next] = postId;
+        next = (next + 1) % ids.length;
+    }
+
+    /**
+     * Okuma kilidi altında çağrılır
+     */
+    private NewPostsResponseDto fromBuffer(long sinceId, boolean includeIds) {
+        long count = 0;
+        List<Long> postIds = includeIds ? new ArrayList<>() : List.of();
+        for (long id : ids) {
+            if (id > sinceId) {
+                count++;
+                if (includeIds) {
+                    postIds.add(id);
+                }
+            }
+        }
+        if (includeIds) {
+            postIds.sort(Comparator.reverseOrder());
+            if (postIds.size() > maxIds) {
+                postIds = new ArrayList<>(postIds.subList(0, maxIds));
+            }
+        }
+        return new NewPostsResponseDto(Math.min(count, maxCount), postIds);
+    }
+}
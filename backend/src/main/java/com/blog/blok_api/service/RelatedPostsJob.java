@@ -0,0 +1,83 @@
+package com.blog.blok_api.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * RelatedPostsJob - Benzer post indeksini artımlı olarak günceller (RelatedPostsService)
+ *
+ * Açılıştan sonraki ilk çalışma tüm yayınlanmış postları (id keyset), sonrakiler sadece kirli postları
+ * batch-size'lık parçalarla, her parça ayrı transaction'da yeniden hesaplar. Başarısız parça kuyruğa
+ * geri konur (tam hesaplamada tam hesaplama sonraki çalışmada baştan denenir).
+ */
+@Component
+@ConditionalOnProperty(name = "app.related.enabled", havingValue = "true", matchIfMissing = true)
+public class RelatedPostsJob {
+
+    private static final Logger log = LoggerFactory.getLogger(RelatedPostsJob.class);
+
+    private final RelatedPostsService relatedPostsService;
+    private final int batchSize;
+
+    public RelatedPostsJob(RelatedPostsService relatedPostsService,
+                           @Value("${app.related.batch-size:100}") int batchSize) {
+        this.relatedPostsService = relatedPostsService;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${app.related.interval-ms:300000}",
+               initialDelayString = "${app.related.initial-delay-ms:60000}")
+    public void run() {
+        long start = System.currentTimeMillis();
+        int posts = 0;
+        int rows = 0;
+        try {
+            if (relatedPostsService.isFullRebuildPending()) {
+                long afterId = 0;
+                List<Long> postIds;
+                do {
+                    postIds = relatedPostsService.publishedIdsFrom(afterId, batchSize);
+                    if (postIds.isEmpty()) {
+                        break;
+                    }
+                    rows += relatedPostsService.rebuild(postIds);
+                    posts += postIds.size();
+                    afterId = postIds.get(postIds.size() - 1);
+                } while (postIds.size() == batchSize);
+                relatedPostsService.fullRebuildDone();
+            }
+        } catch (DataAccessException e) {
+            log.warn("Benzer post tam hesaplaması {} posttan sonra kesildi, sonraki çalışmada tekrar denenecek: {}",
+                    posts, e.getMessage());
+            return;
+        }
+
+        // Çalışma sırasında kirlenenler bir sonraki çalışmaya kalır
+        int remaining = relatedPostsService.dirtyCount();
+        while (remaining > 0) {
+            List<Long> postIds = relatedPostsService.drainDirty(Math.min(batchSize, remaining));
+            if (postIds.isEmpty()) {
+                break;
+            }
+            remaining -= postIds.size();
+            try {
+                rows += relatedPostsService.rebuild(postIds);
+                posts += postIds.size();
+            } catch (DataAccessException e) {
+                relatedPostsService.requeue(postIds);
+                log.warn("Benzer post hesaplaması başarısız, sonraki çalışmada tekrar denenecek: {}", e.getMessage());
+                break;
+            }
+        }
+        if (posts > 0) {
+            log.debug("Benzer postlar: {} post, {} satır, {} ms", posts, rows, System.currentTimeMillis() - start);
+        }
+    }
+}
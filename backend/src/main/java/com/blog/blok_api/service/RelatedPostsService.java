@@ -0,0 +1,229 @@
+package com.blog.blok_api.service;
+
+import com.blog.blok_api.repository.PostRepository;
+import com.blog.blok_api.repository.PostSimilarityRepository;
+import com.blog.blok_api.util.TransactionUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * RelatedPostsService - Benzer postlar indeksi (post_similarities)
+ *
+ * Benzerlik = tag-weight * tag Jaccard + co-like-weight * co-like kosinüsü
+ * - tag Jaccard: ortak tag / (A'nın tag'leri + B'nin tag'leri - ortak tag)
+ * - co-like kosinüsü: ikisini de beğenen kullanıcı / sqrt(A'nın beğenisi * B'nin beğenisi)
+ *
+ * Artımlı hesaplama: beğeni / yorum sayısı değişen (PostCountersChangedEvent) ve yeni yayınlanan postlar
+ * "kirli" işaretlenir; RelatedPostsJob kirli postları parça parça rebuild'e verir. Uygulama açılışındaki
+ * ilk çalışma tüm yayınlanmış postları hesaplar (kirli işaretleri bellektedir, kapanışta kaybolur).
+ *
+ * rebuild tek transaction'dır:
+ * 1. Co-like: parçadaki postları beğenen kullanıcıların beğenileri kullanıcı sırasıyla akış olarak okunur;
+ *    kullanıcı değiştikçe o kullanıcının (en yeni max-likes-per-user) beğenileri arasındaki parçadaki
+ *    postlar için çiftler sayılır. likes tablosu belleğe alınmaz, sadece parçanın sayaçları tutulur.
+ * 2. Tag örtüşmesi tek gruplu sorguyla, aday beğeni sayıları tek gruplu sorguyla okunur.
+ * 3. Her post için en yüksek top-k benzer silinip JDBC batch ile yeniden yazılır.
+ *
+ * Bir postun listesi sadece kendisi kirlendiğinde yenilenir; başka postun beğenileri değiştiğinde
+ * onun listedeki skoru bir sonraki kirlenmeye (veya yeniden başlatmaya) kadar eski kalır.
+ */
+@Service
+public class RelatedPostsService {
+
+    private final PostSimilarityRepository postSimilarityRepository;
+    private final PostRepository postRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final int topK;
+    private final int maxLikesPerUser;
+    private final int maxCandidates;
+    private final double tagWeight;
+    private final double coLikeWeight;
+
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+    private volatile boolean fullRebuildPending = true;
+
+    public RelatedPostsService(PostSimilarityRepository postSimilarityRepository,
+                               PostRepository postRepository,
+                               JdbcTemplate jdbcTemplate,
+                               @Value("${app.related.top-k:10}") int topK,
+                               @Value("${app.related.max-likes-per-user:200}") int maxLikesPerUser,
+                               @Value("${app.related.max-candidates:200}") int maxCandidates,
+                               @Value("${app.related.tag-weight:1.0}") double tagWeight,
+                               @Value("${app.related.co-like-weight:1.0}") double coLikeWeight) {
+        this.postSimilarityRepository = postSimilarityRepository;
+        this.postRepository = postRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.topK = topK;
+        this.maxLikesPerUser = maxLikesPerUser;
+        this.maxCandidates = maxCandidates;
+        this.tagWeight = tagWeight;
+        this.coLikeWeight = coLikeWeight;
+    }
+
+    /**
+     * Postun benzerleri, en benzer önce - tek PK aralık okuması
+     */
+    public List<Long> relatedPostIds(Long postId, int size) {
+        return postSimilarityRepository.findRelatedPostIds(postId, Math.min(size, topK));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostCountersChanged(PostCountersChangedEvent event) {
+        dirty.add(event.postId());
+    }
+
+    /**
+     * Yeni yayınlanan post (commit sonrası kirli işaretlenir)
+     */
+    public void published(Long postId) {
+        TransactionUtil.afterCommit(() -> dirty.add(postId));
+    }
+
+    /**
+     * Açılıştan sonra henüz tam hesaplama yapılmadı mı - true ise RelatedPostsJob tüm postları gezer
+     */
+    public boolean isFullRebuildPending() {
+        return fullRebuildPending;
+    }
+
+    public void fullRebuildDone() {
+        fullRebuildPending = false;
+    }
+
+    public List<Long> publishedIdsFrom(long afterId, int limit) {
+        return postRepository.findPublishedIdsFrom(afterId, limit);
+    }
+
+    public int dirtyCount() {
+        return dirty.size();
+    }
+
+    public List<Long> drainDirty(int limit) {
+        List<Long> batch = new ArrayList<>(limit);
+        Iterator<Long> iterator = dirty.iterator();
+        while (iterator.hasNext() && batch.size() < limit) {
+            Long postId = iterator.next();
+            if (dirty.remove(postId)) {
+                batch.add(postId);
+            }
+        }
+        return batch;
+    }
+
+    public void requeue(Collection<Long> postIds) {
+        dirty.addAll(postIds);
+    }
+
+    /**
+     * Postların benzer listelerini yeniden hesaplar
+     *
+     * @return yazılan benzerlik satırı sayısı
+     */
+    @Transactional
+    public int rebuild(List<Long> postIds) {
+        Set<Long> targets = new HashSet<>(postIds);
+        Map<Long, Map<Long, int[]>> coLikes = countCoLikes(targets);
+
+        // Aday başına en çok ortak beğenili max-candidates post; kosinüs için beğeni sayıları tek sorguda
+        Map<Long, Map<Long, Double>> scores = new HashMap<>();
+        Set<Long> likeCountIds = new HashSet<>(targets);
+        for (Map.Entry<Long, Map<Long, int[]>> post : coLikes.entrySet()) {
+            List<Map.Entry<Long, int[]>> top = new ArrayList<>(post.getValue().entrySet());
+            top.sort((a, b) -> Integer.compare(b.getValue()[0], a.getValue()[0]));
+            Map<Long, int[]> kept = new HashMap<>();
+            for (Map.Entry<Long, int[]> entry : top.subList(0, Math.min(maxCandidates, top.size()))) {
+                kept.put(entry.getKey(), entry.getValue());
+                likeCountIds.add(entry.getKey());
+            }
+            post.setValue(kept);
+        }
+        Map<Long, Long> likeCounts = new HashMap<>();
+        List<Long> ids = new ArrayList<>(likeCountIds);
+        for (int i = 0; i < ids.size(); i += 1000) {
+            for (Object[] row : postRepository.countLikesByPostIds(ids.subList(i, Math.min(i + 1000, ids.size())))) {
+                likeCounts.put(((Number) row[0]).longValue(), ((Number) row[1]).longValue());
+            }
+        }
+        coLikes.forEach((postId, counts) -> counts.forEach((otherId, count) -> {
+            double norm = Math.sqrt((double) likeCounts.getOrDefault(postId, 1L) * likeCounts.getOrDefault(otherId, 1L));
+            scores.computeIfAbsent(postId, k -> new HashMap<>())
+                    .merge(otherId, coLikeWeight * count[0] / Math.max(norm, 1), Double::sum);
+        }));
+
+        for (Object[] row : postSimilarityRepository.findTagOverlaps(targets)) {
+            long postId = ((Number) row[0]).longValue();
+            long otherId = ((Number) row[1]).longValue();
+            double shared = ((Number) row[2]).doubleValue();
+            double union = ((Number) row[3]).doubleValue() + ((Number) row[4]).doubleValue() - shared;
+            scores.computeIfAbsent(postId, k -> new HashMap<>())
+                    .merge(otherId, tagWeight * shared / union, Double::sum);
+        }
+
+        List<Object[]> rows = new ArrayList<>();
+        scores.forEach((postId, candidates) -> candidates.entrySet().stream()
+                .sorted((a, b) -> {
+                    int byScore = Double.compare(b.getValue(), a.getValue());
+                    return byScore != 0 ? byScore : Long.compare(b.getKey(), a.getKey());
+                })
+                .limit(topK)
+                .forEach(entry -> rows.add(new Object[] { postId, entry.getKey(), entry.getValue() })));
+
+        postSimilarityRepository.deleteByPostIds(targets);
+        jdbcTemplate.batchUpdate("INSERT INTO post_similarities (post_id, related_post_id, score) VALUES (?, ?, ?)", rows);
+        return rows.size();
+    }
+
+    /**
+     * targets içindeki her post için diğer postlarla ortak beğenen kullanıcı sayısı
+     */
+    private Map<Long, Map<Long, int[]>> countCoLikes(Set<Long> targets) {
+        Map<Long, Map<Long, int[]>> coLikes = new HashMap<>();
+        List<Long> userLikes = new ArrayList<>(maxLikesPerUser);
+        long currentUser = -1;
+        try (Stream<Object[]> rows = postSimilarityRepository.streamCoLikes(targets)) {
+            Iterator<Object[]> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                Object[] row = iterator.next();
+                long userId = ((Number) row[0]).longValue();
+                if (userId != currentUser) {
+                    countPairs(userLikes, targets, coLikes);
+                    userLikes.clear();
+                    currentUser = userId;
+                }
+                if (userLikes.size() < maxLikesPerUser) {
+                    userLikes.add(((Number) row[1]).longValue());
+                }
+            }
+        }
+        countPairs(userLikes, targets, coLikes);
+        return coLikes;
+    }
+
+    private static void countPairs(List<Long> userLikes, Set<Long> targets, Map<Long, Map<Long, int[]>> coLikes) {
+        for (Long postId : userLikes) {
+            if (!targets.contains(postId)) {
+                continue;
+            }
+            Map<Long, int[]> counts = coLikes.computeIfAbsent(postId, k -> new HashMap<>());
+            for (Long otherId : userLikes) {
+                if (!otherId.equals(postId)) {
+                    counts.computeIfAbsent(otherId, k -> new int[1])[0]++;
+                }
+            }
+        }
+    }
+}
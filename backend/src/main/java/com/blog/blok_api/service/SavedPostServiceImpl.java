@@ -5,17 +5,19 @@ import com.blog.blok_api.mapper.PostMapper;
 import com.blog.blok_api.model.Post;
 import com.blog.blok_api.model.SavedPost;
 import com.blog.blok_api.model.User;
-import com.blog.blok_api.repository.LikeRepository;
 import com.blog.blok_api.repository.PostRepository;
 import com.blog.blok_api.repository.SavedPostRepository;
 import com.blog.blok_api.repository.UserRepository;
 import com.blog.blok_api.security.JwtUtil;
+import com.blog.blok_api.util.CountUtil;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 public class SavedPostServiceImpl implements SavedPostService {
@@ -25,20 +27,23 @@ public class SavedPostServiceImpl implements SavedPostService {
     private final UserRepository userRepository;
     private final JwtUtil jwtUtil;
     private final PostMapper postMapper;
-    private final LikeRepository likeRepository;
+    private final UserInteractionStateService userInteractionStateService;
+    private final FeedVersionService feedVersionService;
 
     public SavedPostServiceImpl(SavedPostRepository savedPostRepository,
                                 PostRepository postRepository,
                                 UserRepository userRepository,
                                 JwtUtil jwtUtil,
                                 PostMapper postMapper,
-                                LikeRepository likeRepository) {
+                                UserInteractionStateService userInteractionStateService,
+                                FeedVersionService feedVersionService) {
         this.savedPostRepository = savedPostRepository;
         this.postRepository = postRepository;
         this.userRepository = userRepository;
         this.jwtUtil = jwtUtil;
         this.postMapper = postMapper;
-        this.likeRepository = likeRepository;
+        this.userInteractionStateService = userInteractionStateService;
+        this.feedVersionService = feedVersionService;
     }
 
     @Override
@@ -52,28 +57,36 @@ public class SavedPostServiceImpl implements SavedPostService {
 
         Optional<SavedPost> existingSavedPost = savedPostRepository.findByUserAndPost(user, post);
 
+        // Kaydetme sayısı trend sıralamasını etkiler - feed ETag'i değişsin
+        postRepository.incrementStatsVersion(postId);
+        feedVersionService.changed();
+
+        boolean saved;
         if (existingSavedPost.isPresent()) {
             savedPostRepository.delete(existingSavedPost.get());
-            return false; // kayıt kaldırıldı
+            saved = false; // kayıt kaldırıldı
         } else {
             SavedPost savedPost = new SavedPost();
             savedPost.setUser(user);
             savedPost.setPost(post);
             savedPost.setCreatedAt(LocalDateTime.now());
             savedPostRepository.save(savedPost);
-            return true; // kayıt eklendi
+            saved = true; // kayıt eklendi
         }
+        // Kullanıcının kayıt kümesi commit sonrası güncellenir
+        userInteractionStateService.markSaved(userId, postId, saved);
+        return saved;
     }
 
     @Override
     public boolean isPostSavedByUser(Long postId, String token) throws Exception {
         Long userId = jwtUtil.extractUserId(token);
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new Exception("Kullanıcı bulunamadı"));
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new Exception("Post bulunamadı"));
+        if (!postRepository.existsById(postId)) {
+            throw new Exception("Post bulunamadı");
+        }
 
-        return savedPostRepository.existsByUserAndPost(user, post);
+        // Kullanıcının kayıt kümesinden (bellekte) - kayıt satırı sorgulanmaz
+        return userInteractionStateService.isSaved(userId, postId);
     }
 
     @Override
@@ -84,13 +97,23 @@ public class SavedPostServiceImpl implements SavedPostService {
                 .orElseThrow(() -> new Exception("Kullanıcı bulunamadı"));
 
         List<Post> savedPosts = savedPostRepository.findSavedPostsByUserId(userId);
+        if (savedPosts.isEmpty()) {
+            return List.of();
+        }
+
+        // Sayaçlar ve beğeni bayrakları toplu sorgularla (post başına sorgu yerine - N+1 önlendi)
+        List<Long> postIds = savedPosts.stream().map(Post::getId).toList();
+        Map<Long, Integer> likeCounts = CountUtil.toCountMap(postRepository.countLikesByPostIds(postIds));
+        Map<Long, Integer> commentCounts = CountUtil.toCountMap(postRepository.countActiveCommentsByPostIds(postIds));
+        Set<Long> likedPostIds = userInteractionStateService.likedAmong(user.getId(), postIds);
+
         return savedPosts.stream()
                 .filter(post -> post != null)
                 .map(post -> {
                     PostResponseDto dto = postMapper.toDto(post);
-                    dto.setLikeCount(likeRepository.countByPostId(post.getId()));
-                    dto.setLikedByCurrentUser(likeRepository.existsByUserAndPost(user, post));
-                    dto.setCommentCount(post.getComments() != null ? (int) post.getComments().stream().filter(c -> !c.isDeleted()).count() : 0);
+                    dto.setLikeCount(likeCounts.getOrDefault(post.getId(), 0));
+                    dto.setLikedByCurrentUser(likedPostIds.contains(post.getId()));
+                    dto.setCommentCount(commentCounts.getOrDefault(post.getId(), 0));
                     return dto;
                 })
                 .toList();
@@ -0,0 +1,61 @@
+package com.blog.blok_api.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * TagAffinityJob - Kullanıcı tag ilgi vektörlerini periyodik olarak yeniden hesaplar
+ *
+ * Kullanıcılar batch-size'lık parçalarla (users.id keyset) gezilir, her parça TagAffinityService.recompute
+ * ile ayrı transaction'da yazılır. Başarısız parçada tur kesilir; o ana kadarki parçalar yeni,
+ * kalanlar önceki turun vektörleriyle kalır ve sonraki turda baştan hesaplanır.
+ */
+@Component
+@ConditionalOnProperty(name = "app.feed.ranking.affinity.enabled", havingValue = "true", matchIfMissing = true)
+public class TagAffinityJob {
+
+    private static final Logger log = LoggerFactory.getLogger(TagAffinityJob.class);
+
+    private final TagAffinityService tagAffinityService;
+    private final int batchSize;
+
+    public TagAffinityJob(TagAffinityService tagAffinityService,
+                          @Value("${app.feed.ranking.affinity.batch-size:500}") int batchSize) {
+        this.tagAffinityService = tagAffinityService;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${app.feed.ranking.affinity.interval-ms:3600000}",
+               initialDelayString = "${app.feed.ranking.affinity.initial-delay-ms:60000}")
+    public void run() {
+        long start = System.currentTimeMillis();
+        int users = 0;
+        int rows = 0;
+        long afterId = 0;
+        List<Long> userIds;
+        try {
+            do {
+                userIds = tagAffinityService.userIdsAfter(afterId, batchSize);
+                if (userIds.isEmpty()) {
+                    break;
+                }
+                rows += tagAffinityService.recompute(userIds);
+                users += userIds.size();
+                afterId = userIds.get(userIds.size() - 1);
+            } while (userIds.size() == batchSize);
+        } catch (DataAccessException e) {
+            log.warn("Tag ilgi hesaplaması {} kullanıcıdan sonra kesildi, sonraki turda tekrar denenecek: {}",
+                    users, e.getMessage());
+        } finally {
+            tagAffinityService.invalidateAll();
+        }
+        log.info("Tag ilgi vektörleri: {} kullanıcı, {} satır, {} ms", users, rows, System.currentTimeMillis() - start);
+    }
+}
@@ -0,0 +1,153 @@
+package com.blog.blok_api.service;
+
+import com.blog.blok_api.repository.UserRepository;
+import com.blog.blok_api.repository.UserTagAffinityRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * TagAffinityService - Kullanıcı başına tag ilgi vektörü
+ *
+ * - Hesaplama (çevrimdışı): TagAffinityJob kullanıcıları parça parça gezer; her parça tek transaction'da
+ *   silinip son window-days günün beğeni / görüntülenmelerinden tek INSERT ... SELECT ile yeniden yazılır.
+ * - Okuma: kullanıcının en güçlü max-tags tag'i tek sorguyla okunur, en büyük skora bölünerek [0, 1]
+ *   aralığına çekilir ve primitive dizilerde (TagVector) bellekte tutulur. Hesaplama bitince bellek
+ *   temizlenir; istek yolunda vektör başına en fazla bir sorgu çalışır.
+ */
+@Service
+public class TagAffinityService {
+
+    private final UserTagAffinityRepository userTagAffinityRepository;
+    private final UserRepository userRepository;
+    private final Duration window;
+    private final int maxTags;
+    private final Cache<Long, TagVector> vectors;
+
+    public TagAffinityService(UserTagAffinityRepository userTagAffinityRepository,
+                              UserRepository userRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.feed.ranking.affinity.window-days:90}") long windowDays,
+                              @Value("${app.feed.ranking.affinity.max-tags:64}") int maxTags,
+                              @Value("${app.feed.ranking.affinity.cache-size:100000}") long cacheSize) {
+        this.userTagAffinityRepository = userTagAffinityRepository;
+        this.userRepository = userRepository;
+        this.window = Duration.ofDays(windowDays);
+        this.maxTags = maxTags;
+        this.vectors = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .recordStats()
+                .build();
+        // Etiket kümesi CaffeineCacheManager cache'leriyle aynı (bkz. UserInteractionStateService)
+        new CaffeineCacheMetrics<>(vectors, "tagAffinity",
+                Tags.of("name", "tagAffinity", "cache.manager", "tagAffinityService"))
+                .bindTo(meterRegistry);
+    }
+
+    /**
+     * Kullanıcının vektörü - anonim veya etkileşimi olmayan kullanıcıda boş
+     */
+    public TagVector vector(Long userId) {
+        if (userId == null || userId == 0) {
+            return TagVector.EMPTY;
+        }
+        return vectors.get(userId, this::load);
+    }
+
+    public List<Long> userIdsAfter(long afterId, int limit) {
+        return userRepository.findIdsAfter(afterId, limit);
+    }
+
+    /**
+     * Kullanıcı parçasının vektörlerini yeniden hesaplar
+     *
+     * @return yazılan (kullanıcı, tag) satırı sayısı
+     */
+    @Transactional
+    public int recompute(List<Long> userIds) {
+        userTagAffinityRepository.deleteByUserIds(userIds);
+        return userTagAffinityRepository.insertForUsers(userIds, LocalDateTime.now().minus(window));
+    }
+
+    /**
+     * Hesaplama turu bitti - bellekteki vektörler sonraki erişimde yeniden okunur
+     */
+    public void invalidateAll() {
+        vectors.invalidateAll();
+    }
+
+    private TagVector load(Long userId) {
+        List<Object[]> rows = userTagAffinityRepository.findTopByUserId(userId, maxTags);
+        if (rows.isEmpty()) {
+            return TagVector.EMPTY;
+        }
+        long[] byWeight = new long[rows.size()];
+        float[] weights = new float[rows.size()];
+        double max = ((Number) rows.get(0)[1]).doubleValue();
+        for (int i = 0; i < rows.size(); i++) {
+            byWeight[i] = ((Number) rows.get(i)[0]).longValue();
+            weights[i] = max > 0 ? (float) (((Number) rows.get(i)[1]).doubleValue() / max) : 0f;
+        }
+        return new TagVector(byWeight, weights);
+    }
+
+    /**
+     * Değişmez ilgi vektörü: tag'ler ağırlık sırasıyla (aday üretimi) ve ID sırasıyla (ikili arama)
+     */
+    public static final class TagVector {
+
+        static final TagVector EMPTY = new TagVector(new long[0], new float[0]);
+
+        private final long[] tagsByWeight;
+        private final long[] sortedTags;
+        private final float[] sortedWeights;
+
+        TagVector(long[] tagsByWeight, float[] weights) {
+            this.tagsByWeight = tagsByWeight;
+            Integer[] order = new Integer[tagsByWeight.length];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> Long.compare(tagsByWeight[a], tagsByWeight[b]));
+            this.sortedTags = new long[order.length];
+            this.sortedWeights = new float[order.length];
+            for (int i = 0; i < order.length; i++) {
+                sortedTags[i] = tagsByWeight[order[i]];
+                sortedWeights[i] = weights[order[i]];
+            }
+        }
+
+        public boolean isEmpty() {
+            return tagsByWeight.length == 0;
+        }
+
+        public int size() {
+            return tagsByWeight.length;
+        }
+
+        /**
+         * i'nci en güçlü tag
+         */
+        public long tagAt(int i) {
+            return tagsByWeight[i];
+        }
+
+        /**
+         * Tag'in ağırlığı [0, 1] - vektörde yoksa 0
+         */
+        public float weight(long tagId) {
+            int index = Arrays.binarySearch(sortedTags, tagId);
+            return index >= 0 ? sortedWeights[index] : 0f;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.blog.blok_api.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * TimelineFanoutJob - Yeni postları takipçilerin ana sayfa akışlarına yazar (fan-out on write)
+ *
+ * Kuyruktaki her post için yazarın takipçileri batch-size'lık parçalarla (follower_id keyset) gezilir,
+ * her parça TimelineService.appendToTimelines ile ayrı transaction'da yazılır. Yazarın kendi akışı da
+ * güncellenir. Çok takipçili yazarların postları atlanır (okuma anında birleştirilir).
+ * Başarısız post kuyruğa geri konur; tekrar denemede zaten eklenmiş akışlar değişmez.
+ */
+@Component
+@ConditionalOnProperty(name = "app.timeline.enabled", havingValue = "true", matchIfMissing = true)
+public class TimelineFanoutJob {
+
+    private static final Logger log = LoggerFactory.getLogger(TimelineFanoutJob.class);
+
+    private final TimelineService timelineService;
+    private final int batchSize;
+
+    public TimelineFanoutJob(TimelineService timelineService,
+                             @Value("${app.timeline.fanout-batch-size:500}") int batchSize) {
+        this.timelineService = timelineService;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${app.timeline.fanout-interval-ms:1000}",
+               initialDelayString = "${app.timeline.fanout-interval-ms:1000}")
+    public void run() {
+        long start = System.currentTimeMillis();
+        int posts = 0;
+        int timelines = 0;
+        // Çalışma sırasında gelen postlar bir sonraki çalışmaya kalır
+        int remaining = timelineService.pendingCount();
+        while (remaining-- > 0) {
+            long[] fanout = timelineService.pollFanout();
+            if (fanout == null) {
+                break;
+            }
+            try {
+                timelines += fanOut(fanout[0], fanout[1]);
+                posts++;
+            } catch (DataAccessException e) {
+                timelineService.requeue(fanout);
+                log.warn("Akış fan-out'u başarısız, sonraki çalışmada tekrar denenecek: {}", e.getMessage());
+                break;
+            }
+        }
+        if (posts > 0) {
+            log.debug("Akış fan-out'u: {} post, {} akış, {} ms", posts, timelines, System.currentTimeMillis() - start);
+        }
+    }
+
+    private int fanOut(long postId, long authorId) {
+        int updated = timelineService.appendToTimelines(postId, List.of(authorId));
+        if (timelineService.isFanOutOnRead(authorId)) {
+            return updated;
+        }
+        long afterId = 0;
+        List<Long> followerIds;
+        do {
+            followerIds = timelineService.followerIdsAfter(authorId, afterId, batchSize);
+            if (followerIds.isEmpty()) {
+                break;
+            }
+            updated += timelineService.appendToTimelines(postId, followerIds);
+            afterId = followerIds.get(followerIds.size() - 1);
+        } while (followerIds.size() == batchSize);
+        return updated;
+    }
+}
@@ -0,0 +1,232 @@
+package com.blog.blok_api.service;
+
+import com.blog.blok_api.model.HomeTimeline;
+import com.blog.blok_api.repository.FollowRepository;
+import com.blog.blok_api.repository.HomeTimelineRepository;
+import com.blog.blok_api.repository.PostRepository;
+import com.blog.blok_api.util.TransactionUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * TimelineService - Ana sayfa akışı: hibrit fan-out
+ *
+ * - Fan-out on write: normal yazarın yeni postu commit sonrası kuyruğa alınır; TimelineFanoutJob
+ *   takipçileri parça parça gezer ve akışı olan takipçilerin home_timelines satırının başına ekler
+ *   (parça başına tek kilitli okuma + JDBC batch UPDATE). Akış kapasiteyle sınırlıdır (en eski düşer).
+ * - Fan-out on read: takipçi sayısı celebrity-threshold'u geçen yazarların postları akışlara yazılmaz
+ *   (tek post binlerce satır güncellemesi olurdu); okuyan kullanıcı bu yazarlardan takip ettiklerinin
+ *   postlarını okuma anında (author_id index'i) akışına birleştirir.
+ * - Okuma: akış satırı tek PK okuması; kullanıcı çok takipçili kimseyi takip etmiyorsa başka sorgu yok.
+ *   Satır yoksa (ilk açılış, takip değişikliği) tek sorguyla kurulur. Kapasitenin gerisindeki sayfalar
+ *   doğrudan sorgu ile okunur.
+ *
+ * Çok takipçili yazar kümesi bellekte tutulur: başlangıçta tek gruplu sorguyla yüklenir, fan-out sırasında
+ * eşiği geçen yazar eklenir. Küme çalışma süresince küçülmez; eşiğin altına düşen yazarın o ana kadar
+ * yazılmamış postları okuma yolundan gelmeye devam eder.
+ *
+ * Silinen postların ID'leri akışta kalabilir; post okunurken (@SQLRestriction) elenir, sayfa kısalabilir.
+ */
+@Service
+public class TimelineService {
+
+    private final HomeTimelineRepository homeTimelineRepository;
+    private final FollowRepository followRepository;
+    private final PostRepository postRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final int capacity;
+    private final int celebrityThreshold;
+
+    private final ConcurrentLinkedQueue<long[]> pendingFanouts = new ConcurrentLinkedQueue<>();
+    private final Set<Long> celebrities = ConcurrentHashMap.newKeySet();
+
+    public TimelineService(HomeTimelineRepository homeTimelineRepository,
+                           FollowRepository followRepository,
+                           PostRepository postRepository,
+                           JdbcTemplate jdbcTemplate,
+                           @Value("${app.timeline.capacity:800}") int capacity,
+                           @Value("${app.timeline.celebrity-threshold:10000}") int celebrityThreshold) {
+        this.homeTimelineRepository = homeTimelineRepository;
+        this.followRepository = followRepository;
+        this.postRepository = postRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.capacity = Math.min(capacity, HomeTimeline.MAX_CAPACITY);
+        this.celebrityThreshold = celebrityThreshold;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadCelebrities() {
+        celebrities.addAll(followRepository.findFolloweeIdsWithFollowersAtLeast(celebrityThreshold));
+    }
+
+    /**
+     * Yeni yayınlanan post - commit sonrası fan-out kuyruğuna alınır
+     */
+    public void postPublished(Long postId, Long authorId) {
+        TransactionUtil.afterCommit(() -> pendingFanouts.add(new long[] { postId, authorId }));
+    }
+
+    public int pendingCount() {
+        return pendingFanouts.size();
+    }
+
+    /**
+     * @return {postId, authorId} veya kuyruk boşsa null
+     */
+    public long[] pollFanout() {
+        return pendingFanouts.poll();
+    }
+
+    public void requeue(long[] fanout) {
+        pendingFanouts.add(fanout);
+    }
+
+    /**
+     * Yazarın postları okuma anında mı birleştirilecek (takipçi sayısı eşiği geçti mi)
+     * Eşiği geçen yazar kümeye eklenir; sayım eşikte kesilir
+     */
+    public boolean isFanOutOnRead(long authorId) {
+        if (celebrities.contains(authorId)) {
+            return true;
+        }
+        if (followRepository.countFollowersUpTo(authorId, celebrityThreshold) >= celebrityThreshold) {
+            celebrities.add(authorId);
+            return true;
+        }
+        return false;
+    }
+
+    public List<Long> followerIdsAfter(long authorId, long afterId, int limit) {
+        return followRepository.findFollowerIdsAfter(authorId, afterId, limit);
+    }
+
+    /**
+     * Postu kullanıcıların akışlarına ekler - sadece akış satırı olanlar (diğerleri ilk okumada kurulur)
+     *
+     * @return güncellenen akış sayısı
+     */
+    @Transactional
+    public int appendToTimelines(long postId, List<Long> userIds) {
+        List<Object[]> updates = new ArrayList<>();
+        for (Object[] row : homeTimelineRepository.lockByUserIds(userIds)) {
+            long[] postIds = insert(HomeTimeline.decode((byte[]) row[1]), postId);
+            if (postIds != null) {
+                updates.add(new Object[] { HomeTimeline.encode(postIds), row[0] });
+            }
+        }
+        jdbcTemplate.batchUpdate("UPDATE home_timelines SET post_ids = ? WHERE user_id = ?", updates);
+        return updates.size();
+    }
+
+    /**
+     * Ana sayfa post ID'leri, en yeni önce
+     *
+     * @param beforeId önceki sayfanın son post ID'si (ilk sayfa için null)
+     */
+    public List<Long> homePostIds(Long userId, Long beforeId, int size) {
+        long before = beforeId != null ? beforeId : Long.MAX_VALUE;
+        long[] stored = homeTimelineRepository.findById(userId)
+                .map(HomeTimeline::getPostIds)
+                .orElseGet(() -> build(userId));
+
+        List<Long> page = new ArrayList<>(size);
+        for (long postId : stored) {
+            if (postId < before) {
+                page.add(postId);
+                if (page.size() == size) {
+                    break;
+                }
+            }
+        }
+        // Saklanan kapasitenin gerisi: doğrudan sorgu (çok takipçili yazarlar da dahil)
+        if (page.size() < size && stored.length == capacity) {
+            long from = page.isEmpty() ? Math.min(before, stored[stored.length - 1]) : page.get(page.size() - 1);
+            page.addAll(postRepository.findTimelinePostIds(userId, from, size - page.size()));
+            return page;
+        }
+
+        if (celebrities.isEmpty()) {
+            return page;
+        }
+        List<Long> followedCelebrities = followRepository.findFolloweeIdsAmong(userId, celebrities);
+        if (followedCelebrities.isEmpty()) {
+            return page;
+        }
+        List<Long> pulled = postRepository.findPublishedIdsByAuthorsBefore(followedCelebrities, before, size);
+        return merge(page, pulled, size);
+    }
+
+    /**
+     * Takip / takipten çıkma sonrası akış yeniden kurulacak
+     */
+    public void invalidate(Long userId) {
+        homeTimelineRepository.deleteByUserId(userId);
+    }
+
+    private long[] build(Long userId) {
+        long[] postIds = postRepository.findTimelinePostIds(userId, Long.MAX_VALUE, capacity).stream()
+                .mapToLong(Long::longValue)
+                .toArray();
+        try {
+            homeTimelineRepository.insert(userId, HomeTimeline.encode(postIds));
+        } catch (DataIntegrityViolationException ignored) {
+            // Eşzamanlı okuma aynı akışı kurdu
+        }
+        return postIds;
+    }
+
+    /**
+     * En yeni önce sıralı diziye ekler, kapasiteyi aşan en eski düşer
+     *
+     * @return yeni dizi; post zaten varsa veya dizinin tamamından eskiyse null
+     */
+    private long[] insert(long[] postIds, long postId) {
+        int position = 0;
+        while (position < postIds.length && postIds[position] > postId) {
+            position++;
+        }
+        if (position < postIds.length && postIds[position] == postId) {
+            return null;
+        }
+        if (position >= capacity) {
+            return null;
+        }
+        int length = Math.min(postIds.length + 1, capacity);
+        long[] result = new long[length];
+        System.arraycopy(postIds, 0, result, 0, position);
+        result[position] = postId;
+        System.arraycopy(postIds, position, result, position + 1, length - position - 1);
+        return result;
+    }
+
+    private static List<Long> merge(List<Long> stored, List<Long> pulled, int size) {
+        long[] all = new long[stored.size() + pulled.size()];
+        int i = 0;
+        for (Long postId : stored) {
+            all[i++] = postId;
+        }
+        for (Long postId : pulled) {
+            all[i++] = postId;
+        }
+        Arrays.sort(all);
+        List<Long> result = new ArrayList<>(size);
+        for (int j = all.length - 1; j >= 0 && result.size() < size; j--) {
+            if (result.isEmpty() || result.get(result.size() - 1) != all[j]) {
+                result.add(all[j]);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,190 @@
+package com.blog.blok_api.service;
+
+import com.blog.blok_api.repository.LikeRepository;
+import com.blog.blok_api.repository.SavedPostRepository;
+import com.blog.blok_api.util.CompactIdSet;
+import com.blog.blok_api.util.TransactionUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * UserInteractionStateService - Kullanıcı başına beğenilen / kaydedilen post ID'leri (bellekte)
+ *
+ * likedByCurrentUser ve kaydedildi bayrakları için sayfa başına IN sorgusu yerine kullanıcının
+ * tüm beğeni ve kayıtları sıkıştırılmış kümeler (CompactIdSet, eleman başına en fazla 2 byte)
+ * olarak tutulur; bir sayfanın bayrakları sorgusuz, bucket başına bir bitmap/array yoklamasıyla bulunur.
+ *
+ * - Yükleme: kullanıcıya ilk erişimde iki sorgu (beğeni ve kayıt post ID'leri)
+ * - Güncelleme: like / kaydetme yolları markLiked / markSaved çağırır; değişiklik commit sonrası
+ *   uygulanır. Yüklü değilse bir şey yapılmaz (sonraki erişimde veritabanından yüklenir).
+ *   Güncelleme Caffeine compute'u içinde yapılır: aynı kullanıcı için süren bir yükleme varsa
+ *   onun bitmesi beklenir, böylece yükleme sırasında commit edilen değişiklik kaybolmaz.
+ * - Tahliye: toplam ağırlık (küme byte'ları) app.interactions.state.max-bytes'ı geçince
+ *   en az kullanılanlar atılır (Caffeine W-TinyLFU), erişilmeyenler expire-after-access sonra düşer.
+ *
+ * Tek instance varsayılır; çok instance'ta diğer instance'ların değişiklikleri expire süresi
+ * kadar gecikebilir.
+ */
+@Service
+public class UserInteractionStateService {
+
+    private final LikeRepository likeRepository;
+    private final SavedPostRepository savedPostRepository;
+    private final Cache<Long, InteractionState> states;
+
+    public UserInteractionStateService(LikeRepository likeRepository,
+                                       SavedPostRepository savedPostRepository,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${app.interactions.state.max-bytes:67108864}") long maxBytes,
+                                       @Value("${app.interactions.state.expire-after-access-minutes:30}") long expireMinutes) {
+        this.likeRepository = likeRepository;
+        this.savedPostRepository = savedPostRepository;
+        this.states = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Long userId, InteractionState state) -> state.weight())
+                .expireAfterAccess(Duration.ofMinutes(expireMinutes))
+                .recordStats()
+                .build();
+        // Etiketler CaffeineCacheManager cache'leriyle (postDetails, postCounters) aynı olmalı;
+        // Prometheus aynı metrik adında farklı etiket kümesini reddeder ve o cache'lerin metrikleri kaybolur
+        new CaffeineCacheMetrics<>(states, "userInteractionState",
+                Tags.of("name", "userInteractionState", "cache.manager", "userInteractionStateService"))
+                .bindTo(meterRegistry);
+    }
+
+    /**
+     * postIds içinden kullanıcının beğendikleri
+     */
+    public Set<Long> likedAmong(Long userId, Collection<Long> postIds) {
+        if (userId == null || postIds.isEmpty()) {
+            return Set.of();
+        }
+        return state(userId).filter(postIds, true);
+    }
+
+    /**
+     * postIds içinden kullanıcının kaydettikleri
+     */
+    public Set<Long> savedAmong(Long userId, Collection<Long> postIds) {
+        if (userId == null || postIds.isEmpty()) {
+            return Set.of();
+        }
+        return state(userId).filter(postIds, false);
+    }
+
+    public boolean isLiked(Long userId, Long postId) {
+        return userId != null && state(userId).contains(postId, true);
+    }
+
+    public boolean isSaved(Long userId, Long postId) {
+        return userId != null && state(userId).contains(postId, false);
+    }
+
+    public void markLiked(Long userId, Long postId, boolean liked) {
+        TransactionUtil.afterCommit(() -> states.asMap().computeIfPresent(userId, (id, state) -> {
+            state.update(postId, true, liked);
+            return state;
+        }));
+    }
+
+    public void markSaved(Long userId, Long postId, boolean saved) {
+        TransactionUtil.afterCommit(() -> states.asMap().computeIfPresent(userId, (id, state) -> {
+            state.update(postId, false, saved);
+            return state;
+        }));
+    }
+
+    public void evict(Long userId) {
+        TransactionUtil.afterCommit(() -> states.invalidate(userId));
+    }
+
+    /**
+     * Toplu silmelerde (ör. kullanıcı silme) etkilenen kullanıcıları tek tek bulmak yerine
+     */
+    public void evictAll() {
+        TransactionUtil.afterCommit(states::invalidateAll);
+    }
+
+    private InteractionState state(Long userId) {
+        return states.get(userId, this::load);
+    }
+
+    private InteractionState load(Long userId) {
+        return new InteractionState(
+                CompactIdSet.of(likeRepository.findAllPostIdsByUserId(userId)),
+                CompactIdSet.of(savedPostRepository.findAllPostIdsByUserId(userId)));
+    }
+
+    /**
+     * Bir kullanıcının kümeleri - okumalar paralel, güncellemeler tekil
+     */
+    static final class InteractionState {
+        private final CompactIdSet liked;
+        private final CompactIdSet saved;
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+        InteractionState(CompactIdSet liked, CompactIdSet saved) {
+            this.liked = liked;
+            this.saved = saved;
+        }
+
+        Set<Long> filter(Collection<Long> postIds, boolean likes) {
+            CompactIdSet set = likes ? liked : saved;
+            Set<Long> result = new HashSet<>();
+            lock.readLock().lock();
+            try {
+                for (Long postId : postIds) {
+                    if (set.contains(postId)) {
+                        result.add(postId);
+                    }
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+            return result;
+        }
+
+        boolean contains(Long postId, boolean likes) {
+            lock.readLock().lock();
+            try {
+                return (likes ? liked : saved).contains(postId);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        void update(Long postId, boolean likes, boolean present) {
+            CompactIdSet set = likes ? liked : saved;
+            lock.writeLock().lock();
+            try {
+                if (present) {
+                    set.add(postId);
+                } else {
+                    set.remove(postId);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        int weight() {
+            lock.readLock().lock();
+            try {
+                return (int) Math.min(Integer.MAX_VALUE, 64 + liked.sizeInBytes() + saved.sizeInBytes());
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+    }
+}
@@ -12,6 +12,11 @@ import java.io.IOException;
 
 public interface UserService {
     ProfileResponseDto getProfile(String token) throws Exception;
+
+    /**
+     * Zaten yüklenmiş kullanıcının profili (kullanıcı tekrar sorgulanmaz - ör. GET /api/home)
+     */
+    ProfileResponseDto getProfile(User user);
     ProfileResponseDto updateProfile(String token, ProfileRequestDto profileRequestDto) throws Exception;
 
     String uploadProfileImage(Long userId, MultipartFile file) throws IOException;
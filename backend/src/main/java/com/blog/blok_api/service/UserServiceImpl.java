@@ -34,15 +34,17 @@ public class UserServiceImpl implements UserService{
     private final PasswordEncoder passwordEncoder;
     private final PostRepository postRepository;
     private final Cloudinary cloudinary;
+    private final PostDetailCacheService postDetailCacheService;
 
     @Autowired
-    public UserServiceImpl(UserRepository userRepository, LikeRepository likeRepository, JwtUtil jwtUtil, PasswordEncoder passwordEncoder, PostRepository postRepository, Cloudinary cloudinary) {
+    public UserServiceImpl(UserRepository userRepository, LikeRepository likeRepository, JwtUtil jwtUtil, PasswordEncoder passwordEncoder, PostRepository postRepository, Cloudinary cloudinary, PostDetailCacheService postDetailCacheService) {
         this.userRepository = userRepository;
         this.likeRepository = likeRepository;
         this.jwtUtil = jwtUtil;
         this.passwordEncoder = passwordEncoder;
         this.postRepository = postRepository;
         this.cloudinary = cloudinary;
+        this.postDetailCacheService = postDetailCacheService;
     }
 
     @Override
@@ -62,26 +64,24 @@ public class UserServiceImpl implements UserService{
         if (user.isEmpty()) {
             throw new Exception("Kullanıcı bulunamadı.");
         }
+        return getProfile(user.get());
+    }
 
-        // Toplam like sayısını hesapla
-        int likesReceived = 0;
-        int postsCount = 0;
-        if (user.get().getPosts() != null) {
-            postsCount = user.get().getPosts().size();
-            for (var post : user.get().getPosts()) {
-                likesReceived += likeRepository.countByPost(post);
-            }
-        }
+    @Override
+    public ProfileResponseDto getProfile(User user) {
+        // Toplam like ve post sayısı - post başına sorgu yerine iki COUNT sorgusu (N+1 önlendi)
+        int postsCount = postRepository.countByAuthor(user);
+        int likesReceived = likeRepository.countByAuthorPosts(user.getId());
 
         return ProfileResponseDto.builder()
-                .id(user.get().getId())
-                .username(user.get().getUsername())
-                .email(user.get().getEmail())
-                .profileImgUrl(user.get().getProfileImgUrl())
-                .bio(user.get().getBio())
-                .isOnline(user.get().isOnline())
-                .createdAt(user.get().getCreatedAt())
-                .updatedAt(user.get().getUpdatedAt())
+                .id(user.getId())
+                .username(user.getUsername())
+                .email(user.getEmail())
+                .profileImgUrl(user.getProfileImgUrl())
+                .bio(user.getBio())
+                .isOnline(user.isOnline())
+                .createdAt(user.getCreatedAt())
+                .updatedAt(user.getUpdatedAt())
                 .postsCount(postsCount)
                 .likesReceived(likesReceived)
                 .build();
@@ -131,6 +131,8 @@ public class UserServiceImpl implements UserService{
 
         user.setUpdatedAt(LocalDateTime.now());
         userRepository.save(user);
+        // Yazar kartı post gövdelerinde cache'li (updatedAt ETag'lere de yansır)
+        postDetailCacheService.evictAllPostBodies();
 
         // --- LAZY koleksiyonlara erişmeden repository ile sayım yap ---
         int postsCount = postRepository.countByAuthor(user);
@@ -176,7 +178,9 @@ public class UserServiceImpl implements UserService{
 
             // Kullanıcıya image url'yi set et
             user.setProfileImgUrl(imageUrl);
+            user.setUpdatedAt(LocalDateTime.now());
             userRepository.save(user);
+            postDetailCacheService.evictAllPostBodies();
 
             return imageUrl;
         } catch (Exception e) {
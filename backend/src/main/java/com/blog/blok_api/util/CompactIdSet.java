@@ -0,0 +1,247 @@
+package com.blog.blok_api.util;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * CompactIdSet - Roaring bitmap düzeninde sıkıştırılmış ID kümesi yardımcıları
+ *
+ * Bir ID iki parçaya bölünür: bucket (üst bitler, id >>> 16) ve bucket içindeki 16 bitlik alt değer.
+ * Her bucket bir Container'da tutulur:
+ * - 4096'dan az eleman: sıralı char[] (eleman başına 2 byte)
+ * - 4096 ve üstü: 65536 bitlik bitmap (sabit 8 KB)
+ * Böylece hem seyrek hem yoğun kümeler eleman başına en fazla 2 byte yer kaplar.
+ *
+ * Container'lar byte[] olarak saklanabilir: uzunluk 8192 ise bitmap, değilse big-endian char dizisi.
+ * Kalıcı kümeler (ör. PostViewSeen) bucket başına satır tutup sadece Container kullanır;
+ * bellekteki kümeler (ör. UserInteractionStateService) CompactIdSet örneği olarak tüm bucket'ları tutar.
+ * Thread-safe değildir.
+ */
+public final class CompactIdSet {
+
+    /** Bucket başına ID aralığı (alt 16 bit) */
+    public static final int BUCKET_BITS = 16;
+
+    /** Bucket numarası -> container; post ID'leri artan olduğu için genelde birkaç bucket */
+    private final Map<Long, Container> containers = new HashMap<>();
+
+    public CompactIdSet() {
+    }
+
+    public static CompactIdSet of(Collection<Long> ids) {
+        CompactIdSet set = new CompactIdSet();
+        ids.forEach(set::add);
+        return set;
+    }
+
+    public boolean contains(long id) {
+        Container container = containers.get(bucketOf(id));
+        return container != null && container.contains(lowOf(id));
+    }
+
+    /**
+     * @return eleman yeni eklendiyse true
+     */
+    public boolean add(long id) {
+        return containers.computeIfAbsent(bucketOf(id), bucket -> new Container()).add(lowOf(id));
+    }
+
+    /**
+     * @return eleman vardı ve çıkarıldıysa true
+     */
+    public boolean remove(long id) {
+        long bucket = bucketOf(id);
+        Container container = containers.get(bucket);
+        if (container == null || !container.remove(lowOf(id))) {
+            return false;
+        }
+        if (container.cardinality() == 0) {
+            containers.remove(bucket);
+        }
+        return true;
+    }
+
+    public long cardinality() {
+        long cardinality = 0;
+        for (Container container : containers.values()) {
+            cardinality += container.cardinality();
+        }
+        return cardinality;
+    }
+
+    /**
+     * Yaklaşık bellek kullanımı (byte) - cache ağırlığı için
+     */
+    public long sizeInBytes() {
+        long size = 48;
+        for (Container container : containers.values()) {
+            size += 48 + container.sizeInBytes();
+        }
+        return size;
+    }
+
+    public static long bucketOf(long id) {
+        return id >>> BUCKET_BITS;
+    }
+
+    public static char lowOf(long id) {
+        return (char) id;
+    }
+
+    public static long idOf(long bucket, char low) {
+        return (bucket << BUCKET_BITS) | low;
+    }
+
+    /**
+     * Tek bir bucket'ın elemanları - array veya bitmap container
+     */
+    public static final class Container {
+
+        /** Bu sayıya ulaşan array container bitmap'e çevrilir (bitmap 8 KB = 4096 char) */
+        static final int ARRAY_MAX = 4096;
+        private static final int BITMAP_WORDS = 1 << (BUCKET_BITS - 6);
+        private static final int BITMAP_BYTES = BITMAP_WORDS * Long.BYTES;
+
+        private char[] array;
+        private long[] bitmap;
+        private int cardinality;
+
+        public Container() {
+            this.array = new char[4];
+        }
+
+        public static Container fromBytes(byte[] bytes) {
+            Container container = new Container();
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            if (bytes.length == BITMAP_BYTES) {
+                container.array = null;
+                container.bitmap = new long[BITMAP_WORDS];
+                for (int i = 0; i < BITMAP_WORDS; i++) {
+                    long word = buffer.getLong();
+                    container.bitmap[i] = word;
+                    container.cardinality += Long.bitCount(word);
+                }
+            } else {
+                container.array = new char[Math.max(4, bytes.length / 2)];
+                container.cardinality = bytes.length / 2;
+                buffer.asCharBuffer().get(container.array, 0, container.cardinality);
+            }
+            return container;
+        }
+
+        public boolean contains(char low) {
+            if (bitmap != null) {
+                return (bitmap[low >>> 6] & (1L << low)) != 0;
+            }
+            return Arrays.binarySearch(array, 0, cardinality, low) >= 0;
+        }
+
+        /**
+         * @return eleman yeni eklendiyse true, zaten varsa false
+         */
+        public boolean add(char low) {
+            if (bitmap != null) {
+                long mask = 1L << low;
+                int index = low >>> 6;
+                if ((bitmap[index] & mask) != 0) {
+                    return false;
+                }
+                bitmap[index] |= mask;
+                cardinality++;
+                return true;
+            }
+
+            int position = Arrays.binarySearch(array, 0, cardinality, low);
+            if (position >= 0) {
+                return false;
+            }
+            if (cardinality + 1 >= ARRAY_MAX) {
+                toBitmap();
+                return add(low);
+            }
+            position = -position - 1;
+            if (cardinality == array.length) {
+                array = Arrays.copyOf(array, Math.min(ARRAY_MAX, array.length * 2));
+            }
+            System.arraycopy(array, position, array, position + 1, cardinality - position);
+            array[position] = low;
+            cardinality++;
+            return true;
+        }
+
+        /**
+         * @return eleman vardı ve çıkarıldıysa true
+         * Bitmap, eleman sayısı ARRAY_MAX'ın yarısının altına inince array'e döner
+         * (sınırda ekle/çıkar ile sürekli dönüşüm olmasın diye)
+         */
+        public boolean remove(char low) {
+            if (bitmap != null) {
+                long mask = 1L << low;
+                int index = low >>> 6;
+                if ((bitmap[index] & mask) == 0) {
+                    return false;
+                }
+                bitmap[index] &= ~mask;
+                cardinality--;
+                if (cardinality < ARRAY_MAX / 2) {
+                    toArray();
+                }
+                return true;
+            }
+
+            int position = Arrays.binarySearch(array, 0, cardinality, low);
+            if (position < 0) {
+                return false;
+            }
+            System.arraycopy(array, position + 1, array, position, cardinality - position - 1);
+            cardinality--;
+            return true;
+        }
+
+        public int cardinality() {
+            return cardinality;
+        }
+
+        public int sizeInBytes() {
+            return bitmap != null ? BITMAP_BYTES : array.length * 2;
+        }
+
+        public byte[] toBytes() {
+            if (bitmap != null) {
+                ByteBuffer buffer = ByteBuffer.allocate(BITMAP_BYTES);
+                for (long word : bitmap) {
+                    buffer.putLong(word);
+                }
+                return buffer.array();
+            }
+            ByteBuffer buffer = ByteBuffer.allocate(cardinality * 2);
+            buffer.asCharBuffer().put(array, 0, cardinality);
+            return buffer.array();
+        }
+
+        private void toBitmap() {
+            bitmap = new long[BITMAP_WORDS];
+            for (int i = 0; i < cardinality; i++) {
+                char low = array[i];
+                bitmap[low >>> 6] |= 1L << low;
+            }
+            array = null;
+        }
+
+        private void toArray() {
+            array = new char[cardinality];
+            int position = 0;
+            for (int index = 0; index < BITMAP_WORDS; index++) {
+                long word = bitmap[index];
+                while (word != 0) {
+                    array[position++] = (char) (index * 64 + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            bitmap = null;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.blog.blok_api.util;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CountUtil - Toplu sayım sorgularının ([id, count] satırları) sonucunu Map'e çevirir
+ */
+public final class CountUtil {
+
+    private CountUtil() {
+    }
+
+    /**
+     * [id, count] satırları -> id -> count (satırı olmayan ID'nin sayısı 0 kabul edilir)
+     */
+    public static Map<Long, Integer> toCountMap(List<Object[]> rows) {
+        Map<Long, Integer> counts = new HashMap<>();
+        for (Object[] row : rows) {
+            counts.put(((Number) row[0]).longValue(), ((Number) row[1]).intValue());
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,290 @@
+package com.blog.blok_api.util;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * HyperLogLog - Sabit bellekle farklı eleman sayısı (cardinality) tahmini
+ *
+ * m = 2^p register tutulur; standart hata yaklaşık 1.04 / sqrt(m):
+ * - p = 12 (4096 register, en fazla 4 KB) için ~%1.6
+ * - p = 14 (16384 register, en fazla 16 KB) için ~%0.8
+ *
+ * Az elemanlı sketch'ler seyrek (sparse) tutulur: sadece dolu register'lar, sıralı
+ * (index << 8 | rank) int dizisi olarak. Dolu register sayısı m/4'ü geçince yoğun (dense)
+ * byte[m] düzenine geçilir. Görüntülenmelerin çoğu az sayıda posta yığıldığı için
+ * postların büyük kısmı birkaç yüz byte'ta kalır.
+ *
+ * Byte düzeni: [p][format] ardından
+ * - seyrek: dolu register başına 3 byte (index 2 byte, rank 1 byte)
+ * - yoğun: m byte
+ *
+ * Eklenen değerler önceden hash'lenmiş 64 bitlik değerlerdir (hash(long) / hash(String)).
+ * Thread-safe değildir.
+ */
+public final class HyperLogLog {
+
+    public static final int MIN_PRECISION = 4;
+    public static final int MAX_PRECISION = 16;
+
+    private static final byte FORMAT_SPARSE = 0;
+    private static final byte FORMAT_DENSE = 1;
+
+    private final int precision;
+    private final int registerCount;
+
+    private byte[] dense;
+    private int[] sparse;
+    private int sparseSize;
+
+    public HyperLogLog(int precision) {
+        if (precision < MIN_PRECISION || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("HyperLogLog precision " + MIN_PRECISION + "-" + MAX_PRECISION
+                    + " aralığında olmalı: " + precision);
+        }
+        this.precision = precision;
+        this.registerCount = 1 << precision;
+        this.sparse = new int[4];
+    }
+
+    /**
+     * İstenen standart hata oranı için gereken en küçük precision (ör. 0.02 -> 12)
+     */
+    public static int precisionFor(double errorRate) {
+        if (!(errorRate > 0 && errorRate < 1)) {
+            throw new IllegalArgumentException("HyperLogLog hata oranı 0 ile 1 arasında olmalı: " + errorRate);
+        }
+        double registers = Math.pow(1.04 / errorRate, 2);
+        int precision = (int) Math.ceil(Math.log(registers) / Math.log(2));
+        return Math.max(MIN_PRECISION, Math.min(MAX_PRECISION, precision));
+    }
+
+    public static double errorRateOf(int precision) {
+        return 1.04 / Math.sqrt(1 << precision);
+    }
+
+    /**
+     * Sayısal anahtar (ör. kullanıcı ID'si) için 64 bit hash - MurmurHash3 fmix64
+     * Ardışık ID'ler de register'lara düzgün dağılır
+     */
+    public static long hash(long value) {
+        long h = value ^ 0x9E3779B97F4A7C15L;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * Metin anahtar (ör. anonim ziyaretçi kimliği) için 64 bit hash - FNV-1a + fmix64
+     */
+    public static long hash(String value) {
+        long h = 0xCBF29CE484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xFF;
+            h *= 0x100000001B3L;
+        }
+        return hash(h);
+    }
+
+    public static HyperLogLog fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        HyperLogLog sketch = new HyperLogLog(buffer.get());
+        if (buffer.get() == FORMAT_DENSE) {
+            sketch.dense = new byte[sketch.registerCount];
+            buffer.get(sketch.dense);
+            sketch.sparse = null;
+        } else {
+            int size = buffer.remaining() / 3;
+            sketch.sparse = new int[Math.max(4, size)];
+            for (int i = 0; i < size; i++) {
+                int index = buffer.getChar();
+                sketch.sparse[i] = index << 8 | (buffer.get() & 0xFF);
+            }
+            sketch.sparseSize = size;
+        }
+        return sketch;
+    }
+
+    public int precision() {
+        return precision;
+    }
+
+    /**
+     * @param hash hash(long) veya hash(String) çıktısı
+     */
+    public void add(long hash) {
+        int index = (int) (hash >>> (64 - precision));
+        // Kalan bitlerdeki ilk 1'in konumu; hepsi 0 ise üst sınır 64 - p + 1
+        int rank = Long.numberOfLeadingZeros((hash << precision) | (1L << (precision - 1))) + 1;
+        update(index, rank);
+    }
+
+    /**
+     * Diğer sketch'i bu sketch'e ekler (register bazında max)
+     * Diğer sketch daha yüksek precision'daysa register'ları bu precision'a indirgenir;
+     * daha düşük precision'daysa bilgi kaybı olmadan birleştirilemez, önce withPrecision kullanılmalı.
+     */
+    public void merge(HyperLogLog other) {
+        if (other.precision < precision) {
+            throw new IllegalArgumentException("Düşük precision'lı sketch birleştirilemez: "
+                    + other.precision + " < " + precision);
+        }
+        int shift = other.precision - precision;
+        if (other.dense != null) {
+            for (int index = 0; index < other.registerCount; index++) {
+                if (other.dense[index] != 0) {
+                    mergeRegister(index, other.dense[index], shift);
+                }
+            }
+        } else {
+            for (int i = 0; i < other.sparseSize; i++) {
+                mergeRegister(other.sparse[i] >>> 8, other.sparse[i] & 0xFF, shift);
+            }
+        }
+    }
+
+    /**
+     * Aynı içeriğin daha düşük precision'lı kopyası (hata oranı ayarı düşürüldüğünde eski sketch'ler için)
+     */
+    public HyperLogLog withPrecision(int targetPrecision) {
+        HyperLogLog copy = new HyperLogLog(targetPrecision);
+        copy.merge(this);
+        return copy;
+    }
+
+    /**
+     * Tahmini farklı eleman sayısı
+     * Küçük aralıkta (boş register varken ham tahmin 2.5m'nin altındaysa) linear counting kullanılır;
+     * 64 bit hash ile büyük aralık düzeltmesine gerek yoktur.
+     */
+    public long estimate() {
+        double sum = 0;
+        int zeros;
+        if (dense != null) {
+            zeros = 0;
+            for (byte register : dense) {
+                if (register == 0) {
+                    zeros++;
+                }
+                sum += 1.0 / (1L << register);
+            }
+        } else {
+            zeros = registerCount - sparseSize;
+            sum = zeros;
+            for (int i = 0; i < sparseSize; i++) {
+                sum += 1.0 / (1L << (sparse[i] & 0xFF));
+            }
+        }
+
+        double estimate = alpha() * registerCount * registerCount / sum;
+        if (estimate <= 2.5 * registerCount && zeros > 0) {
+            estimate = registerCount * Math.log((double) registerCount / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    public boolean isEmpty() {
+        return dense == null && sparseSize == 0;
+    }
+
+    public byte[] toBytes() {
+        if (dense != null) {
+            ByteBuffer buffer = ByteBuffer.allocate(2 + registerCount);
+            buffer.put((byte) precision).put(FORMAT_DENSE).put(dense);
+            return buffer.array();
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(2 + sparseSize * 3);
+        buffer.put((byte) precision).put(FORMAT_SPARSE);
+        for (int i = 0; i < sparseSize; i++) {
+            buffer.putChar((char) (sparse[i] >>> 8)).put((byte) sparse[i]);
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Yüksek precision'lı register'ı bu precision'a indirger:
+     * index'in alt 'shift' biti rank'e ait bitlerin başına eklenmiş olur
+     */
+    private void mergeRegister(int index, int rank, int shift) {
+        if (shift == 0) {
+            update(index, rank);
+            return;
+        }
+        int low = index & ((1 << shift) - 1);
+        int foldedRank = low != 0
+                ? Integer.numberOfLeadingZeros(low) - (32 - shift) + 1
+                : rank + shift;
+        update(index >>> shift, foldedRank);
+    }
+
+    private void update(int index, int rank) {
+        if (dense != null) {
+            if (rank > dense[index]) {
+                dense[index] = (byte) rank;
+            }
+            return;
+        }
+
+        int position = findSparse(index);
+        if (position >= 0) {
+            if (rank > (sparse[position] & 0xFF)) {
+                sparse[position] = index << 8 | rank;
+            }
+            return;
+        }
+        if (sparseSize + 1 > registerCount / 4) {
+            toDense();
+            update(index, rank);
+            return;
+        }
+        position = -position - 1;
+        if (sparseSize == sparse.length) {
+            sparse = Arrays.copyOf(sparse, sparse.length * 2);
+        }
+        System.arraycopy(sparse, position, sparse, position + 1, sparseSize - position);
+        sparse[position] = index << 8 | rank;
+        sparseSize++;
+    }
+
+    /**
+     * Sıralı sparse dizisinde index'i arar (Arrays.binarySearch ile aynı dönüş sözleşmesi)
+     */
+    private int findSparse(int index) {
+        int low = 0;
+        int high = sparseSize - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int middleIndex = sparse[middle] >>> 8;
+            if (middleIndex < index) {
+                low = middle + 1;
+            } else if (middleIndex > index) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private void toDense() {
+        dense = new byte[registerCount];
+        for (int i = 0; i < sparseSize; i++) {
+            dense[sparse[i] >>> 8] = (byte) (sparse[i] & 0xFF);
+        }
+        sparse = null;
+        sparseSize = 0;
+    }
+
+    private double alpha() {
+        return switch (registerCount) {
+            case 16 -> 0.673;
+            case 32 -> 0.697;
+            case 64 -> 0.709;
+            default -> 0.7213 / (1 + 1.079 / registerCount);
+        };
+    }
+}
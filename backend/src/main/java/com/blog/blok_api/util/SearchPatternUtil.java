@@ -0,0 +1,33 @@
+package com.blog.blok_api.util;
+
+/**
+ * SearchPatternUtil - LIKE / ILIKE sorguları için arama deseni üretir
+ * Kullanıcı girdisindeki %, _ ve ! karakterleri '!' ile kaçırılır,
+ * bu yüzden sorgularda "escape '!'" kullanılmalıdır.
+ */
+public final class SearchPatternUtil {
+
+    public static final char ESCAPE_CHAR = '!';
+
+    private SearchPatternUtil() {
+    }
+
+    /**
+     * "abc" -> "%abc%" (özel karakterler kaçırılmış halde)
+     */
+    public static String containsPattern(String query) {
+        if (query == null) return "%";
+        String trimmed = query.trim();
+        StringBuilder sb = new StringBuilder(trimmed.length() + 2);
+        sb.append('%');
+        for (int i = 0; i < trimmed.length(); i++) {
+            char c = trimmed.charAt(i);
+            if (c == '%' || c == '_' || c == ESCAPE_CHAR) {
+                sb.append(ESCAPE_CHAR);
+            }
+            sb.append(c);
+        }
+        sb.append('%');
+        return sb.toString();
+    }
+}
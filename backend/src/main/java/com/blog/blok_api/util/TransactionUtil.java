@@ -0,0 +1,30 @@
+package com.blog.blok_api.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * TransactionUtil - Bellekteki durumu (cache, sayaç, kuyruk) transaction sonucuna bağlar
+ */
+public final class TransactionUtil {
+
+    private TransactionUtil() {
+    }
+
+    /**
+     * İşi aktif transaction commit edildikten sonra çalıştırır; rollback'te çalışmaz.
+     * Transaction yoksa hemen çalıştırır.
+     */
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
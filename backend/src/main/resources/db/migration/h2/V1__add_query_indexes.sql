@@ -0,0 +1,14 @@
+-- PostgreSQL migration'ı ile aynı index'ler (db/migration/postgresql/V1__add_query_indexes.sql)
+-- H2 kısmi index ve CONCURRENTLY desteklemez; kısmi index'ler tam index olarak oluşturulur
+
+CREATE INDEX IF NOT EXISTS idx_posts_published_created ON posts (is_published, created_at DESC, id);
+CREATE INDEX IF NOT EXISTS idx_posts_author_created ON posts (author_id, created_at);
+CREATE INDEX IF NOT EXISTS idx_posts_deleted_at ON posts (deleted_at);
+CREATE INDEX IF NOT EXISTS idx_likes_post ON likes (post_id);
+CREATE INDEX IF NOT EXISTS idx_likes_comment ON likes (comment_id);
+CREATE INDEX IF NOT EXISTS idx_likes_user_liked_at ON likes (user_id, liked_at DESC);
+CREATE INDEX IF NOT EXISTS idx_comments_post_active ON comments (post_id);
+CREATE INDEX IF NOT EXISTS idx_comments_parent ON comments (parent_comment_id);
+CREATE INDEX IF NOT EXISTS idx_comments_author ON comments (author_id);
+CREATE INDEX IF NOT EXISTS idx_saved_posts_user_created ON saved_posts (user_id, created_at DESC);
+CREATE INDEX IF NOT EXISTS idx_post_views_post ON post_views (post_id);
@@ -0,0 +1,11 @@
+-- PostgreSQL'de post_views aylık partition'lı tabloya çevrilir (db/migration/postgresql/V2__partition_post_views.sql)
+-- H2 partition desteklemez: tablo düz kalır, sadece constraint'ler kaldırılır ve aynı index'ler eklenir
+-- Her görüntülenme ayrı satır olduğu için (user_id, post_id) unique constraint'i kalkar; tekillik post_view_seen'de
+-- Constraint isimleri Hibernate'in post_views için ürettiği isimlerdir (yeni şemalarda hiç oluşmazlar)
+
+ALTER TABLE post_views DROP CONSTRAINT IF EXISTS UKGYAYT4ET9UIO5NU46MM5XSKSD;
+ALTER TABLE post_views DROP CONSTRAINT IF EXISTS FKIIWYKHLBHJWI5CXXCX9N76CD6;
+ALTER TABLE post_views DROP CONSTRAINT IF EXISTS FKM1FM9HC7487K4J6QD2G1IQ0K2;
+
+CREATE INDEX IF NOT EXISTS idx_post_views_user ON post_views (user_id);
+CREATE INDEX IF NOT EXISTS idx_post_views_viewed_at ON post_views (viewed_at);
@@ -0,0 +1,2 @@
+-- PostgreSQL migration'ı ile aynı index (db/migration/postgresql/V4__notifications_user_created_index.sql)
+CREATE INDEX IF NOT EXISTS idx_notifications_user_created ON notifications (user_id, created_at DESC, id DESC);
@@ -0,0 +1,3 @@
+-- PostgreSQL migration'ı ile aynı index (db/migration/postgresql/V5__posts_feed_id_index.sql)
+-- H2 kısmi index desteklemez; koşul sütunları index'e eklenir
+CREATE INDEX IF NOT EXISTS idx_posts_feed_id ON posts (is_published, deleted_at, id);
@@ -0,0 +1,2 @@
+-- PostgreSQL migration'ı ile aynı index (db/migration/postgresql/V6__follows_followee_index.sql)
+CREATE INDEX IF NOT EXISTS idx_follows_followee ON follows (followee_id, follower_id);
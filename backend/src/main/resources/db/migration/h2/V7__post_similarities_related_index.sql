@@ -0,0 +1,2 @@
+-- PostgreSQL migration'ı ile aynı index (db/migration/postgresql/V7__post_similarities_related_index.sql)
+CREATE INDEX IF NOT EXISTS idx_post_similarities_related ON post_similarities (related_post_id);
@@ -0,0 +1,2 @@
+-- PostgreSQL migration'ı ile aynı index (db/migration/postgresql/V8__notifications_post_index.sql)
+CREATE INDEX IF NOT EXISTS idx_notifications_post ON notifications (post_id);
@@ -0,0 +1,47 @@
+-- Repository sorgularına göre index'ler
+-- CONCURRENTLY: büyük tablolarda yazmaları kilitlemeden oluşturulur (transaction dışında çalışır, bkz. .sql.conf)
+-- posts sorguları @SQLRestriction ile her zaman "deleted_at IS NULL" içerir, feed index'i buna göre kısmi
+
+-- Feed / arama: WHERE is_published AND deleted_at IS NULL ORDER BY created_at DESC
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_posts_published_created
+    ON posts (is_published, created_at DESC, id) WHERE deleted_at IS NULL;
+
+-- My Posts (findAllByAuthorWithRelations), kullanıcı silme (findAllIdsByAuthorId)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_posts_author_created
+    ON posts (author_id, created_at);
+
+-- Silinmiş post temizliği (findTombstonedIds) - sadece tombstone satırları
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_posts_deleted_at
+    ON posts (deleted_at) WHERE deleted_at IS NOT NULL;
+
+-- Like sayıları (countLikesByPostIds, countByPostId), post temizliği
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_likes_post
+    ON likes (post_id);
+
+-- Yorum like sayıları ve yorum silme
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_likes_comment
+    ON likes (comment_id);
+
+-- Beğenilen postlar, en son beğenilen önce (findLikedPostIdsByUserId)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_likes_user_liked_at
+    ON likes (user_id, liked_at DESC);
+
+-- Aktif yorum sayıları (countActiveCommentsByPostIds)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_comments_post_active
+    ON comments (post_id) WHERE is_deleted = false;
+
+-- Yorum ağacı gezme (findIdsByParentIdIn) ve parent FK
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_comments_parent
+    ON comments (parent_comment_id);
+
+-- Kullanıcının yorumları (getPostsUserCommentedOn, kullanıcı silme)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_comments_author
+    ON comments (author_id);
+
+-- Kaydedilen postlar, en son kaydedilen önce (findSavedPostsByUserId)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_saved_posts_user_created
+    ON saved_posts (user_id, created_at DESC);
+
+-- Görüntülenme sayıları ve post temizliği
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_post_views_post
+    ON post_views (post_id);
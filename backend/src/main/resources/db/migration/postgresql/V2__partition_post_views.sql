@@ -0,0 +1,80 @@
+-- post_views: viewed_at'e göre aylık RANGE partition'lı ham görüntülenme log'u
+--
+-- Mevcut veri kopyalanmaz: eski tablo post_views_legacy adıyla "MINVALUE - gelecek ay başı" aralığının
+-- partition'ı olur. Büyük tabloda uzun kilit tutmamak için sıra:
+--   1. Aralık CHECK'i NOT VALID eklenir, sonra VALIDATE edilir (yazmaları kilitlemez)
+--   2. Partition'lı index'lerin legacy karşılıkları CONCURRENTLY oluşturulur
+--   3. Tek DO bloğunda (tek transaction, kısa ACCESS EXCLUSIVE): isim değişikliği, yeni parent tablo,
+--      ATTACH (doğrulanmış CHECK sayesinde tablo taranmaz, index'ler eşleştirilip bağlanır),
+--      ileri ay partition'ları
+--
+-- (user_id, post_id) unique constraint'i ve foreign key'ler kaldırılır: partition'lı tablodaki unique
+-- constraint partition anahtarını içermek zorunda, tekillik artık post_view_seen'de. FK'siz partition'lar
+-- post/kullanıcı silmeyi engellemeden ayrılıp arşivlenebilir (PostViewPartitionManager).
+-- Transaction dışında çalışır (CONCURRENTLY), bkz. .sql.conf
+
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'post_views_legacy_range') THEN
+        EXECUTE format('ALTER TABLE post_views ADD CONSTRAINT post_views_legacy_range CHECK (viewed_at < %L) NOT VALID',
+                       date_trunc('month', LOCALTIMESTAMP) + INTERVAL '1 month');
+    END IF;
+END $$;
+
+ALTER TABLE post_views VALIDATE CONSTRAINT post_views_legacy_range;
+
+-- idx_post_views_post V1'de oluşturuldu
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_post_views_legacy_user ON post_views (user_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_post_views_legacy_viewed_at ON post_views (viewed_at);
+
+DO $$
+DECLARE
+    legacy_upper timestamp := date_trunc('month', LOCALTIMESTAMP) + INTERVAL '1 month';
+    last_month   timestamp := date_trunc('month', LOCALTIMESTAMP) + INTERVAL '2 month';
+    month_start  timestamp;
+    next_id      bigint;
+    r            record;
+BEGIN
+    ALTER TABLE post_views RENAME TO post_views_legacy;
+    ALTER INDEX idx_post_views_post RENAME TO idx_post_views_legacy_post;
+
+    -- Hibernate'in ürettiği foreign key ve unique constraint'ler
+    FOR r IN SELECT conname FROM pg_constraint
+             WHERE conrelid = 'post_views_legacy'::regclass AND contype IN ('f', 'u')
+    LOOP
+        EXECUTE format('ALTER TABLE post_views_legacy DROP CONSTRAINT %I', r.conname);
+    END LOOP;
+
+    -- id üretimi parent'taki sequence'e taşınır
+    SELECT COALESCE(MAX(id), 0) + 1 INTO next_id FROM post_views_legacy;
+    ALTER TABLE post_views_legacy ALTER COLUMN id DROP IDENTITY IF EXISTS;
+    ALTER TABLE post_views_legacy ALTER COLUMN id DROP DEFAULT;
+    EXECUTE format('CREATE SEQUENCE post_views_event_id_seq START WITH %s', next_id);
+
+    CREATE TABLE post_views (
+        id        bigint       NOT NULL DEFAULT nextval('post_views_event_id_seq'),
+        user_id   bigint       NOT NULL,
+        post_id   bigint       NOT NULL,
+        viewed_at timestamp(6) NOT NULL
+    ) PARTITION BY RANGE (viewed_at);
+    ALTER SEQUENCE post_views_event_id_seq OWNED BY post_views.id;
+
+    -- Sadece parent'ta (ON ONLY): ATTACH sırasında legacy'deki eşdeğer index'ler bağlanır,
+    -- sonradan oluşturulan partition'larda otomatik oluşur
+    CREATE INDEX idx_post_views_post ON ONLY post_views (post_id);
+    CREATE INDEX idx_post_views_user ON ONLY post_views (user_id);
+    CREATE INDEX idx_post_views_viewed_at ON ONLY post_views (viewed_at);
+
+    EXECUTE format('ALTER TABLE post_views ATTACH PARTITION post_views_legacy FOR VALUES FROM (MINVALUE) TO (%L)',
+                   legacy_upper);
+    ALTER TABLE post_views_legacy DROP CONSTRAINT post_views_legacy_range;
+
+    -- İleri aylar (sonrakileri PostViewPartitionManager oluşturur)
+    month_start := legacy_upper;
+    WHILE month_start <= last_month LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF post_views FOR VALUES FROM (%L) TO (%L)',
+                       'post_views_' || to_char(month_start, '"y"YYYY"m"MM'),
+                       month_start, month_start + INTERVAL '1 month');
+        month_start := month_start + INTERVAL '1 month';
+    END LOOP;
+END $$;
@@ -0,0 +1,4 @@
+-- posts.unique_viewers (Hibernate ddl-auto ile default 0 olarak eklenir) mevcut postlar için doldurulur
+-- views_count zaten kullanıcı başına ilk görüntülenmede artan kesin tekil sayımdır
+-- Sadece eksik kalan satırlar yazılır
+UPDATE posts SET unique_viewers = views_count WHERE unique_viewers < views_count;
@@ -0,0 +1,4 @@
+-- Bildirim listesi keyset sayfalama: WHERE user_id = ? [AND (created_at, id) < imleç] ORDER BY created_at DESC, id DESC
+-- Birleştirme adayları (findUnreadSince) da aynı index'in user_id + created_at aralığını kullanır
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_notifications_user_created
+    ON notifications (user_id, created_at DESC, id DESC);
@@ -0,0 +1,4 @@
+-- "Yeni post var mı" yoklaması (countPublishedAfter, findPublishedIdsAfter):
+-- WHERE is_published AND deleted_at IS NULL AND id > ? - kısmi index koşulu kapsar, sayım index-only scan olur
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_posts_feed_id
+    ON posts (id) WHERE is_published = TRUE AND deleted_at IS NULL;
@@ -0,0 +1,4 @@
+-- Takipçiler (fan-out keyset: findFollowerIdsAfter, takipçi sayısı, çok takipçili yazarlar):
+-- WHERE followee_id = ? [AND follower_id > ?] ORDER BY follower_id - PK (follower_id, followee_id) ters yönü kapsamaz
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_follows_followee
+    ON follows (followee_id, follower_id);
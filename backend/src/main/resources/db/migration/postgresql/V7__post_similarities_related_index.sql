@@ -0,0 +1,4 @@
+-- Fiziksel silinen postun diğer postların benzer listelerinden çıkarılması (deleteByPostIdsOrRelated):
+-- WHERE related_post_id IN (...) - PK (post_id, related_post_id) bu yönü kapsamaz
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_post_similarities_related
+    ON post_similarities (related_post_id);
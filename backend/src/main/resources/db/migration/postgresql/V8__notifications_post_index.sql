@@ -0,0 +1,4 @@
+-- Silinmiş postun bildirimlerinin temizlenmesi (PostPurgeJob -> deleteBatchByPostId, countUnreadByPostId):
+-- WHERE post_id = ? - (user_id, created_at, id) index'i bu yönü kapsamaz
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_notifications_post
+    ON notifications (post_id);
@@ -0,0 +1,61 @@
+package com.blog.blok_api.config;
+
+import com.blog.blok_api.security.JwtUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Testlerde metrik dışa aktarımı varsayılan kapalı; /actuator/prometheus için açılır
+@AutoConfigureObservability
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "management.server.port=0")
+class ActuatorSecurityTest {
+
+    @LocalServerPort
+    int port;
+
+    @LocalManagementPort
+    int managementPort;
+
+    @Autowired
+    JwtUtil jwtUtil;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void healthAndPrometheusAreOpenOnManagementPort() throws Exception {
+        assertEquals(200, get(managementPort, "/actuator/health", null));
+        assertEquals(200, get(managementPort, "/actuator/prometheus", null));
+    }
+
+    @Test
+    void otherEndpointsRequireAdmin() throws Exception {
+        assertEquals(403, get(managementPort, "/actuator/metrics", null));
+        assertEquals(403, get(managementPort, "/actuator/metrics", jwtUtil.generateToken("user", 1L, List.of("USER"))));
+        assertEquals(200, get(managementPort, "/actuator/metrics", jwtUtil.generateToken("admin", 2L, List.of("ADMIN"))));
+    }
+
+    @Test
+    void actuatorIsNotServedOnApiPort() throws Exception {
+        assertEquals(403, get(port, "/actuator/metrics", null));
+        assertEquals(403, get(port, "/actuator/prometheus", null));
+    }
+
+    private int get(int port, String path, String token) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path));
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        return client.send(request.GET().build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
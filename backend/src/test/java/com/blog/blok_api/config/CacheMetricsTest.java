@@ -0,0 +1,37 @@
+package com.blog.blok_api.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Elle bağlanan Caffeine cache'leri CaffeineCacheManager cache'leriyle aynı etiket kümesini kullanmalı;
+ * aksi halde Prometheus çakışan kümeyi reddeder ve cache'lerden birinin metrikleri kaybolur
+ */
+@AutoConfigureObservability
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "management.server.port=0")
+class CacheMetricsTest {
+
+    @LocalManagementPort
+    int managementPort;
+
+    @Test
+    void everyCacheIsScraped() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(
+                URI.create("http://localhost:" + managementPort + "/actuator/prometheus")).build();
+        String scrape = HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofString()).body();
+
+        for (String cache : new String[]{"postDetails", "postCounters", "userInteractionState", "tagAffinity"}) {
+            assertTrue(scrape.contains("cache_gets_total{application=\"blok-api\",cache=\"" + cache + "\""),
+                    cache + " metrikleri eksik");
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.blog.blok_api.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.method.HandlerMethod;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class QueryDiagnosticsTest {
+
+    @Test
+    void literalsBecomePlaceholders() {
+        assertEquals("select * from users u1_0 where u1_0.username=? and u1_0.id=?",
+                QueryDiagnostics.normalize("select * from users u1_0 where u1_0.username='o''brien' and u1_0.id=42"));
+    }
+
+    @Test
+    void inListsOfAnyLengthHaveTheSameShape() {
+        String one = QueryDiagnostics.normalize("select p.id from posts p where p.id in (?)");
+        assertEquals(one, QueryDiagnostics.normalize("select p.id from posts p where p.id in (?, ?, ?)"));
+        assertEquals(one, QueryDiagnostics.normalize("select p.id from posts p where p.id in (1,2,3)"));
+    }
+
+    @Test
+    void whitespaceIsCollapsed() {
+        assertEquals("select c.id from comments c where c.post_id=?",
+                QueryDiagnostics.normalize("\n  select c.id\n\tfrom comments c\n  where c.post_id=?  "));
+    }
+
+    @Test
+    void strictModeFailsWhenSameShapeExceedsThreshold() throws Exception {
+        QueryDiagnostics diagnostics = new QueryDiagnostics(null, 0, 2, 1000, true, new SimpleMeterRegistry());
+        HandlerMethod handler = new HandlerMethod(new Object(), Object.class.getMethod("toString"));
+        diagnostics.preHandle(null, null, handler);
+        try {
+            diagnostics.inspect("select * from likes l where l.post_id=1");
+            diagnostics.inspect("select * from likes l where l.post_id=2");
+            diagnostics.inspect("select * from posts p where p.id=3");
+            assertThrows(IllegalStateException.class,
+                    () -> diagnostics.inspect("select * from likes l where l.post_id=3"));
+        } finally {
+            diagnostics.afterCompletion(null, null, handler, null);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.blog.blok_api.config;
+
+import com.blog.blok_api.model.User;
+import com.blog.blok_api.security.CustomUserDetails;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Replica yerine ikinci bir H2 havuzu: her veritabanındaki node tablosu hangi havuzdan okunduğunu söyler
+ * Bağlantı zinciri ReplicaDataSourceConfig ile aynı: primary üzerinde LazyConnectionDataSourceProxy,
+ * read-only hedefi ReplicaRoutingDataSource
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private static final long MAX_LAG_MS = 500;
+
+    private HikariDataSource primary;
+    private HikariDataSource replica;
+    private ReplicaRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        primary = pool("primary");
+        replica = pool("replica");
+        routingDataSource = new ReplicaRoutingDataSource(primary, replica, MAX_LAG_MS, new SimpleMeterRegistry());
+        routingDataSource.afterPropertiesSet();
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(routingDataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+
+        routingDataSource.replicaLag(0L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        primary.close();
+        replica.close();
+    }
+
+    @Test
+    void readOnlyTransactionReadsFromReplica() {
+        assertEquals("replica", readOnlyNode());
+        assertEquals("primary", readWrite.execute(status -> node()));
+    }
+
+    @Test
+    void writingUserReadsFromPrimaryForMaxLag() throws Exception {
+        ReadYourWritesFilter filter = new ReadYourWritesFilter(routingDataSource);
+        AtomicReference<String> duringRequest = new AtomicReference<>();
+
+        authenticate(7L);
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/posts"), new MockHttpServletResponse(),
+                (request, response) -> duringRequest.set(readOnlyNode()));
+
+        assertEquals("primary", duringRequest.get());
+        assertEquals("primary", readOnlyNode());
+
+        // Başka kullanıcı ve GET etkilenmez
+        authenticate(8L);
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/posts"), new MockHttpServletResponse(),
+                (request, response) -> duringRequest.set(readOnlyNode()));
+        assertEquals("replica", duringRequest.get());
+
+        Thread.sleep(MAX_LAG_MS + 300);
+        authenticate(7L);
+        assertEquals("replica", readOnlyNode());
+    }
+
+    @Test
+    void unknownOrExcessiveLagRoutesEverythingToPrimary() {
+        routingDataSource.replicaLag(null);
+        assertEquals("primary", readOnlyNode());
+
+        routingDataSource.replicaLag(MAX_LAG_MS + 1);
+        assertEquals("primary", readOnlyNode());
+
+        routingDataSource.replicaLag(MAX_LAG_MS);
+        assertEquals("replica", readOnlyNode());
+    }
+
+    private String readOnlyNode() {
+        return readOnly.execute(status -> node());
+    }
+
+    private String node() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static void authenticate(long userId) {
+        User user = new User();
+        user.setId(userId);
+        CustomUserDetails principal = new CustomUserDetails(user);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+    }
+
+    private static HikariDataSource pool(String name) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:routing_" + name);
+        dataSource.setUsername("sa");
+        dataSource.setPoolName(name);
+        dataSource.setMaximumPoolSize(2);
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(16))");
+        jdbc.update("DELETE FROM node");
+        jdbc.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,140 @@
+package com.blog.blok_api.controller;
+
+import com.blog.blok_api.dto.CommentRequestDto;
+import com.blog.blok_api.dto.PostRequestDto;
+import com.blog.blok_api.dto.RegisterRequestDto;
+import com.blog.blok_api.security.JwtUtil;
+import com.blog.blok_api.service.AuthService;
+import com.blog.blok_api.service.CommentService;
+import com.blog.blok_api.service.LikeService;
+import com.blog.blok_api.service.PostService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Strict SQL diagnostics: aynı şekilde sorgu repeat-threshold'u (3) aşarsa istek 500 döner
+ * Satır sayısı eşiğin üstünde tutulur; yorum / post başına sorgu atan bir yol testi kırar.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "management.server.port=0",
+        "app.diagnostics.sql.strict=true",
+        "app.diagnostics.sql.repeat-threshold=3"
+})
+class CommentControllerQueryTest {
+
+    private static final int ROWS = 6;
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    AuthService authService;
+
+    @Autowired
+    PostService postService;
+
+    @Autowired
+    CommentService commentService;
+
+    @Autowired
+    LikeService likeService;
+
+    @Autowired
+    JwtUtil jwtUtil;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void commentTreeRunsConstantQueries() throws Exception {
+        String author = user("cq_author");
+        String reader = user("cq_reader");
+        long postId = createPost(author);
+        for (int i = 0; i < ROWS; i++) {
+            String commenter = user("cq_commenter" + i);
+            long root = comment(commenter, postId, null);
+            long reply = comment(author, postId, root);
+            comment(reader, postId, reply);
+            likeService.toggleLikeComment(root, reader);
+        }
+
+        HttpResponse<String> response = get("/api/comments/post/" + postId, reader);
+
+        assertEquals(200, response.statusCode(), response.body());
+        JsonNode roots = objectMapper.readTree(response.body());
+        assertEquals(ROWS, roots.size());
+        for (JsonNode root : roots) {
+            assertEquals(1, root.get("likeCount").asInt());
+            assertTrue(root.get("likedByCurrentUser").asBoolean());
+            assertEquals(1, root.get("replies").get(0).get("replies").size());
+        }
+    }
+
+    @Test
+    void commentedPostsRunConstantQueries() throws Exception {
+        String author = user("cq_post_author");
+        String commenter = user("cq_post_commenter");
+        for (int i = 0; i < ROWS; i++) {
+            long postId = createPost(author);
+            comment(commenter, postId, null);
+            comment(author, postId, null);
+        }
+
+        HttpResponse<String> response = get("/api/comments/user-posts", commenter);
+
+        assertEquals(200, response.statusCode(), response.body());
+        JsonNode posts = objectMapper.readTree(response.body());
+        assertEquals(ROWS, posts.size());
+        for (JsonNode post : posts) {
+            assertEquals(2, post.get("commentCount").asInt());
+        }
+    }
+
+    private HttpResponse<String> get(String path, String token) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private String user(String username) throws Exception {
+        RegisterRequestDto request = new RegisterRequestDto();
+        request.setUsername(username);
+        request.setEmail(username + "@example.com");
+        request.setPassword("secret123");
+        long userId = authService.register(request).getId();
+        return jwtUtil.generateToken(username, userId, List.of("USER"));
+    }
+
+    private long createPost(String token) throws Exception {
+        PostRequestDto request = new PostRequestDto();
+        request.setTitle("Yorumlu post");
+        request.setContent("içerik");
+        request.setTagNames(List.of());
+        return postService.createPost(token, request).getId();
+    }
+
+    private long comment(String token, long postId, Long parentCommentId) throws Exception {
+        CommentRequestDto request = new CommentRequestDto();
+        request.setPostId(postId);
+        request.setParentCommentId(parentCommentId);
+        request.setContent("yorum");
+        return commentService.createComment(token, request).getId();
+    }
+}
@@ -0,0 +1,50 @@
+package com.blog.blok_api.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "management.server.port=0")
+class PostControllerEtagTest {
+
+    @LocalServerPort
+    int port;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void streamedFeedSendsSingleEtagAndAnswers304() throws Exception {
+        assertSingleEtagAnd304("/api/posts");
+    }
+
+    @Test
+    void topLikedSendsSingleEtagAndAnswers304() throws Exception {
+        assertSingleEtagAnd304("/api/posts/top-liked");
+    }
+
+    private void assertSingleEtagAnd304(String path) throws Exception {
+        HttpResponse<String> first = get(path, null);
+        assertEquals(200, first.statusCode());
+        List<String> etags = first.headers().allValues("ETag");
+        assertEquals(1, etags.size(), "ETag başlıkları: " + etags);
+
+        HttpResponse<String> second = get(path, etags.get(0));
+        assertEquals(304, second.statusCode());
+    }
+
+    private HttpResponse<String> get(String path, String ifNoneMatch) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path));
+        if (ifNoneMatch != null) {
+            request.header("If-None-Match", ifNoneMatch);
+        }
+        return client.send(request.GET().build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,102 @@
+package com.blog.blok_api.service;
+
+import com.blog.blok_api.repository.CommentRepository;
+import com.blog.blok_api.repository.FollowRepository;
+import com.blog.blok_api.repository.HomeTimelineRepository;
+import com.blog.blok_api.repository.LikeRepository;
+import com.blog.blok_api.repository.NotificationCounterRepository;
+import com.blog.blok_api.repository.NotificationRepository;
+import com.blog.blok_api.repository.PostRepository;
+import com.blog.blok_api.repository.PostSimilarityRepository;
+import com.blog.blok_api.repository.PostViewDailyRepository;
+import com.blog.blok_api.repository.PostViewRepository;
+import com.blog.blok_api.repository.PostViewSeenRepository;
+import com.blog.blok_api.repository.PostViewSketchRepository;
+import com.blog.blok_api.repository.SavedPostRepository;
+import com.blog.blok_api.repository.UserRepository;
+import com.blog.blok_api.repository.UserTagAffinityRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CascadeDeleteServiceTest {
+
+    private static final long POST_ID = 7L;
+    private static final int BATCH_SIZE = 2;
+
+    private final PostRepository postRepository = mock(PostRepository.class);
+    private final CommentRepository commentRepository = mock(CommentRepository.class);
+    private final LikeRepository likeRepository = mock(LikeRepository.class);
+    private final PostViewRepository postViewRepository = mock(PostViewRepository.class);
+    private final SavedPostRepository savedPostRepository = mock(SavedPostRepository.class);
+    private final NotificationRepository notificationRepository = mock(NotificationRepository.class);
+    private final NotificationCounterRepository notificationCounterRepository = mock(NotificationCounterRepository.class);
+
+    private final CascadeDeleteService service = new CascadeDeleteService(
+            mock(UserRepository.class), postRepository, commentRepository, likeRepository, postViewRepository,
+            mock(PostViewSeenRepository.class), mock(PostViewDailyRepository.class),
+            mock(PostViewSketchRepository.class), savedPostRepository, notificationRepository,
+            notificationCounterRepository, mock(NotificationBatchWriter.class), mock(FollowRepository.class),
+            mock(HomeTimelineRepository.class), mock(UserTagAffinityRepository.class),
+            mock(PostSimilarityRepository.class), BATCH_SIZE);
+
+    @Test
+    void batchesRepeatUntilPartialBatch() {
+        when(likeRepository.deleteBatchByPostId(POST_ID, BATCH_SIZE)).thenReturn(2, 2, 1);
+        when(postViewRepository.deleteBatchByPostId(POST_ID, BATCH_SIZE)).thenReturn(2, 0);
+        when(savedPostRepository.deleteBatchByPostId(POST_ID, BATCH_SIZE)).thenReturn(1);
+        when(postRepository.deleteByIds(List.of(POST_ID))).thenReturn(1);
+
+        long total = service.purgePost(POST_ID);
+
+        verify(likeRepository, times(3)).deleteBatchByPostId(POST_ID, BATCH_SIZE);
+        verify(postViewRepository, times(2)).deleteBatchByPostId(POST_ID, BATCH_SIZE);
+        verify(savedPostRepository, times(1)).deleteBatchByPostId(POST_ID, BATCH_SIZE);
+        assertEquals(5 + 2 + 1 + 1, total);
+    }
+
+    @Test
+    void commentTreesAreDeletedDeepestLevelFirstInChunks() {
+        // 1, 2, 3 kök; 4, 1'in cevabı; 5, 4'ün cevabı
+        when(commentRepository.findRootIdsByPostId(POST_ID)).thenReturn(List.of(1L, 2L, 3L));
+        when(commentRepository.findIdsByParentIdIn(List.of(1L, 2L))).thenReturn(List.of(4L));
+        when(commentRepository.findIdsByParentIdIn(List.of(4L))).thenReturn(List.of(5L));
+        when(commentRepository.deleteByIds(anyList())).thenAnswer(call -> ((List<?>) call.getArgument(0)).size());
+
+        long total = service.purgePost(POST_ID);
+
+        InOrder order = inOrder(likeRepository, commentRepository);
+        order.verify(likeRepository).deleteByCommentIds(List.of(5L));
+        order.verify(commentRepository).deleteByIds(List.of(5L));
+        order.verify(likeRepository).deleteByCommentIds(List.of(4L));
+        order.verify(commentRepository).deleteByIds(List.of(4L));
+        // Kökler batch-size'lık parçalarla
+        order.verify(likeRepository).deleteByCommentIds(List.of(1L, 2L));
+        order.verify(commentRepository).deleteByIds(List.of(1L, 2L));
+        order.verify(likeRepository).deleteByCommentIds(List.of(3L));
+        order.verify(commentRepository).deleteByIds(List.of(3L));
+        assertEquals(5, total);
+    }
+
+    @Test
+    void unreadCountsAreDecrementedBeforeNotificationsOnUsersPostsAreDeleted() {
+        long userId = 3L;
+        when(notificationRepository.countUnreadByPostAuthorId(userId)).thenReturn(List.<Object[]>of(new Object[]{9L, 2L}));
+        when(postRepository.findAllIdsByAuthorId(userId, BATCH_SIZE)).thenReturn(List.of());
+
+        service.deleteUser(userId);
+
+        InOrder order = inOrder(notificationCounterRepository, notificationRepository);
+        order.verify(notificationCounterRepository).decrement(9L, 2);
+        order.verify(notificationRepository).deleteBatchByPostAuthorId(userId, BATCH_SIZE);
+    }
+}
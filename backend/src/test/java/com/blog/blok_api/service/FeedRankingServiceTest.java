@@ -0,0 +1,91 @@
+package com.blog.blok_api.service;
+
+import com.blog.blok_api.repository.PostRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FeedRankingServiceTest {
+
+    private final PostRepository postRepository = mock(PostRepository.class);
+    private final TagAffinityService tagAffinityService = mock(TagAffinityService.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final LocalDateTime now = LocalDateTime.now();
+
+    /** Pencere satırları en yeni önce: [id, created_at, views, likes, comments, saved] */
+    private final List<Object[]> features = new ArrayList<>();
+    private final List<Object[]> tags = new ArrayList<>();
+
+    private FeedRankingService service(long budgetMs) {
+        when(postRepository.findRankingFeatures(100)).thenReturn(features);
+        when(postRepository.findRankingTags(100)).thenReturn(tags);
+        when(tagAffinityService.vector(anyLong())).thenReturn(TagAffinityService.TagVector.EMPTY);
+        return new FeedRankingService(postRepository, tagAffinityService, registry,
+                100, 100, 100, 100, 2.0, 24, budgetMs);
+    }
+
+    private void post(long id, long ageHours, int likes) {
+        features.add(new Object[]{id, now.minusHours(ageHours), 0, likes, 0, 0});
+    }
+
+    @Test
+    void ordersByEngagementAtEqualAge() {
+        post(3, 1, 0);
+        post(2, 1, 100);
+        post(1, 1, 10);
+
+        assertEquals(List.of(2L, 1L, 3L), service(1000).rank(0, 0, 10));
+    }
+
+    @Test
+    void ageDecaysScore() {
+        post(2, 0, 0);
+        post(1, 24 * 10, 1000); // 10 yarı ömür: puan 1/1024'üne iner
+
+        assertEquals(List.of(2L, 1L), service(1000).rank(0, 0, 10));
+    }
+
+    @Test
+    void tagAffinityRaisesScore() {
+        post(2, 1, 0);
+        post(1, 1, 0);
+        tags.add(new Object[]{1L, 5L});
+        FeedRankingService service = service(1000);
+        when(tagAffinityService.vector(42L)).thenReturn(
+                new TagAffinityService.TagVector(new long[]{5L}, new float[]{1f}));
+
+        assertEquals(List.of(2L, 1L), service.rank(0, 0, 10)); // eşit puanda yeni önce
+        assertEquals(List.of(1L, 2L), service.rank(42, 0, 10));
+    }
+
+    @Test
+    void pagesContinueInScoreOrder() {
+        for (long id = 5; id >= 1; id--) {
+            post(id, 1, (int) id * 10);
+        }
+        FeedRankingService service = service(1000);
+
+        assertEquals(List.of(5L, 4L), service.rank(0, 0, 2));
+        assertEquals(List.of(3L, 2L), service.rank(0, 1, 2));
+        assertEquals(List.of(1L), service.rank(0, 2, 2));
+    }
+
+    @Test
+    void exhaustedBudgetLeavesRemainingCandidatesNewestFirst() {
+        post(3, 1, 0);
+        post(2, 1, 100);
+        post(1, 1, 1000);
+
+        // Bütçe 0: ilk kontrolde aşılır, hiçbir aday puanlanmaz
+        assertEquals(List.of(3L, 2L, 1L), service(0).rank(0, 0, 10));
+        assertEquals(1.0, registry.counter("blok.feed.ranking.budget.exceeded").count());
+    }
+}
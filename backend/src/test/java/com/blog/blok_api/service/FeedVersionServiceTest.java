@@ -0,0 +1,96 @@
+package com.blog.blok_api.service;
+
+import com.blog.blok_api.repository.PostRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FeedVersionServiceTest {
+
+    private final PostRepository postRepository = mock(PostRepository.class);
+
+    @Test
+    void versionIsServedFromMemoryUntilFingerprintRefresh() {
+        when(postRepository.findPublishedFeedValidators()).thenReturn(List.<Object[]>of(new Object[] { 3L, 7L, 0L, 5L, null }));
+        FeedVersionService service = new FeedVersionService(postRepository, 60_000);
+
+        String first = service.current();
+        for (int i = 0; i < 100; i++) {
+            assertEquals(first, service.current());
+        }
+        verify(postRepository, times(1)).findPublishedFeedValidators();
+
+        service.changed();
+        assertNotEquals(first, service.current());
+        verify(postRepository, times(1)).findPublishedFeedValidators();
+    }
+
+    @Test
+    void fingerprintIsReadAgainAfterRefreshInterval() {
+        when(postRepository.findPublishedFeedValidators())
+                .thenReturn(List.<Object[]>of(new Object[] { 3L, 7L, 0L, 5L, null }))
+                .thenReturn(List.<Object[]>of(new Object[] { 4L, 8L, 0L, 5L, null }));
+        FeedVersionService service = new FeedVersionService(postRepository, 0);
+
+        // Başka instance'ın yazması: yerel sayaç değişmez, parmak izi değişir
+        assertNotEquals(service.current(), service.current());
+    }
+
+    @Test
+    void changeInsideTransactionIsVisibleOnlyAfterCommit() {
+        when(postRepository.findPublishedFeedValidators()).thenReturn(List.<Object[]>of(new Object[] { 3L, 7L, 0L, 5L, null }));
+        FeedVersionService service = new FeedVersionService(postRepository, 60_000);
+        String before = service.current();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            service.changed();
+            assertEquals(before, service.current());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertNotEquals(before, service.current());
+    }
+
+    @Test
+    void staleFingerprintIsServedWhileAnotherRequestRefreshes() throws Exception {
+        CountDownLatch refreshing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(postRepository.findPublishedFeedValidators())
+                .thenReturn(List.<Object[]>of(new Object[] { 3L, 7L, 0L, 5L, null }))
+                .thenAnswer(call -> {
+                    refreshing.countDown();
+                    release.await();
+                    return List.<Object[]>of(new Object[] { 4L, 8L, 0L, 5L, null });
+                });
+        FeedVersionService service = new FeedVersionService(postRepository, 0);
+        String stale = service.current();
+
+        Thread refresher = new Thread(service::current);
+        refresher.start();
+        assertTrue(refreshing.await(5, TimeUnit.SECONDS));
+        try {
+            // Yenileme sürerken bekleme yok, eski parmak izi
+            assertEquals(stale, assertTimeoutPreemptively(Duration.ofSeconds(1), service::current));
+        } finally {
+            release.countDown();
+            refresher.join();
+        }
+        assertNotEquals(stale, service.current());
+    }
+}
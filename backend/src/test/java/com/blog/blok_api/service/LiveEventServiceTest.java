@@ -0,0 +1,63 @@
+package com.blog.blok_api.service;
+
+import com.blog.blok_api.repository.NotificationCounterRepository;
+import com.blog.blok_api.repository.PostRepository;
+import com.blog.blok_api.security.JwtUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LiveEventServiceTest {
+
+    private final JwtUtil jwtUtil = mock(JwtUtil.class);
+    private final NotificationCounterRepository counters = mock(NotificationCounterRepository.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    /** Görevleri çalıştırmadan tutan gönderici: bağlantı hiç okumayan istemci gibi davranır */
+    private final List<Runnable> pendingSends = new ArrayList<>();
+
+    private LiveEventService service(int bufferSize) {
+        when(jwtUtil.extractUserId("token")).thenReturn(1L);
+        when(counters.findUnreadCount(1L)).thenReturn(Optional.of(0));
+        return new LiveEventService(mock(PostRepository.class), counters, jwtUtil, registry,
+                true, 60_000, bufferSize, 100, 5, 100, pendingSends::add);
+    }
+
+    @Test
+    void connectionIsEvictedWhenSendQueueIsFull() throws Exception {
+        LiveEventService service = service(3);
+        service.open("token", List.of(10L)); // ready: 1. olay
+
+        service.heartbeat();
+        service.heartbeat(); // kuyruk dolu (3)
+        assertEquals(1, service.connectionCount());
+        assertEquals(0.0, registry.counter("blok.live.evictions").count());
+
+        service.heartbeat(); // 4. olay sığmaz
+        assertEquals(0, service.connectionCount());
+        assertEquals(1.0, registry.counter("blok.live.evictions").count());
+        // Bağlantı başına tek gönderim görevi planlanır
+        assertEquals(1, pendingSends.size());
+    }
+
+    @Test
+    void drainedQueueAcceptsNewEvents() throws Exception {
+        LiveEventService service = service(2);
+        service.open("token", List.of(10L));
+        service.heartbeat();
+
+        pendingSends.remove(0).run(); // gönderici kuyruğu boşaltır
+        service.heartbeat();
+        service.heartbeat();
+
+        assertEquals(1, service.connectionCount());
+        assertEquals(0.0, registry.counter("blok.live.evictions").count());
+    }
+}
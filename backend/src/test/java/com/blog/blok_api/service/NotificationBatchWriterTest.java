@@ -0,0 +1,116 @@
+package com.blog.blok_api.service;
+
+import com.blog.blok_api.dto.PostRequestDto;
+import com.blog.blok_api.dto.RegisterRequestDto;
+import com.blog.blok_api.model.Notification;
+import com.blog.blok_api.security.JwtUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Flush doğrudan çağrılır (kuyruk ve NotificationFlushJob devre dışı kalır)
+ */
+@SpringBootTest(properties = "app.posts.purge.enabled=false")
+class NotificationBatchWriterTest {
+
+    @Autowired
+    NotificationBatchWriter notificationBatchWriter;
+
+    @Autowired
+    AuthService authService;
+
+    @Autowired
+    PostService postService;
+
+    @Autowired
+    JwtUtil jwtUtil;
+
+    @Autowired
+    JdbcTemplate jdbc;
+
+    @Test
+    void eventsForMissingRecipientOrPostAreDroppedWithoutFailingTheBatch() throws Exception {
+        long authorId = register("nbw_author");
+        long postId = createPost("nbw_author", authorId);
+        long deletedPostId = createPost("nbw_author", authorId);
+        postService.deletePostByIdAndUser(deletedPostId, authorId);
+
+        Map<NotificationBatchWriter.Key, NotificationBatchWriter.Pending> batch = new HashMap<>();
+        add(batch, Long.MAX_VALUE, postId, 1L, "silinmis");
+        add(batch, authorId, deletedPostId, 1L, "ali");
+        add(batch, authorId, postId, 1L, "ali");
+
+        assertEquals(Set.of(authorId), notificationBatchWriter.flush(batch));
+        assertEquals(1, count("SELECT COUNT(*) FROM notifications WHERE user_id = ?", authorId));
+        assertEquals(1, count("SELECT unread_count FROM notification_counters WHERE user_id = ?", authorId));
+    }
+
+    @Test
+    void sameActorIsCountedOnceAcrossFlushes() throws Exception {
+        long authorId = register("nbw_coalesce");
+        long postId = createPost("nbw_coalesce", authorId);
+
+        // beğen / geri al / beğen: iki ayrı flush'a düşer
+        notificationBatchWriter.flush(add(new HashMap<>(), authorId, postId, 1L, "ali"));
+        notificationBatchWriter.flush(add(new HashMap<>(), authorId, postId, 1L, "ali"));
+        assertEquals(1, count("SELECT actor_count FROM notifications WHERE user_id = ?", authorId));
+
+        notificationBatchWriter.flush(add(new HashMap<>(), authorId, postId, 2L, "veli"));
+        assertEquals(2, count("SELECT actor_count FROM notifications WHERE user_id = ?", authorId));
+        assertEquals("veli ve 1 kişi daha postunu beğendi",
+                jdbc.queryForObject("SELECT content FROM notifications WHERE user_id = ?", String.class, authorId));
+        assertEquals(1, count("SELECT unread_count FROM notification_counters WHERE user_id = ?", authorId));
+    }
+
+    @Test
+    void discardRecipientDropsOnlyThatUsersPendingEvents() {
+        NotificationBatchWriter writer = new NotificationBatchWriter(null, null, 60);
+        writer.onEvent(new NotificationEvent(10L, Notification.TYPE_LIKE, 1L, null, 1L, "ali"));
+        writer.onEvent(new NotificationEvent(10L, Notification.TYPE_FOLLOW, null, null, 2L, "veli"));
+        writer.onEvent(new NotificationEvent(11L, Notification.TYPE_LIKE, 1L, null, 1L, "ali"));
+
+        writer.discardRecipient(10L);
+
+        assertEquals(1, writer.pendingCount());
+        assertEquals(Set.of(11L), writer.drain(10).keySet().stream()
+                .map(NotificationBatchWriter.Key::recipientId).collect(Collectors.toSet()));
+    }
+
+    private static Map<NotificationBatchWriter.Key, NotificationBatchWriter.Pending> add(
+            Map<NotificationBatchWriter.Key, NotificationBatchWriter.Pending> batch,
+            long recipientId, long postId, long actorId, String actorUsername) {
+        batch.computeIfAbsent(new NotificationBatchWriter.Key(recipientId, Notification.TYPE_LIKE, postId, null),
+                key -> new NotificationBatchWriter.Pending()).add(actorId, actorUsername);
+        return batch;
+    }
+
+    private int count(String sql, long userId) {
+        return jdbc.queryForObject(sql, Integer.class, userId);
+    }
+
+    private long register(String username) throws Exception {
+        RegisterRequestDto request = new RegisterRequestDto();
+        request.setUsername(username);
+        request.setEmail(username + "@example.com");
+        request.setPassword("secret123");
+        return authService.register(request).getId();
+    }
+
+    private long createPost(String username, long userId) throws Exception {
+        PostRequestDto request = new PostRequestDto();
+        request.setTitle("Bildirim postu");
+        request.setContent("içerik");
+        request.setTagNames(List.of());
+        return postService.createPost(jwtUtil.generateToken(username, userId, List.of("USER")), request).getId();
+    }
+}
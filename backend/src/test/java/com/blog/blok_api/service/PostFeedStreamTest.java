@@ -0,0 +1,94 @@
+package com.blog.blok_api.service;
+
+import com.blog.blok_api.dto.PostRequestDto;
+import com.blog.blok_api.dto.RegisterRequestDto;
+import com.blog.blok_api.security.JwtUtil;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Feed akışı keyset parçalarıyla okunur (100'erli); aynı created_at'e sahip postlar parça sınırında
+ * ne tekrarlanmalı ne de atlanmalı
+ */
+@SpringBootTest(properties = "app.posts.purge.enabled=false")
+class PostFeedStreamTest {
+
+    private static final int POSTS = 230;
+
+    @Autowired
+    AuthService authService;
+
+    @Autowired
+    PostService postService;
+
+    @Autowired
+    JwtUtil jwtUtil;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    JdbcTemplate jdbc;
+
+    @Test
+    void chunksFollowCreatedAtThenIdWithoutGapsOrDuplicates() throws Exception {
+        RegisterRequestDto request = new RegisterRequestDto();
+        request.setUsername("stream_author");
+        request.setEmail("stream_author@example.com");
+        request.setPassword("secret123");
+        long authorId = authService.register(request).getId();
+        String token = jwtUtil.generateToken("stream_author", authorId, List.of("USER"));
+
+        List<Long> created = new ArrayList<>();
+        for (int i = 0; i < POSTS; i++) {
+            created.add(createPost(token));
+        }
+        // İki zaman damgası: parça sınırları eşit created_at değerlerinin ortasına düşer
+        LocalDateTime newer = LocalDateTime.now().plusYears(1);
+        for (int i = 0; i < POSTS; i++) {
+            LocalDateTime createdAt = i % 2 == 0 ? newer : newer.minusSeconds(1);
+            jdbc.update("UPDATE posts SET created_at = ? WHERE id = ?", Timestamp.valueOf(createdAt), created.get(i));
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        postService.streamAllPosts(token, out);
+
+        List<Long> streamed = new ArrayList<>();
+        for (JsonNode post : objectMapper.readTree(out.toByteArray())) {
+            streamed.add(post.get("id").asLong());
+        }
+        Set<Long> unique = new HashSet<>(streamed);
+        assertEquals(streamed.size(), unique.size());
+
+        // Önce yeni zaman damgalı (çift sıralı) postlar, sonra diğerleri; her grup içinde id artan
+        List<Long> expected = new ArrayList<>();
+        for (int parity = 0; parity < 2; parity++) {
+            for (int i = parity; i < POSTS; i += 2) {
+                expected.add(created.get(i));
+            }
+        }
+        assertEquals(expected, streamed.subList(0, POSTS));
+    }
+
+    private long createPost(String token) throws Exception {
+        PostRequestDto request = new PostRequestDto();
+        request.setTitle("Akış postu");
+        request.setContent("içerik");
+        request.setTagNames(List.of());
+        return postService.createPost(token, request).getId();
+    }
+}
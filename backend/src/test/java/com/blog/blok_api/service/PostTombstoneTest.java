@@ -0,0 +1,173 @@
+package com.blog.blok_api.service;
+
+import com.blog.blok_api.dto.CommentRequestDto;
+import com.blog.blok_api.dto.InteractionStateRequestDto;
+import com.blog.blok_api.dto.InteractionStateResponseDto;
+import com.blog.blok_api.dto.NotificationDto;
+import com.blog.blok_api.dto.PostRequestDto;
+import com.blog.blok_api.dto.RegisterRequestDto;
+import com.blog.blok_api.security.JwtUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Silinmiş (tombstone) post: bağlı satırlar purge'e kadar durur ama okuma yollarında görünmez
+ */
+@SpringBootTest(properties = "app.posts.purge.enabled=false")
+class PostTombstoneTest {
+
+    @Autowired
+    AuthService authService;
+
+    @Autowired
+    PostService postService;
+
+    @Autowired
+    CommentService commentService;
+
+    @Autowired
+    LikeService likeService;
+
+    @Autowired
+    SavedPostService savedPostService;
+
+    @Autowired
+    InteractionService interactionService;
+
+    @Autowired
+    NotificationService notificationService;
+
+    @Autowired
+    CascadeDeleteService cascadeDeleteService;
+
+    @Autowired
+    JwtUtil jwtUtil;
+
+    @Autowired
+    JdbcTemplate jdbc;
+
+    @Test
+    void dependentRowsOfTombstonedPostStayUsableButHidden() throws Exception {
+        long authorId = register("tomb_author");
+        long readerId = register("tomb_reader");
+        String author = token("tomb_author", authorId);
+        String reader = token("tomb_reader", readerId);
+
+        long postId = createPost(author);
+        long ownComment = comment(reader, postId);
+        long otherComment = comment(reader, postId);
+        likeService.toggleLikePost(postId, reader);
+        savedPostService.toggleSavePost(postId, reader);
+
+        postService.deletePostByIdAndUser(postId, authorId);
+
+        // Yorum sahibi, postu silinmiş yorumunu silebilir (Comment.post yüklenmez)
+        assertDoesNotThrow(() -> commentService.deleteCommentByIdAndUser(ownComment, readerId));
+        assertEquals(0, jdbc.queryForObject("SELECT COUNT(*) FROM comments WHERE id = ?", Integer.class, ownComment));
+
+        assertThrows(RuntimeException.class, () -> likeService.toggleLikeComment(otherComment, reader));
+        assertEquals(0, likeService.countLikesForPost(postId));
+        assertEquals(List.of(), savedPostService.getSavedPostsByUser(reader));
+
+        InteractionStateResponseDto state = interactionService.getState(reader,
+                new InteractionStateRequestDto(List.of(postId), List.of(otherComment)));
+        InteractionStateResponseDto.PostState postState = state.getPosts().get(postId);
+        assertEquals(0, postState.getLikeCount());
+        assertEquals(0, postState.getCommentCount());
+        assertEquals(0, postState.getSaveCount());
+        assertFalse(postState.isLiked());
+        assertFalse(postState.isSaved());
+        assertEquals(0, state.getComments().get(otherComment).getLikeCount());
+    }
+
+    @Test
+    void notificationsOfTombstonedPostAreHiddenAndPurged() throws Exception {
+        long authorId = register("tomb_notified");
+        String author = token("tomb_notified", authorId);
+        long postId = createPost(author);
+
+        jdbc.update("""
+                INSERT INTO notifications (type, content, is_read, created_at, post_id, actor_count, user_id)
+                VALUES ('LIKE', 'post', FALSE, CURRENT_TIMESTAMP, ?, 1, ?)
+                """, postId, authorId);
+        jdbc.update("""
+                INSERT INTO notifications (type, content, is_read, created_at, actor_count, user_id)
+                VALUES ('FOLLOW', 'follow', FALSE, CURRENT_TIMESTAMP, 1, ?)
+                """, authorId);
+        jdbc.update("INSERT INTO notification_counters (user_id, unread_count) VALUES (?, 2)", authorId);
+
+        postService.deletePostByIdAndUser(postId, authorId);
+
+        List<NotificationDto> items = notificationService.getNotifications(author, null, 20).getItems();
+        assertEquals(List.of("FOLLOW"), items.stream().map(NotificationDto::getType).toList());
+
+        cascadeDeleteService.purgePost(postId);
+
+        assertEquals(0, jdbc.queryForObject("SELECT COUNT(*) FROM notifications WHERE post_id = ?", Integer.class, postId));
+        assertEquals(1, notificationService.getUnreadCount(author));
+    }
+
+    @Test
+    void deletingUserRemovesOthersNotificationsAboutItsPosts() throws Exception {
+        long authorId = register("tomb_deleted_author");
+        long readerId = register("tomb_reply_reader");
+        String author = token("tomb_deleted_author", authorId);
+        String reader = token("tomb_reply_reader", readerId);
+        long livePostId = createPost(author);
+        long tombstonedPostId = createPost(author);
+        postService.deletePostByIdAndUser(tombstonedPostId, authorId);
+
+        for (long postId : List.of(livePostId, tombstonedPostId)) {
+            jdbc.update("""
+                    INSERT INTO notifications (type, content, is_read, created_at, post_id, actor_count, user_id)
+                    VALUES ('REPLY', 'cevap', FALSE, CURRENT_TIMESTAMP, ?, 1, ?)
+                    """, postId, readerId);
+        }
+        jdbc.update("""
+                INSERT INTO notifications (type, content, is_read, created_at, actor_count, user_id)
+                VALUES ('FOLLOW', 'follow', FALSE, CURRENT_TIMESTAMP, 1, ?)
+                """, readerId);
+        jdbc.update("INSERT INTO notification_counters (user_id, unread_count) VALUES (?, 3)", readerId);
+
+        cascadeDeleteService.deleteUser(authorId);
+
+        assertEquals(1, jdbc.queryForObject("SELECT COUNT(*) FROM notifications WHERE user_id = ?", Integer.class, readerId));
+        assertEquals(1, notificationService.getUnreadCount(reader));
+    }
+
+    private long register(String username) throws Exception {
+        RegisterRequestDto request = new RegisterRequestDto();
+        request.setUsername(username);
+        request.setEmail(username + "@example.com");
+        request.setPassword("secret123");
+        return authService.register(request).getId();
+    }
+
+    private String token(String username, long userId) {
+        return jwtUtil.generateToken(username, userId, List.of("USER"));
+    }
+
+    private long createPost(String token) throws Exception {
+        PostRequestDto request = new PostRequestDto();
+        request.setTitle("Silinecek post");
+        request.setContent("içerik");
+        request.setTagNames(List.of());
+        return postService.createPost(token, request).getId();
+    }
+
+    private long comment(String token, long postId) throws Exception {
+        CommentRequestDto request = new CommentRequestDto();
+        request.setPostId(postId);
+        request.setContent("yorum");
+        return commentService.createComment(token, request).getId();
+    }
+}
@@ -0,0 +1,85 @@
+package com.blog.blok_api.service;
+
+import com.blog.blok_api.dto.NewPostsResponseDto;
+import com.blog.blok_api.repository.PostRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RecentPostsServiceTest {
+
+    private final PostRepository postRepository = mock(PostRepository.class);
+
+    /** Kapasite 4, en fazla 100 sayım, en fazla 2 ID */
+    private RecentPostsService service(List<Long> initial) {
+        when(postRepository.findPublishedIdsAfter(0, 4)).thenReturn(initial);
+        RecentPostsService service = new RecentPostsService(postRepository, 4, 100, 2);
+        service.load();
+        return service;
+    }
+
+    @Test
+    void answersFromBufferWithoutQuery() {
+        RecentPostsService service = service(List.of(3L, 2L, 1L));
+
+        NewPostsResponseDto response = service.newSince(1, true);
+        assertEquals(2, response.getCount());
+        assertEquals(List.of(3L, 2L), response.getPostIds());
+        verify(postRepository, never()).countPublishedAfter(anyLong(), anyInt());
+    }
+
+    @Test
+    void ringWrapsAroundAndRaisesFloor() {
+        RecentPostsService service = service(List.of(2L, 1L));
+        for (long id = 3; id <= 6; id++) {
+            service.published(id); // 1 ve 2 tampondan düşer
+        }
+
+        // floorId = 2: 2 ve üstü tampondan cevaplanır
+        NewPostsResponseDto response = service.newSince(2, true);
+        assertEquals(4, response.getCount());
+        assertEquals(List.of(6L, 5L), response.getPostIds());
+
+        assertEquals(1, service.newSince(5, false).getCount());
+        verify(postRepository, never()).countPublishedAfter(anyLong(), anyInt());
+    }
+
+    @Test
+    void sinceIdBelowFloorFallsBackToCountQuery() {
+        RecentPostsService service = service(List.of(8L, 7L, 6L, 5L)); // dolu yüklendi: floorId = 4
+        when(postRepository.countPublishedAfter(3, 100)).thenReturn(5L);
+        when(postRepository.findPublishedIdsAfter(3, 2)).thenReturn(List.of(8L, 7L));
+
+        NewPostsResponseDto response = service.newSince(3, true);
+        assertEquals(5, response.getCount());
+        assertEquals(List.of(8L, 7L), response.getPostIds());
+
+        // Sınırda (sinceId == floorId) hâlâ tampondan
+        assertEquals(4, service.newSince(4, false).getCount());
+        verify(postRepository).countPublishedAfter(anyLong(), anyInt());
+    }
+
+    @Test
+    void removedPostIsNotCounted() {
+        RecentPostsService service = service(List.of(3L, 2L, 1L));
+        service.removed(3L);
+
+        assertEquals(1, service.newSince(1, false).getCount());
+    }
+
+    @Test
+    void answersFromDatabaseUntilLoaded() {
+        RecentPostsService service = new RecentPostsService(postRepository, 4, 100, 2);
+        when(postRepository.countPublishedAfter(0, 100)).thenReturn(7L);
+
+        assertEquals(7, service.newSince(0, false).getCount());
+    }
+}
@@ -0,0 +1,97 @@
+package com.blog.blok_api.service;
+
+import com.blog.blok_api.repository.PostRepository;
+import com.blog.blok_api.repository.PostSimilarityRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RelatedPostsServiceTest {
+
+    private final PostSimilarityRepository postSimilarityRepository = mock(PostSimilarityRepository.class);
+    private final PostRepository postRepository = mock(PostRepository.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+    /**
+     * Post 1 için:
+     * - co-like: 2 ile 2 ortak beğenen (beğeniler 3 ve 2), 3 ile 1 ortak beğenen (beğeniler 3 ve 4)
+     * - tag: 3 ile 2 ortak tag (2 ve 3 tag), 4 ile 1 ortak tag (4 ve 1 tag)
+     */
+    private void givenSignals() {
+        when(postSimilarityRepository.streamCoLikes(anyCollection())).thenAnswer(call -> Stream.of(
+                new Object[]{100L, 1L}, new Object[]{100L, 2L},
+                new Object[]{101L, 2L}, new Object[]{101L, 1L},
+                new Object[]{102L, 1L}, new Object[]{102L, 3L}));
+        when(postRepository.countLikesByPostIds(anyList())).thenReturn(List.of(
+                new Object[]{1L, 3L}, new Object[]{2L, 2L}, new Object[]{3L, 4L}));
+        when(postSimilarityRepository.findTagOverlaps(anyCollection())).thenReturn(List.of(
+                new Object[]{1L, 3L, 2L, 2L, 3L},
+                new Object[]{1L, 4L, 1L, 4L, 1L}));
+    }
+
+    @Test
+    void scoreIsTagJaccardPlusCoLikeCosine() {
+        givenSignals();
+        List<Object[]> rows = rebuild(new RelatedPostsService(postSimilarityRepository, postRepository, jdbcTemplate,
+                10, 200, 200, 1.0, 1.0));
+
+        double coLike2 = 2 / Math.sqrt(3 * 2);
+        double coLike3 = 1 / Math.sqrt(3 * 4);
+        double jaccard3 = 2.0 / (2 + 3 - 2);
+        double jaccard4 = 1.0 / (4 + 1 - 1);
+
+        assertEquals(3, rows.size());
+        assertRow(rows.get(0), 3L, coLike3 + jaccard3);
+        assertRow(rows.get(1), 2L, coLike2);
+        assertRow(rows.get(2), 4L, jaccard4);
+    }
+
+    @Test
+    void weightsAndTopKApply() {
+        givenSignals();
+        List<Object[]> rows = rebuild(new RelatedPostsService(postSimilarityRepository, postRepository, jdbcTemplate,
+                2, 200, 200, 1.0, 0.0));
+
+        assertEquals(2, rows.size());
+        assertRow(rows.get(0), 3L, 2.0 / 3);
+        assertRow(rows.get(1), 4L, 0.25);
+    }
+
+    @Test
+    void likesBeyondPerUserCapAreIgnored() {
+        // Kullanıcının sadece en yeni 2 beğenisi sayılır: 3 ile çift oluşmaz
+        when(postSimilarityRepository.streamCoLikes(anyCollection())).thenAnswer(call -> Stream.of(
+                new Object[]{100L, 1L}, new Object[]{100L, 2L}, new Object[]{100L, 3L}));
+        when(postRepository.countLikesByPostIds(anyList())).thenReturn(List.of());
+        List<Object[]> rows = rebuild(new RelatedPostsService(postSimilarityRepository, postRepository, jdbcTemplate,
+                10, 2, 200, 1.0, 1.0));
+
+        assertEquals(1, rows.size());
+        assertRow(rows.get(0), 2L, 1.0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> rebuild(RelatedPostsService service) {
+        service.rebuild(List.of(1L));
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), rows.capture());
+        return rows.getValue();
+    }
+
+    private static void assertRow(Object[] row, long relatedId, double score) {
+        assertEquals(1L, row[0]);
+        assertEquals(relatedId, row[1]);
+        assertEquals(score, (double) row[2], 1e-9);
+    }
+}
@@ -0,0 +1,133 @@
+package com.blog.blok_api.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompactIdSetTest {
+
+    /** Bitmap container'ın byte uzunluğu (65536 bit) */
+    private static final int BITMAP_BYTES = 8192;
+
+    @Test
+    void idSplitsIntoBucketAndLowBits() {
+        long id = 5L * 65536 + 1234;
+        assertEquals(5, CompactIdSet.bucketOf(id));
+        assertEquals(1234, CompactIdSet.lowOf(id));
+        assertEquals(id, CompactIdSet.idOf(CompactIdSet.bucketOf(id), CompactIdSet.lowOf(id)));
+    }
+
+    @Test
+    void arrayContainerKeepsSortedDistinctValues() {
+        CompactIdSet.Container container = new CompactIdSet.Container();
+        assertTrue(container.add((char) 300));
+        assertTrue(container.add((char) 7));
+        assertFalse(container.add((char) 300));
+
+        assertEquals(2, container.cardinality());
+        assertTrue(container.contains((char) 7));
+        assertFalse(container.contains((char) 8));
+        // Array düzeni: eleman başına 2 byte, sıralı
+        assertEquals(4, container.toBytes().length);
+        assertEquals(7, container.toBytes()[1]);
+    }
+
+    @Test
+    void arraySwitchesToBitmapAtArrayMax() {
+        CompactIdSet.Container container = filled(CompactIdSet.Container.ARRAY_MAX - 1);
+        assertEquals((CompactIdSet.Container.ARRAY_MAX - 1) * 2, container.toBytes().length);
+
+        container.add((char) 65535);
+        assertEquals(CompactIdSet.Container.ARRAY_MAX, container.cardinality());
+        assertEquals(BITMAP_BYTES, container.toBytes().length);
+        for (int i = 0; i < CompactIdSet.Container.ARRAY_MAX - 1; i++) {
+            assertTrue(container.contains((char) (i * 3)));
+        }
+        assertTrue(container.contains((char) 65535));
+        assertFalse(container.contains((char) 1));
+    }
+
+    @Test
+    void containersRoundTripThroughBytes() {
+        for (int size : new int[]{0, 10, CompactIdSet.Container.ARRAY_MAX - 1, 20_000}) {
+            CompactIdSet.Container container = filled(size);
+            CompactIdSet.Container copy = CompactIdSet.Container.fromBytes(container.toBytes());
+
+            assertEquals(size, copy.cardinality());
+            for (int low = 0; low < 65536; low++) {
+                assertEquals(container.contains((char) low), copy.contains((char) low), "eleman " + low);
+            }
+            // Kopya büyümeye devam edebilmeli
+            copy.add((char) 1);
+            assertTrue(copy.contains((char) 1));
+        }
+    }
+
+    @Test
+    void arrayContainerRemovesValues() {
+        CompactIdSet.Container container = filled(10);
+        assertTrue(container.remove((char) 9));
+        assertFalse(container.remove((char) 9));
+        assertFalse(container.remove((char) 10));
+
+        assertEquals(9, container.cardinality());
+        assertFalse(container.contains((char) 9));
+        assertTrue(container.contains((char) 12));
+    }
+
+    @Test
+    void bitmapSwitchesBackToArrayBelowHalfOfArrayMax() {
+        CompactIdSet.Container container = filled(CompactIdSet.Container.ARRAY_MAX);
+        int half = CompactIdSet.Container.ARRAY_MAX / 2;
+
+        // Sınırda (ARRAY_MAX - 1) bitmap kalır: ekle/çıkar ile sürekli dönüşüm olmaz
+        container.remove((char) 0);
+        assertEquals(BITMAP_BYTES, container.toBytes().length);
+
+        for (int i = 1; i <= CompactIdSet.Container.ARRAY_MAX - half; i++) {
+            container.remove((char) (i * 3));
+        }
+        assertEquals(half - 1, container.cardinality());
+        assertEquals((half - 1) * 2, container.toBytes().length);
+        assertFalse(container.contains((char) 3));
+        assertTrue(container.contains((char) ((CompactIdSet.Container.ARRAY_MAX - 1) * 3)));
+
+        // Array'e dönen container tekrar büyüyebilmeli
+        assertTrue(container.add((char) 3));
+        assertTrue(container.contains((char) 3));
+    }
+
+    @Test
+    void setSpansBucketsAndDropsEmptyOnes() {
+        long first = 42;
+        long far = 3L * 65536 + 42;
+        CompactIdSet set = CompactIdSet.of(List.of(first, far, first));
+        long emptySize = new CompactIdSet().sizeInBytes();
+
+        assertEquals(2, set.cardinality());
+        assertTrue(set.contains(first));
+        assertTrue(set.contains(far));
+        assertFalse(set.contains(65536 + 42));
+
+        assertTrue(set.remove(far));
+        assertFalse(set.remove(far));
+        assertFalse(set.contains(far));
+        assertEquals(1, set.cardinality());
+
+        assertTrue(set.remove(first));
+        assertEquals(0, set.cardinality());
+        assertEquals(emptySize, set.sizeInBytes());
+    }
+
+    private static CompactIdSet.Container filled(int size) {
+        CompactIdSet.Container container = new CompactIdSet.Container();
+        for (int i = 0; i < size; i++) {
+            container.add((char) (i * 3));
+        }
+        return container;
+    }
+}
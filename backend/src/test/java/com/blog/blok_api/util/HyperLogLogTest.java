@@ -0,0 +1,119 @@
+package com.blog.blok_api.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HyperLogLogTest {
+
+    @Test
+    void estimateAtPrecision12IsWithinThreeSigma() {
+        double threeSigma = 3 * HyperLogLog.errorRateOf(12);
+        for (int count : new int[]{10_000, 100_000}) {
+            HyperLogLog sketch = sketch(12, 0, count);
+            double error = Math.abs(sketch.estimate() - count) / (double) count;
+            assertTrue(error <= threeSigma, count + " id için hata " + error + " > " + threeSigma);
+        }
+    }
+
+    @Test
+    void duplicatesDoNotChangeEstimate() {
+        HyperLogLog sketch = sketch(12, 0, 1_000);
+        long estimate = sketch.estimate();
+        for (long id = 0; id < 1_000; id++) {
+            sketch.add(HyperLogLog.hash(id));
+        }
+        assertEquals(estimate, sketch.estimate());
+    }
+
+    @Test
+    void mergingHigherPrecisionFoldsRegistersExactly() {
+        // p=14 register'ları p=12'ye indirgenince doğrudan p=12 ile kurulan sketch'in aynısı çıkmalı
+        for (int count : new int[]{100, 50_000}) {
+            HyperLogLog direct = sketch(12, 0, count);
+            HyperLogLog folded = new HyperLogLog(12);
+            folded.merge(sketch(14, 0, count));
+
+            assertArrayEquals(direct.toBytes(), folded.toBytes(), count + " id");
+            assertArrayEquals(direct.toBytes(), sketch(14, 0, count).withPrecision(12).toBytes(), count + " id");
+        }
+    }
+
+    @Test
+    void mergeIsUnionOfSketches() {
+        HyperLogLog merged = sketch(12, 0, 20_000);
+        merged.merge(sketch(14, 10_000, 30_000));
+
+        HyperLogLog union = sketch(12, 0, 30_000);
+        assertArrayEquals(union.toBytes(), merged.toBytes());
+    }
+
+    @Test
+    void mergingLowerPrecisionIsRejected() {
+        HyperLogLog sketch = new HyperLogLog(14);
+        assertThrows(IllegalArgumentException.class, () -> sketch.merge(new HyperLogLog(12)));
+    }
+
+    @Test
+    void sparseSketchRoundTripsThroughBytes() {
+        HyperLogLog sketch = sketch(14, 0, 300);
+        byte[] bytes = sketch.toBytes();
+        // Seyrek: [p][format] + dolu register başına 3 byte
+        assertEquals(0, (bytes.length - 2) % 3);
+        assertTrue(bytes.length < 1 << 14);
+
+        HyperLogLog copy = HyperLogLog.fromBytes(bytes);
+        assertEquals(14, copy.precision());
+        assertEquals(sketch.estimate(), copy.estimate());
+        assertArrayEquals(bytes, copy.toBytes());
+    }
+
+    @Test
+    void denseSketchRoundTripsThroughBytes() {
+        HyperLogLog sketch = sketch(12, 0, 100_000);
+        byte[] bytes = sketch.toBytes();
+        assertEquals(2 + (1 << 12), bytes.length);
+
+        HyperLogLog copy = HyperLogLog.fromBytes(bytes);
+        assertEquals(sketch.estimate(), copy.estimate());
+        assertArrayEquals(bytes, copy.toBytes());
+    }
+
+    @Test
+    void deserializedSparseSketchSwitchesToDenseWhenGrowing() {
+        HyperLogLog copy = HyperLogLog.fromBytes(sketch(12, 0, 200).toBytes());
+        for (long id = 200; id < 20_000; id++) {
+            copy.add(HyperLogLog.hash(id));
+        }
+        byte[] bytes = copy.toBytes();
+        assertEquals(2 + (1 << 12), bytes.length);
+        assertArrayEquals(sketch(12, 0, 20_000).toBytes(), bytes);
+    }
+
+    @Test
+    void emptySketch() {
+        HyperLogLog sketch = new HyperLogLog(12);
+        assertTrue(sketch.isEmpty());
+        assertEquals(0, sketch.estimate());
+        assertTrue(HyperLogLog.fromBytes(sketch.toBytes()).isEmpty());
+    }
+
+    @Test
+    void precisionForErrorRate() {
+        assertEquals(12, HyperLogLog.precisionFor(0.02));
+        assertEquals(14, HyperLogLog.precisionFor(0.01));
+        assertThrows(IllegalArgumentException.class, () -> HyperLogLog.precisionFor(0));
+        assertThrows(IllegalArgumentException.class, () -> new HyperLogLog(HyperLogLog.MAX_PRECISION + 1));
+    }
+
+    private static HyperLogLog sketch(int precision, long fromId, long toId) {
+        HyperLogLog sketch = new HyperLogLog(precision);
+        for (long id = fromId; id < toId; id++) {
+            sketch.add(HyperLogLog.hash(id));
+        }
+        return sketch;
+    }
+}